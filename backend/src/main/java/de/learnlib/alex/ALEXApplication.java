@@ -34,11 +34,13 @@ import de.learnlib.alex.data.rest.SymbolParameterResource;
 import de.learnlib.alex.data.rest.SymbolResource;
 import de.learnlib.alex.learning.rest.LearnerResource;
 import de.learnlib.alex.learning.rest.LearnerResultResource;
+import de.learnlib.alex.metrics.rest.MetricsResource;
 import de.learnlib.alex.testing.rest.TestExecutionConfigResource;
 import de.learnlib.alex.testing.rest.TestReportResource;
 import de.learnlib.alex.testing.rest.TestResource;
 import de.learnlib.alex.webhooks.rest.WebhookResource;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
+import org.glassfish.jersey.media.sse.SseFeature;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.filter.RolesAllowedDynamicFeature;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
@@ -98,6 +100,7 @@ public class ALEXApplication extends ResourceConfig {
         register(FileResource.class);
         register(LearnerResource.class);
         register(LearnerResultResource.class);
+        register(MetricsResource.class);
         register(ProjectResource.class);
         register(SettingsResource.class);
         register(SymbolResource.class);
@@ -114,6 +117,7 @@ public class ALEXApplication extends ResourceConfig {
 
         // Other
         register(MultiPartFeature.class);
+        register(SseFeature.class);
         register(AuthenticationFilter.class);
         register(RolesAllowedDynamicFeature.class); // allow protecting routes with user roles
         register(JacksonConfiguration.class);
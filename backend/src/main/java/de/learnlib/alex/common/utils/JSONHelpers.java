@@ -25,6 +25,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.LinkedHashMap;
+import java.util.function.Function;
 
 /**
  * Helper class for some JSON stuff.
@@ -49,9 +50,26 @@ public final class JSONHelpers {
      * @return The value of the attribute as JSON encoded String or null.
      */
     public static String getAttributeValue(String json, String attribute) {
+        return getAttributeValue(JsonDocument.parse(json), attribute, JsonPath::compile);
+    }
+
+    /**
+     * Get the value of an attribute from a parsed JSON document.
+     *
+     * @param document
+     *         The JSON with the the attribute.
+     * @param attribute
+     *         The attribute to search for.
+     * @param pathCompiler
+     *         The function that compiles the JSON path of the attribute, e.g. with a cache.
+     * @return The value of the attribute as JSON encoded String or null.
+     */
+    public static String getAttributeValue(JsonDocument document, String attribute,
+                                           Function<String, JsonPath> pathCompiler) {
         try {
-            String value = String.valueOf(getParsedAttributeValue(json, attribute));
-            LOGGER.info("The attribute '{}' has the value '{}' in the body '{}'.", attribute, value, json);
+            String value = String.valueOf(getParsedAttributeValue(document, attribute, pathCompiler));
+            LOGGER.info("The attribute '{}' has the value '{}' in the body '{}'.", attribute, value,
+                    document.getJson());
             return value;
         } catch (InvalidJsonException e) {
             LOGGER.info("JSON was not valid, e.g. the body was empty.", e);
@@ -72,8 +90,24 @@ public final class JSONHelpers {
      * @return The type of the attribute or null.
      */
     public static JsonType getAttributeType(String json, String attribute) {
+        return getAttributeType(JsonDocument.parse(json), attribute, JsonPath::compile);
+    }
+
+    /**
+     * Get the type of an attribute from a parsed JSON document.
+     *
+     * @param document
+     *         The JSON with the the attribute.
+     * @param attribute
+     *         The attribute to search for.
+     * @param pathCompiler
+     *         The function that compiles the JSON path of the attribute, e.g. with a cache.
+     * @return The type of the attribute or null.
+     */
+    public static JsonType getAttributeType(JsonDocument document, String attribute,
+                                            Function<String, JsonPath> pathCompiler) {
         try {
-            Object o = getParsedAttributeValue(json, attribute);
+            Object o = getParsedAttributeValue(document, attribute, pathCompiler);
             if (o == null) {
                 return JsonType.NULL;
             } else if (o instanceof String) {
@@ -99,14 +133,9 @@ public final class JSONHelpers {
         }
     }
 
-    private static Object getParsedAttributeValue(String json, String attribute)
+    private static Object getParsedAttributeValue(JsonDocument document, String attribute,
+                                                  Function<String, JsonPath> pathCompiler)
             throws InvalidJsonException, InvalidPathException {
-        if (json.startsWith("[")) {
-            return JsonPath.read(json, "$" + attribute);
-        } else if (json.startsWith("{")) {
-            return JsonPath.read(json, "$." + attribute);
-        } else {
-            throw new InvalidJsonException();
-        }
+        return document.read(pathCompiler.apply(document.getPath(attribute)));
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.common.utils;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * A JSON encoded text that has been parsed once, so that several attributes can be read from it without parsing the
+ * text again. The parsed document must not be modified.
+ */
+public final class JsonDocument {
+
+    /** The JSON encoded text. */
+    private final String json;
+
+    /** The parsed document, or null if the text is no JSON object or array. */
+    private final Object document;
+
+    /** If the root of the document is an array. */
+    private final boolean array;
+
+    /** The exception that occurred while parsing, or null if the text could be parsed. */
+    private final InvalidJsonException parseException;
+
+    private JsonDocument(String json, Object document, boolean array, InvalidJsonException parseException) {
+        this.json = json;
+        this.document = document;
+        this.array = array;
+        this.parseException = parseException;
+    }
+
+    /**
+     * Parse a JSON encoded text. Texts that are not a JSON object or array result in an invalid document.
+     *
+     * @param json
+     *         The text to parse.
+     * @return The parsed document.
+     */
+    public static JsonDocument parse(String json) {
+        if (json == null || !(json.startsWith("[") || json.startsWith("{"))) {
+            return new JsonDocument(json, null, false, new InvalidJsonException());
+        }
+
+        try {
+            final Object document = Configuration.defaultConfiguration().jsonProvider().parse(json);
+            return new JsonDocument(json, document, json.startsWith("["), null);
+        } catch (InvalidJsonException e) {
+            return new JsonDocument(json, null, false, e);
+        }
+    }
+
+    /**
+     * Get the JSON path of an attribute of the document. The attributes of an object are addressed without the
+     * leading '.', the elements of an array by their index, e.g. 'user.name' or '[0].name'.
+     *
+     * @param attribute
+     *         The attribute.
+     * @return The JSON path of the attribute.
+     * @throws InvalidJsonException
+     *         If the document is not valid.
+     */
+    public String getPath(String attribute) throws InvalidJsonException {
+        if (parseException != null) {
+            throw parseException;
+        }
+        return array ? "$" + attribute : "$." + attribute;
+    }
+
+    /**
+     * Read the value at a path of the document.
+     *
+     * @param path
+     *         The compiled JSON path.
+     * @return The value, which must not be modified.
+     * @throws InvalidJsonException
+     *         If the document is not valid.
+     * @throws InvalidPathException
+     *         If the path does not exist in the document.
+     */
+    public Object read(JsonPath path) throws InvalidJsonException, InvalidPathException {
+        if (parseException != null) {
+            throw parseException;
+        }
+        return path.read(document);
+    }
+
+    /** @return If the text is a valid JSON object or array. */
+    public boolean isValid() {
+        return parseException == null;
+    }
+
+    /** @return The JSON encoded text. */
+    public String getJson() {
+        return json;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.common.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process wide cache of compiled JSON schemas. Schemas are identified by the hash of their content, so that all
+ * actions with the same schema share the compiled validator. The least recently used schemas are evicted once the
+ * cache is full.
+ */
+public final class JsonSchemaCache {
+
+    /** The maximum number of compiled schemas in the cache. */
+    public static final int MAX_SIZE = 256;
+
+    /** The object mapper that is shared by all JSON schema validations. */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** The factory that compiles the schemas. */
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+
+    /** The compiled schemas by the hash of their content, in the order of their last access. */
+    private static final Map<String, JsonSchema> SCHEMAS = new LinkedHashMap<String, JsonSchema>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JsonSchema> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    /** The number of schemas that have been found in the cache. */
+    private static final AtomicLong HITS = new AtomicLong();
+
+    /** The number of schemas that had to be compiled. */
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    /**
+     * Disabled default constructor, this is only a utility class with static methods.
+     */
+    private JsonSchemaCache() {
+    }
+
+    /**
+     * Get the compiled version of a JSON schema. The schema is only compiled if it is not in the cache.
+     *
+     * @param schema
+     *         The JSON schema.
+     * @return The compiled schema that can be used to validate JSON documents concurrently.
+     * @throws IOException
+     *         If the schema is not valid JSON.
+     * @throws ProcessingException
+     *         If the schema is not a valid JSON schema.
+     */
+    public static JsonSchema getSchema(String schema) throws IOException, ProcessingException {
+        final String key = DigestUtils.sha256Hex(schema);
+
+        JsonSchema compiledSchema;
+        synchronized (SCHEMAS) {
+            compiledSchema = SCHEMAS.get(key);
+        }
+
+        if (compiledSchema != null) {
+            HITS.incrementAndGet();
+            return compiledSchema;
+        }
+
+        // compile outside of the lock, in the worst case a schema is compiled twice
+        MISSES.incrementAndGet();
+        compiledSchema = FACTORY.getJsonSchema(MAPPER.readTree(schema));
+        synchronized (SCHEMAS) {
+            SCHEMAS.put(key, compiledSchema);
+        }
+        return compiledSchema;
+    }
+
+    /**
+     * Parse a JSON document with the shared object mapper.
+     *
+     * @param json
+     *         The JSON document.
+     * @return The parsed document.
+     * @throws IOException
+     *         If the document is not valid JSON.
+     */
+    public static JsonNode readTree(String json) throws IOException {
+        return MAPPER.readTree(json);
+    }
+
+    /** @return The number of schemas that have been found in the cache. */
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    /** @return The number of schemas that had to be compiled. */
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    /** @return The fraction of the requested schemas that have been found in the cache. */
+    public static double getHitRatio() {
+        final long hits = HITS.get();
+        final long requests = hits + MISSES.get();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /** @return The number of compiled schemas in the cache. */
+    public static int getSize() {
+        synchronized (SCHEMAS) {
+            return SCHEMAS.size();
+        }
+    }
+
+    /** Remove all schemas from the cache. */
+    public static void clear() {
+        synchronized (SCHEMAS) {
+            SCHEMAS.clear();
+        }
+    }
+}
@@ -17,9 +17,6 @@
 package de.learnlib.alex.common.utils;
 
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
-import de.learnlib.alex.learning.services.connectors.CounterStoreConnector;
-import de.learnlib.alex.learning.services.connectors.FileStoreConnector;
-import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -75,7 +72,8 @@ public final class SearchHelper {
     }
 
     /**
-     * Replace all counters and variables within an input string by their actual values.
+     * Replace all counters and variables within an input string by their actual values. Texts that are inserted
+     * repeatedly should be compiled once with {@link VariableTemplate#compile(String)} instead.
      *
      * @param connector
      *         The connectors to connect to the counter and variable stores.
@@ -89,37 +87,7 @@ public final class SearchHelper {
      */
     public static String insertVariableValues(ConnectorManager connector, Long projectId, String text)
             throws IllegalStateException {
-
-        final VariableStoreConnector variableStore = connector.getConnector(VariableStoreConnector.class);
-        final CounterStoreConnector counterStore = connector.getConnector(CounterStoreConnector.class);
-        final FileStoreConnector fileStore = connector.getConnector(FileStoreConnector.class);
-
-        String result = "" + text;
-
-        final Pattern pattern = Pattern.compile("\\{\\{(\\$|\\#|\\\\)(.*?)}}");
-        final Matcher matcher = pattern.matcher(result);
-
-        while (matcher.find()) {
-            final String type = matcher.group(1);
-            final String name = matcher.group(2);
-
-            switch (type) {
-                case "$":
-                    result = result.replaceAll("\\{\\{\\$" + name + "}}", variableStore.get(name));
-                    break;
-                case "#":
-                    result = result.replaceAll("\\{\\{\\#" + name + "}}", String.valueOf(counterStore.get(name)));
-                    break;
-                case "\\":
-                    final String path = fileStore.getAbsoluteFileLocation(projectId, name);
-                    result = result.replaceAll("\\{\\{\\\\" + name + "}}", path);
-                    break;
-                default:
-                    break;
-            }
-        }
-
-        return result;
+        return VariableTemplate.compile(text).render(connector, projectId);
     }
 
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.common.utils;
+
+import de.learnlib.alex.learning.services.connectors.ConnectorManager;
+import de.learnlib.alex.learning.services.connectors.CounterStoreConnector;
+import de.learnlib.alex.learning.services.connectors.FileStoreConnector;
+import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A text with placeholders for variables ({{$name}}), counters ({{#name}}) and files ({{\name}}) that has been
+ * parsed once, so that it can be rendered repeatedly in a single pass without any regular expressions.
+ * Instances are immutable and can be shared between threads.
+ */
+public final class VariableTemplate {
+
+    /** The type of a segment of the template. */
+    private enum SegmentType {
+
+        /** Text that is copied as is. */
+        LITERAL,
+
+        /** The value of a variable. */
+        VARIABLE,
+
+        /** The value of a counter. */
+        COUNTER,
+
+        /** The absolute path of an uploaded file. */
+        FILE
+    }
+
+    /** A part of the template, i.e. either a literal text or a placeholder. */
+    private static final class Segment {
+
+        /** The type of the segment. */
+        private final SegmentType type;
+
+        /** The literal text or the name of the variable, counter or file. */
+        private final String value;
+
+        private Segment(SegmentType type, String value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+
+    /** The builders that are reused for rendering, one per thread. */
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+    /** Builders that have grown larger than this number of chars are not kept for the next rendering. */
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 64 * 1024;
+
+    /** The text the template has been compiled from. */
+    private final String text;
+
+    /** The segments of the template in the order they appear in the text. */
+    private final Segment[] segments;
+
+    private VariableTemplate(String text, List<Segment> segments) {
+        this.text = text;
+        this.segments = segments.toArray(new Segment[segments.size()]);
+    }
+
+    /**
+     * Parse a text into a template.
+     *
+     * @param text
+     *         The text with placeholders.
+     * @return The compiled template.
+     */
+    public static VariableTemplate compile(String text) {
+        final String source = String.valueOf(text);
+        final List<Segment> segments = new ArrayList<>();
+
+        int literalStart = 0;
+        int pos = source.indexOf("{{");
+        while (pos != -1 && pos + 2 < source.length()) {
+            final SegmentType type = getPlaceholderType(source.charAt(pos + 2));
+            final int end = type == null ? -1 : source.indexOf("}}", pos + 3);
+
+            if (end != -1 && !containsLineTerminator(source, pos + 3, end)) {
+                if (pos > literalStart) {
+                    segments.add(new Segment(SegmentType.LITERAL, source.substring(literalStart, pos)));
+                }
+                segments.add(new Segment(type, source.substring(pos + 3, end)));
+                literalStart = end + 2;
+                pos = source.indexOf("{{", literalStart);
+            } else {
+                pos = source.indexOf("{{", pos + 1);
+            }
+        }
+
+        if (literalStart < source.length()) {
+            segments.add(new Segment(SegmentType.LITERAL, source.substring(literalStart)));
+        }
+
+        return new VariableTemplate(source, segments);
+    }
+
+    private static SegmentType getPlaceholderType(char c) {
+        switch (c) {
+            case '$':
+                return SegmentType.VARIABLE;
+            case '#':
+                return SegmentType.COUNTER;
+            case '\\':
+                return SegmentType.FILE;
+            default:
+                return null;
+        }
+    }
+
+    /** Placeholder names end at a line break, like a '.' in a regular expression does. */
+    private static boolean containsLineTerminator(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return If the template contains at least one placeholder. */
+    public boolean hasPlaceholders() {
+        return segments.length > 1 || segments.length == 1 && segments[0].type != SegmentType.LITERAL;
+    }
+
+    /**
+     * Replace all placeholders by the actual values of the variables, counters and files.
+     *
+     * @param connector
+     *         The connectors to connect to the counter, variable and file stores.
+     * @param projectId
+     *         The project as context.
+     * @return The text with all placeholders replaced by their values.
+     * @throws IllegalStateException
+     *         If a variable or counter value should be inserted, but the variable or counter was never set.
+     */
+    public String render(ConnectorManager connector, Long projectId) throws IllegalStateException {
+        if (!hasPlaceholders()) {
+            return text;
+        }
+
+        VariableStoreConnector variableStore = null;
+        CounterStoreConnector counterStore = null;
+        FileStoreConnector fileStore = null;
+
+        final StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        try {
+            for (final Segment segment : segments) {
+                switch (segment.type) {
+                    case LITERAL:
+                        builder.append(segment.value);
+                        break;
+                    case VARIABLE:
+                        if (variableStore == null) {
+                            variableStore = connector.getConnector(VariableStoreConnector.class);
+                        }
+                        builder.append(variableStore.get(segment.value));
+                        break;
+                    case COUNTER:
+                        if (counterStore == null) {
+                            counterStore = connector.getConnector(CounterStoreConnector.class);
+                        }
+                        builder.append(counterStore.get(segment.value));
+                        break;
+                    case FILE:
+                        if (fileStore == null) {
+                            fileStore = connector.getConnector(FileStoreConnector.class);
+                        }
+                        builder.append(fileStore.getAbsoluteFileLocation(projectId, segment.value));
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return builder.toString();
+        } finally {
+            if (builder.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+                BUILDER.remove();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
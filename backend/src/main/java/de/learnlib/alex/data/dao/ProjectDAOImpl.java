@@ -25,6 +25,7 @@ import de.learnlib.alex.data.entities.SymbolGroup;
 import de.learnlib.alex.data.repositories.ProjectRepository;
 import de.learnlib.alex.learning.entities.LearnerResult;
 import de.learnlib.alex.learning.repositories.LearnerResultRepository;
+import de.learnlib.alex.learning.services.trace.QueryTraceService;
 import de.learnlib.alex.testing.entities.TestSuite;
 import de.learnlib.alex.testing.repositories.TestReportRepository;
 import org.apache.logging.log4j.LogManager;
@@ -78,6 +79,9 @@ public class ProjectDAOImpl implements ProjectDAO {
     /** The ProjectUrlDAO to use. */
     private ProjectUrlDAO projectUrlDAO;
 
+    /** The service that manages the query traces of the learner results. */
+    private QueryTraceService queryTraceService;
+
     /**
      * Constructor.
      *
@@ -91,15 +95,19 @@ public class ProjectDAOImpl implements ProjectDAO {
      *         The ProjectUrlDAO to use.
      * @param testReportRepository
      *         The repository for test reports.
+     * @param queryTraceService
+     *         The service that manages the query traces of the learner results.
      */
     @Inject
     public ProjectDAOImpl(ProjectRepository projectRepository, LearnerResultRepository learnerResultRepository,
-            TestReportRepository testReportRepository, @Lazy FileDAO fileDAO, @Lazy ProjectUrlDAO projectUrlDAO) {
+            TestReportRepository testReportRepository, @Lazy FileDAO fileDAO, @Lazy ProjectUrlDAO projectUrlDAO,
+            QueryTraceService queryTraceService) {
         this.projectRepository = projectRepository;
         this.learnerResultRepository = learnerResultRepository;
         this.fileDAO = fileDAO;
         this.projectUrlDAO = projectUrlDAO;
         this.testReportRepository = testReportRepository;
+        this.queryTraceService = queryTraceService;
     }
 
     @Override
@@ -222,6 +230,7 @@ public class ProjectDAOImpl implements ProjectDAO {
         testReportRepository.deleteAllByProject_Id(projectId);
         learnerResultRepository.deleteAllByProject_Id(projectId);
         projectRepository.delete(project);
+        queryTraceService.deleteAllAfterCommit(projectId);
 
         // delete the project directory
         try {
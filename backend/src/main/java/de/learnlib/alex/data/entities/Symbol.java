@@ -19,18 +19,14 @@ package de.learnlib.alex.data.entities;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import de.learnlib.alex.common.utils.LoggerUtil;
-import de.learnlib.alex.common.utils.SearchHelper;
+import de.learnlib.alex.common.utils.VariableTemplate;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.CounterStoreConnector;
+import de.learnlib.alex.learning.services.connectors.ExecutionMetricsConnector;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import de.learnlib.api.exception.SULException;
 import de.learnlib.mapper.api.ContextExecutableInput;
-import org.apache.logging.log4j.Level;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.validator.constraints.NotBlank;
 
@@ -70,10 +66,6 @@ public class Symbol implements ContextExecutableInput<ExecuteResult, ConnectorMa
 
     private static final long serialVersionUID = 7987585761829495962L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The ID of the Symbol in the DB. */
     private UUID uuid;
 
@@ -101,6 +93,9 @@ public class Symbol implements ContextExecutableInput<ExecuteResult, ConnectorMa
     /** The custom output if the symbol is executed successfully. */
     private String successOutput;
 
+    /** The compiled template of the {@link #successOutput}. */
+    private transient volatile VariableTemplate successOutputTemplate;
+
     /** The list of input variables. */
     private List<SymbolInputParameter> inputs;
 
@@ -374,10 +369,24 @@ public class Symbol implements ContextExecutableInput<ExecuteResult, ConnectorMa
 
     @Override
     public ExecuteResult execute(ConnectorManager connector) throws SULException {
-        LOGGER.info(LEARNER_MARKER, "Executing Symbol {} ({})...", String.valueOf(id), name);
-        if (LOGGER.isEnabled(Level.INFO, LEARNER_MARKER)) {
-            LoggerUtil.increaseIndent();
+        final ExecutionMetricsConnector metrics = connector.getConnector(ExecutionMetricsConnector.class);
+        if (metrics == null) {
+            return executeActions(connector);
+        }
+
+        final long start = System.nanoTime();
+        ExecuteResult result = null;
+        try {
+            result = executeActions(connector);
+            return result;
+        } finally {
+            metrics.recordSymbol(this, System.nanoTime() - start, result != null && result.isSuccess());
         }
+    }
+
+    private ExecuteResult executeActions(ConnectorManager connector) {
+        LearnerLog.info("Executing Symbol {} ({})...", id, name);
+        LearnerLog.increaseIndent();
 
         final VariableStoreConnector globalVariableStore = connector.getConnector(VariableStoreConnector.class);
         final VariableStoreConnector localVariableStore = new VariableStoreConnector();
@@ -434,16 +443,19 @@ public class Symbol implements ContextExecutableInput<ExecuteResult, ConnectorMa
         // proper values.
         if (result.isSuccess()) {
             if (successOutput != null && !successOutput.trim().equals("")) {
-                result.setOutput(SearchHelper.insertVariableValues(connector, project.getId(), successOutput));
+                VariableTemplate template = successOutputTemplate;
+                if (template == null || !template.toString().equals(successOutput)) {
+                    template = VariableTemplate.compile(successOutput);
+                    successOutputTemplate = template;
+                }
+                result.setOutput(template.render(connector, project.getId()));
             } else {
                 result.setOutput(ExecuteResult.DEFAULT_SUCCESS_OUTPUT);
             }
         }
 
-        if (LOGGER.isEnabled(Level.INFO, LEARNER_MARKER)) {
-            LoggerUtil.decreaseIndent();
-        }
-        LOGGER.info(LEARNER_MARKER, "Executed the Symbol {} ({}) => {}.", String.valueOf(id), name, result);
+        LearnerLog.decreaseIndent();
+        LearnerLog.info("Executed the Symbol {} ({}) => {}.", id, name, result);
 
         // set the values of the outputs to the global context
         if (result.isSuccess()) {
@@ -472,7 +484,7 @@ public class Symbol implements ContextExecutableInput<ExecuteResult, ConnectorMa
         try {
             return action.executeAction(connector);
         } catch (Exception e) {
-            LOGGER.info(LEARNER_MARKER, "Error while executing the action '{}' in the symbol '{}':", action, this, e);
+            LearnerLog.info("Error while executing the action '{}' in the symbol '{}':", action, this, e);
             return new ExecuteResult(false);
         }
     }
@@ -19,7 +19,9 @@ package de.learnlib.alex.data.entities;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import de.learnlib.alex.common.utils.SearchHelper;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import de.learnlib.alex.common.utils.VariableTemplate;
 import de.learnlib.alex.data.entities.actions.misc.AssertCounterAction;
 import de.learnlib.alex.data.entities.actions.misc.AssertVariableAction;
 import de.learnlib.alex.data.entities.actions.misc.IncrementCounterAction;
@@ -69,8 +71,12 @@ import de.learnlib.alex.data.entities.actions.web.WaitForNodeAttributeAction;
 import de.learnlib.alex.data.entities.actions.web.WaitForTextAction;
 import de.learnlib.alex.data.entities.actions.web.WaitForTitleAction;
 import de.learnlib.alex.data.entities.actions.web.WebSymbolAction;
+import de.learnlib.alex.learning.services.connectors.Connector;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
+import de.learnlib.alex.learning.services.connectors.ExecutionMetricsConnector;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
+import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
+import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
 import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.DiscriminatorColumn;
@@ -88,7 +94,10 @@ import javax.persistence.Table;
 import javax.persistence.Transient;
 import javax.validation.constraints.NotNull;
 import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract super type of how a Action for Symbols should look & work like.
@@ -158,6 +167,12 @@ import java.util.UUID;
 })
 public abstract class SymbolAction implements Serializable {
 
+    /**
+     * The maximum number of compiled JSON paths per action. Paths are compiled after variables have been inserted, so
+     * a path with variables may differ in every execution and only the recently used ones are kept.
+     */
+    private static final int MAX_JSON_PATHS = 16;
+
     /** The ID of the Action in the DB. */
     @Id
     @GeneratedValue(generator = "uuid")
@@ -199,6 +214,16 @@ public abstract class SymbolAction implements Serializable {
     @JsonIgnore
     private ConnectorManager connectorManager;
 
+    /** The compiled templates of the texts of the action in which variables are inserted. */
+    @Transient
+    @JsonIgnore
+    private transient volatile Map<String, VariableTemplate> templates;
+
+    /** The compiled JSON paths the action reads from response bodies, in the order of their last access. */
+    @Transient
+    @JsonIgnore
+    private transient volatile Map<String, JsonPath> jsonPaths;
+
     /**
      * Get the ID of the Action used in the DB.
      *
@@ -323,6 +348,19 @@ public abstract class SymbolAction implements Serializable {
         this.errorOutput = errorOutput;
     }
 
+    /**
+     * Check if the action may use a connector of a type when it is executed. Connectors that none of the actions of an
+     * alphabet can use are not created for a learning experiment. As a default, an action neither uses the browser
+     * nor calls a web service.
+     *
+     * @param type
+     *         The type of the connector.
+     * @return true, if the action may use the connector; false otherwise.
+     */
+    public boolean usesConnector(Class<? extends Connector> type) {
+        return !type.equals(WebSiteConnector.class) && !type.equals(WebServiceConnector.class);
+    }
+
     /**
      * Execute the action.
      *
@@ -332,7 +370,21 @@ public abstract class SymbolAction implements Serializable {
      */
     public ExecuteResult executeAction(ConnectorManager connectors) {
         this.connectorManager = connectors;
-        return execute(connectors);
+
+        final ExecutionMetricsConnector metrics = connectors.getConnector(ExecutionMetricsConnector.class);
+        if (metrics == null) {
+            return execute(connectors);
+        }
+
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final ExecuteResult result = execute(connectors);
+            success = result.isSuccess();
+            return result;
+        } finally {
+            metrics.recordAction(this, System.nanoTime() - start, success);
+        }
     }
 
     /**
@@ -353,7 +405,48 @@ public abstract class SymbolAction implements Serializable {
      * @return The input string with all variables inserted.
      */
     protected final String insertVariableValues(String text) {
-        return SearchHelper.insertVariableValues(connectorManager, symbol.getProjectId(), text);
+        Map<String, VariableTemplate> compiledTemplates = templates;
+        if (compiledTemplates == null) {
+            compiledTemplates = new ConcurrentHashMap<>();
+            templates = compiledTemplates;
+        }
+
+        final VariableTemplate template = text == null
+                ? VariableTemplate.compile(null)
+                : compiledTemplates.computeIfAbsent(text, VariableTemplate::compile);
+        return template.render(connectorManager, symbol.getProjectId());
+    }
+
+    /**
+     * Compile a JSON path once and reuse it for the following executions of the action. Only the
+     * {@link #MAX_JSON_PATHS} most recently used paths are kept.
+     *
+     * @param path
+     *         The JSON path.
+     * @return The compiled JSON path.
+     * @throws InvalidPathException
+     *         If the path is not valid.
+     */
+    protected final JsonPath compileJsonPath(String path) throws InvalidPathException {
+        Map<String, JsonPath> compiledPaths = jsonPaths;
+        if (compiledPaths == null) {
+            compiledPaths = new LinkedHashMap<String, JsonPath>(MAX_JSON_PATHS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, JsonPath> eldest) {
+                    return size() > MAX_JSON_PATHS;
+                }
+            };
+            jsonPaths = compiledPaths;
+        }
+
+        synchronized (compiledPaths) {
+            JsonPath compiledPath = compiledPaths.get(path);
+            if (compiledPath == null) {
+                compiledPath = JsonPath.compile(path);
+                compiledPaths.put(path, compiledPath);
+            }
+            return compiledPath;
+        }
     }
 
     /**
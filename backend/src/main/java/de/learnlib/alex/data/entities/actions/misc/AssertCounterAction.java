@@ -22,10 +22,7 @@ import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.CounterStoreConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.Column;
@@ -83,10 +80,6 @@ public class AssertCounterAction extends SymbolAction {
 
     private static final long serialVersionUID = -8210218030257177422L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER  = MarkerManager.getMarker("LEARNER");
-
     /**
      * The name of the counter to assert.
      */
@@ -175,9 +168,9 @@ public class AssertCounterAction extends SymbolAction {
                 break;
         }
 
-        LOGGER.info(LEARNER_MARKER, "Asserting counter '{}' with value '{}' against '{}' using {} => {} "
-                                        + "(ignoreFailure: {}, negated: {}).",
-                    name, counterValue, value, operator, result, ignoreFailure, negated);
+        LearnerLog.info("Asserting counter '{}' with value '{}' against '{}' using {} => {} "
+                + "(ignoreFailure: {}, negated: {}).",
+                name, counterValue, value, operator, result, ignoreFailure, negated);
 
         if (result) {
             return getSuccessOutput();
@@ -21,10 +21,7 @@ import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -41,10 +38,6 @@ public class AssertVariableAction extends SymbolAction {
 
     private static final long serialVersionUID = 6363724455992504221L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER  = MarkerManager.getMarker("LEARNER");
-
     /**
      * The name of the variable to assert.
      */
@@ -123,9 +116,9 @@ public class AssertVariableAction extends SymbolAction {
             result = variableValue.equals(valueWithVariables);
         }
 
-        LOGGER.info(LEARNER_MARKER, "Asserting variable '{}' with value '{}' against '{}' => {} "
-                                        + "(regex: {}, ignoreFailure: {}, negated: {}).",
-                    name, variableValue, valueWithVariables, result, regexp, ignoreFailure, negated);
+        LearnerLog.info("Asserting variable '{}' with value '{}' against '{}' => {} "
+                + "(regex: {}, ignoreFailure: {}, negated: {}).",
+                name, variableValue, valueWithVariables, result, regexp, ignoreFailure, negated);
 
         if (result) {
             return getSuccessOutput();
@@ -21,10 +21,9 @@ import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.CounterStoreConnector;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -41,8 +40,6 @@ public class IncrementCounterAction extends SymbolAction {
 
     private static final Logger LOGGER = LogManager.getLogger("learner");
 
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The name of the counter to increment. */
     @NotBlank
     private String name;
@@ -56,8 +53,8 @@ public class IncrementCounterAction extends SymbolAction {
         CounterStoreConnector counterConnector = connector.getConnector(CounterStoreConnector.class);
         counterConnector.incrementBy(symbol.getProjectId(), name, incrementBy);
 
-        LOGGER.info(LEARNER_MARKER, "Incremented counter '{}' by '{}' (ignoreFailure: {}, negated: {}).",
-                    name, incrementBy, ignoreFailure, negated);
+        LearnerLog.info("Incremented counter '{}' by '{}' (ignoreFailure: {}, negated: {}).",
+                name, incrementBy, ignoreFailure, negated);
         return getSuccessOutput();
     }
 
@@ -22,10 +22,7 @@ import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.CounterStoreConnector;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -42,10 +39,6 @@ public class SetCounterAction extends SymbolAction {
 
     private static final long serialVersionUID = -6023597222318880440L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * How {@link SetCounterAction#value} should be interpreted.
      */
@@ -99,15 +92,15 @@ public class SetCounterAction extends SymbolAction {
                     break;
             }
         } catch (NumberFormatException | IllegalStateException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not set the counter '{}' to the value '{}' "
-                            + "(ignoreFailure: {}, negated: {}).", name, value, ignoreFailure, negated, e);
+            LearnerLog.info("Could not set the counter '{}' to the value '{}' "
+                    + "(ignoreFailure: {}, negated: {}).", name, value, ignoreFailure, negated, e);
 
             return getFailedOutput();
         }
 
         counterStoreConnector.set(symbol.getProjectId(), name, val);
 
-        LOGGER.info(LEARNER_MARKER, "Set the counter '{}' to the value '{}' (ignoreFailure: {}, negated: {}).",
+        LearnerLog.info("Set the counter '{}' to the value '{}' (ignoreFailure: {}, negated: {}).",
                 name, value, ignoreFailure, negated);
         return getSuccessOutput();
     }
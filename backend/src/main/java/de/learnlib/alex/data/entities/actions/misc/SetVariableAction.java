@@ -21,10 +21,7 @@ import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -41,10 +38,6 @@ public class SetVariableAction extends SymbolAction {
 
     private static final long serialVersionUID = 1935478771410953466L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The name of the variable to set a new value to. */
     @NotBlank
     protected String name;
@@ -86,8 +79,8 @@ public class SetVariableAction extends SymbolAction {
         VariableStoreConnector storeConnector = connector.getConnector(VariableStoreConnector.class);
         storeConnector.set(name, insertVariableValues(value));
 
-        LOGGER.info(LEARNER_MARKER, "Set the variable '{}' to the value '{}' (ignoreFailure: {}, negated: {}).",
-                    name, value, ignoreFailure, negated);
+        LearnerLog.info("Set the variable '{}' to the value '{}' (ignoreFailure: {}, negated: {}).",
+                name, value, ignoreFailure, negated);
         return getSuccessOutput();
     }
 }
@@ -19,14 +19,12 @@ package de.learnlib.alex.data.entities.actions.misc;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
+import de.learnlib.alex.learning.services.connectors.Connector;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.openqa.selenium.Cookie;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
@@ -45,10 +43,6 @@ import java.util.Map;
 @JsonTypeName("setVariableByCookie")
 public class SetVariableByCookieAction extends SetVariableAction {
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * Enum to differentiate web & REST cookies.
      */
@@ -103,51 +97,59 @@ public class SetVariableByCookieAction extends SetVariableAction {
         cookieType = type;
     }
 
+    @Override
+    public boolean usesConnector(Class<? extends Connector> type) {
+        if (type.equals(WebSiteConnector.class)) {
+            return cookieType == CookieType.WEB;
+        } else if (type.equals(WebServiceConnector.class)) {
+            return cookieType == CookieType.REST;
+        }
+        return true;
+    }
+
     @Override
     public ExecuteResult execute(ConnectorManager connector) {
         VariableStoreConnector storeConnector = connector.getConnector(VariableStoreConnector.class);
-        WebServiceConnector webServiceConnector = connector.getConnector(WebServiceConnector.class);
-        WebSiteConnector webSiteConnector = connector.getConnector(WebSiteConnector.class);
 
         try {
             String cookieValue = null;
 
             if (cookieType == CookieType.WEB) {
-                WebDriver driver = webSiteConnector.getDriver();
+                WebDriver driver = connector.getConnector(WebSiteConnector.class).getDriver();
                 WebDriver.Options manage = driver.manage();
                 Cookie cookie = manage.getCookieNamed(value);
                 if (cookie != null) {
                     cookieValue = cookie.getValue();
                 }
             } else if (cookieType == CookieType.REST) {
-                Map<String, NewCookie> cookies = webServiceConnector.getCookies();
+                Map<String, NewCookie> cookies = connector.getConnector(WebServiceConnector.class).getCookies();
                 javax.ws.rs.core.Cookie cookie = cookies.get(value);
                 if (cookie != null) {
                     cookieValue = cookie.getValue();
                 }
             } else {
-                LOGGER.warn(LEARNER_MARKER, "Could not set the variable '{}' to the cookie '{}' "
-                                    + "because the type '{}' is not supported (ignoreFailure: {}, negated: {})!",
-                            name, value, cookieType, ignoreFailure, negated);
+                LearnerLog.warn("Could not set the variable '{}' to the cookie '{}' "
+                        + "because the type '{}' is not supported (ignoreFailure: {}, negated: {})!",
+                        name, value, cookieType, ignoreFailure, negated);
                 return getFailedOutput();
             }
 
             if (cookieValue != null) {
                 storeConnector.set(name, cookieValue);
-                LOGGER.info(LEARNER_MARKER, "Set the variable '{}' to the value '{}' of the cookie '{}:{}' "
-                                                + "(ignoreFailure: {}, negated: {}).",
-                            name, cookieValue, cookieType, value, ignoreFailure, negated);
+                LearnerLog.info("Set the variable '{}' to the value '{}' of the cookie '{}:{}' "
+                        + "(ignoreFailure: {}, negated: {}).",
+                        name, cookieValue, cookieType, value, ignoreFailure, negated);
                 return getSuccessOutput();
             } else {
-                LOGGER.info(LEARNER_MARKER, "Could not set the variable '{}' to the cookie '{}:{}' "
-                                                + "because the cookie was not found (ignoreFailure: {}, negated: {})!",
-                            name, cookieType, value, ignoreFailure, negated);
+                LearnerLog.info("Could not set the variable '{}' to the cookie '{}:{}' "
+                        + "because the cookie was not found (ignoreFailure: {}, negated: {})!",
+                        name, cookieType, value, ignoreFailure, negated);
                 return getFailedOutput();
             }
         } catch (IllegalStateException | NoSuchElementException e) {
-            LOGGER.warn(LEARNER_MARKER, "Could not set the variable '{}' to the cookie '{}' because of an error "
-                                            + "(ignoreFailure: {}, negated: {})!",
-                        name, value, ignoreFailure, negated, e);
+            LearnerLog.warn("Could not set the variable '{}' to the cookie '{}' because of an error "
+                    + "(ignoreFailure: {}, negated: {})!",
+                    name, value, ignoreFailure, negated, e);
             return getFailedOutput();
         }
     }
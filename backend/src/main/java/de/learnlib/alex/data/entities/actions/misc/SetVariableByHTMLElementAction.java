@@ -20,13 +20,12 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.data.entities.WebElementLocator;
+import de.learnlib.alex.learning.services.connectors.Connector;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
+import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.NoSuchElementException;
 
@@ -45,10 +44,6 @@ public class SetVariableByHTMLElementAction extends SymbolAction {
 
     private static final long serialVersionUID = -7654754471208209824L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The name of the variable. */
     @NotBlank
     protected String name;
@@ -58,6 +53,11 @@ public class SetVariableByHTMLElementAction extends SymbolAction {
     @Embedded
     private WebElementLocator node;
 
+    @Override
+    public boolean usesConnector(Class<? extends Connector> type) {
+        return !type.equals(WebServiceConnector.class);
+    }
+
     @Override
     public ExecuteResult execute(ConnectorManager connector) {
         VariableStoreConnector storeConnector = connector.getConnector(VariableStoreConnector.class);
@@ -70,13 +70,13 @@ public class SetVariableByHTMLElementAction extends SymbolAction {
             String text = webSiteConnector.getElement(nodeWithVariables).getText().trim();
             storeConnector.set(name, text);
 
-            LOGGER.info(LEARNER_MARKER, "Set the variable '{}' to the value '{}' of the HTML node '{}' "
-                            + "(ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Set the variable '{}' to the value '{}' of the HTML node '{}' "
+                    + "(ignoreFailure: {}, negated: {}).",
                     name, text, nodeWithVariables, ignoreFailure, negated);
             return getSuccessOutput();
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not set the variable '{}' to the value of the HTML node '{}' "
-                            + "(ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not set the variable '{}' to the value of the HTML node '{}' "
+                    + "(ignoreFailure: {}, negated: {}).",
                     name, nodeWithVariables, ignoreFailure, negated);
             return getFailedOutput();
         }
@@ -19,13 +19,12 @@ package de.learnlib.alex.data.entities.actions.misc;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
+import de.learnlib.alex.learning.services.connectors.Connector;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotEmpty;
 
 import javax.persistence.DiscriminatorValue;
@@ -41,14 +40,15 @@ public class SetVariableByHttpResponse extends SymbolAction {
 
     private static final long serialVersionUID = -1062817486843997759L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The name of the variable. */
     @NotEmpty
     private String name;
 
+    @Override
+    public boolean usesConnector(Class<? extends Connector> type) {
+        return !type.equals(WebSiteConnector.class);
+    }
+
     @Override
     public ExecuteResult execute(ConnectorManager connector) {
         final WebServiceConnector webServiceConnector = connector.getConnector(WebServiceConnector.class);
@@ -58,11 +58,11 @@ public class SetVariableByHttpResponse extends SymbolAction {
             final String body = webServiceConnector.getBody();
             variableStore.set(name, body);
 
-            LOGGER.info(LEARNER_MARKER, "Set variable '{}' to HTTP body. (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Set variable '{}' to HTTP body. (ignoreFailure: {}, negated: {}).",
                     name, ignoreFailure, negated);
             return getSuccessOutput();
         } catch (Exception e) {
-            LOGGER.info(LEARNER_MARKER, "Could not set variable '{}' to HTTP body. (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not set variable '{}' to HTTP body. (ignoreFailure: {}, negated: {}).",
                     name, ignoreFailure, negated);
             return getFailedOutput();
         }
@@ -18,14 +18,14 @@ package de.learnlib.alex.data.entities.actions.misc;
 
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.common.utils.JSONHelpers;
+import de.learnlib.alex.common.utils.JsonDocument;
 import de.learnlib.alex.data.entities.ExecuteResult;
+import de.learnlib.alex.learning.services.connectors.Connector;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
@@ -38,22 +38,23 @@ import javax.persistence.Entity;
 @JsonTypeName("setVariableByJSON")
 public class SetVariableByJSONAttributeAction extends SetVariableAction {
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
+    @Override
+    public boolean usesConnector(Class<? extends Connector> type) {
+        return !type.equals(WebSiteConnector.class);
+    }
 
     @Override
     public ExecuteResult execute(ConnectorManager connector) {
         VariableStoreConnector storeConnector = connector.getConnector(VariableStoreConnector.class);
         WebServiceConnector webServiceConnector = connector.getConnector(WebServiceConnector.class);
 
-        String body = webServiceConnector.getBody();
-        String valueInTheBody = JSONHelpers.getAttributeValue(body, value);
+        JsonDocument document = webServiceConnector.getJsonDocument();
+        String valueInTheBody = JSONHelpers.getAttributeValue(document, value, this::compileJsonPath);
 
         if (valueInTheBody == null) {
-            LOGGER.info(LEARNER_MARKER, "Could not set the variable '{}' to the value of the  JSON attribute '{}' "
-                            + "in the body '{}' (ignoreFailure: {}, negated: {}).",
-                        name, value, ignoreFailure, negated);
+            LearnerLog.info("Could not set the variable '{}' to the value of the  JSON attribute '{}' "
+                    + "in the body '{}' (ignoreFailure: {}, negated: {}).",
+                    name, value, ignoreFailure, negated);
             return getFailedOutput();
         }
 
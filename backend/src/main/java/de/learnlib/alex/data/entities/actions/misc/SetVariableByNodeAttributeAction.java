@@ -20,13 +20,12 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.data.entities.WebElementLocator;
+import de.learnlib.alex.learning.services.connectors.Connector;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
+import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.NoSuchElementException;
 
@@ -45,10 +44,6 @@ public class SetVariableByNodeAttributeAction extends SymbolAction {
 
     private static final long serialVersionUID = 8998187003156355834L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The name of the variable. */
     @NotBlank
     protected String name;
@@ -107,6 +102,11 @@ public class SetVariableByNodeAttributeAction extends SymbolAction {
         this.attribute = attribute;
     }
 
+    @Override
+    public boolean usesConnector(Class<? extends Connector> type) {
+        return !type.equals(WebServiceConnector.class);
+    }
+
     @Override
     protected ExecuteResult execute(ConnectorManager connector) {
         VariableStoreConnector storeConnector = connector.getConnector(VariableStoreConnector.class);
@@ -119,12 +119,12 @@ public class SetVariableByNodeAttributeAction extends SymbolAction {
             String value = webSiteConnector.getElement(nodeWithVariables).getAttribute(attribute);
             storeConnector.set(name, value);
 
-            LOGGER.info(LEARNER_MARKER, "Set variable '{}' to attribute '{}' of element '{}'.",
+            LearnerLog.info("Set variable '{}' to attribute '{}' of element '{}'.",
                     name, attribute, nodeWithVariables);
 
             return getSuccessOutput();
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not set variable '{}' to attribute '{}' of element '{}'.",
+            LearnerLog.info("Could not set variable '{}' to attribute '{}' of element '{}'.",
                     name, attribute, nodeWithVariables);
 
             return getFailedOutput();
@@ -20,13 +20,12 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.data.entities.WebElementLocator;
+import de.learnlib.alex.learning.services.connectors.Connector;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
+import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.NoSuchElementException;
 
@@ -45,10 +44,6 @@ public class SetVariableByNodeCountAction extends SymbolAction {
 
     private static final long serialVersionUID = 8693471212825524162L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The name of the variable. */
     @NotBlank
     private String name;
@@ -58,6 +53,11 @@ public class SetVariableByNodeCountAction extends SymbolAction {
     @Embedded
     private WebElementLocator node;
 
+    @Override
+    public boolean usesConnector(Class<? extends Connector> type) {
+        return !type.equals(WebServiceConnector.class);
+    }
+
     @Override
     protected ExecuteResult execute(ConnectorManager connector) {
         int nodeCount = 0;
@@ -69,8 +69,8 @@ public class SetVariableByNodeCountAction extends SymbolAction {
                     .getElements(nodeWithVariables)
                     .size();
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not find elements with the selector '{}' "
-                            + "(ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not find elements with the selector '{}' "
+                    + "(ignoreFailure: {}, negated: {}).",
                     nodeWithVariables, ignoreFailure, negated);
         }
 
@@ -19,13 +19,12 @@ package de.learnlib.alex.data.entities.actions.misc;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
+import de.learnlib.alex.learning.services.connectors.Connector;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
+import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -46,10 +45,6 @@ public class SetVariableByRegexGroup extends SymbolAction {
 
     private static final long serialVersionUID = -5562530206394874225L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The name of the variable. */
     @NotBlank
     private String name;
@@ -68,6 +63,11 @@ public class SetVariableByRegexGroup extends SymbolAction {
     @Min(0)
     private int mthGroup;
 
+    @Override
+    public boolean usesConnector(Class<? extends Connector> type) {
+        return !type.equals(WebServiceConnector.class);
+    }
+
     @Override
     protected ExecuteResult execute(ConnectorManager connector) {
         String pageSource = connector.getConnector(WebSiteConnector.class)
@@ -93,12 +93,12 @@ public class SetVariableByRegexGroup extends SymbolAction {
             }
 
             if (!matchFound) {
-                LOGGER.info(LEARNER_MARKER, "Could not find a string that matches regex '{}' "
+                LearnerLog.info("Could not find a string that matches regex '{}' "
                         + "(ignoreFailure: {}, negated: {})", regex, ignoreFailure, negated);
                 return getFailedOutput();
             }
         } catch (IndexOutOfBoundsException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not find group {} in regex '{}' "
+            LearnerLog.info("Could not find group {} in regex '{}' "
                     + "(ignoreFailure: {}, negated: {})", mthGroup, regex, ignoreFailure, negated);
             return getFailedOutput();
         }
@@ -20,10 +20,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
@@ -40,10 +37,6 @@ public class WaitAction extends SymbolAction {
 
     private static final long serialVersionUID = 7122950041811279742L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * The duration to wait in ms.
      */
@@ -73,11 +66,11 @@ public class WaitAction extends SymbolAction {
     @Override
     public ExecuteResult execute(ConnectorManager connector) {
         try {
-            LOGGER.info(LEARNER_MARKER, "Waiting for {} ms.", duration);
+            LearnerLog.info("Waiting for {} ms.", duration);
             Thread.sleep(duration);
             return getSuccessOutput();
         } catch (InterruptedException e) {
-            LOGGER.error(LEARNER_MARKER, "Failed to wait.", e);
+            LearnerLog.error("Failed to wait.", e);
             return getFailedOutput();
         }
     }
@@ -21,10 +21,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.actions.Credentials;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.glassfish.jersey.client.ClientProperties;
 import org.hibernate.validator.constraints.NotBlank;
 
@@ -56,10 +53,6 @@ public class CallAction extends RESTSymbolAction {
 
     private static final long serialVersionUID = 7971257988991996022L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * Enumeration to specify the HTTP method.
      */
@@ -316,13 +309,13 @@ public class CallAction extends RESTSymbolAction {
     @Override
     public ExecuteResult execute(WebServiceConnector target) {
         try {
-            LOGGER.info(LEARNER_MARKER, "Doing REST request '{} {}' (ignoreFailure: {}, negated: {}).",
-                        method, url, ignoreFailure, negated);
+            LearnerLog.info("Doing REST request '{} {}' (ignoreFailure: {}, negated: {}).",
+                    method, url, ignoreFailure, negated);
 
             doRequest(target);
             return getSuccessOutput();
         } catch (Exception e) {
-            LOGGER.info(LEARNER_MARKER, "Could not call {}.", getUrlWithVariableValues(), e);
+            LearnerLog.info("Could not call {}.", getUrlWithVariableValues(), e);
             return getFailedOutput();
         }
     }
@@ -330,7 +323,7 @@ public class CallAction extends RESTSymbolAction {
     private void doRequest(WebServiceConnector target) {
         final Map<String, String> requestHeaders = getHeadersWithVariableValues();
         if (credentials != null && credentials.areValid()) {
-            LOGGER.info(LEARNER_MARKER, "Using credentials '{}'.", credentials);
+            LearnerLog.info("Using credentials '{}'.", credentials);
             requestHeaders.put("Authorization", "Basic " + getCredentialsWithVariableValues().toBase64());
         }
 
@@ -350,8 +343,8 @@ public class CallAction extends RESTSymbolAction {
                 target.delete(getUrlWithVariableValues(), requestHeaders, getCookiesWithVariableValues(), timeout);
                 break;
             default:
-                LOGGER.error(LEARNER_MARKER, "Tried to make a call to a REST API with an unknown method '{}'.",
-                             method.name());
+                LearnerLog.error("Tried to make a call to a REST API with an unknown method '{}'.",
+                        method.name());
         }
     }
 
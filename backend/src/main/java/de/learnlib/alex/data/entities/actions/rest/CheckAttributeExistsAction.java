@@ -19,12 +19,10 @@ package de.learnlib.alex.data.entities.actions.rest;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.common.utils.JSONHelpers;
+import de.learnlib.alex.common.utils.JsonDocument;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -40,10 +38,6 @@ public class CheckAttributeExistsAction extends RESTSymbolAction {
 
     private static final long serialVersionUID = 6739027451651950338L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The name of the attribute to check for. */
     @NotBlank
     private String attribute;
@@ -80,13 +74,15 @@ public class CheckAttributeExistsAction extends RESTSymbolAction {
 
     @Override
     public ExecuteResult execute(WebServiceConnector target) {
-        String body = target.getBody();
+        JsonDocument document = target.getJsonDocument();
+        String body = document.getJson();
 
-        boolean result = JSONHelpers.getAttributeValue(body, getAttributeWithVariableValues()) != null;
+        boolean result = JSONHelpers.getAttributeValue(document, getAttributeWithVariableValues(),
+                this::compileJsonPath) != null;
 
-        LOGGER.info(LEARNER_MARKER, "Check if the attribute '{}' exists in '{}' => {} "
-                                        + "(ignoreFailure: {}, negated: {}).",
-                    attribute, body, result, ignoreFailure, negated);
+        LearnerLog.info("Check if the attribute '{}' exists in '{}' => {} "
+                + "(ignoreFailure: {}, negated: {}).",
+                attribute, body, result, ignoreFailure, negated);
         if (result) {
             return getSuccessOutput();
         } else {
@@ -20,12 +20,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import de.learnlib.alex.common.utils.JSONHelpers;
+import de.learnlib.alex.common.utils.JsonDocument;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -42,10 +40,6 @@ public class CheckAttributeTypeAction extends  RESTSymbolAction {
 
     private static final long serialVersionUID = 6962742356381266855L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * Enumeration to refer to a type of a JSON field.
      */
@@ -153,14 +147,16 @@ public class CheckAttributeTypeAction extends  RESTSymbolAction {
 
     @Override
     public ExecuteResult execute(WebServiceConnector target) {
-        String body = target.getBody();
-        JsonType typeInBody = JSONHelpers.getAttributeType(body, getAttributeWithVariableValues());
+        JsonDocument document = target.getJsonDocument();
+        String body = document.getJson();
+        JsonType typeInBody = JSONHelpers.getAttributeType(document, getAttributeWithVariableValues(),
+                this::compileJsonPath);
 
         boolean result = typeInBody != null && typeInBody.equals(jsonType);
 
-        LOGGER.info(LEARNER_MARKER, "Check if the attribute '{}' has the type '{}' in '{}' => {} "
-                            + "(ignoreFailure: {}, negated: {}).",
-                    attribute, jsonType, body, result, ignoreFailure, negated);
+        LearnerLog.info("Check if the attribute '{}' has the type '{}' in '{}' => {} "
+                + "(ignoreFailure: {}, negated: {}).",
+                attribute, jsonType, body, result, ignoreFailure, negated);
         if (result) {
             return getSuccessOutput();
         } else {
@@ -19,13 +19,11 @@ package de.learnlib.alex.data.entities.actions.rest;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.common.utils.JSONHelpers;
+import de.learnlib.alex.common.utils.JsonDocument;
 import de.learnlib.alex.common.utils.SearchHelper;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -42,10 +40,6 @@ public class CheckAttributeValueAction extends RESTSymbolAction {
 
     private static final long serialVersionUID = -3411541294360335382L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The name of the attribute to check for. */
     @NotBlank
     private String attribute;
@@ -139,15 +133,17 @@ public class CheckAttributeValueAction extends RESTSymbolAction {
 
     @Override
     public ExecuteResult execute(WebServiceConnector target) {
-        String body = target.getBody();
-        String valueInTheBody = JSONHelpers.getAttributeValue(body, getAttributeWithVariableValues());
+        JsonDocument document = target.getJsonDocument();
+        String body = document.getJson();
+        String valueInTheBody = JSONHelpers.getAttributeValue(document, getAttributeWithVariableValues(),
+                this::compileJsonPath);
 
         boolean result = valueInTheBody != null
                             && SearchHelper.search(getValueWithVariableValues(), valueInTheBody, regexp);
 
-        LOGGER.info(LEARNER_MARKER, "Check if the attribute '{}' has the value '{}' in '{}' => {} "
-                                        + "(regexp: {}, ignoreFailure: {}, negated: {}).",
-                    attribute, value, body, result, regexp, ignoreFailure, negated);
+        LearnerLog.info("Check if the attribute '{}' has the value '{}' in '{}' => {} "
+                + "(regexp: {}, ignoreFailure: {}, negated: {}).",
+                attribute, value, body, result, regexp, ignoreFailure, negated);
         if (result) {
             return getSuccessOutput();
         } else {
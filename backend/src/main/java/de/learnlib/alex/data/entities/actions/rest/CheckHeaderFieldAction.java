@@ -21,10 +21,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.common.utils.SearchHelper;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -42,10 +39,6 @@ public class CheckHeaderFieldAction extends RESTSymbolAction {
 
     private static final long serialVersionUID = -7234083244640666736L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The key of the header field to check for the value. */
     @NotBlank
     private String key;
@@ -130,9 +123,9 @@ public class CheckHeaderFieldAction extends RESTSymbolAction {
     public ExecuteResult execute(WebServiceConnector connector) {
         List<Object> headerFieldValues = connector.getHeaders().get(key);
         if (headerFieldValues == null) {
-            LOGGER.info(LEARNER_MARKER, "Could header {} against the value {}, because the header was not found "
-                                            + "(regExp: {}, ignoreFailure: {}, negated: {}).",
-                        key, value, regexp, ignoreFailure, negated);
+            LearnerLog.info("Could header {} against the value {}, because the header was not found "
+                    + "(regExp: {}, ignoreFailure: {}, negated: {}).",
+                    key, value, regexp, ignoreFailure, negated);
             return getFailedOutput();
         }
 
@@ -143,9 +136,9 @@ public class CheckHeaderFieldAction extends RESTSymbolAction {
             result = search(headerFieldValues);
         }
 
-        LOGGER.info(LEARNER_MARKER, "Checked header {} with the value {} against {} => {}"
-                                        + "(regExp: {}, ignoreFailure: {}, negated: {}).",
-                    key, headerFieldValues, value, result, regexp, ignoreFailure, negated);
+        LearnerLog.info("Checked header {} with the value {} against {} => {}"
+                + "(regExp: {}, ignoreFailure: {}, negated: {}).",
+                key, headerFieldValues, value, result, regexp, ignoreFailure, negated);
         if (result) {
             return getSuccessOutput();
         } else {
@@ -19,10 +19,7 @@ package de.learnlib.alex.data.entities.actions.rest;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
@@ -39,10 +36,6 @@ public class CheckStatusAction extends RESTSymbolAction {
 
     private static final long serialVersionUID = -4444604521120530087L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The smallest possible HTTP status. */
     private static final int MIN_HTTP_STATUS = 100;
 
@@ -76,9 +69,9 @@ public class CheckStatusAction extends RESTSymbolAction {
 
         boolean result = this.status == returnedStatus;
 
-        LOGGER.info(LEARNER_MARKER, "Checked if the returned status code '{}' is equal to '{}' => {}"
-                                        + "(ignoreFailure: {}, negated: {}).",
-                    returnedStatus, status, result, ignoreFailure, negated);
+        LearnerLog.info("Checked if the returned status code '{}' is equal to '{}' => {}"
+                + "(ignoreFailure: {}, negated: {}).",
+                returnedStatus, status, result, ignoreFailure, negated);
         if (result) {
             return getSuccessOutput();
         } else {
@@ -21,10 +21,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.common.utils.SearchHelper;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -41,10 +38,6 @@ public class CheckTextRestAction extends RESTSymbolAction {
 
     private static final long serialVersionUID = -681951086735590790L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The expected text in the response body of the last request. */
     @NotBlank
     private String value;
@@ -107,9 +100,9 @@ public class CheckTextRestAction extends RESTSymbolAction {
         String body = target.getBody();
         boolean result = SearchHelper.search(getValueWithVariableValues(), body, regexp);
 
-        LOGGER.info(LEARNER_MARKER, "Check if the value '{}' is in '{}' => {} "
-                                        + "(regexp: {}, ignoreFailure: {}, negated: {}).",
-                    value, value, body, result, regexp, ignoreFailure, negated);
+        LearnerLog.info("Check if the value '{}' is in '{}' => {} "
+                + "(regexp: {}, ignoreFailure: {}, negated: {}).",
+                value, value, body, result, regexp, ignoreFailure, negated);
         if (result) {
             return getSuccessOutput();
         } else {
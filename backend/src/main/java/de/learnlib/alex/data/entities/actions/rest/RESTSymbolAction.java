@@ -19,8 +19,10 @@ package de.learnlib.alex.data.entities.actions.rest;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
+import de.learnlib.alex.learning.services.connectors.Connector;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
+import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
 
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
@@ -40,6 +42,11 @@ public abstract class RESTSymbolAction extends SymbolAction {
         return execute(connector.getConnector(WebServiceConnector.class));
     }
 
+    @Override
+    public boolean usesConnector(Class<? extends Connector> type) {
+        return !type.equals(WebSiteConnector.class);
+    }
+
     /**
      * Execute a REST action, i.e. a action that interacts with an web service interface.
      *
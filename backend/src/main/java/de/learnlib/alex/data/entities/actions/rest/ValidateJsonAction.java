@@ -18,10 +18,9 @@ package de.learnlib.alex.data.entities.actions.rest;
 
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
-import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import de.learnlib.alex.common.utils.JsonSchemaCache;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
 import org.hibernate.validator.constraints.NotBlank;
@@ -52,15 +51,10 @@ public class ValidateJsonAction extends RESTSymbolAction {
     @Override
     protected ExecuteResult execute(final WebServiceConnector connector) {
         final String body = connector.getBody();
-        final ObjectMapper mapper = new ObjectMapper();
 
         try {
-            final JsonNode obj = mapper.readTree(body);
-            final JsonNode jsonSchema = mapper.readTree(this.schema);
-
-            final ProcessingReport report = JsonSchemaFactory.byDefault()
-                    .getJsonSchema(jsonSchema)
-                    .validate(obj);
+            final JsonNode obj = JsonSchemaCache.readTree(body);
+            final ProcessingReport report = JsonSchemaCache.getSchema(this.schema).validate(obj);
 
             return report.isSuccess() ? getSuccessOutput() : getFailedOutput();
         } catch (IOException | ProcessingException e) {
@@ -19,10 +19,7 @@ package de.learnlib.alex.data.entities.actions.web;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.NoAlertPresentException;
 
@@ -40,10 +37,6 @@ public class AlertAcceptDismissAction extends WebSymbolAction {
 
     private static final long serialVersionUID = 194831141591117765L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The actions for an alert. */
     public enum Action {
 
@@ -71,19 +64,19 @@ public class AlertAcceptDismissAction extends WebSymbolAction {
             if (this.action == Action.ACCEPT) {
                 alert.accept();
 
-                LOGGER.info(LEARNER_MARKER, "Accept alert window (ignoreFailure: {}, negated: {}).",
-                            ignoreFailure, negated);
+                LearnerLog.info("Accept alert window (ignoreFailure: {}, negated: {}).",
+                        ignoreFailure, negated);
             } else {
                 alert.dismiss();
 
-                LOGGER.info(LEARNER_MARKER, "Dismiss alert window (ignoreFailure: {}, negated: {}).",
-                            ignoreFailure, negated);
+                LearnerLog.info("Dismiss alert window (ignoreFailure: {}, negated: {}).",
+                        ignoreFailure, negated);
             }
 
             return getSuccessOutput();
         } catch (NoAlertPresentException e) {
-            LOGGER.info(LEARNER_MARKER, "Failed accept or dismiss alert window (ignoreFailure: {}, negated: {}).",
-                        ignoreFailure, negated);
+            LearnerLog.info("Failed accept or dismiss alert window (ignoreFailure: {}, negated: {}).",
+                    ignoreFailure, negated);
 
             return getFailedOutput();
         }
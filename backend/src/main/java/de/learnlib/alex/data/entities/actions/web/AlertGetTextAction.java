@@ -22,10 +22,7 @@ import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.NoAlertPresentException;
@@ -43,10 +40,6 @@ public class AlertGetTextAction extends SymbolAction {
 
     private static final long serialVersionUID = 3133661009325694262L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The name of the variable to store the displayed text of the alert in. */
     @NotBlank
     private String variableName;
@@ -61,13 +54,13 @@ public class AlertGetTextAction extends SymbolAction {
             final String text = alert.getText();
             variableStore.set(variableName, text);
 
-            LOGGER.info(LEARNER_MARKER, "Save text '{}' from alert to variable '{}' (ignoreFailure: {}, negated: {}).",
-                        text, variableName, ignoreFailure, negated);
+            LearnerLog.info("Save text '{}' from alert to variable '{}' (ignoreFailure: {}, negated: {}).",
+                    text, variableName, ignoreFailure, negated);
 
             return getSuccessOutput();
         } catch (NoAlertPresentException e) {
-            LOGGER.info(LEARNER_MARKER, "Failed to get text from alert (ignoreFailure: {}, negated: {}).",
-                        ignoreFailure, negated);
+            LearnerLog.info("Failed to get text from alert (ignoreFailure: {}, negated: {}).",
+                    ignoreFailure, negated);
 
             return getFailedOutput();
         }
@@ -19,10 +19,7 @@ package de.learnlib.alex.data.entities.actions.web;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 
 import javax.persistence.Column;
 import javax.persistence.DiscriminatorValue;
@@ -37,10 +34,6 @@ public class BrowserAction extends WebSymbolAction {
 
     private static final long serialVersionUID = -8427901966480324077L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** What to to with the open browser window. */
     public enum Action {
 
@@ -67,12 +60,12 @@ public class BrowserAction extends WebSymbolAction {
             switch (action) {
                 case RESTART:
                     connector.restart();
-                    LOGGER.info(LEARNER_MARKER, "Restart browser (ignoreFailure: {}, negated: {}).",
+                    LearnerLog.info("Restart browser (ignoreFailure: {}, negated: {}).",
                             ignoreFailure, negated);
                     break;
                 case REFRESH:
                     connector.refresh();
-                    LOGGER.info(LEARNER_MARKER, "Refresh browser (ignoreFailure: {}, negated: {}).",
+                    LearnerLog.info("Refresh browser (ignoreFailure: {}, negated: {}).",
                             ignoreFailure, negated);
                     break;
                 default:
@@ -80,7 +73,7 @@ public class BrowserAction extends WebSymbolAction {
             }
             return getSuccessOutput();
         } catch (Exception e) {
-            LOGGER.info(LEARNER_MARKER, "Browser could not be refreshed or restarted (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Browser could not be refreshed or restarted (ignoreFailure: {}, negated: {}).",
                     ignoreFailure, negated, e);
 
             return getFailedOutput();
@@ -20,10 +20,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.openqa.selenium.NoSuchElementException;
 
 import javax.persistence.DiscriminatorValue;
@@ -41,10 +38,6 @@ public class CheckNodeAction extends WebSymbolAction {
 
     private static final long serialVersionUID = -3884454109124323412L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The node on the site that is checked for. */
     @NotNull
     @Embedded
@@ -71,11 +64,11 @@ public class CheckNodeAction extends WebSymbolAction {
         try {
             connector.getElement(nodeWithVariables);
 
-            LOGGER.info(LEARNER_MARKER, "Found the node '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Found the node '{}' (ignoreFailure: {}, negated: {}).",
                     nodeWithVariables, ignoreFailure, negated);
             return getSuccessOutput();
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not find the node '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not find the node '{}' (ignoreFailure: {}, negated: {}).",
                     nodeWithVariables, ignoreFailure, negated, e);
             return getFailedOutput();
         }
@@ -21,10 +21,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
@@ -44,10 +41,6 @@ public class CheckNodeAttributeValueAction extends WebSymbolAction {
 
     private static final long serialVersionUID = -1195203568320940744L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * Enumeration to specify the check method.
      */
@@ -128,7 +121,7 @@ public class CheckNodeAttributeValueAction extends WebSymbolAction {
             final String attributeValue = element.getAttribute(attribute);
 
             if (attributeValue == null) {
-                LOGGER.info(LEARNER_MARKER, "Attribute '{}' not found on element '{}'",
+                LearnerLog.info("Attribute '{}' not found on element '{}'",
                         attribute, nodeWithVariables);
                 return getFailedOutput();
             }
@@ -153,18 +146,18 @@ public class CheckNodeAttributeValueAction extends WebSymbolAction {
             }
 
             if (isValid) {
-                LOGGER.info(LEARNER_MARKER, "The value of the attribute '{}' of the node '{}'"
-                                + " '{}' the searched value '{}' (ignoreFailure: {}, negated: {}).",
+                LearnerLog.info("The value of the attribute '{}' of the node '{}'"
+                        + " '{}' the searched value '{}' (ignoreFailure: {}, negated: {}).",
                         attribute, nodeWithVariables, checkMethod, valueWithVariables, ignoreFailure, negated);
                 return getSuccessOutput();
             } else {
-                LOGGER.info(LEARNER_MARKER, "The value of the attribute '{}' of the node '{}'"
-                                + " does not '{}' the searched value '{}' (ignoreFailure: {}, negated: {}).",
+                LearnerLog.info("The value of the attribute '{}' of the node '{}'"
+                        + " does not '{}' the searched value '{}' (ignoreFailure: {}, negated: {}).",
                         attribute, nodeWithVariables, checkMethod, valueWithVariables, ignoreFailure, negated);
                 return getFailedOutput();
             }
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not find the node '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not find the node '{}' (ignoreFailure: {}, negated: {}).",
                     nodeWithVariables, ignoreFailure, negated, e);
             return getFailedOutput();
         }
@@ -20,10 +20,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
 
@@ -41,10 +38,6 @@ public class CheckNodeSelectedAction extends WebSymbolAction {
 
     private static final long serialVersionUID = -536234264110313110L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The input element. */
     @NotNull
     private WebElementLocator node;
@@ -57,16 +50,16 @@ public class CheckNodeSelectedAction extends WebSymbolAction {
         try {
             final WebElement element = connector.getElement(nodeWithVariables);
             if (element.isSelected()) {
-                LOGGER.info(LEARNER_MARKER, "Element '{}' is selected (ignoreFailure: {}, negated: {}).",
+                LearnerLog.info("Element '{}' is selected (ignoreFailure: {}, negated: {}).",
                         nodeWithVariables, ignoreFailure, negated);
                 return getSuccessOutput();
             } else {
-                LOGGER.info(LEARNER_MARKER, "Element '{}' is not selected (ignoreFailure: {}, negated: {}).",
+                LearnerLog.info("Element '{}' is not selected (ignoreFailure: {}, negated: {}).",
                         nodeWithVariables, ignoreFailure, negated);
                 return getFailedOutput();
             }
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not assert if element '{}' is selected "
+            LearnerLog.info("Could not assert if element '{}' is selected "
                     + "(ignoreFailure: {}, negated: {}).", nodeWithVariables, ignoreFailure, negated);
             return getFailedOutput();
         }
@@ -21,10 +21,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.common.utils.SearchHelper;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.WebDriver;
 
@@ -40,10 +37,6 @@ import javax.validation.constraints.NotNull;
 @JsonTypeName("web_checkPageTitle")
 public class CheckPageTitleAction extends WebSymbolAction {
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The title of the web page. */
     @NotBlank
     private String title;
@@ -104,8 +97,8 @@ public class CheckPageTitleAction extends WebSymbolAction {
         final WebDriver driver = connector.getDriver();
         final boolean result = SearchHelper.search(getTitleWithVariableValues(), driver.getTitle(), regexp);
 
-        LOGGER.info(LEARNER_MARKER, "Check if the current pages has the title '{}' => {} "
-                        + "(regExp: {}, ignoreFailure: {}, negated: {}).",
+        LearnerLog.info("Check if the current pages has the title '{}' => {} "
+                + "(regExp: {}, ignoreFailure: {}, negated: {}).",
                 title, result, regexp, ignoreFailure, negated);
         if (result) {
             return getSuccessOutput();
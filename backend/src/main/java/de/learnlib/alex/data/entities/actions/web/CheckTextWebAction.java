@@ -23,10 +23,7 @@ import de.learnlib.alex.common.utils.SearchHelper;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -44,10 +41,6 @@ public class CheckTextWebAction extends WebSymbolAction {
 
     private static final long serialVersionUID = -1212555673698070996L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The value the site is checked for. */
     @NotBlank
     private String value;
@@ -144,14 +137,14 @@ public class CheckTextWebAction extends WebSymbolAction {
 
             final boolean found = SearchHelper.search(getValueWithVariableValues(), source, regexp);
 
-            LOGGER.info(LEARNER_MARKER, "Check if the current pages contains '{}' => {} "
-                            + "(regExp: {}, ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Check if the current pages contains '{}' => {} "
+                    + "(regExp: {}, ignoreFailure: {}, negated: {}).",
                     value, found, regexp, ignoreFailure, negated);
 
             return found ? getSuccessOutput() : getFailedOutput();
         } catch (ElementNotFoundException e) {
-            LOGGER.error(LEARNER_MARKER, "Could not find text \"{}\" in element \"{}\""
-                            + "(regExp: {}, ignoreFailure: {}, negated: {}).",
+            LearnerLog.error("Could not find text \"{}\" in element \"{}\""
+                    + "(regExp: {}, ignoreFailure: {}, negated: {}).",
                     value, node.getSelector(), regexp, ignoreFailure, negated);
 
             return getFailedOutput();
@@ -20,10 +20,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
@@ -43,10 +40,6 @@ public class ClickAction extends WebSymbolAction {
 
     private static final long serialVersionUID = -9158530821188611940L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * The information to identify the element.
      */
@@ -117,13 +110,13 @@ public class ClickAction extends WebSymbolAction {
                 element.click();
             }
 
-            LOGGER.info(LEARNER_MARKER, "Clicked on the element '{}' "
-                            + "(doubleClick: {}, ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Clicked on the element '{}' "
+                    + "(doubleClick: {}, ignoreFailure: {}, negated: {}).",
                     nodeWithVariables, doubleClick, ignoreFailure, negated);
             return getSuccessOutput();
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not click on the element '{}' "
-                            + "(doubleClick: {}, ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not click on the element '{}' "
+                    + "(doubleClick: {}, ignoreFailure: {}, negated: {}).",
                     nodeWithVariables, doubleClick, ignoreFailure, negated);
             return getFailedOutput();
         }
@@ -20,10 +20,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
@@ -43,10 +40,6 @@ import java.util.List;
 @JsonTypeName("web_clickElementByText")
 public class ClickElementByTextAction extends WebSymbolAction {
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** Search link in a specific element. */
     @NotNull
     @Embedded
@@ -89,15 +82,15 @@ public class ClickElementByTextAction extends WebSymbolAction {
                 if (candidate.isDisplayed() && candidate.isEnabled() && hasText) {
                     candidate.click();
 
-                    LOGGER.info(LEARNER_MARKER, "Click on element '{}' with text '{}' "
-                                    + "(ignoreFailure: {}, negated: {}).", tagName, text, ignoreFailure, negated);
+                    LearnerLog.info("Click on element '{}' with text '{}' "
+                            + "(ignoreFailure: {}, negated: {}).", tagName, text, ignoreFailure, negated);
                     return getSuccessOutput();
                 }
             }
             throw new NoSuchElementException("No clickable element found.");
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not click on element '{}' with text '{}' "
-                            + "(ignoreFailure: {}, negated: {}).", tagName, text, ignoreFailure, negated, e);
+            LearnerLog.info("Could not click on element '{}' with text '{}' "
+                    + "(ignoreFailure: {}, negated: {}).", tagName, text, ignoreFailure, negated, e);
             return getFailedOutput();
         }
     }
@@ -21,10 +21,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
@@ -43,10 +40,6 @@ import javax.validation.constraints.NotNull;
 @JsonTypeName("web_clickLinkByText")
 public class ClickLinkAction extends WebSymbolAction {
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The value the site is checked for. */
     @NotBlank
     private String value;
@@ -115,11 +108,11 @@ public class ClickLinkAction extends WebSymbolAction {
 
             element.click();
 
-            LOGGER.info(LEARNER_MARKER, "Clicked on the link '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Clicked on the link '{}' (ignoreFailure: {}, negated: {}).",
                     value, ignoreFailure, negated);
             return getSuccessOutput();
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not click on the link '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not click on the link '{}' (ignoreFailure: {}, negated: {}).",
                     value, ignoreFailure, negated, e);
             return getFailedOutput();
         }
@@ -22,10 +22,7 @@ import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
@@ -45,10 +42,6 @@ public class ExecuteScriptAction extends SymbolAction {
 
     private static final long serialVersionUID = 6118333853615934954L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * The javascript to execute.
      */
@@ -96,18 +89,18 @@ public class ExecuteScriptAction extends SymbolAction {
                            || returnValue instanceof Boolean) {
                     variableStoreConnector.set(name, String.valueOf(returnValue));
                 } else if (returnValue instanceof WebElement || returnValue instanceof List) {
-                    LOGGER.info(LEARNER_MARKER, "WebElements and lists as return values are not supported.");
+                    LearnerLog.info("WebElements and lists as return values are not supported.");
                     return getFailedOutput();
                 } else {
                     variableStoreConnector.set(name, (String) returnValue);
                 }
             }
 
-            LOGGER.info(LEARNER_MARKER, "JavaScript {} successfully executed (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("JavaScript {} successfully executed (ignoreFailure: {}, negated: {}).",
                     ignoreFailure, negated);
             return getSuccessOutput();
         } else {
-            LOGGER.info(LEARNER_MARKER, "This driver does not support JavaScript (ignoreFailure: {}, negated: {})!",
+            LearnerLog.info("This driver does not support JavaScript (ignoreFailure: {}, negated: {})!",
                     ignoreFailure, negated);
             return getFailedOutput();
         }
@@ -20,10 +20,9 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
@@ -45,8 +44,6 @@ public class FillAction extends WebSymbolAction {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * The node to look for.
      */
@@ -112,8 +109,8 @@ public class FillAction extends WebSymbolAction {
                     nodeWithVariables, value, ignoreFailure, negated);
             return getSuccessOutput();
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not find the element '{}' to fill it with '{}' "
-                            + "(ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not find the element '{}' to fill it with '{}' "
+                    + "(ignoreFailure: {}, negated: {}).",
                     nodeWithVariables, valueWithVariables, ignoreFailure, negated, e);
             return getFailedOutput();
         }
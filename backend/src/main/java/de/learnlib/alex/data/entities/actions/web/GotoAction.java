@@ -22,10 +22,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.actions.Credentials;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 
 import javax.persistence.DiscriminatorValue;
@@ -43,10 +40,6 @@ public class GotoAction extends WebSymbolAction {
 
     private static final long serialVersionUID = -9158530821188611940L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The URL of the site. */
     @NotBlank
     private String url;
@@ -125,11 +118,11 @@ public class GotoAction extends WebSymbolAction {
     public ExecuteResult execute(WebSiteConnector connector) {
         try {
             connector.get(getURLWithVariableValues(), getCredentialsWithVariableValues());
-            LOGGER.info(LEARNER_MARKER, "Could goto '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could goto '{}' (ignoreFailure: {}, negated: {}).",
                     url, ignoreFailure, negated);
             return getSuccessOutput();
         } catch (Exception e) {
-            LOGGER.info(LEARNER_MARKER, "Could not goto '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not goto '{}' (ignoreFailure: {}, negated: {}).",
                     url, ignoreFailure, negated, e);
             return getFailedOutput();
         }
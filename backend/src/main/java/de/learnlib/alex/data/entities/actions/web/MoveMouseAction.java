@@ -20,10 +20,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
@@ -44,10 +41,6 @@ public class MoveMouseAction extends WebSymbolAction {
 
     private static final long serialVersionUID = -3477841410719285695L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * The selector of the element.
      */
@@ -133,21 +126,21 @@ public class MoveMouseAction extends WebSymbolAction {
 
             if (nodeWithVariables == null || nodeWithVariables.getSelector().trim().equals("")) {
                 actions.moveByOffset(offsetX, offsetY).build().perform();
-                LOGGER.info(LEARNER_MARKER, "Moved the mouse to the position ({}, {}) "
-                                + "(ignoreFailure: {}, negated: {}).",
+                LearnerLog.info("Moved the mouse to the position ({}, {}) "
+                        + "(ignoreFailure: {}, negated: {}).",
                         offsetX, offsetY, ignoreFailure, negated);
             } else {
                 final WebElement element = connector.getElement(nodeWithVariables);
                 actions.moveToElement(element, offsetX, offsetY).build().perform();
-                LOGGER.info(LEARNER_MARKER, "Moved the mouse to the element '{}' "
-                                + "(ignoreFailure: {}, negated: {}).",
+                LearnerLog.info("Moved the mouse to the element '{}' "
+                        + "(ignoreFailure: {}, negated: {}).",
                         nodeWithVariables, ignoreFailure, negated);
             }
 
             return getSuccessOutput();
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not move the mouse to the element '{}' or the position ({}, {}) "
-                            + "(ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not move the mouse to the element '{}' or the position ({}, {}) "
+                    + "(ignoreFailure: {}, negated: {}).",
                     nodeWithVariables, offsetX, offsetY, ignoreFailure, negated, e);
             return getFailedOutput();
         }
@@ -20,11 +20,8 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.apache.commons.text.StringEscapeUtils;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.NoSuchElementException;
@@ -45,10 +42,6 @@ public class PressKeyAction extends WebSymbolAction {
 
     private static final long serialVersionUID = 3238529954083029446L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * The selector of the element.
      */
@@ -73,11 +66,11 @@ public class PressKeyAction extends WebSymbolAction {
         try {
             final WebElement element = connector.getElement(nodeWithVariables);
             element.sendKeys(keyToPress);
-            LOGGER.info(LEARNER_MARKER, "Pressed the key '{}' on the element '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Pressed the key '{}' on the element '{}' (ignoreFailure: {}, negated: {}).",
                     keyToPress.toString(), nodeWithVariables, ignoreFailure, negated);
             return getSuccessOutput();
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not press key '{}' on element '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not press key '{}' on element '{}' (ignoreFailure: {}, negated: {}).",
                     keyToPress.toString(), nodeWithVariables, ignoreFailure, negated, e);
             return getFailedOutput();
         }
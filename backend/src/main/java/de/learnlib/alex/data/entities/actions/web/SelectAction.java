@@ -21,10 +21,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
@@ -76,10 +73,6 @@ public class SelectAction extends FillAction {
 
     }
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * The type that an option is selected by.
      */
@@ -126,11 +119,11 @@ public class SelectAction extends FillAction {
                     break;
             }
 
-            LOGGER.info(LEARNER_MARKER, "Selected '{}' of '{}' by '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Selected '{}' of '{}' by '{}' (ignoreFailure: {}, negated: {}).",
                     value, nodeWithVariables, selectBy, ignoreFailure, negated);
             return getSuccessOutput();
         } catch (NoSuchElementException | NumberFormatException | UnexpectedTagNameException e) {
-            LOGGER.info(LEARNER_MARKER, "Could not select '{}' of '{}' by '{}' (ignoreFailure: {}, negated: {}).",
+            LearnerLog.info("Could not select '{}' of '{}' by '{}' (ignoreFailure: {}, negated: {}).",
                     value, nodeWithVariables, selectBy, ignoreFailure, negated, e);
             return getFailedOutput();
         }
@@ -20,10 +20,7 @@ package de.learnlib.alex.data.entities.actions.web;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
@@ -39,10 +36,6 @@ public class SwitchTo extends WebSymbolAction {
 
     private static final long serialVersionUID = 5072169613597915144L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * The target to switch to.
      */
@@ -74,10 +67,10 @@ public class SwitchTo extends WebSymbolAction {
                 default:
                     throw new Exception("Undefined target type.");
             }
-            LOGGER.info(LEARNER_MARKER, "Switch to '{}'", target);
+            LearnerLog.info("Switch to '{}'", target);
             return getSuccessOutput();
         } catch (Exception e) {
-            LOGGER.info(LEARNER_MARKER, "Could not switch to '{}'", target);
+            LearnerLog.info("Could not switch to '{}'", target);
             return getFailedOutput();
         }
     }
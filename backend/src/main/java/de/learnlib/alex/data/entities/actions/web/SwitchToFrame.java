@@ -21,10 +21,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.openqa.selenium.WebElement;
 
 import javax.persistence.DiscriminatorValue;
@@ -42,10 +39,6 @@ public class SwitchToFrame extends WebSymbolAction {
 
     private static final long serialVersionUID = -6501583266031427394L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * The element to switch to.
      */
@@ -61,10 +54,10 @@ public class SwitchToFrame extends WebSymbolAction {
         try {
             final WebElement element = connector.getElement(nodeWithVariables);
             connector.getDriver().switchTo().frame(element);
-            LOGGER.info(LEARNER_MARKER, "Switch to frame with selector '{}'", nodeWithVariables);
+            LearnerLog.info("Switch to frame with selector '{}'", nodeWithVariables);
             return getSuccessOutput();
         } catch (Exception e) {
-            LOGGER.info(LEARNER_MARKER, "Could not switch to frame with selector '{}'", nodeWithVariables);
+            LearnerLog.info("Could not switch to frame with selector '{}'", nodeWithVariables);
             return getFailedOutput();
         }
     }
@@ -21,10 +21,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
@@ -46,10 +43,6 @@ public class WaitForNodeAction extends WebSymbolAction {
 
     private static final long serialVersionUID = 4029222122474954117L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * Enumeration to specify the wait criterion.
      */
@@ -226,11 +219,11 @@ public class WaitForNodeAction extends WebSymbolAction {
             }
             return getSuccessOutput();
         } catch (TimeoutException e) {
-            LOGGER.info(LEARNER_MARKER, "Waiting on the node '{}' (criterion: '{}') timed out.",
+            LearnerLog.info("Waiting on the node '{}' (criterion: '{}') timed out.",
                     nodeWithVariables, waitCriterion);
             return getFailedOutput();
         } catch (NoSuchElementException e) {
-            LOGGER.info(LEARNER_MARKER, "The node with the selector {} (criterion: '{}') could not be found.",
+            LearnerLog.info("The node with the selector {} (criterion: '{}') could not be found.",
                     nodeWithVariables, waitCriterion);
             return getFailedOutput();
         }
@@ -20,10 +20,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.TimeoutException;
@@ -45,10 +42,6 @@ public class WaitForTextAction extends WebSymbolAction {
 
     private static final long serialVersionUID = -7420326002014507646L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * The string or pattern to look for.
      */
@@ -96,18 +89,18 @@ public class WaitForTextAction extends WebSymbolAction {
 
         try {
             if (regexp) {
-                LOGGER.info(LEARNER_MARKER, "Waiting for pattern '{}' to be present in node '{}' for a maximum of "
+                LearnerLog.info("Waiting for pattern '{}' to be present in node '{}' for a maximum of "
                         + "{}ms.", valueWithVariables, nodeWithVariables, maxWaitTime);
                 wait.until(wd -> connector.getElement(nodeWithVariables).getText().matches(valueWithVariables));
             } else {
-                LOGGER.info(LEARNER_MARKER, "Waiting for text '{}' to be present in node '{}' for a maximum of {}ms.",
+                LearnerLog.info("Waiting for text '{}' to be present in node '{}' for a maximum of {}ms.",
                         valueWithVariables, nodeWithVariables, maxWaitTime);
                 wait.until(wd -> connector.getElement(nodeWithVariables).getText().contains(valueWithVariables));
             }
 
             return getSuccessOutput();
         } catch (NoSuchElementException | TimeoutException e) {
-            LOGGER.info(LEARNER_MARKER, "Waiting for text/patter '{}' to be present in node '{}' failed.",
+            LearnerLog.info("Waiting for text/patter '{}' to be present in node '{}' failed.",
                     valueWithVariables, nodeWithVariables);
             return getFailedOutput();
         }
@@ -20,10 +20,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
 import org.hibernate.validator.constraints.NotBlank;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -43,10 +40,6 @@ public class WaitForTitleAction extends WebSymbolAction {
 
     private static final long serialVersionUID = -7416267361597106520L;
 
-    private static final Logger LOGGER = LogManager.getLogger();
-
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /**
      * Enumeration to specify the wait criterion.
      */
@@ -181,8 +174,8 @@ public class WaitForTitleAction extends WebSymbolAction {
 
             return getSuccessOutput();
         } catch (TimeoutException e) {
-            LOGGER.info(LEARNER_MARKER, "Waiting on the title '{}' (criterion: '{}') timed out. "
-                            + "Last known title was '{}'.",
+            LearnerLog.info("Waiting on the title '{}' (criterion: '{}') timed out. "
+                    + "Last known title was '{}'.",
                     valueWithVariables, waitCriterion, connector.getDriver().getTitle());
             return getFailedOutput();
         }
@@ -19,7 +19,9 @@ package de.learnlib.alex.data.entities.actions.web;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
+import de.learnlib.alex.learning.services.connectors.Connector;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
+import de.learnlib.alex.learning.services.connectors.WebServiceConnector;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
 
 import javax.persistence.DiscriminatorValue;
@@ -41,6 +43,11 @@ public abstract class WebSymbolAction extends SymbolAction {
         return execute(connector.getConnector(WebSiteConnector.class));
     }
 
+    @Override
+    public boolean usesConnector(Class<? extends Connector> type) {
+        return !type.equals(WebServiceConnector.class);
+    }
+
     /**
      * Execute a Web action, i.e. an action that interacts with a web site over an browser.
      *
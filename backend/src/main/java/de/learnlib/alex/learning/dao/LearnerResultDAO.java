@@ -55,7 +55,8 @@ public interface LearnerResultDAO {
      * @param projectId
      *         The project id of the test run.
      * @param includeSteps
-     *         Should all steps be included?
+     *         Should summaries of all steps be included? The summaries do not contain the hypotheses, the states of
+     *         the learner and the algorithm information.
      * @return A list of LearnerResults.
      * @throws NotFoundException
      *         If the project id was invalid.
@@ -24,9 +24,15 @@ import de.learnlib.alex.learning.entities.AbstractLearnerConfiguration;
 import de.learnlib.alex.learning.entities.LearnerResult;
 import de.learnlib.alex.learning.entities.LearnerResultStep;
 import de.learnlib.alex.learning.entities.LearnerStatus;
+import de.learnlib.alex.learning.entities.Statistics;
+import de.learnlib.alex.learning.entities.learnlibproxies.DefaultQueryProxy;
+import de.learnlib.alex.learning.entities.learnlibproxies.eqproxies.AbstractEquivalenceOracleProxy;
 import de.learnlib.alex.learning.repositories.LearnerResultRepository;
 import de.learnlib.alex.learning.repositories.LearnerResultStepRepository;
 import de.learnlib.alex.learning.services.Learner;
+import de.learnlib.alex.learning.services.trace.QueryTraceService;
+import de.learnlib.alex.metrics.entities.MetricTimer;
+import de.learnlib.alex.metrics.services.MetricsService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.shiro.authz.UnauthorizedException;
@@ -34,6 +40,8 @@ import org.hibernate.Hibernate;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
@@ -41,7 +49,10 @@ import javax.validation.ValidationException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Implementation of a LearnerResultDAO using Spring Data.
@@ -62,6 +73,12 @@ public class LearnerResultDAOImpl implements LearnerResultDAO {
 
     private EntityManager entityManager;
 
+    /** The service that manages the query traces of the results. */
+    private QueryTraceService queryTraceService;
+
+    /** The timer that measures how long it takes to save a step, including the commit. */
+    private final MetricTimer stepSaveTimer;
+
     /**
      * Creates a new LearnerResultDAO.
      *
@@ -71,14 +88,24 @@ public class LearnerResultDAOImpl implements LearnerResultDAO {
      *         The LearnerResultRepository to use.
      * @param learnerResultStepRepository
      *         The {@link LearnerResultStepRepository} to use.
+     * @param entityManager
+     *         The entity manager to use.
+     * @param metricsService
+     *         The registry of the runtime metrics.
+     * @param queryTraceService
+     *         The service that manages the query traces of the results.
      */
     @Inject
     public LearnerResultDAOImpl(ProjectDAO projectDAO, LearnerResultRepository learnerResultRepository,
-            LearnerResultStepRepository learnerResultStepRepository, EntityManager entityManager) {
+            LearnerResultStepRepository learnerResultStepRepository, EntityManager entityManager,
+            MetricsService metricsService, QueryTraceService queryTraceService) {
         this.projectDAO = projectDAO;
         this.learnerResultRepository = learnerResultRepository;
         this.learnerResultStepRepository = learnerResultStepRepository;
         this.entityManager = entityManager;
+        this.queryTraceService = queryTraceService;
+        this.stepSaveTimer = metricsService.timer("alex_db_step_save_seconds",
+                "The time it takes to save a learner step and to commit the transaction.");
     }
 
     @Override
@@ -123,7 +150,10 @@ public class LearnerResultDAOImpl implements LearnerResultDAO {
         List<LearnerResult> results = learnerResultRepository.findByProject_IdOrderByTestNoAsc(projectId);
 
         if (!results.isEmpty()) {
-            initializeLazyRelations(results, includeSteps);
+            initializeLazyRelations(results, false);
+            if (includeSteps) {
+                loadStepSummaries(results);
+            }
         }
 
         return results;
@@ -253,6 +283,17 @@ public class LearnerResultDAOImpl implements LearnerResultDAO {
     @Transactional
     public void saveStep(LearnerResult result, LearnerResultStep step)
             throws NotFoundException, ValidationException {
+        final long start = System.nanoTime();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    stepSaveTimer.recordSince(start);
+                }
+            });
+        }
+
+        linkToPreviousHypothesis(result.getSteps(), step);
         learnerResultStepRepository.save(step);
         updateSummary(result, step);
         learnerResultRepository.save(result);
@@ -270,10 +311,12 @@ public class LearnerResultDAOImpl implements LearnerResultDAO {
         if (amountOfDeletedResults != testNo.length) {
             throw new NotFoundException("Could not delete all results!");
         }
+
+        queryTraceService.deleteAfterCommit(projectId, testNo);
     }
 
     private void updateSummary(LearnerResult result, LearnerResultStep step) {
-        result.setHypothesis(step.getHypothesis());
+        result.setHypothesis(step.getHypothesis() == null ? null : step.getHypothesis().toSnapshot());
         result.setErrorText(step.getErrorText());
         result.getStatistics().updateBy(step.getStatistics());
     }
@@ -283,12 +326,54 @@ public class LearnerResultDAOImpl implements LearnerResultDAO {
         results.forEach(r -> Hibernate.initialize(r.getSymbols()));
         results.forEach(r -> Hibernate.initialize(r.getUrls()));
         if (includeSteps) {
-            results.forEach(r -> Hibernate.initialize(r.getSteps()));
+            results.forEach(r -> {
+                Hibernate.initialize(r.getSteps());
+                r.getSteps().forEach(step -> linkToPreviousHypothesis(r.getSteps(), step));
+            });
         } else {
             results.forEach(r -> r.setSteps(null));
         }
     }
 
+    /**
+     * Loads only the lightweight columns of the steps of the results, so that listing results does not load the
+     * hypotheses, learner states and algorithm information of all steps.
+     *
+     * @param results
+     *         The results whose steps should be loaded.
+     */
+    private void loadStepSummaries(List<LearnerResult> results) {
+        final Map<UUID, List<LearnerResultStep>> stepsByResult = new HashMap<>();
+        for (final Object[] row : learnerResultStepRepository.findSummariesByResultIn(results)) {
+            final LearnerResultStep step = new LearnerResultStep();
+            step.setResult((LearnerResult) row[0]);
+            step.setStepNo((Long) row[1]);
+            step.setStepsToLearn((Integer) row[2]);
+            step.setEqOracle((AbstractEquivalenceOracleProxy) row[3]);
+            step.setStatistics(row[4] == null ? new Statistics() : (Statistics) row[4]);
+            step.setCounterExample((DefaultQueryProxy) row[5]);
+            step.setErrorText((String) row[6]);
+            stepsByResult.computeIfAbsent(step.getResult().getUUID(), uuid -> new ArrayList<>()).add(step);
+        }
+
+        results.forEach(r -> r.setSteps(stepsByResult.getOrDefault(r.getUUID(), new ArrayList<>())));
+    }
+
+    /**
+     * Links the hypothesis of a step to the hypothesis of the previous step, so that it is stored as delta, or can be
+     * decoded from a delta. The predecessor is looked up by its step number.
+     *
+     * @param steps
+     *         The steps of the result.
+     * @param step
+     *         The step whose hypothesis should be linked.
+     */
+    private void linkToPreviousHypothesis(List<LearnerResultStep> steps, LearnerResultStep step) {
+        if (step.getHypothesis() != null) {
+            step.getHypothesis().setPrevious(step.findPreviousHypothesis(steps));
+        }
+    }
+
     private void checkIfResultsCanBeDeleted(Learner learner, Long projectId, Long... testNo)
             throws ValidationException {
         // don't delete the learnResult of the active learning process
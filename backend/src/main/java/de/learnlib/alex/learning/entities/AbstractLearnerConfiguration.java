@@ -21,6 +21,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import de.learnlib.alex.data.entities.ProjectUrl;
 import de.learnlib.alex.learning.entities.learnlibproxies.eqproxies.AbstractEquivalenceOracleProxy;
 import de.learnlib.alex.learning.entities.learnlibproxies.eqproxies.MealyRandomWordsEQOracleProxy;
+import de.learnlib.alex.learning.services.ExperimentScheduler;
+import de.learnlib.alex.learning.services.logging.LearnerLogContext;
+import de.learnlib.alex.learning.services.logging.LearnerLogLevel;
 import org.hibernate.validator.constraints.NotEmpty;
 
 import javax.persistence.Transient;
@@ -60,6 +63,26 @@ public abstract class AbstractLearnerConfiguration implements Serializable {
     @Min(-1)
     protected int maxAmountOfStepsToLearn;
 
+    /** The priority of the experiment if it has to wait for other experiments to finish. */
+    protected ExperimentScheduler.Priority priority;
+
+    /** If counterexamples should be reduced on the SUL before they are passed to the learner. */
+    protected boolean reduceCounterexamples;
+
+    /** How many SUL instances are used for each URL. 0 := decide based on the available resources. */
+    @Min(0)
+    protected int instancesPerUrl;
+
+    /** The most verbose level of the records in the learner log. */
+    protected LearnerLogLevel logLevel;
+
+    /** How many characters of a value, e.g. a response body, are written to the learner log. 0 := all characters. */
+    @Min(0)
+    protected int maxLogBodyLength;
+
+    /** If the queries that are executed on the SUL are recorded in a trace file. */
+    protected boolean recordQueryTraces;
+
     public abstract void checkConfiguration() throws IllegalArgumentException;
 
     /**
@@ -73,6 +96,10 @@ public abstract class AbstractLearnerConfiguration implements Serializable {
             throw new IllegalArgumentException("The MaxAmountOfStep property must not be less than -1.");
         } else if (maxAmountOfStepsToLearn == 0) {
             throw new IllegalArgumentException("The MaxAmountOfStep property must not be equal to 0.");
+        } else if (instancesPerUrl < 0) {
+            throw new IllegalArgumentException("The number of instances per URL must not be negative.");
+        } else if (maxLogBodyLength < 0) {
+            throw new IllegalArgumentException("The maximum length of logged values must not be negative.");
         } else if (eqOracle == null) {
             throw new IllegalArgumentException("Could not find an EQ oracle.");
         }
@@ -84,6 +111,12 @@ public abstract class AbstractLearnerConfiguration implements Serializable {
         this.eqOracle = new MealyRandomWordsEQOracleProxy();
         this.maxAmountOfStepsToLearn = -1;
         this.urls = new ArrayList<>();
+        this.priority = ExperimentScheduler.Priority.NORMAL;
+        this.reduceCounterexamples = true;
+        this.instancesPerUrl = 1;
+        this.logLevel = LearnerLogLevel.INFO;
+        this.maxLogBodyLength = LearnerLogContext.DEFAULT_MAX_BODY_LENGTH;
+        this.recordQueryTraces = false;
     }
 
     public Long getUserId() {
@@ -118,6 +151,54 @@ public abstract class AbstractLearnerConfiguration implements Serializable {
         this.maxAmountOfStepsToLearn = maxAmountOfStepsToLearn;
     }
 
+    public ExperimentScheduler.Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(ExperimentScheduler.Priority priority) {
+        this.priority = priority;
+    }
+
+    public boolean isReduceCounterexamples() {
+        return reduceCounterexamples;
+    }
+
+    public void setReduceCounterexamples(boolean reduceCounterexamples) {
+        this.reduceCounterexamples = reduceCounterexamples;
+    }
+
+    public int getInstancesPerUrl() {
+        return instancesPerUrl;
+    }
+
+    public void setInstancesPerUrl(int instancesPerUrl) {
+        this.instancesPerUrl = instancesPerUrl;
+    }
+
+    public LearnerLogLevel getLogLevel() {
+        return logLevel;
+    }
+
+    public void setLogLevel(LearnerLogLevel logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    public int getMaxLogBodyLength() {
+        return maxLogBodyLength;
+    }
+
+    public void setMaxLogBodyLength(int maxLogBodyLength) {
+        this.maxLogBodyLength = maxLogBodyLength;
+    }
+
+    public boolean isRecordQueryTraces() {
+        return recordQueryTraces;
+    }
+
+    public void setRecordQueryTraces(boolean recordQueryTraces) {
+        this.recordQueryTraces = recordQueryTraces;
+    }
+
     public List<ProjectUrl> getUrls() {
         return urls;
     }
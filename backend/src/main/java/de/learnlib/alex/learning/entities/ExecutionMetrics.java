@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The execution times and failures of the reset, the symbols and the actions that have been executed on the SUL.
+ * The reset covers the reset of all connectors and the execution of the reset symbol, which is also listed among the
+ * symbols. Actions are grouped by their type.
+ */
+@JsonPropertyOrder(alphabetic = true)
+public class ExecutionMetrics implements Serializable {
+
+    private static final long serialVersionUID = -1757447036510213187L;
+
+    /** The execution times of the resets. */
+    private final LatencyHistogram reset;
+
+    /** The execution times per symbol name. */
+    private final Map<String, LatencyHistogram> symbols;
+
+    /** The execution times per action type. */
+    private final Map<String, LatencyHistogram> actions;
+
+    /** Constructor. */
+    public ExecutionMetrics() {
+        this.reset = new LatencyHistogram();
+        this.symbols = new TreeMap<>();
+        this.actions = new TreeMap<>();
+    }
+
+    /**
+     * Records the reset of the SUL.
+     *
+     * @param nanos
+     *         The execution time in ns.
+     * @param success
+     *         If the reset was successful.
+     */
+    public void recordReset(long nanos, boolean success) {
+        reset.record(nanos, success);
+    }
+
+    /**
+     * Records the execution of a symbol.
+     *
+     * @param symbol
+     *         The name of the symbol.
+     * @param nanos
+     *         The execution time in ns.
+     * @param success
+     *         If the execution was successful.
+     */
+    public void recordSymbol(String symbol, long nanos, boolean success) {
+        symbols.computeIfAbsent(symbol, k -> new LatencyHistogram()).record(nanos, success);
+    }
+
+    /**
+     * Records the execution of an action.
+     *
+     * @param action
+     *         The type of the action.
+     * @param nanos
+     *         The execution time in ns.
+     * @param success
+     *         If the execution was successful.
+     */
+    public void recordAction(String action, long nanos, boolean success) {
+        actions.computeIfAbsent(action, k -> new LatencyHistogram()).record(nanos, success);
+    }
+
+    /**
+     * Adds the executions of other metrics to these ones.
+     *
+     * @param other
+     *         The other metrics.
+     */
+    public void updateBy(ExecutionMetrics other) {
+        reset.updateBy(other.reset);
+        other.symbols.forEach((name, histogram) ->
+                symbols.computeIfAbsent(name, k -> new LatencyHistogram()).updateBy(histogram));
+        other.actions.forEach((type, histogram) ->
+                actions.computeIfAbsent(type, k -> new LatencyHistogram()).updateBy(histogram));
+    }
+
+    public LatencyHistogram getReset() {
+        return reset;
+    }
+
+    public Map<String, LatencyHistogram> getSymbols() {
+        return symbols;
+    }
+
+    public Map<String, LatencyHistogram> getActions() {
+        return actions;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return reset.isEmpty() && symbols.isEmpty() && actions.isEmpty();
+    }
+}
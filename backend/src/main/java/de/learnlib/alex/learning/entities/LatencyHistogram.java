@@ -0,0 +1,217 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * A histogram of execution times in ns. The values are recorded into logarithmic buckets with 8 sub-buckets per power
+ * of two, so that recording is constant in time and percentiles have a relative error of at most 6.25%.
+ */
+@JsonPropertyOrder(alphabetic = true)
+public class LatencyHistogram implements Serializable {
+
+    private static final long serialVersionUID = 4807193367325441018L;
+
+    /** The number of bits used for the sub-buckets of a power of two. */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /** The number of sub-buckets per power of two. */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** The number of buckets that are needed to hold all positive long values. */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    /** The number of executions per bucket. Only non-empty buckets are serialized. */
+    private transient long[] buckets;
+
+    /** The number of executions. */
+    private long count;
+
+    /** The number of failed executions. */
+    private long failures;
+
+    /** The sum of all execution times in ns. */
+    private long total;
+
+    /** The longest execution time in ns. */
+    private long max;
+
+    /** Constructor. */
+    public LatencyHistogram() {
+        this.buckets = new long[BUCKETS];
+    }
+
+    /**
+     * Records an execution.
+     *
+     * @param nanos
+     *         The execution time in ns.
+     * @param success
+     *         If the execution was successful.
+     */
+    public void record(long nanos, boolean success) {
+        final long value = Math.max(0L, nanos);
+        buckets[indexOf(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+        if (!success) {
+            failures++;
+        }
+    }
+
+    /**
+     * Adds the executions of another histogram to this one.
+     *
+     * @param other
+     *         The other histogram.
+     */
+    public void updateBy(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] += other.buckets[i];
+        }
+        count += other.count;
+        failures += other.failures;
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Estimates a percentile of the execution times.
+     *
+     * @param percentile
+     *         The percentile in (0, 100].
+     * @return The estimated execution time in ns, or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile has to be in (0, 100].");
+        }
+        if (count == 0) {
+            return 0L;
+        }
+
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                final long width = widthOf(i);
+                return Math.min(max, lowerBoundOf(i) + width / 2);
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /** @return The mean execution time in ns. */
+    public long getMean() {
+        return count == 0 ? 0L : total / count;
+    }
+
+    /** @return The median execution time in ns. */
+    public long getP50() {
+        return getPercentile(50);
+    }
+
+    /** @return The 95th percentile of the execution times in ns. */
+    public long getP95() {
+        return getPercentile(95);
+    }
+
+    /** @return The 99th percentile of the execution times in ns. */
+    public long getP99() {
+        return getPercentile(99);
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int msb = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = msb - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long lowerBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    }
+
+    private static long widthOf(int index) {
+        return index < SUB_BUCKETS ? 1L : 1L << (index / SUB_BUCKETS - 1);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+
+        int nonEmpty = 0;
+        for (long bucket : buckets) {
+            if (bucket != 0) {
+                nonEmpty++;
+            }
+        }
+
+        out.writeInt(nonEmpty);
+        for (int i = 0; i < BUCKETS; i++) {
+            if (buckets[i] != 0) {
+                out.writeShort(i);
+                out.writeLong(buckets[i]);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        buckets = new long[BUCKETS];
+        final int nonEmpty = in.readInt();
+        for (int i = 0; i < nonEmpty; i++) {
+            buckets[in.readShort()] = in.readLong();
+        }
+    }
+}
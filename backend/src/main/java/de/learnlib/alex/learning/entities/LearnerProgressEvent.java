@@ -0,0 +1,269 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import de.learnlib.alex.learning.services.Learner;
+
+/**
+ * An incremental event about the progress of a running learning experiment. In contrast to the {@link LearnerStatus},
+ * an event only contains the information that has changed and is pushed to the clients that observe the learner.
+ */
+@JsonPropertyOrder(alphabetic = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LearnerProgressEvent {
+
+    /** The types of progress events. */
+    public enum Type {
+
+        /** The learner entered another phase. */
+        PHASE_CHANGED(false),
+
+        /** A batch of membership queries is posed to the SUL. */
+        BATCH_STARTED(true),
+
+        /** A batch of membership queries has been answered by the SUL. */
+        BATCH_FINISHED(true),
+
+        /** The number of queries and symbols that have been executed on the SUL in the current step. */
+        COUNTERS(true),
+
+        /** A learner step has been persisted. */
+        STEP_PERSISTED(false),
+
+        /** The experiment has finished. */
+        FINISHED(false),
+
+        /** Events have been discarded because the client did not consume them fast enough. */
+        OVERFLOW(true);
+
+        /** If an event of this type supersedes a pending event of the same type. */
+        private final boolean coalescable;
+
+        Type(boolean coalescable) {
+            this.coalescable = coalescable;
+        }
+
+        /** @return {@link #coalescable}. */
+        public boolean isCoalescable() {
+            return coalescable;
+        }
+    }
+
+    /** The type of the event. */
+    private final Type type;
+
+    /** The ID of the project the experiment belongs to. */
+    private final Long projectId;
+
+    /** The test no of the experiment, or null if it has not been persisted yet. */
+    private final Long testNo;
+
+    /** The time in ms when the event occurred. */
+    private final long timestamp;
+
+    /** The phase the learner is in. */
+    private Learner.LearnerPhase learnerPhase;
+
+    /** The number of the persisted step. */
+    private Long stepNo;
+
+    /** The number of queries in the batch. */
+    private Integer batchSize;
+
+    /** The number of membership queries executed on the SUL in the current step. */
+    private Long mqsUsed;
+
+    /** The number of symbols executed on the SUL in the current step. */
+    private Long symbolsUsed;
+
+    /** The number of events that have been discarded. */
+    private Long droppedEvents;
+
+    /**
+     * Constructor.
+     *
+     * @param type
+     *         {@link #type}.
+     * @param projectId
+     *         {@link #projectId}.
+     * @param testNo
+     *         {@link #testNo}.
+     */
+    private LearnerProgressEvent(Type type, Long projectId, Long testNo) {
+        this.type = type;
+        this.projectId = projectId;
+        this.testNo = testNo;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Creates an event for when the learner entered another phase.
+     *
+     * @param result
+     *         The result of the experiment.
+     * @param learnerPhase
+     *         The new phase of the learner.
+     * @return The event.
+     */
+    public static LearnerProgressEvent phaseChanged(LearnerResult result, Learner.LearnerPhase learnerPhase) {
+        final LearnerProgressEvent event = new LearnerProgressEvent(Type.PHASE_CHANGED, result.getProjectId(),
+                result.getTestNo());
+        event.learnerPhase = learnerPhase;
+        return event;
+    }
+
+    /**
+     * Creates an event for when a batch of queries is posed to the SUL.
+     *
+     * @param result
+     *         The result of the experiment.
+     * @param batchSize
+     *         The number of queries in the batch.
+     * @return The event.
+     */
+    public static LearnerProgressEvent batchStarted(LearnerResult result, int batchSize) {
+        final LearnerProgressEvent event = new LearnerProgressEvent(Type.BATCH_STARTED, result.getProjectId(),
+                result.getTestNo());
+        event.batchSize = batchSize;
+        return event;
+    }
+
+    /**
+     * Creates an event for when a batch of queries has been answered.
+     *
+     * @param result
+     *         The result of the experiment.
+     * @param batchSize
+     *         The number of queries in the batch.
+     * @return The event.
+     */
+    public static LearnerProgressEvent batchFinished(LearnerResult result, int batchSize) {
+        final LearnerProgressEvent event = new LearnerProgressEvent(Type.BATCH_FINISHED, result.getProjectId(),
+                result.getTestNo());
+        event.batchSize = batchSize;
+        return event;
+    }
+
+    /**
+     * Creates an event with the counters of the SUL.
+     *
+     * @param result
+     *         The result of the experiment.
+     * @param mqsUsed
+     *         The number of executed membership queries.
+     * @param symbolsUsed
+     *         The number of executed symbols.
+     * @return The event.
+     */
+    public static LearnerProgressEvent counters(LearnerResult result, long mqsUsed, long symbolsUsed) {
+        final LearnerProgressEvent event = new LearnerProgressEvent(Type.COUNTERS, result.getProjectId(),
+                result.getTestNo());
+        event.mqsUsed = mqsUsed;
+        event.symbolsUsed = symbolsUsed;
+        return event;
+    }
+
+    /**
+     * Creates an event for when a step has been persisted.
+     *
+     * @param result
+     *         The result of the experiment.
+     * @param step
+     *         The persisted step.
+     * @return The event.
+     */
+    public static LearnerProgressEvent stepPersisted(LearnerResult result, LearnerResultStep step) {
+        final LearnerProgressEvent event = new LearnerProgressEvent(Type.STEP_PERSISTED, result.getProjectId(),
+                result.getTestNo());
+        event.stepNo = step.getStepNo();
+        return event;
+    }
+
+    /**
+     * Creates an event for when the experiment has finished.
+     *
+     * @param result
+     *         The result of the experiment.
+     * @return The event.
+     */
+    public static LearnerProgressEvent finished(LearnerResult result) {
+        return new LearnerProgressEvent(Type.FINISHED, result.getProjectId(), result.getTestNo());
+    }
+
+    /**
+     * Creates an event that informs a client about discarded events. The client should fetch the status of the
+     * learner in order to synchronize itself.
+     *
+     * @param projectId
+     *         The ID of the project.
+     * @param droppedEvents
+     *         The number of discarded events.
+     * @return The event.
+     */
+    public static LearnerProgressEvent overflow(Long projectId, long droppedEvents) {
+        final LearnerProgressEvent event = new LearnerProgressEvent(Type.OVERFLOW, projectId, null);
+        event.droppedEvents = droppedEvents;
+        return event;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getTestNo() {
+        return testNo;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public Learner.LearnerPhase getLearnerPhase() {
+        return learnerPhase;
+    }
+
+    public Long getStepNo() {
+        return stepNo;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public Long getMqsUsed() {
+        return mqsUsed;
+    }
+
+    public Long getSymbolsUsed() {
+        return symbolsUsed;
+    }
+
+    public Long getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    @Override
+    public String toString() {
+        return "LearnerProgressEvent[" + type + ", project " + projectId + ", test " + testNo + "]";
+    }
+}
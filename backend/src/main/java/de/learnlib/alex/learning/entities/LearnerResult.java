@@ -119,6 +119,9 @@ public class LearnerResult implements Serializable {
     /** If membership queries should be cached. */
     private boolean useMQCache;
 
+    /** The replay of a previous result that answered the queries, or null if they were executed on the target. */
+    private ReplayConfig replayConfig;
+
     /** Constructor. */
     public LearnerResult() {
         this.symbols = new ArrayList<>();
@@ -441,6 +444,15 @@ public class LearnerResult implements Serializable {
         this.useMQCache = useMQCache;
     }
 
+    @Column(columnDefinition = "BLOB")
+    public ReplayConfig getReplayConfig() {
+        return replayConfig;
+    }
+
+    public void setReplayConfig(ReplayConfig replayConfig) {
+        this.replayConfig = replayConfig;
+    }
+
     @ManyToMany
     public List<ProjectUrl> getUrls() {
         return urls;
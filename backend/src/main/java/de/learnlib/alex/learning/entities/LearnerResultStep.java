@@ -28,6 +28,7 @@ import net.automatalib.automata.transout.MealyMachine;
 import javax.persistence.Column;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
@@ -38,6 +39,7 @@ import javax.persistence.Transient;
 import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.Min;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -47,6 +49,7 @@ import java.util.UUID;
  * (duration, #EQ, ...).
  */
 @Entity
+@EntityListeners(LearnerResultStepListener.class)
 @Table(
         uniqueConstraints = @UniqueConstraint(columnNames = {"result_id", "stepNo"})
 )
@@ -56,6 +59,12 @@ public class LearnerResultStep implements Serializable {
 
     private static final long serialVersionUID = -6932946318109366918L;
 
+    /**
+     * Every n-th hypothesis of a result, starting with the first step, is stored as full snapshot. All other hypotheses
+     * are stored as delta against the hypothesis of the step with the previous number.
+     */
+    public static final int HYPOTHESIS_SNAPSHOT_INTERVAL = 10;
+
     /** The id of the LearnerResult in the DB. */
     private UUID uuid;
 
@@ -226,6 +235,40 @@ public class LearnerResultStep implements Serializable {
         this.hypothesis = CompactMealyMachineProxy.createFrom(mealyMachine, result.getSigma().createAlphabet());
     }
 
+    /**
+     * Check if the hypothesis of this step is stored as delta against the hypothesis of the step with the previous
+     * number.
+     *
+     * @return true if the hypothesis is stored as delta, false if it is stored as full snapshot.
+     */
+    @Transient
+    @JsonIgnore
+    public boolean isHypothesisStoredAsDelta() {
+        return stepNo != null && stepNo > 1 && (stepNo - 1) % HYPOTHESIS_SNAPSHOT_INTERVAL != 0;
+    }
+
+    /**
+     * Get the hypothesis the hypothesis of this step is stored as delta against.
+     *
+     * @param steps
+     *         The steps of the result, in any order.
+     * @return The hypothesis of the step with the previous number, or null if the hypothesis of this step is stored
+     * as full snapshot.
+     */
+    public CompactMealyMachineProxy findPreviousHypothesis(Collection<LearnerResultStep> steps) {
+        if (!isHypothesisStoredAsDelta() || steps == null) {
+            return null;
+        }
+
+        final long previousStepNo = stepNo - 1;
+        return steps.stream()
+                .filter(s -> s.getStepNo() != null && s.getStepNo() == previousStepNo)
+                .map(LearnerResultStep::getHypothesis)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
     /**
      * Get the statistic of this learn step.
      *
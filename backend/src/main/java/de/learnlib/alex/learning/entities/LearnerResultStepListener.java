@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities;
+
+import de.learnlib.alex.learning.entities.learnlibproxies.CompactMealyMachineProxy;
+import de.learnlib.alex.learning.repositories.LearnerResultStepRepository;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+import javax.persistence.PostLoad;
+
+/**
+ * Lets the hypothesis of a loaded step look up its predecessor, however the step was loaded. If the steps of the
+ * result are loaded anyway, the predecessor is taken from them. Otherwise, only the step with the previous number is
+ * loaded, which in turn looks up its own predecessor until a full snapshot is reached.
+ * <p>
+ * JPA creates its own instances of entity listeners, so the repository is shared through a static field that is set
+ * when Spring creates the listener.
+ */
+@Component
+public class LearnerResultStepListener {
+
+    /** The repository the predecessors are loaded from, or null if it has not been injected yet. */
+    private static volatile LearnerResultStepRepository learnerResultStepRepository;
+
+    /**
+     * Set the repository the predecessors are loaded from.
+     *
+     * @param repository
+     *         The injected {@link LearnerResultStepRepository}.
+     */
+    @Inject
+    public void setLearnerResultStepRepository(LearnerResultStepRepository repository) {
+        learnerResultStepRepository = repository;
+    }
+
+    /**
+     * Links the hypothesis of a loaded step to its predecessor, which is only looked up if the hypothesis is decoded.
+     *
+     * @param step
+     *         The loaded step.
+     */
+    @PostLoad
+    public void linkHypothesisToPredecessor(LearnerResultStep step) {
+        if (step.getHypothesis() != null) {
+            step.getHypothesis().setPreviousResolver(() -> findPreviousHypothesis(step));
+        }
+    }
+
+    /**
+     * Get the hypothesis the hypothesis of a step is stored as delta against.
+     *
+     * @param step
+     *         The step.
+     * @return The hypothesis of the step with the previous number, or null if it is not needed or cannot be found.
+     */
+    static CompactMealyMachineProxy findPreviousHypothesis(LearnerResultStep step) {
+        final LearnerResult result = step.getResult();
+        if (result == null || !step.isHypothesisStoredAsDelta()) {
+            return null;
+        }
+
+        if (result.getSteps() != null && Hibernate.isInitialized(result.getSteps())) {
+            return step.findPreviousHypothesis(result.getSteps());
+        }
+
+        final LearnerResultStepRepository repository = learnerResultStepRepository;
+        if (repository == null) {
+            return null;
+        }
+        final LearnerResultStep previousStep = repository.findOneByResultAndStepNo(result, step.getStepNo() - 1);
+        return previousStep == null ? null : previousStep.getHypothesis();
+    }
+}
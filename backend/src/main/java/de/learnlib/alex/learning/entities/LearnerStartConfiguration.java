@@ -24,6 +24,7 @@ import de.learnlib.alex.learning.entities.webdrivers.AbstractWebDriverConfig;
 import de.learnlib.alex.learning.entities.webdrivers.HtmlUnitDriverConfig;
 import org.hibernate.validator.constraints.NotEmpty;
 
+import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 import java.io.Serializable;
@@ -64,6 +65,10 @@ public class LearnerStartConfiguration extends AbstractLearnerConfiguration impl
     @NotNull
     private boolean useMQCache;
 
+    /** The replay of a previous result that answers the queries, or null if they are executed on the target. */
+    @Valid
+    private ReplayConfig replayConfig;
+
     /** Constructor. */
     public LearnerStartConfiguration() {
         super();
@@ -77,6 +82,9 @@ public class LearnerStartConfiguration extends AbstractLearnerConfiguration impl
     @Override
     public void checkConfiguration() throws IllegalArgumentException {
         super.check();
+        if (replayConfig != null) {
+            replayConfig.check();
+        }
     }
 
     @JsonProperty("symbols")
@@ -133,4 +141,12 @@ public class LearnerStartConfiguration extends AbstractLearnerConfiguration impl
     public void setUseMQCache(boolean useMQCache) {
         this.useMQCache = useMQCache;
     }
+
+    public ReplayConfig getReplayConfig() {
+        return replayConfig;
+    }
+
+    public void setReplayConfig(ReplayConfig replayConfig) {
+        this.replayConfig = replayConfig;
+    }
 }
@@ -52,6 +52,18 @@ public class LearnerStatus {
     /** The current learner result. */
     private final LearnerResult result;
 
+    /** The zero based position of the experiment in the queue, if it has not been started yet. */
+    private final Integer queuePosition;
+
+    /** The estimated time in ms until the queued experiment is started. */
+    private final Long estimatedWaitingTime;
+
+    /** The number of queries that may be executed in parallel at the moment. */
+    private final Integer concurrency;
+
+    /** The highest number of queries that may be executed in parallel. */
+    private final Integer maxConcurrency;
+
     /**
      * Constructor for a status of an inactive thread.
      */
@@ -63,6 +75,10 @@ public class LearnerStatus {
         this.learnerPhase = null;
         this.currentQueries = null;
         this.result = null;
+        this.queuePosition = null;
+        this.estimatedWaitingTime = null;
+        this.concurrency = null;
+        this.maxConcurrency = null;
     }
 
     /**
@@ -77,6 +93,25 @@ public class LearnerStatus {
      */
     public LearnerStatus(LearnerResult learnerResult, Learner.LearnerPhase learnerPhase,
             List<DefaultQueryProxy> currentQueries) {
+        this(learnerResult, learnerPhase, currentQueries, null, null);
+    }
+
+    /**
+     * Constructor for a status of an active thread.
+     *
+     * @param learnerResult
+     *         The result that contain the interesting statistics and information for the status.
+     * @param learnerPhase
+     *         The current phase of the experiment.
+     * @param currentQueries
+     *         The queries that are executed at the moment.
+     * @param concurrency
+     *         The number of queries that may be executed in parallel at the moment.
+     * @param maxConcurrency
+     *         The highest number of queries that may be executed in parallel.
+     */
+    public LearnerStatus(LearnerResult learnerResult, Learner.LearnerPhase learnerPhase,
+            List<DefaultQueryProxy> currentQueries, Integer concurrency, Integer maxConcurrency) {
         this.active = true;
         this.projectId = learnerResult.getProjectId();
         this.testNo = learnerResult.getTestNo();
@@ -84,6 +119,34 @@ public class LearnerStatus {
         this.learnerPhase = learnerPhase;
         this.currentQueries = currentQueries;
         this.result = learnerResult;
+        this.queuePosition = null;
+        this.estimatedWaitingTime = null;
+        this.concurrency = concurrency;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Constructor for a status of a thread that waits in the queue.
+     *
+     * @param learnerResult
+     *         The result of the experiment that will be executed.
+     * @param queuePosition
+     *         The position of the experiment in the queue.
+     * @param estimatedWaitingTime
+     *         The estimated time in ms until the experiment is started, or null if it is unknown.
+     */
+    public LearnerStatus(LearnerResult learnerResult, int queuePosition, Long estimatedWaitingTime) {
+        this.active = true;
+        this.projectId = learnerResult.getProjectId();
+        this.testNo = learnerResult.getTestNo();
+        this.stepNo = (long) learnerResult.getSteps().size();
+        this.learnerPhase = null;
+        this.currentQueries = null;
+        this.result = learnerResult;
+        this.queuePosition = queuePosition;
+        this.estimatedWaitingTime = estimatedWaitingTime;
+        this.concurrency = null;
+        this.maxConcurrency = null;
     }
 
     public boolean isActive() {
@@ -115,6 +178,22 @@ public class LearnerStatus {
         return result;
     }
 
+    public Integer getQueuePosition() {
+        return queuePosition;
+    }
+
+    public Long getEstimatedWaitingTime() {
+        return estimatedWaitingTime;
+    }
+
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
     @Override
     public String toString() {
         return "LearnerStatus{"
@@ -122,6 +201,7 @@ public class LearnerStatus {
                 + ", projectId=" + projectId
                 + ", testNo=" + testNo
                 + ", stepNo=" + stepNo
+                + ", queuePosition=" + queuePosition
                 + '}';
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import de.learnlib.alex.learning.services.Learner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A query that has been executed on the system under learning, as it is stored in the query trace of an experiment.
+ */
+@JsonPropertyOrder(alphabetic = true)
+public class QueryTrace {
+
+    /** When the execution of the query started, in milliseconds since the epoch. */
+    private long timestamp;
+
+    /** The phase of the learner the query has been posed in, or null if it is unknown. */
+    private Learner.LearnerPhase phase;
+
+    /** The number of the connector manager that executed the query, or -1 if it is unknown. */
+    private int instance;
+
+    /** If the execution of the query failed, the trace contains only the symbols before the failure. */
+    private boolean failed;
+
+    /** The number of symbols of the input whose outputs are not part of the answer of the query. */
+    private int prefixLength;
+
+    /** The executed input symbols. */
+    private List<String> input;
+
+    /** The outputs of the executed input symbols. */
+    private List<String> output;
+
+    /** The execution times of the input symbols in microseconds. */
+    private List<Long> durations;
+
+    /** Constructor. */
+    public QueryTrace() {
+        this.instance = -1;
+        this.input = new ArrayList<>();
+        this.output = new ArrayList<>();
+        this.durations = new ArrayList<>();
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public Learner.LearnerPhase getPhase() {
+        return phase;
+    }
+
+    public void setPhase(Learner.LearnerPhase phase) {
+        this.phase = phase;
+    }
+
+    public int getInstance() {
+        return instance;
+    }
+
+    public void setInstance(int instance) {
+        this.instance = instance;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public void setFailed(boolean failed) {
+        this.failed = failed;
+    }
+
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+
+    public void setPrefixLength(int prefixLength) {
+        this.prefixLength = prefixLength;
+    }
+
+    public List<String> getInput() {
+        return input;
+    }
+
+    public void setInput(List<String> input) {
+        this.input = input;
+    }
+
+    public List<String> getOutput() {
+        return output;
+    }
+
+    public void setOutput(List<String> output) {
+        this.output = output;
+    }
+
+    public List<Long> getDurations() {
+        return durations;
+    }
+
+    public void setDurations(List<Long> durations) {
+        this.durations = durations;
+    }
+}
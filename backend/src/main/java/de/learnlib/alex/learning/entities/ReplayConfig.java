@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.io.Serializable;
+
+/**
+ * Configuration of a system under learning that answers the queries in-process from a previous learner result
+ * instead of executing them on the target application.
+ */
+@JsonPropertyOrder(alphabetic = true)
+public class ReplayConfig implements Serializable {
+
+    private static final long serialVersionUID = 3370463542402957414L;
+
+    /** Where the answers to the queries come from. */
+    public enum Source {
+
+        /** The queries that have been recorded in the query trace of the result. */
+        TRACE,
+
+        /** The hypothesis of a step of the result. */
+        HYPOTHESIS
+    }
+
+    /** Where the answers to the queries come from. */
+    @NotNull
+    private Source source;
+
+    /** The number of the learner result to replay. */
+    @NotNull
+    private Long testNo;
+
+    /**
+     * The number of the step whose hypothesis is replayed, or null for the latest step. If the source is
+     * {@link Source#TRACE}, queries that have not been recorded are answered by this hypothesis, or fail if it is null.
+     */
+    private Long stepNo;
+
+    /** How many milliseconds the execution of a symbol takes. */
+    @Min(0)
+    private long symbolLatency;
+
+    /** If the execution times that have been recorded in the trace are simulated instead of the fixed latency. */
+    private boolean recordedLatency;
+
+    /** Constructor. */
+    public ReplayConfig() {
+        this.source = Source.TRACE;
+        this.symbolLatency = 0L;
+        this.recordedLatency = false;
+    }
+
+    /**
+     * Checks if the configuration is valid.
+     *
+     * @throws IllegalArgumentException
+     *         If the configuration is invalid.
+     */
+    public void check() throws IllegalArgumentException {
+        if (source == null) {
+            throw new IllegalArgumentException("The source of the replay must be specified.");
+        } else if (testNo == null) {
+            throw new IllegalArgumentException("The learner result to replay must be specified.");
+        } else if (stepNo != null && stepNo < 1) {
+            throw new IllegalArgumentException("The step to replay must be greater than 0.");
+        } else if (symbolLatency < 0) {
+            throw new IllegalArgumentException("The latency of a symbol must not be negative.");
+        } else if (recordedLatency && source != Source.TRACE) {
+            throw new IllegalArgumentException("Recorded latencies can only be replayed from a query trace.");
+        }
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    public void setSource(Source source) {
+        this.source = source;
+    }
+
+    public Long getTestNo() {
+        return testNo;
+    }
+
+    public void setTestNo(Long testNo) {
+        this.testNo = testNo;
+    }
+
+    public Long getStepNo() {
+        return stepNo;
+    }
+
+    public void setStepNo(Long stepNo) {
+        this.stepNo = stepNo;
+    }
+
+    public long getSymbolLatency() {
+        return symbolLatency;
+    }
+
+    public void setSymbolLatency(long symbolLatency) {
+        this.symbolLatency = symbolLatency;
+    }
+
+    public boolean isRecordedLatency() {
+        return recordedLatency;
+    }
+
+    public void setRecordedLatency(boolean recordedLatency) {
+        this.recordedLatency = recordedLatency;
+    }
+}
@@ -147,6 +147,15 @@ public class Statistics implements Serializable {
     /** The amount of actual symbols called during the learning process. */
     private DetailedStatistics symbolsUsed;
 
+    /** The amount of membership queries/ SUL resets saved by executing queries with a common prefix only once. */
+    private DetailedStatistics mqsSaved;
+
+    /** The amount of symbol executions saved by executing queries with a common prefix only once. */
+    private DetailedStatistics symbolsSaved;
+
+    /** The execution times and failures of the resets, symbols and actions. */
+    private ExecutionMetrics executionMetrics;
+
     /**
      * Default constructor.
      */
@@ -157,6 +166,9 @@ public class Statistics implements Serializable {
         this.duration = new DetailedStatistics();
         this.mqsUsed = new DetailedStatistics();
         this.symbolsUsed = new DetailedStatistics();
+        this.mqsSaved = new DetailedStatistics();
+        this.symbolsSaved = new DetailedStatistics();
+        this.executionMetrics = new ExecutionMetrics();
     }
 
     /**
@@ -169,6 +181,14 @@ public class Statistics implements Serializable {
         duration.updateBy(statistics.duration);
         mqsUsed.updateBy(statistics.mqsUsed);
         symbolsUsed.updateBy(statistics.symbolsUsed);
+        mqsSaved.updateBy(statistics.mqsSaved);
+        symbolsSaved.updateBy(statistics.symbolsSaved);
+        if (statistics.executionMetrics != null) {
+            if (executionMetrics == null) {
+                executionMetrics = new ExecutionMetrics();
+            }
+            executionMetrics.updateBy(statistics.executionMetrics);
+        }
     }
 
     public long getStartTime() {
@@ -246,4 +266,50 @@ public class Statistics implements Serializable {
     public void setSymbolsUsed(DetailedStatistics symbolsUsed) {
         this.symbolsUsed = symbolsUsed;
     }
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "learner", column = @Column(name = "mqsSaved_learner",
+                    columnDefinition = "BIGINT DEFAULT 0 NOT NULL")),
+            @AttributeOverride(name = "eqOracle", column = @Column(name = "mqsSaved_eqOracle",
+                    columnDefinition = "BIGINT DEFAULT 0 NOT NULL"))
+    })
+    public DetailedStatistics getMqsSaved() {
+        return mqsSaved;
+    }
+
+    public void setMqsSaved(DetailedStatistics mqsSaved) {
+        this.mqsSaved = mqsSaved;
+    }
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "learner", column = @Column(name = "symbolsSaved_learner",
+                    columnDefinition = "BIGINT DEFAULT 0 NOT NULL")),
+            @AttributeOverride(name = "eqOracle", column = @Column(name = "symbolsSaved_eqOracle",
+                    columnDefinition = "BIGINT DEFAULT 0 NOT NULL"))
+    })
+    public DetailedStatistics getSymbolsSaved() {
+        return symbolsSaved;
+    }
+
+    public void setSymbolsSaved(DetailedStatistics symbolsSaved) {
+        this.symbolsSaved = symbolsSaved;
+    }
+
+    /**
+     * Get the execution times and failures of the resets, symbols and actions. Results that have been learned before
+     * these metrics were recorded do not have them.
+     *
+     * @return The metrics, or null.
+     */
+    @Column(columnDefinition = "BLOB")
+    @JsonProperty(value = "executionMetrics", access = JsonProperty.Access.READ_ONLY)
+    public ExecutionMetrics getExecutionMetrics() {
+        return executionMetrics;
+    }
+
+    public void setExecutionMetrics(ExecutionMetrics executionMetrics) {
+        this.executionMetrics = executionMetrics;
+    }
 }
@@ -24,10 +24,18 @@ import de.learnlib.api.oracle.MembershipOracle;
 import net.automatalib.words.Alphabet;
 import net.automatalib.words.Word;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Parent class of all algorithms.
@@ -49,6 +57,12 @@ public abstract class AbstractLearningAlgorithm<I, O> implements Serializable {
 
     private static final long serialVersionUID = 670184782484991650L;
 
+    /** The header of compressed learner states ("ALXS" and the version of the format). */
+    private static final byte[] STATE_HEADER = {'A', 'L', 'X', 'S', 1};
+
+    /** The size of the buffers of the (de-)compression streams. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     /**
      * Creates a new learner.
      *
@@ -86,7 +100,8 @@ public abstract class AbstractLearningAlgorithm<I, O> implements Serializable {
             throws IOException, ClassNotFoundException;
 
     /**
-     * Get the serialized learner state.
+     * Get the serialized learner state. The state is written with Java serialization through a deflate stream and is
+     * prefixed with a header, so that it can be distinguished from states that have been stored uncompressed.
      *
      * @param learner
      *         The learner to suspend.
@@ -97,13 +112,47 @@ public abstract class AbstractLearningAlgorithm<I, O> implements Serializable {
     public byte[] suspend(LearningAlgorithm.MealyLearner<I, O> learner) throws IOException {
         if (learner instanceof ResumableLearner) {
             final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-            try (final ObjectOutputStream objectOut = new ObjectOutputStream(byteOut)) {
+            byteOut.write(STATE_HEADER);
+
+            final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (final ObjectOutputStream objectOut = new ObjectOutputStream(
+                    new DeflaterOutputStream(byteOut, deflater, BUFFER_SIZE))) {
                 objectOut.writeObject(((ResumableLearner) learner).suspend());
-                objectOut.flush();
-                return byteOut.toByteArray();
+            } finally {
+                deflater.end();
             }
+            return byteOut.toByteArray();
         } else {
             return new byte[0];
         }
     }
+
+    /**
+     * Deserializes a learner state that has been created by {@link #suspend(LearningAlgorithm.MealyLearner)}. States
+     * that have been stored uncompressed by previous versions are read as well.
+     *
+     * @param data
+     *         The serialized learner state.
+     * @return The learner state.
+     * @throws IOException
+     *         If something with the input streams goes wrong.
+     * @throws ClassNotFoundException
+     *         If the class of the serialized learner state cannot be found.
+     */
+    protected Object readState(byte[] data) throws IOException, ClassNotFoundException {
+        final boolean compressed = data.length >= STATE_HEADER.length
+                && Arrays.equals(Arrays.copyOf(data, STATE_HEADER.length), STATE_HEADER);
+
+        final Inflater inflater = new Inflater();
+        final InputStream in = compressed
+                ? new InflaterInputStream(new ByteArrayInputStream(data, STATE_HEADER.length,
+                        data.length - STATE_HEADER.length), inflater, BUFFER_SIZE)
+                : new ByteArrayInputStream(data);
+
+        try (final ObjectInputStream objectIn = new ObjectInputStream(in)) {
+            return objectIn.readObject();
+        } finally {
+            inflater.end();
+        }
+    }
 }
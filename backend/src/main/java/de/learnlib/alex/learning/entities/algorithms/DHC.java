@@ -25,9 +25,7 @@ import de.learnlib.api.oracle.MembershipOracle;
 import net.automatalib.words.Alphabet;
 import net.automatalib.words.Word;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 /**
@@ -55,9 +53,7 @@ public class DHC extends AbstractLearningAlgorithm<String, String> implements Se
     @Override
     public void resume(LearningAlgorithm.MealyLearner<String, String> learner, byte[] data)
             throws IOException, ClassNotFoundException {
-        try (final ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(data))) {
-            final MealyDHCState<String, String> state = (MealyDHCState<String, String>) objectIn.readObject();
-            ((MealyDHC<String, String>) learner).resume(state);
-        }
+        final MealyDHCState<String, String> state = (MealyDHCState<String, String>) readState(data);
+        ((MealyDHC<String, String>) learner).resume(state);
     }
 }
@@ -28,9 +28,7 @@ import de.learnlib.datastructure.discriminationtree.model.AbstractWordBasedDiscr
 import net.automatalib.words.Alphabet;
 import net.automatalib.words.Word;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 /**
@@ -63,11 +61,9 @@ public class DiscriminationTree extends AbstractLearningAlgorithm<String, String
     @Override
     public void resume(LearningAlgorithm.MealyLearner<String, String> learner, byte[] data)
             throws IOException, ClassNotFoundException {
-        try (final ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(data))) {
-            final DTLearnerState<String, Word<String>, Void, String> state =
-                    (DTLearnerState<String, Word<String>, Void, String>) objectIn.readObject();
-            ((DTLearnerMealy<String, String>) learner).resume(state);
-        }
+        final DTLearnerState<String, Word<String>, Void, String> state =
+                (DTLearnerState<String, Word<String>, Void, String>) readState(data);
+        ((DTLearnerMealy<String, String>) learner).resume(state);
     }
 
     /**
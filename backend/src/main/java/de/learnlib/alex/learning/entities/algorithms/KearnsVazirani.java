@@ -25,9 +25,7 @@ import de.learnlib.api.oracle.MembershipOracle;
 import net.automatalib.words.Alphabet;
 import net.automatalib.words.Word;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 /**
@@ -55,10 +53,8 @@ public class KearnsVazirani extends AbstractLearningAlgorithm<String, String> im
     @Override
     public void resume(LearningAlgorithm.MealyLearner<String, String> learner, byte[] data)
             throws IOException, ClassNotFoundException {
-        try (final ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(data))) {
-            final KearnsVaziraniMealyState<String, String> state =
-                    (KearnsVaziraniMealyState<String, String>) objectIn.readObject();
-            ((KearnsVaziraniMealy<String, String>) learner).resume(state);
-        }
+        final KearnsVaziraniMealyState<String, String> state =
+                (KearnsVaziraniMealyState<String, String>) readState(data);
+        ((KearnsVaziraniMealy<String, String>) learner).resume(state);
     }
 }
@@ -28,9 +28,7 @@ import net.automatalib.automata.transout.impl.compact.CompactMealy;
 import net.automatalib.words.Alphabet;
 import net.automatalib.words.Word;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 /**
@@ -66,10 +64,8 @@ public class LStar extends AbstractLearningAlgorithm<String, String> implements
     @Override
     public void resume(LearningAlgorithm.MealyLearner<String, String> learner, byte[] data)
             throws IOException, ClassNotFoundException {
-        try (final ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(data))) {
-            final AutomatonLStarState<String, Word<String>, CompactMealy<String, String>, Integer> state =
-                    (AutomatonLStarState<String, Word<String>, CompactMealy<String, String>, Integer>) objectIn.readObject();
-            ((ExtensibleLStarMealy<String, String>) learner).resume(state);
-        }
+        final AutomatonLStarState<String, Word<String>, CompactMealy<String, String>, Integer> state =
+                (AutomatonLStarState<String, Word<String>, CompactMealy<String, String>, Integer>) readState(data);
+        ((ExtensibleLStarMealy<String, String>) learner).resume(state);
     }
 }
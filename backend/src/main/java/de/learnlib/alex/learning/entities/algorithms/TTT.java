@@ -27,9 +27,7 @@ import de.learnlib.api.oracle.MembershipOracle;
 import net.automatalib.words.Alphabet;
 import net.automatalib.words.Word;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 /**
@@ -63,11 +61,9 @@ public class TTT extends AbstractLearningAlgorithm<String, String> implements Se
     @Override
     public void resume(LearningAlgorithm.MealyLearner<String, String> learner, byte[] data)
             throws IOException, ClassNotFoundException {
-        try (final ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(data))) {
-            final TTTLearnerState<String, Word<String>> state =
-                    (TTTLearnerState<String, Word<String>>) objectIn.readObject();
-            ((TTTLearnerMealy<String, String>) learner).resume(state);
-        }
+        final TTTLearnerState<String, Word<String>> state =
+                (TTTLearnerState<String, Word<String>>) readState(data);
+        ((TTTLearnerMealy<String, String>) learner).resume(state);
     }
 
     /**
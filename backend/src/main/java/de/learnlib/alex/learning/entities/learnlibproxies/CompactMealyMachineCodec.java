@@ -0,0 +1,438 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities.learnlibproxies;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary encoding of a {@link CompactMealyMachineProxy}.
+ * <p>
+ * The encoding starts with an uncompressed header (magic number and version) that is followed by a deflated body:
+ * <ol>
+ * <li>a string table with all inputs and outputs of the machine,</li>
+ * <li>the ids of the states and the initial state (+1, 0 if there is none),</li>
+ * <li>the transitions as (from, input index, to, output index) tuples.</li>
+ * </ol>
+ * A machine can also be encoded as delta against a base machine. Then, the body contains the string table, the
+ * removed and added states, the initial state, the removed transitions as (from, input index) tuples and the added or
+ * changed transitions. All integers in the body are written as unsigned variable-length integers.
+ */
+public final class CompactMealyMachineCodec {
+
+    /** The magic number that identifies encoded machines ("ALXH"). */
+    private static final int MAGIC = 0x414c5848;
+
+    /** The magic number that identifies machines that are encoded as delta against a base machine ("ALXD"). */
+    private static final int MAGIC_DELTA = 0x414c5844;
+
+    /** The version of the encoding. */
+    private static final int VERSION = 1;
+
+    private CompactMealyMachineCodec() {
+    }
+
+    /**
+     * Encodes a machine.
+     *
+     * @param proxy
+     *         The machine to encode.
+     * @return The encoded machine.
+     */
+    public static byte[] encode(CompactMealyMachineProxy proxy) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            encode(proxy, bytes);
+        } catch (IOException e) {
+            // cannot happen for in-memory streams
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes a machine and writes it to a stream. The stream is not closed.
+     *
+     * @param proxy
+     *         The machine to encode.
+     * @param out
+     *         The stream to write to.
+     * @throws IOException
+     *         If the machine could not be written.
+     */
+    public static void encode(CompactMealyMachineProxy proxy, OutputStream out) throws IOException {
+        final DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeByte(VERSION);
+        header.flush();
+
+        final DeflaterOutputStream deflater = new DeflaterOutputStream(out, new Deflater(Deflater.BEST_SPEED));
+        final DataOutputStream body = new DataOutputStream(deflater);
+
+        final List<Integer> nodes = proxy.getNodes() == null ? new ArrayList<>() : proxy.getNodes();
+        final List<CompactMealyTransitionProxy> edges = proxy.getEdges() == null ? new ArrayList<>() : proxy.getEdges();
+
+        final Map<String, Integer> indices = writeStrings(body, edges);
+
+        writeInts(body, nodes);
+        writeVarInt(body, proxy.getInitNode() == null ? 0 : proxy.getInitNode() + 1);
+        writeEdges(body, edges, indices);
+
+        body.flush();
+        deflater.finish();
+    }
+
+    /**
+     * Encodes a machine as delta against a base machine.
+     *
+     * @param base
+     *         The machine the delta is computed against.
+     * @param proxy
+     *         The machine to encode.
+     * @return The encoded delta.
+     */
+    public static byte[] encodeDelta(CompactMealyMachineProxy base, CompactMealyMachineProxy proxy) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            encodeDelta(base, proxy, bytes);
+        } catch (IOException e) {
+            // cannot happen for in-memory streams
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes a machine as delta against a base machine and writes it to a stream. The stream is not closed.
+     *
+     * @param base
+     *         The machine the delta is computed against.
+     * @param proxy
+     *         The machine to encode.
+     * @param out
+     *         The stream to write to.
+     * @throws IOException
+     *         If the delta could not be written.
+     */
+    public static void encodeDelta(CompactMealyMachineProxy base, CompactMealyMachineProxy proxy, OutputStream out)
+            throws IOException {
+        final DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC_DELTA);
+        header.writeByte(VERSION);
+        header.flush();
+
+        final DeflaterOutputStream deflater = new DeflaterOutputStream(out, new Deflater(Deflater.BEST_SPEED));
+        final DataOutputStream body = new DataOutputStream(deflater);
+
+        final List<Integer> nodes = proxy.getNodes() == null ? new ArrayList<>() : proxy.getNodes();
+        final Set<Integer> baseNodes = base.getNodes() == null ? new HashSet<>() : new HashSet<>(base.getNodes());
+        final List<Integer> addedNodes = new ArrayList<>();
+        for (final Integer node : nodes) {
+            if (!baseNodes.remove(node)) {
+                addedNodes.add(node);
+            }
+        }
+
+        final Map<List<Object>, CompactMealyTransitionProxy> baseEdges = indexEdges(base.getEdges());
+        final List<CompactMealyTransitionProxy> changedEdges = new ArrayList<>();
+        if (proxy.getEdges() != null) {
+            for (final CompactMealyTransitionProxy edge : proxy.getEdges()) {
+                final CompactMealyTransitionProxy baseEdge = baseEdges.remove(keyOf(edge));
+                if (baseEdge == null || baseEdge.getTo() != edge.getTo()
+                        || !Objects.equals(baseEdge.getOutput(), edge.getOutput())) {
+                    changedEdges.add(edge);
+                }
+            }
+        }
+        final List<CompactMealyTransitionProxy> removedEdges = new ArrayList<>(baseEdges.values());
+
+        final List<CompactMealyTransitionProxy> allEdges = new ArrayList<>(removedEdges);
+        allEdges.addAll(changedEdges);
+        final Map<String, Integer> indices = writeStrings(body, allEdges);
+
+        writeInts(body, new ArrayList<>(baseNodes));
+        writeInts(body, addedNodes);
+        writeVarInt(body, proxy.getInitNode() == null ? 0 : proxy.getInitNode() + 1);
+
+        writeVarInt(body, removedEdges.size());
+        for (final CompactMealyTransitionProxy edge : removedEdges) {
+            writeVarInt(body, edge.getFrom());
+            writeVarInt(body, indices.get(edge.getInput()));
+        }
+        writeEdges(body, changedEdges, indices);
+
+        body.flush();
+        deflater.finish();
+    }
+
+    /**
+     * Checks if the data is a machine that is encoded as delta.
+     *
+     * @param data
+     *         The encoded machine.
+     * @return If the data is a delta that can only be decoded with its base machine.
+     */
+    public static boolean isDelta(byte[] data) {
+        return data.length >= 4 && ByteBuffer.wrap(data, 0, 4).getInt() == MAGIC_DELTA;
+    }
+
+    /**
+     * Decodes a machine.
+     *
+     * @param data
+     *         The encoded machine.
+     * @return The decoded machine.
+     * @throws IOException
+     *         If the data is not a valid encoding.
+     */
+    public static CompactMealyMachineProxy decode(byte[] data) throws IOException {
+        return decode(new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Reads a machine from a stream and decodes it.
+     *
+     * @param in
+     *         The stream to read from.
+     * @return The decoded machine.
+     * @throws IOException
+     *         If the data is not a valid encoding.
+     */
+    public static CompactMealyMachineProxy decode(InputStream in) throws IOException {
+        final DataInputStream header = new DataInputStream(in);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("The data is not an encoded hypothesis.");
+        }
+        final int version = header.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported hypothesis encoding version " + version + ".");
+        }
+
+        final DataInputStream body = new DataInputStream(new InflaterInputStream(in));
+
+        final String[] strings = readStrings(body);
+        final List<Integer> nodes = readInts(body);
+        final int initNode = readVarInt(body);
+        final List<CompactMealyTransitionProxy> edges = readEdges(body, strings);
+
+        final CompactMealyMachineProxy proxy = new CompactMealyMachineProxy();
+        proxy.setNodes(nodes);
+        proxy.setInitNode(initNode == 0 ? null : initNode - 1);
+        proxy.setEdges(edges);
+        return proxy;
+    }
+
+    /**
+     * Decodes a machine that is encoded as delta.
+     *
+     * @param base
+     *         The machine the delta has been computed against.
+     * @param data
+     *         The encoded delta.
+     * @return The decoded machine.
+     * @throws IOException
+     *         If the data is not a valid encoding.
+     */
+    public static CompactMealyMachineProxy decodeDelta(CompactMealyMachineProxy base, byte[] data) throws IOException {
+        return decodeDelta(base, new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Reads a machine that is encoded as delta from a stream and decodes it.
+     *
+     * @param base
+     *         The machine the delta has been computed against.
+     * @param in
+     *         The stream to read from.
+     * @return The decoded machine.
+     * @throws IOException
+     *         If the data is not a valid encoding.
+     */
+    public static CompactMealyMachineProxy decodeDelta(CompactMealyMachineProxy base, InputStream in)
+            throws IOException {
+        final DataInputStream header = new DataInputStream(in);
+        if (header.readInt() != MAGIC_DELTA) {
+            throw new IOException("The data is not an encoded hypothesis delta.");
+        }
+        final int version = header.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported hypothesis encoding version " + version + ".");
+        }
+
+        final DataInputStream body = new DataInputStream(new InflaterInputStream(in));
+
+        final String[] strings = readStrings(body);
+        final Set<Integer> removedNodes = new HashSet<>(readInts(body));
+        final List<Integer> addedNodes = readInts(body);
+        final int initNode = readVarInt(body);
+
+        final Map<List<Object>, CompactMealyTransitionProxy> edges = indexEdges(base.getEdges());
+        final int numberOfRemovedEdges = readVarInt(body);
+        for (int i = 0; i < numberOfRemovedEdges; i++) {
+            final int from = readVarInt(body);
+            edges.remove(Arrays.asList(from, strings[readVarInt(body)]));
+        }
+        for (final CompactMealyTransitionProxy edge : readEdges(body, strings)) {
+            edges.put(keyOf(edge), edge);
+        }
+
+        final List<Integer> nodes = new ArrayList<>();
+        if (base.getNodes() != null) {
+            base.getNodes().stream().filter(node -> !removedNodes.contains(node)).forEach(nodes::add);
+        }
+        nodes.addAll(addedNodes);
+
+        final CompactMealyMachineProxy proxy = new CompactMealyMachineProxy();
+        proxy.setNodes(nodes);
+        proxy.setInitNode(initNode == 0 ? null : initNode - 1);
+        proxy.setEdges(new ArrayList<>(edges.values()));
+        return proxy;
+    }
+
+    /** @return The transitions by their (from, input) keys, in the order of the list. */
+    private static Map<List<Object>, CompactMealyTransitionProxy> indexEdges(List<CompactMealyTransitionProxy> edges) {
+        final Map<List<Object>, CompactMealyTransitionProxy> index = new LinkedHashMap<>();
+        if (edges != null) {
+            edges.forEach(edge -> index.put(keyOf(edge), edge));
+        }
+        return index;
+    }
+
+    private static List<Object> keyOf(CompactMealyTransitionProxy edge) {
+        return Arrays.asList(edge.getFrom(), edge.getInput());
+    }
+
+    /** Interns and writes the inputs and outputs of the transitions. */
+    private static Map<String, Integer> writeStrings(DataOutputStream out, List<CompactMealyTransitionProxy> edges)
+            throws IOException {
+        final Map<String, Integer> indices = new HashMap<>();
+        final List<String> strings = new ArrayList<>();
+        for (final CompactMealyTransitionProxy edge : edges) {
+            for (final String s : new String[]{edge.getInput(), edge.getOutput()}) {
+                if (!indices.containsKey(s)) {
+                    indices.put(s, strings.size());
+                    strings.add(s);
+                }
+            }
+        }
+
+        writeVarInt(out, strings.size());
+        for (final String s : strings) {
+            if (s == null) {
+                writeVarInt(out, 0);
+            } else {
+                final byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, utf8.length + 1);
+                out.write(utf8);
+            }
+        }
+        return indices;
+    }
+
+    private static String[] readStrings(DataInputStream in) throws IOException {
+        final String[] strings = new String[readVarInt(in)];
+        for (int i = 0; i < strings.length; i++) {
+            final int length = readVarInt(in);
+            if (length > 0) {
+                final byte[] utf8 = new byte[length - 1];
+                in.readFully(utf8);
+                strings[i] = new String(utf8, StandardCharsets.UTF_8);
+            }
+        }
+        return strings;
+    }
+
+    private static void writeInts(DataOutputStream out, List<Integer> values) throws IOException {
+        writeVarInt(out, values.size());
+        for (final Integer value : values) {
+            writeVarInt(out, value);
+        }
+    }
+
+    private static List<Integer> readInts(DataInputStream in) throws IOException {
+        final int size = readVarInt(in);
+        final List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readVarInt(in));
+        }
+        return values;
+    }
+
+    private static void writeEdges(DataOutputStream out, List<CompactMealyTransitionProxy> edges,
+            Map<String, Integer> indices) throws IOException {
+        writeVarInt(out, edges.size());
+        for (final CompactMealyTransitionProxy edge : edges) {
+            writeVarInt(out, edge.getFrom());
+            writeVarInt(out, indices.get(edge.getInput()));
+            writeVarInt(out, edge.getTo());
+            writeVarInt(out, indices.get(edge.getOutput()));
+        }
+    }
+
+    private static List<CompactMealyTransitionProxy> readEdges(DataInputStream in, String[] strings)
+            throws IOException {
+        final int size = readVarInt(in);
+        final List<CompactMealyTransitionProxy> edges = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int from = readVarInt(in);
+            final String input = strings[readVarInt(in)];
+            final int to = readVarInt(in);
+            final String output = strings[readVarInt(in)];
+            edges.add(new CompactMealyTransitionProxy(from, input, to, output));
+        }
+        return edges;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int b = in.readUnsignedByte();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer.");
+    }
+}
@@ -17,9 +17,7 @@
 package de.learnlib.alex.learning.entities.learnlibproxies;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.CollectionType;
 import net.automatalib.automata.concepts.StateIDs;
 import net.automatalib.automata.transout.MealyMachine;
 import net.automatalib.automata.transout.impl.compact.CompactMealy;
@@ -34,11 +32,17 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Proxy around a {@link MealyMachine} from the LearnLib. The Proxy is needed to make it easier to (de-)serialize the
  * MealyMachine into/ from JSON.
+ * <p>
+ * In the DB, the states and transitions are stored in the binary format of {@link CompactMealyMachineCodec} and are
+ * only decoded when they are accessed. If a previous machine is set, the machine is stored as delta against it.
+ * Rows that still contain the legacy JSON columns are written unchanged, so that loading them does not make them dirty,
+ * and are migrated to the binary format once the machine is modified.
  *
  * @see net.automatalib.automata.transout.impl.compact.CompactMealy
  */
@@ -59,6 +63,21 @@ public class CompactMealyMachineProxy implements Serializable {
     /** The transitions between the states. */
     private List<CompactMealyTransitionProxy> edges;
 
+    /** The states and transitions in the binary format, null if they have been modified since the last encoding. */
+    private byte[] data;
+
+    /** The machine the binary data is a delta against, null if the binary data is a full snapshot. */
+    private transient CompactMealyMachineProxy previous;
+
+    /** Looks up the previous machine when a delta is decoded and no previous machine has been set, or null. */
+    private transient Supplier<CompactMealyMachineProxy> previousResolver;
+
+    /** The states as JSON string from a legacy DB row, null if there is none or the machine has been modified. */
+    private String legacyNodes;
+
+    /** The transitions as JSON string from a legacy DB row, null if there is none or the machine has been modified. */
+    private String legacyEdges;
+
     /**
      * Create a proxy around a specific MealyMachine.
      *
@@ -112,6 +131,7 @@ public class CompactMealyMachineProxy implements Serializable {
      */
     @Transient
     public List<Integer> getNodes() {
+        decode();
         return nodes;
     }
 
@@ -122,40 +142,32 @@ public class CompactMealyMachineProxy implements Serializable {
      *         The new states.
      */
     public void setNodes(List<Integer> nodes) {
+        decode();
         this.nodes = nodes;
+        this.data = null;
+        clearLegacyColumns();
     }
 
     /**
-     * Getter method to interact with the DB, because the Java standard serialization doesn't work.
+     * Getter method for the legacy DB column that stored the states as JSON. New rows only use {@link #getDataDB()}.
      *
-     * @return The Nodes of the machine as JSON string.
+     * @return The loaded JSON string, or null if the row is no legacy row or the machine has been modified.
      */
     @Column(name = "nodes")
     @JsonIgnore
     public String getNodesDB() {
-        try {
-            return OBJECT_MAPPER.writeValueAsString(nodes);
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
-            return "";
-        }
+        return legacyNodes;
     }
 
     /**
-     * Setter method to interact with the DB, because the Java standard deserialization doesn't work.
+     * Setter method for the legacy DB column that stored the states as JSON.
      *
      * @param nodesAsString
      *         The Nodes of the machine as JSON string.
      */
     @JsonIgnore
     public void setNodesDB(String nodesAsString) {
-        try {
-            CollectionType valueType = OBJECT_MAPPER.getTypeFactory()
-                    .constructCollectionType(List.class, Integer.class);
-            this.nodes = OBJECT_MAPPER.readValue(nodesAsString, valueType);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        this.legacyNodes = nodesAsString;
     }
 
     /**
@@ -184,6 +196,7 @@ public class CompactMealyMachineProxy implements Serializable {
      */
     @Transient
     public List<CompactMealyTransitionProxy> getEdges() {
+        decode();
         return edges;
     }
 
@@ -194,38 +207,138 @@ public class CompactMealyMachineProxy implements Serializable {
      *         The new transition/ edges.
      */
     public void setEdges(List<CompactMealyTransitionProxy> edges) {
+        decode();
         this.edges = edges;
+        this.data = null;
+        clearLegacyColumns();
     }
 
     /**
-     * Getter method to interact with the DB, because the Java standard serialization doesn't work.
+     * Getter method for the legacy DB column that stored the transitions as JSON. New rows only use
+     * {@link #getDataDB()}.
      *
-     * @return The Edges of the machine as JSON string.
+     * @return The loaded JSON string, or null if the row is no legacy row or the machine has been modified.
      */
     @Column(name = "edges", columnDefinition = "CLOB")
     @JsonIgnore
     public String getEdgesDB() {
-        try {
-            return OBJECT_MAPPER.writeValueAsString(edges);
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
-            return "";
-        }
+        return legacyEdges;
     }
 
     /**
-     * Setter method to interact with the DB, because the Java standard deserialization doesn't work.
+     * Setter method for the legacy DB column that stored the transitions as JSON.
      *
      * @param edgesAsString
      *         The Edges of the machine as JSON string.
      */
     @JsonIgnore
     public void setEdgesDB(String edgesAsString) {
+        this.legacyEdges = edgesAsString;
+    }
+
+    /**
+     * Getter method to interact with the DB.
+     *
+     * @return The states and transitions of the machine in the binary format of {@link CompactMealyMachineCodec}, or
+     * null if the machine is an unmodified legacy row.
+     */
+    @Column(name = "hypothesisData", columnDefinition = "BLOB")
+    @JsonIgnore
+    public byte[] getDataDB() {
+        if (data == null && !isLegacy()) {
+            data = previous == null
+                    ? CompactMealyMachineCodec.encode(this)
+                    : CompactMealyMachineCodec.encodeDelta(previous, this);
+        }
+        return data;
+    }
+
+    /**
+     * Setter method to interact with the DB. The data is decoded on the first access of the states or transitions.
+     *
+     * @param data
+     *         The states and transitions of the machine in the binary format of {@link CompactMealyMachineCodec}.
+     */
+    @JsonIgnore
+    public void setDataDB(byte[] data) {
+        this.data = data;
+        this.nodes = null;
+        this.edges = null;
+    }
+
+    /**
+     * Set the machine that the binary data is a delta against. If the data has not been encoded yet, it is encoded
+     * as delta against this machine. Data that has already been encoded as full snapshot stays a full snapshot.
+     *
+     * @param previous
+     *         The previous machine, e.g. the hypothesis of the previous learner step.
+     */
+    @JsonIgnore
+    public void setPrevious(CompactMealyMachineProxy previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Set how the machine that the binary data is a delta against is looked up, if it is needed for decoding and has
+     * not been set with {@link #setPrevious(CompactMealyMachineProxy)}.
+     *
+     * @param previousResolver
+     *         Supplies the previous machine, or null if it is unknown.
+     */
+    @JsonIgnore
+    public void setPreviousResolver(Supplier<CompactMealyMachineProxy> previousResolver) {
+        this.previousResolver = previousResolver;
+    }
+
+    /**
+     * Creates a copy of the machine that is stored as full snapshot, independent of any previous machine.
+     *
+     * @return The copy of the machine.
+     */
+    public CompactMealyMachineProxy toSnapshot() {
+        final CompactMealyMachineProxy snapshot = new CompactMealyMachineProxy();
+        snapshot.setNodes(getNodes() == null ? null : new ArrayList<>(getNodes()));
+        snapshot.setInitNode(initNode);
+        snapshot.setEdges(getEdges() == null ? null : new ArrayList<>(getEdges()));
+        return snapshot;
+    }
+
+    private boolean isLegacy() {
+        return legacyNodes != null && legacyEdges != null;
+    }
+
+    private void clearLegacyColumns() {
+        this.legacyNodes = null;
+        this.legacyEdges = null;
+    }
+
+    /** Decodes the states and transitions from the binary or the legacy JSON format, if they are not decoded yet. */
+    private void decode() {
+        if (nodes != null || edges != null) {
+            return;
+        }
+
         try {
-            CollectionType valueType = OBJECT_MAPPER.getTypeFactory()
-                    .constructCollectionType(List.class,
-                            CompactMealyTransitionProxy.class);
-            this.edges = OBJECT_MAPPER.readValue(edgesAsString, valueType);
+            if (data != null && CompactMealyMachineCodec.isDelta(data)) {
+                if (previous == null && previousResolver != null) {
+                    previous = previousResolver.get();
+                }
+                if (previous == null) {
+                    throw new IllegalStateException("The hypothesis is a delta but its predecessor is unknown.");
+                }
+                final CompactMealyMachineProxy decoded = CompactMealyMachineCodec.decodeDelta(previous, data);
+                this.nodes = decoded.nodes;
+                this.edges = decoded.edges;
+            } else if (data != null) {
+                final CompactMealyMachineProxy decoded = CompactMealyMachineCodec.decode(data);
+                this.nodes = decoded.nodes;
+                this.edges = decoded.edges;
+            } else if (isLegacy()) {
+                this.nodes = OBJECT_MAPPER.readValue(legacyNodes, OBJECT_MAPPER.getTypeFactory()
+                        .constructCollectionType(List.class, Integer.class));
+                this.edges = OBJECT_MAPPER.readValue(legacyEdges, OBJECT_MAPPER.getTypeFactory()
+                        .constructCollectionType(List.class, CompactMealyTransitionProxy.class));
+            }
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -239,7 +352,7 @@ public class CompactMealyMachineProxy implements Serializable {
     @Transient
     @JsonIgnore
     public Alphabet<String> createAlphabet() {
-        Set<String> inputs = edges.stream().map(CompactMealyTransitionProxy::getInput)
+        Set<String> inputs = getEdges().stream().map(CompactMealyTransitionProxy::getInput)
                 .collect(Collectors.toSet());
 
         Alphabet<String> alphabet = new SimpleAlphabet<>(inputs);
@@ -261,14 +374,14 @@ public class CompactMealyMachineProxy implements Serializable {
     }
 
     private void addStatesTo(CompactMealy machine) {
-        for (int i = 0; i < nodes.size(); i++) {
+        for (int i = 0; i < getNodes().size(); i++) {
             machine.addState();
         }
         machine.setInitialState(initNode);
     }
 
     private void addEdgesTo(CompactMealy<String, String> machine) {
-        for (CompactMealyTransitionProxy t : edges) {
+        for (CompactMealyTransitionProxy t : getEdges()) {
             machine.addTransition(t.getFrom(), t.getInput(), t.getTo(), t.getOutput());
         }
     }
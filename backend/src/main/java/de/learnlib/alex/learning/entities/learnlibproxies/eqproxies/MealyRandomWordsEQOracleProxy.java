@@ -17,20 +17,21 @@
 package de.learnlib.alex.learning.entities.learnlibproxies.eqproxies;
 
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import de.learnlib.alex.learning.services.ParallelRandomWordsEQOracle;
 import de.learnlib.api.oracle.EquivalenceOracle;
 import de.learnlib.api.oracle.MembershipOracle;
-import de.learnlib.oracle.equivalence.RandomWordsEQOracle;
 import net.automatalib.automata.transout.MealyMachine;
 import net.automatalib.words.Word;
 
 import java.io.Serializable;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Proxy around a MealyRandomWordsEQOracle.
+ * Proxy around a ParallelRandomWordsEQOracle.
  * The Proxy is needed to make it easier to (de-)serialize the Transition into/ from JSON.
  *
- * @see de.learnlib.oracle.equivalence.RandomWordsEQOracle.MealyRandomWordsEQOracle
+ * @see ParallelRandomWordsEQOracle
  */
 @JsonTypeName("random_word")
 public class MealyRandomWordsEQOracleProxy extends AbstractEquivalenceOracleProxy implements Serializable {
@@ -50,6 +51,9 @@ public class MealyRandomWordsEQOracleProxy extends AbstractEquivalenceOracleProx
     /** How many words should be created before ending the oracle with the assumption that no counter example exists. */
     private int maxNoOfTests;
 
+    /** How many seconds the search for a counterexample may take at most. 0 := no time limit. */
+    private int timeLimit;
+
     /**
      * Default constructor.
      */
@@ -58,6 +62,7 @@ public class MealyRandomWordsEQOracleProxy extends AbstractEquivalenceOracleProx
         this.maxLength = 1;
         this.maxNoOfTests = 1;
         this.seed = RANDOM_SEED;
+        this.timeLimit = 0;
     }
 
     /**
@@ -137,6 +142,21 @@ public class MealyRandomWordsEQOracleProxy extends AbstractEquivalenceOracleProx
         this.maxNoOfTests = maxNoOfTests;
     }
 
+    /**
+     * @return How many seconds the search for a counterexample may take at most. 0 := no time limit.
+     */
+    public int getTimeLimit() {
+        return timeLimit;
+    }
+
+    /**
+     * @param timeLimit
+     *         How many seconds the search for a counterexample may take at most. 0 := no time limit.
+     */
+    public void setTimeLimit(int timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
     /**
      * @return The seed for the random number generator.
      */
@@ -162,14 +182,16 @@ public class MealyRandomWordsEQOracleProxy extends AbstractEquivalenceOracleProx
                     "Random Word EQ Oracle: max depth must be greater or equal to min depth.");
         } else if (maxNoOfTests < 1) {
             throw new IllegalArgumentException("Random Word EQ Oracle: max no of test must be greater than 0.");
+        } else if (timeLimit < 0) {
+            throw new IllegalArgumentException("Random Word EQ Oracle: the time limit must not be negative.");
         }
     }
 
     @Override
     public EquivalenceOracle<MealyMachine<?, String, ?, String>, String, Word<String>> createEqOracle(
             MembershipOracle<String, Word<String>> membershipOracle, int batchSize) {
-        return new RandomWordsEQOracle.MealyRandomWordsEQOracle<>(membershipOracle, minLength, maxLength, maxNoOfTests,
-                                                                  new Random(seed), batchSize);
+        return new ParallelRandomWordsEQOracle(membershipOracle, minLength, maxLength, maxNoOfTests,
+                                               TimeUnit.SECONDS.toMillis(timeLimit), new Random(seed), batchSize);
     }
 
 }
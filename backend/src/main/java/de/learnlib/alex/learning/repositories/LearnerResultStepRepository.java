@@ -16,10 +16,14 @@
 
 package de.learnlib.alex.learning.repositories;
 
+import de.learnlib.alex.learning.entities.LearnerResult;
 import de.learnlib.alex.learning.entities.LearnerResultStep;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -27,4 +31,32 @@ import java.util.UUID;
  */
 @Repository
 public interface LearnerResultStepRepository extends JpaRepository<LearnerResultStep, UUID> {
+
+    /**
+     * Get the lightweight columns of all steps of some learner results, i.e. without the hypothesis, the state of the
+     * learner and the algorithm information.
+     *
+     * @param results
+     *         The learner results.
+     * @return The result, step no., steps to learn, EQ oracle, statistics, counterexample and error text of each step,
+     * ordered by the step no.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT s.result, s.stepNo, s.stepsToLearn, s.eqOracle, s.statistics, s.counterExample, s.errorText "
+            + "FROM LearnerResultStep s "
+            + "WHERE s.result IN ?1 "
+            + "ORDER BY s.stepNo ASC")
+    List<Object[]> findSummariesByResultIn(List<LearnerResult> results);
+
+    /**
+     * Get a single step of a learner result.
+     *
+     * @param result
+     *         The learner result.
+     * @param stepNo
+     *         The number of the step.
+     * @return The step, or null if the result has no step with the number.
+     */
+    @Transactional(readOnly = true)
+    LearnerResultStep findOneByResultAndStepNo(LearnerResult result, Long stepNo);
 }
@@ -27,6 +27,7 @@ import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.Project;
 import de.learnlib.alex.data.entities.Symbol;
 import de.learnlib.alex.learning.dao.LearnerResultDAO;
+import de.learnlib.alex.learning.entities.LearnerProgressEvent;
 import de.learnlib.alex.learning.entities.LearnerResult;
 import de.learnlib.alex.learning.entities.LearnerResultStep;
 import de.learnlib.alex.learning.entities.LearnerResumeConfiguration;
@@ -41,6 +42,8 @@ import de.learnlib.alex.learning.exceptions.LearnerException;
 import de.learnlib.alex.learning.repositories.LearnerResultRepository;
 import de.learnlib.alex.learning.repositories.LearnerResultStepRepository;
 import de.learnlib.alex.learning.services.Learner;
+import de.learnlib.alex.learning.services.progress.LearnerProgressService;
+import de.learnlib.alex.learning.services.progress.LearnerProgressSubscription;
 import de.learnlib.alex.webhooks.services.WebhookService;
 import net.automatalib.automata.transout.impl.compact.CompactMealy;
 import net.automatalib.words.Alphabet;
@@ -48,6 +51,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
+import org.glassfish.jersey.media.sse.EventOutput;
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SseFeature;
 
 import javax.annotation.security.RolesAllowed;
 import javax.inject.Inject;
@@ -62,6 +68,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.SecurityContext;
+import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -114,6 +121,10 @@ public class LearnerResource {
     @Inject
     private WebhookService webhookService;
 
+    /** The service that pushes the progress of the learner. */
+    @Inject
+    private LearnerProgressService progressService;
+
     /**
      * Start the learning.
      *
@@ -222,7 +233,7 @@ public class LearnerResource {
                 learnerResultStepRepository.flush();
 
                 result = learnerResultDAO.get(user, projectId, testNo, true);
-                result.setHypothesis(result.getSteps().get(configuration.getStepNo() - 1).getHypothesis());
+                result.setHypothesis(result.getSteps().get(configuration.getStepNo() - 1).getHypothesis().toSnapshot());
                 result.getStatistics().setEqsUsed(result.getSteps().size());
 
 
@@ -320,6 +331,64 @@ public class LearnerResource {
         return Response.ok(status).build();
     }
 
+    /**
+     * Stream the progress of the learner as server-sent events. In contrast to the status, only incremental events
+     * are pushed, e.g. phase changes, started and finished query batches, persisted steps and the counters of the SUL.
+     * Intermediate events are coalesced for slow clients. The stream stays open until the client disconnects.
+     *
+     * @param projectId The project to observe.
+     * @return The event stream.
+     * @throws NotFoundException If the project could not be found.
+     * @successResponse 200 OK
+     * @responseType de.learnlib.alex.learning.entities.LearnerProgressEvent
+     * @errorResponse 404 not found `de.learnlib.alex.common.utils.ResourceErrorHandler.RESTError
+     */
+    @GET
+    @Path("/{project_id}/events")
+    @Produces(SseFeature.SERVER_SENT_EVENTS)
+    public EventOutput getEvents(@PathParam("project_id") long projectId) throws NotFoundException {
+        User user = ((UserPrincipal) securityContext.getUserPrincipal()).getUser();
+        LOGGER.traceEntry("getEvents() for user {}.", user);
+
+        projectDAO.getByID(user.getId(), projectId); // check if project exists
+
+        final EventOutput output = new EventOutput();
+        final LearnerProgressSubscription subscription = progressService.subscribe(projectId,
+                new LearnerProgressService.EventSink() {
+                    @Override
+                    public void send(LearnerProgressEvent event) throws IOException {
+                        output.write(new OutboundEvent.Builder()
+                                .name(event.getType().name())
+                                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                                .data(LearnerProgressEvent.class, event)
+                                .build());
+                    }
+
+                    @Override
+                    public void keepAlive() throws IOException {
+                        output.write(new OutboundEvent.Builder().comment("keep-alive").build());
+                    }
+
+                    @Override
+                    public void close() {
+                        try {
+                            output.close();
+                        } catch (IOException e) {
+                            LOGGER.debug("Could not close the learner progress stream.", e);
+                        }
+                    }
+                });
+
+        // let the client start with the current phase instead of waiting for the next change
+        final LearnerStatus status = learner.getStatus(projectId);
+        if (status.isActive() && status.getLearnerPhase() != null) {
+            subscription.offer(LearnerProgressEvent.phaseChanged(status.getResult(), status.getLearnerPhase()));
+        }
+
+        LOGGER.traceExit(output);
+        return output;
+    }
+
     /**
      * Get the output of a (possible) counterexample.
      * This output is generated by executing the symbols on the SUL.
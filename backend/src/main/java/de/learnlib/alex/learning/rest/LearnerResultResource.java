@@ -24,13 +24,17 @@ import de.learnlib.alex.common.utils.ResourceErrorHandler;
 import de.learnlib.alex.common.utils.ResponseHelper;
 import de.learnlib.alex.learning.dao.LearnerResultDAO;
 import de.learnlib.alex.learning.entities.LearnerResult;
+import de.learnlib.alex.learning.entities.QueryTrace;
 import de.learnlib.alex.learning.services.Learner;
+import de.learnlib.alex.learning.services.trace.QueryTraceReader;
+import de.learnlib.alex.learning.services.trace.QueryTraceService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import javax.inject.Inject;
 import javax.validation.ValidationException;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -41,6 +45,10 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -62,6 +70,10 @@ public class LearnerResultResource {
     @Inject
     private Learner learner;
 
+    /** The service that manages the query traces of the results. */
+    @Inject
+    private QueryTraceService queryTraceService;
+
     /** The security context containing the user of the request. */
     @Context
     private SecurityContext securityContext;
@@ -73,7 +85,8 @@ public class LearnerResultResource {
      *         The project of the learn results.
      * @param embed
      *         By default no steps are included in the response. However you can ask to include them with this parameter
-     *         set to 'steps'.
+     *         set to 'steps'. Only summaries of the steps are included, i.e. without their hypotheses, learner states
+     *         and algorithm information. Use the endpoint for specific test nos. to get the complete steps.
      * @return A List of all learn results within one project.
      * @throws NotFoundException
      *         If the related Project could not be found.
@@ -205,6 +218,87 @@ public class LearnerResultResource {
         }
     }
 
+    /**
+     * Download the query trace of a learner result as binary file. The file of a running experiment may end with zero
+     * bytes that are ignored by the readers of the trace.
+     *
+     * @param projectId
+     *         The ID of the project.
+     * @param testNo
+     *         The test no of the learner result.
+     * @return The trace file.
+     * @throws NotFoundException
+     *         If the result or its trace could not be found.
+     * @successResponse 200 OK
+     * @errorResponse 404 not found `de.learnlib.alex.common.utils.ResourceErrorHandler.RESTError
+     */
+    @GET
+    @Path("{test_no}/trace")
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public Response downloadQueryTrace(@PathParam("project_id") Long projectId, @PathParam("test_no") Long testNo)
+            throws NotFoundException {
+        User user = ((UserPrincipal) securityContext.getUserPrincipal()).getUser();
+        LOGGER.traceEntry("downloadQueryTrace({}, {}) for user {}.", projectId, testNo, user);
+
+        final java.nio.file.Path file = getQueryTraceFile(user, projectId, testNo);
+        final StreamingOutput output = out -> Files.copy(file, out);
+
+        return Response.ok(output)
+                .header("content-disposition", "attachment; filename = " + file.getFileName())
+                .build();
+    }
+
+    /**
+     * Get the queries of the query trace of a learner result.
+     *
+     * @param projectId
+     *         The ID of the project.
+     * @param testNo
+     *         The test no of the learner result.
+     * @param offset
+     *         The number of queries to skip.
+     * @param limit
+     *         The maximum number of queries to return.
+     * @return The queries in the order of their execution.
+     * @throws NotFoundException
+     *         If the result or its trace could not be found.
+     * @successResponse 200 OK
+     * @responseType java.util.List<de.learnlib.alex.learning.entities.QueryTrace>
+     * @errorResponse 400 bad request `de.learnlib.alex.common.utils.ResourceErrorHandler.RESTError
+     * @errorResponse 404 not found `de.learnlib.alex.common.utils.ResourceErrorHandler.RESTError
+     */
+    @GET
+    @Path("{test_no}/trace/queries")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getQueryTrace(@PathParam("project_id") Long projectId, @PathParam("test_no") Long testNo,
+                                  @QueryParam("offset") @DefaultValue("0") long offset,
+                                  @QueryParam("limit") @DefaultValue("1000") int limit)
+            throws NotFoundException {
+        User user = ((UserPrincipal) securityContext.getUserPrincipal()).getUser();
+        LOGGER.traceEntry("getQueryTrace({}, {}, {}, {}) for user {}.", projectId, testNo, offset, limit, user);
+
+        if (offset < 0 || limit < 0) {
+            return ResourceErrorHandler.createRESTErrorMessage("LearnerResultResource.getQueryTrace",
+                    Response.Status.BAD_REQUEST,
+                    new IllegalArgumentException("The offset and the limit must not be negative."));
+        }
+
+        getQueryTraceFile(user, projectId, testNo);
+        try (QueryTraceReader reader = queryTraceService.read(projectId, testNo)) {
+            reader.skip(offset);
+
+            final List<QueryTrace> queries = new ArrayList<>();
+            while (queries.size() < limit && reader.hasNext()) {
+                queries.add(reader.next());
+            }
+            return ResponseHelper.renderList(queries, Response.Status.OK);
+        } catch (IOException e) {
+            LOGGER.traceExit(e);
+            return ResourceErrorHandler.createRESTErrorMessage("LearnerResultResource.getQueryTrace",
+                    Response.Status.BAD_REQUEST, e);
+        }
+    }
+
     /**
      * Delete one or more learn result(s).
      *
@@ -241,6 +335,17 @@ public class LearnerResultResource {
         }
     }
 
+    private java.nio.file.Path getQueryTraceFile(User user, Long projectId, Long testNo) throws NotFoundException {
+        // check if the result exists and the user has access to it
+        learnerResultDAO.get(user, projectId, testNo, false);
+
+        final java.nio.file.Path file = queryTraceService.getFile(projectId, testNo);
+        if (!Files.exists(file)) {
+            throw new NotFoundException("The result " + testNo + " has no query trace.");
+        }
+        return file;
+    }
+
     private boolean parseEmbeddableFields(String embed) throws IllegalArgumentException {
         if (embed == null
                 || embed.isEmpty()) {
@@ -21,20 +21,31 @@ import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.Symbol;
 import de.learnlib.alex.learning.dao.LearnerResultDAO;
 import de.learnlib.alex.learning.entities.AbstractLearnerConfiguration;
+import de.learnlib.alex.learning.entities.ExecutionMetrics;
+import de.learnlib.alex.learning.entities.LearnerProgressEvent;
 import de.learnlib.alex.learning.entities.LearnerResult;
 import de.learnlib.alex.learning.entities.LearnerResultStep;
 import de.learnlib.alex.learning.entities.Statistics;
 import de.learnlib.alex.learning.entities.learnlibproxies.CompactMealyMachineProxy;
 import de.learnlib.alex.learning.entities.learnlibproxies.DefaultQueryProxy;
-import de.learnlib.alex.learning.entities.learnlibproxies.eqproxies.MealyRandomWordsEQOracleProxy;
 import de.learnlib.alex.learning.events.LearnerEvent;
+import de.learnlib.alex.learning.services.cache.PersistentCacheOracle;
+import de.learnlib.alex.learning.services.cache.PersistentQueryCache;
 import de.learnlib.alex.learning.services.connectors.ConnectorContextHandler;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
+import de.learnlib.alex.learning.services.connectors.ExecutionMetricsConnector;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
+import de.learnlib.alex.learning.services.logging.LearnerLogContext;
+import de.learnlib.alex.learning.services.progress.LearnerProgressService;
+import de.learnlib.alex.learning.services.trace.QueryTraceService;
+import de.learnlib.alex.learning.services.trace.QueryTraceWriter;
 import de.learnlib.alex.webhooks.services.WebhookService;
 import de.learnlib.api.SUL;
 import de.learnlib.api.algorithm.LearningAlgorithm;
 import de.learnlib.api.oracle.EquivalenceOracle;
+import de.learnlib.api.oracle.MembershipOracle;
 import de.learnlib.api.query.DefaultQuery;
+import de.learnlib.api.query.Query;
 import de.learnlib.filter.cache.mealy.MealyCacheOracle;
 import de.learnlib.mapper.ContextExecutableInputSUL;
 import de.learnlib.mapper.SULMappers;
@@ -45,13 +56,15 @@ import net.automatalib.words.Word;
 import net.automatalib.words.impl.SimpleAlphabet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -65,8 +78,6 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
 
     protected static final Logger LOGGER = LogManager.getLogger();
 
-    protected static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** The user who is stating the Learning Thread. */
     protected User user;
 
@@ -82,11 +93,14 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
     /** The webhook service to user. */
     private final WebhookService webhookService;
 
+    /** The service that pushes the progress of the experiment to observing clients, or null. */
+    private final LearnerProgressService progressService;
+
     /** The learner to use during the learning. */
     protected final LearningAlgorithm.MealyLearner<String, String> learner;
 
     /** The phase of the learner. */
-    protected Learner.LearnerPhase learnerPhase;
+    private Learner.LearnerPhase learnerPhase;
 
     /** The learner result. */
     protected LearnerResult result;
@@ -109,15 +123,42 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
     /** The number of mqs executed in parallel. */
     private int maxConcurrentQueries;
 
-    /** The queries that are executed at the moment. */
-    private List<DefaultQueryProxy> currentQueries;
+    /**
+     * The queries that are executed at the moment by the threads that pose them. They are only converted when the
+     * status is requested.
+     */
+    private final Map<Thread, List<Query<String, Word<String>>>> currentQueries;
 
     /** The oracle where all queries are posed to. */
-    private MultiSULOracle<String, String> multiSULOracle;
+    protected final MultiSULOracle<String, String> multiSULOracle;
+
+    /** The oracle that executes queries with a common prefix only once. */
+    protected final PrefixBatchingOracle<String, String> batchingOracle;
+
+    /** The stage that reduces counterexamples before they are passed to the learner. */
+    private final CounterexampleReducer<String, String> counterexampleReducer;
 
     /** The current connector context. */
     protected ConnectorContextHandler context;
 
+    /** The persistent query cache of the project, or null if the queries are not cached. */
+    private final PersistentQueryCache queryCache;
+
+    /** The oracle that answers queries from the persistent query cache, or null if the queries are not cached. */
+    protected final PersistentCacheOracle persistentCacheOracle;
+
+    /** The learner state that is being serialized in the background, or null if there is none. */
+    private CompletableFuture<byte[]> pendingState;
+
+    /** The step the pending learner state belongs to. */
+    private LearnerResultStep pendingStateStep;
+
+    /** The trace the executed queries are recorded in, or null if they are not recorded. */
+    private QueryTraceWriter queryTrace;
+
+    /** The service that stores the query traces. */
+    private QueryTraceService queryTraceService;
+
     /**
      * Constructor.
      *
@@ -127,18 +168,26 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
      *         {@link #learnerResultDAO}.
      * @param webhookService
      *         {@link #webhookService}.
+     * @param progressService
+     *         {@link #progressService}.
      * @param context
      *         The context to use.
      * @param result
      *         {@link #result}.
      * @param configuration
      *         {@link #configuration}.
+     * @param queryCache
+     *         {@link #queryCache}.
+     * @param replaySUL
+     *         The system that answers the queries in-process, or null if they are executed on the target.
      */
     public AbstractLearnerThread(User user, LearnerResultDAO learnerResultDAO, WebhookService webhookService,
-            ConnectorContextHandler context, LearnerResult result, T configuration) {
+            LearnerProgressService progressService, ConnectorContextHandler context, LearnerResult result,
+            T configuration, PersistentQueryCache queryCache, SUL<String, String> replaySUL) {
         this.user = user;
         this.learnerResultDAO = learnerResultDAO;
         this.webhookService = webhookService;
+        this.progressService = progressService;
         this.result = result;
         this.configuration = configuration;
         this.abstractAlphabet = new SimpleAlphabet<>(
@@ -149,35 +198,55 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
         );
 
         this.context = context;
+        this.queryCache = queryCache;
         this.finished = false;
         this.maxConcurrentQueries = context.getMaxConcurrentQueries();
-        this.currentQueries = new ArrayList<>();
+        this.currentQueries = new ConcurrentHashMap<>();
 
-        // prepare the mapped sul.
+        // prepare the mapped sul. a replay answers the abstract queries itself, so no connector is ever created.
         symbolMapper = new SymbolMapper(result.getSymbols());
-        final ContextExecutableInputSUL<ContextExecutableInput<ExecuteResult, ConnectorManager>, ExecuteResult, ConnectorManager>
-                ceiSUL = new ContextExecutableInputSUL<>(context);
-        final SUL<String, String> mappedSUL = SULMappers.apply(symbolMapper, ceiSUL);
+        final SUL<String, String> mappedSUL;
+        if (replaySUL != null) {
+            mappedSUL = replaySUL;
+        } else {
+            final ContextExecutableInputSUL<ContextExecutableInput<ExecuteResult, ConnectorManager>, ExecuteResult,
+                    ConnectorManager> ceiSUL = new ContextExecutableInputSUL<>(context);
+            mappedSUL = SULMappers.apply(symbolMapper, ceiSUL);
+        }
         this.sul = new AlexSUL<>(mappedSUL);
 
-        this.multiSULOracle = new MultiSULOracle<>(sul);
+        this.multiSULOracle = new MultiSULOracle<>(sul, maxConcurrentQueries);
+        this.batchingOracle = new PrefixBatchingOracle<>(multiSULOracle);
 
         // monitor which queries are being processed.
-        monitorOracle = new QueryMonitorOracle<>(multiSULOracle);
+        monitorOracle = new QueryMonitorOracle<>(batchingOracle);
+        monitorOracle.addPreProcessingListener(queries -> {
+            this.currentQueries.put(Thread.currentThread(), new ArrayList<>(queries));
+            publishProgress(LearnerProgressEvent.batchStarted(result, queries.size()));
+        });
         monitorOracle.addPostProcessingListener(queries -> {
-            List<DefaultQueryProxy> currentQueries = new ArrayList<>();
-            queries.forEach(query -> currentQueries.add(DefaultQueryProxy.createFrom(new DefaultQuery<>(query))));
-            this.currentQueries = currentQueries;
+            this.currentQueries.remove(Thread.currentThread());
+            publishProgress(LearnerProgressEvent.batchFinished(result, queries.size()));
+            publishProgress(LearnerProgressEvent.counters(result, sul.getResetCount(), sul.getSymbolUsedCount()));
         });
 
+        // warm the cache with the queries of previous experiments.
+        if (result.isUseMQCache() && queryCache != null) {
+            this.persistentCacheOracle = new PersistentCacheOracle(queryCache, monitorOracle, result.getSymbols());
+        } else {
+            this.persistentCacheOracle = null;
+        }
+
         // create the concrete membership oracle.
         this.mqOracle = new DelegationOracle<>();
         if (result.isUseMQCache()) {
-            this.mqOracle.setDelegate(MealyCacheOracle.createDAGCacheOracle(this.abstractAlphabet, monitorOracle));
+            this.mqOracle.setDelegate(MealyCacheOracle.createDAGCacheOracle(this.abstractAlphabet, getCachedOracle()));
         } else {
             this.mqOracle.setDelegate(monitorOracle);
         }
 
+        this.counterexampleReducer = new CounterexampleReducer<>(mqOracle);
+
         // create the learner.
         this.learner = result.getAlgorithm().createLearner(abstractAlphabet, mqOracle);
     }
@@ -186,6 +255,35 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
     public void run() {
     }
 
+    /** @return The oracle that is wrapped by the membership query cache. */
+    protected MembershipOracle<String, Word<String>> getCachedOracle() {
+        return persistentCacheOracle != null ? persistentCacheOracle : monitorOracle;
+    }
+
+    /**
+     * Writes the queries that have been posed to the SUL to the persistent query cache.
+     *
+     * @param close
+     *         If the cache should be closed afterwards.
+     */
+    protected void persistQueryCache(boolean close) {
+        if (queryCache == null) {
+            return;
+        }
+
+        try {
+            if (close) {
+                LearnerLog.info("Answered {} queries from the persistent cache.",
+                        persistentCacheOracle.getHits());
+                queryCache.close();
+            } else {
+                queryCache.flush();
+            }
+        } catch (IOException e) {
+            LearnerLog.warn("Could not write the query cache {}.", queryCache.getFile(), e);
+        }
+    }
+
     /**
      * Creates and persists a learner step.
      *
@@ -206,15 +304,14 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
         statistics.getDuration().setLearner(end - start);
         statistics.getMqsUsed().setLearner(sul.getResetCount());
         statistics.getSymbolsUsed().setLearner(sul.getSymbolUsedCount());
+        statistics.getMqsSaved().setLearner(batchingOracle.getSavedResets());
+        statistics.getSymbolsSaved().setLearner(batchingOracle.getSavedSymbols());
         statistics.setEqsUsed(eqs);
+        addExecutionMetrics(statistics);
 
         final LearnerResultStep step = learnerResultDAO.createStep(result, configuration);
         step.setStatistics(statistics);
-        try {
-            step.setState(result.getAlgorithm().suspend(learner));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        suspendInBackground(step);
         step.setAlgorithmInformation(result.getAlgorithm().getInternalData(learner));
         step.setHypothesis(CompactMealyMachineProxy.createFrom(learner.getHypothesisModel(), abstractAlphabet));
         step.setCounterExample(DefaultQueryProxy.createFrom(counterexample));
@@ -222,15 +319,176 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
 
         try {
             learnerResultDAO.saveStep(result, step);
+            publishProgress(LearnerProgressEvent.stepPersisted(result, step));
         } catch (de.learnlib.alex.common.exceptions.NotFoundException e) {
             e.printStackTrace();
         }
 
         sul.resetCounter();
+        batchingOracle.resetCounter();
+        persistQueryCache(false);
 
         return step;
     }
 
+    /**
+     * Adds the execution times that have been recorded since the last call to the statistics.
+     *
+     * @param statistics
+     *         The statistics of the current step.
+     */
+    protected void addExecutionMetrics(Statistics statistics) {
+        final ExecutionMetricsConnector connector = context.getExecutionMetrics();
+        if (connector == null) {
+            return;
+        }
+
+        final ExecutionMetrics metrics = connector.drain();
+        if (statistics.getExecutionMetrics() == null) {
+            statistics.setExecutionMetrics(metrics);
+        } else {
+            statistics.getExecutionMetrics().updateBy(metrics);
+        }
+    }
+
+    /**
+     * Record the queries that are executed on the SUL.
+     *
+     * @param service
+     *         The service that stores the query traces.
+     * @param trace
+     *         The trace. If it is kept in memory, it is written to the file of the result once the result has been
+     *         persisted.
+     */
+    public void setQueryTrace(QueryTraceService service, QueryTraceWriter trace) {
+        this.queryTraceService = service;
+        this.queryTrace = trace;
+        trace.setPhase(learnerPhase);
+        multiSULOracle.setQueryTrace(trace, context::getCurrentInstance);
+    }
+
+    /** Writes the query trace to the file of the result, if it is still kept in memory. */
+    protected void openQueryTraceFile() {
+        if (queryTrace == null || queryTrace.getFile() != null || result.getTestNo() == null) {
+            return;
+        }
+
+        try {
+            queryTrace.open(queryTraceService.getFile(result.getProjectId(), result.getTestNo()));
+        } catch (IOException e) {
+            LearnerLog.warn("Could not open the query trace of the result {}.", result.getTestNo(), e);
+            multiSULOracle.setQueryTrace(null, null);
+            closeQueryTrace();
+        }
+    }
+
+    /** Closes the query trace. */
+    protected void closeQueryTrace() {
+        if (queryTrace == null) {
+            return;
+        }
+
+        try {
+            queryTrace.close();
+        } catch (IOException e) {
+            LearnerLog.warn("Could not close the query trace {}.", queryTrace.getFile(), e);
+        }
+        queryTrace = null;
+    }
+
+    /**
+     * Binds the log settings of the experiment to the current thread. The number of the test is updated once the
+     * result has been persisted.
+     */
+    protected void bindLogContext() {
+        final LearnerLogContext logContext = context.getLogContext();
+        if (logContext != null && result.getTestNo() != null) {
+            logContext.setTestNo(String.valueOf(result.getTestNo()));
+        }
+        LearnerLog.bind(logContext);
+    }
+
+    /**
+     * Pushes an event to the clients that observe the progress of the experiment.
+     *
+     * @param event
+     *         The event.
+     */
+    protected void publishProgress(LearnerProgressEvent event) {
+        if (progressService != null) {
+            progressService.publish(event);
+        }
+    }
+
+    /**
+     * Sets the phase of the learner and informs the observing clients.
+     *
+     * @param learnerPhase
+     *         The new phase.
+     */
+    protected void setLearnerPhase(Learner.LearnerPhase learnerPhase) {
+        this.learnerPhase = learnerPhase;
+        if (queryTrace != null) {
+            queryTrace.setPhase(learnerPhase);
+        }
+        publishProgress(LearnerProgressEvent.phaseChanged(result, learnerPhase));
+    }
+
+    /**
+     * Serializes the state of the learner in the background. The learner is not modified while the equivalence oracle
+     * searches for a counterexample, so the serialization does not delay the next equivalence query. The state has to
+     * be awaited with {@link #awaitSuspendedState()} before the learner is refined again.
+     *
+     * @param step
+     *         The step the state belongs to.
+     */
+    private void suspendInBackground(LearnerResultStep step) {
+        awaitSuspendedState();
+
+        pendingStateStep = step;
+        pendingState = CompletableFuture.supplyAsync(() -> {
+            try {
+                return result.getAlgorithm().suspend(learner);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Waits until the learner state that is serialized in the background is available and sets it to its step.
+     *
+     * @return The step the state has been set to, or null if no state has been serialized.
+     */
+    protected LearnerResultStep awaitSuspendedState() {
+        if (pendingState == null) {
+            return null;
+        }
+
+        final LearnerResultStep step = pendingStateStep;
+        try {
+            step.setState(pendingState.join());
+        } catch (CompletionException e) {
+            LearnerLog.warn("Could not serialize the state of the learner.", e.getCause());
+        } finally {
+            pendingState = null;
+            pendingStateStep = null;
+        }
+        return step;
+    }
+
+    /** Waits for the learner state that is serialized in the background and persists its step. */
+    protected void persistSuspendedState() {
+        final LearnerResultStep step = awaitSuspendedState();
+        if (step != null) {
+            try {
+                learnerResultDAO.saveStep(result, step);
+            } catch (de.learnlib.alex.common.exceptions.NotFoundException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
     /**
      * Creates a new steps that only contains an error message for the current step.
      *
@@ -241,8 +499,10 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
         final String errorMessage = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
 
         if (!result.getSteps().isEmpty()) {
+            persistSuspendedState();
             final LearnerResultStep errorStep = createStep(0L, 0L, 0, null);
             errorStep.setErrorText(errorMessage);
+            awaitSuspendedState();
 
             try {
                 learnerResultDAO.saveStep(result, errorStep);
@@ -258,6 +518,7 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
                 }
             }
             createStep(0, 0, 0, null);
+            persistSuspendedState();
         }
 
         sul.post();
@@ -267,12 +528,17 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
         step.getStatistics().getDuration().setEqOracle(end - start);
         step.getStatistics().getMqsUsed().setEqOracle(sul.getResetCount());
         step.getStatistics().getSymbolsUsed().setEqOracle(sul.getSymbolUsedCount());
+        step.getStatistics().getMqsSaved().setEqOracle(batchingOracle.getSavedResets());
+        step.getStatistics().getSymbolsSaved().setEqOracle(batchingOracle.getSavedSymbols());
+        addExecutionMetrics(step.getStatistics());
+        awaitSuspendedState();
         try {
             learnerResultDAO.saveStep(result, step);
         } catch (de.learnlib.alex.common.exceptions.NotFoundException e) {
             e.printStackTrace();
         }
         sul.resetCounter();
+        batchingOracle.resetCounter();
     }
 
     /**
@@ -288,39 +554,52 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
         long start, end;
         long rounds = 0;
 
-        while (continueLearning(currentStep, rounds)) {
+        try {
+            while (continueLearning(currentStep, rounds)) {
+
+                // search for counterexamples
+                setLearnerPhase(Learner.LearnerPhase.EQUIVALENCE_TESTING);
+                start = System.nanoTime();
+                DefaultQuery<String, Word<String>> counterexample = eqOracle.findCounterExample(
+                        learner.getHypothesisModel(), abstractAlphabet);
+
+                // reduce the counterexample so that the next refinement round requires fewer and shorter queries
+                if (counterexample != null) {
+                    if (configuration.isReduceCounterexamples()) {
+                        counterexample = counterexampleReducer.reduce(learner.getHypothesisModel(), counterexample);
+                    } else {
+                        counterexample = counterexampleReducer.trim(learner.getHypothesisModel(), counterexample);
+                    }
+                }
+                end = System.nanoTime();
 
-            // search for counterexamples
-            learnerPhase = Learner.LearnerPhase.EQUIVALENCE_TESTING;
-            start = System.nanoTime();
-            DefaultQuery<String, Word<String>> counterexample = eqOracle.findCounterExample(
-                    learner.getHypothesisModel(), abstractAlphabet);
-            end = System.nanoTime();
+                // after having searched for counterexamples, update the statistics of the current step
+                // with the numbers of the equivalence oracle
+                updateStatisticsWithEqOracle(start, end, currentStep);
 
-            // after having searched for counterexamples, update the statistics of the current step
-            // with the numbers of the equivalence oracle
-            updateStatisticsWithEqOracle(start, end, currentStep);
+                if (counterexample != null) {
+                    // refine the hypothesis
+                    setLearnerPhase(Learner.LearnerPhase.LEARNING);
+                    start = System.nanoTime();
+                    learner.refineHypothesis(counterexample);
+                    end = System.nanoTime();
 
-            if (counterexample != null) {
-                // for long randomly generated words, check if there is a shorter prefix that is also a counterexample
-                if (configuration.getEqOracle() instanceof MealyRandomWordsEQOracleProxy) {
-                    counterexample = findShortestPrefix(counterexample);
+                    currentStep = createStep(start, end, 1, counterexample);
+                } else {
+                    break;
                 }
 
-                // refine the hypothesis
-                learnerPhase = Learner.LearnerPhase.LEARNING;
-                start = System.nanoTime();
-                learner.refineHypothesis(counterexample);
-                end = System.nanoTime();
-
-                currentStep = createStep(start, end, 1, counterexample);
-            } else {
-                break;
+                rounds++;
+            }
+        } finally {
+            if (eqOracle instanceof ParallelRandomWordsEQOracle) {
+                ((ParallelRandomWordsEQOracle) eqOracle).shutdown();
             }
-
-            rounds++;
         }
 
+        // the loop may end before the state of the latest step has been persisted
+        persistSuspendedState();
+
         webhookService.fireEvent(user, new LearnerEvent.Finished(result));
     }
 
@@ -329,30 +608,15 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
     }
 
     /**
-     * Given a counterexample, test if there is a shorter prefix that is also a counterexample.
-     *
-     * @param ce
-     *         The counterexample.
-     * @return The prefix.
+     * Releases the resources of an experiment that has been removed from the queue before it has been started, i.e.
+     * the connectors of the context, the workers and the query cache.
      */
-    private DefaultQuery<String, Word<String>> findShortestPrefix(DefaultQuery<String, Word<String>> ce) {
-        Word<String> input = ce.getInput();
-        Word<String> output = ce.getOutput();
-
-        int i;
-        for (i = 0; i <= input.size(); i++) {
-            Word<String> prefix = input.subWord(0, i);
-            Word<String> sulOutput = output.subWord(0, i);
-            Word<String> hypOutput = learner.getHypothesisModel().computeOutput(prefix);
-            if (!Objects.equals(sulOutput, hypOutput)) {
-                break;
-            }
-        }
-
-        DefaultQuery<String, Word<String>> prefix = new DefaultQuery<>(input.subWord(0, i));
-        prefix.answer(output.subWord(0, i));
-
-        return prefix;
+    public void cancel() {
+        multiSULOracle.shutdown();
+        persistQueryCache(true);
+        closeQueryTrace();
+        context.post();
+        finished = true;
     }
 
     public void stopLearning() {
@@ -364,7 +628,10 @@ public abstract class AbstractLearnerThread<T extends AbstractLearnerConfigurati
     }
 
     public List<DefaultQueryProxy> getCurrentQueries() {
-        return currentQueries;
+        return currentQueries.values().stream()
+                .flatMap(List::stream)
+                .map(query -> DefaultQueryProxy.createFrom(new DefaultQuery<>(query)))
+                .collect(Collectors.toList());
     }
 
     public boolean isFinished() {
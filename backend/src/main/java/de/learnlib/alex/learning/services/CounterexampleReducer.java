@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services;
+
+import de.learnlib.api.oracle.MembershipOracle;
+import de.learnlib.api.query.DefaultQuery;
+import net.automatalib.automata.transout.MealyMachine;
+import net.automatalib.words.Word;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reduces the length of counterexamples before they are passed to the learner.
+ * <p>
+ * Starting from the prefix that ends at the first output that differs from the hypothesis, the reducer repeatedly
+ * <ol>
+ * <li>removes loops, i.e. infixes that lead from a state of the hypothesis back to the same state, and</li>
+ * <li>removes infixes of halving lengths (n/2, n/4, ..., 1) if no loop could be removed.</li>
+ * </ol>
+ * All candidates of a round are posed as one batch to the membership oracle so that they are verified in parallel on
+ * the SUL. The shortest candidate that is still a counterexample is used for the next round.
+ *
+ * @param <I> Input symbol type.
+ * @param <O> Output symbol type.
+ */
+public class CounterexampleReducer<I, O> {
+
+    /** The oracle that verifies the candidates against the SUL. */
+    private final MembershipOracle<I, Word<O>> oracle;
+
+    /**
+     * Constructor.
+     *
+     * @param oracle
+     *         {@link #oracle}.
+     */
+    public CounterexampleReducer(MembershipOracle<I, Word<O>> oracle) {
+        this.oracle = oracle;
+    }
+
+    /**
+     * Reduces a counterexample by verifying shorter candidates on the SUL.
+     *
+     * @param hypothesis
+     *         The current hypothesis.
+     * @param counterexample
+     *         The counterexample for the hypothesis.
+     * @return The shortest counterexample that could be found.
+     */
+    public DefaultQuery<I, Word<O>> reduce(MealyMachine<?, I, ?, O> hypothesis,
+            DefaultQuery<I, Word<O>> counterexample) {
+        DefaultQuery<I, Word<O>> current = trim(hypothesis, counterexample);
+
+        while (current.getInput().size() > 1) {
+            DefaultQuery<I, Word<O>> reduced = verify(hypothesis, createLoopFreeCandidates(hypothesis, current));
+            if (reduced == null) {
+                reduced = removeInfixes(hypothesis, current);
+            }
+
+            if (reduced == null) {
+                break;
+            }
+            current = reduced;
+        }
+
+        return current;
+    }
+
+    /**
+     * Trims a counterexample to the shortest prefix whose output differs from the hypothesis. This does not require
+     * any queries to the SUL.
+     *
+     * @param hypothesis
+     *         The current hypothesis.
+     * @param counterexample
+     *         The counterexample for the hypothesis.
+     * @return The prefix of the counterexample.
+     */
+    public DefaultQuery<I, Word<O>> trim(MealyMachine<?, I, ?, O> hypothesis, DefaultQuery<I, Word<O>> counterexample) {
+        final Word<I> input = counterexample.getInput();
+        final Word<O> output = counterexample.getOutput();
+        final Word<O> hypOutput = hypothesis.computeOutput(input);
+
+        int i = 0;
+        while (i < input.size() && Objects.equals(output.getSymbol(i), hypOutput.getSymbol(i))) {
+            i++;
+        }
+
+        if (i >= input.size() - 1) {
+            return counterexample;
+        }
+
+        final DefaultQuery<I, Word<O>> prefix = new DefaultQuery<>(input.prefix(i + 1));
+        prefix.answer(output.prefix(i + 1));
+        return prefix;
+    }
+
+    /**
+     * Creates candidates by removing the longest loop in the hypothesis that starts at each position of the word.
+     */
+    private List<Word<I>> createLoopFreeCandidates(MealyMachine<?, I, ?, O> hypothesis,
+            DefaultQuery<I, Word<O>> counterexample) {
+        final Word<I> input = counterexample.getInput();
+        final List<?> states = getStates(hypothesis, input);
+
+        final List<Word<I>> candidates = new ArrayList<>();
+        for (int j = 0; j < input.size(); j++) {
+            for (int k = input.size(); k > j; k--) {
+                if (Objects.equals(states.get(j), states.get(k))) {
+                    candidates.add(input.prefix(j).concat(input.subWord(k)));
+                    break;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /** Removes infixes of halving lengths from the counterexample until a shorter counterexample is found. */
+    private DefaultQuery<I, Word<O>> removeInfixes(MealyMachine<?, I, ?, O> hypothesis,
+            DefaultQuery<I, Word<O>> counterexample) {
+        final Word<I> input = counterexample.getInput();
+
+        for (int length = input.size() / 2; length > 0; length /= 2) {
+            final List<Word<I>> candidates = new ArrayList<>();
+            for (int i = 0; i + length <= input.size(); i += length) {
+                candidates.add(input.prefix(i).concat(input.subWord(i + length)));
+            }
+
+            final DefaultQuery<I, Word<O>> reduced = verify(hypothesis, candidates);
+            if (reduced != null) {
+                return reduced;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Poses all candidates in a single batch and returns the shortest one that is a counterexample.
+     *
+     * @return The shortest counterexample among the candidates, or null if there is none.
+     */
+    private DefaultQuery<I, Word<O>> verify(MealyMachine<?, I, ?, O> hypothesis, List<Word<I>> candidates) {
+        final List<DefaultQuery<I, Word<O>>> queries = new ArrayList<>();
+        candidates.stream()
+                .filter(candidate -> !candidate.isEmpty())
+                .distinct()
+                .forEach(candidate -> queries.add(new DefaultQuery<>(candidate)));
+
+        if (queries.isEmpty()) {
+            return null;
+        }
+
+        oracle.processQueries(queries);
+
+        return queries.stream()
+                .filter(query -> !Objects.equals(query.getOutput(), hypothesis.computeOutput(query.getInput())))
+                .map(query -> trim(hypothesis, query))
+                .min(Comparator.comparingInt(query -> query.getInput().size()))
+                .orElse(null);
+    }
+
+    /** @return The states of the hypothesis that are visited by the word, including the initial state. */
+    private static <S, I> List<S> getStates(MealyMachine<S, I, ?, ?> hypothesis, Word<I> input) {
+        final List<S> states = new ArrayList<>(input.size() + 1);
+        S state = hypothesis.getInitialState();
+        states.add(state);
+        for (final I symbol : input) {
+            state = hypothesis.getSuccessor(state, symbol);
+            states.add(state);
+        }
+        return states;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scheduler that decides when a learning experiment is started.
+ * <p>
+ * Experiments are queued by their priority and the time they have been submitted. An experiment is only started if
+ * the global and the per user limit of concurrent experiments as well as the limit of open browser instances permit
+ * it. If no experiment is running, the next one is always started, even if it would open more browsers than allowed.
+ */
+@Service
+public class ExperimentScheduler {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /** The priority of an experiment in the queue. */
+    public enum Priority {
+
+        /** Experiments that can wait. */
+        LOW,
+
+        /** The default priority. */
+        NORMAL,
+
+        /** Experiments that should be started before all others. */
+        HIGH
+    }
+
+    /** An experiment that is either queued or running. */
+    private static class Experiment {
+
+        /** The id of the project the experiment runs in. */
+        private final Long projectId;
+
+        /** The id of the user who started the experiment. */
+        private final Long userId;
+
+        /** The priority of the experiment. */
+        private final Priority priority;
+
+        /** The number of browser instances the experiment opens. */
+        private final int browserInstances;
+
+        /** The sequence number that keeps the submission order for experiments with the same priority. */
+        private final long sequence;
+
+        /** The experiment itself. */
+        private final Runnable runnable;
+
+        /** The time in ms the experiment has been started. */
+        private long startTime;
+
+        Experiment(Long projectId, Long userId, Priority priority, int browserInstances, long sequence,
+                   Runnable runnable) {
+            this.projectId = projectId;
+            this.userId = userId;
+            this.priority = priority;
+            this.browserInstances = browserInstances;
+            this.sequence = sequence;
+            this.runnable = runnable;
+        }
+    }
+
+    /** The order of the queue: higher priorities first, then first come first serve. */
+    private static final Comparator<Experiment> QUEUE_ORDER =
+            Comparator.comparing((Experiment e) -> e.priority).reversed()
+                    .thenComparingLong(e -> e.sequence);
+
+    /** How many experiments may run at the same time. */
+    private final int maxConcurrentExperiments;
+
+    /** How many experiments a single user may run at the same time. */
+    private final int maxConcurrentExperimentsPerUser;
+
+    /** How many browser instances all running experiments may open. A value below 1 means unlimited. */
+    private final int maxBrowserInstances;
+
+    /** The executor service will take care of creating the actual OS threads. */
+    private final ExecutorService executorService;
+
+    /** The number of the last thread that has been created for an experiment. */
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    /** The experiments that wait to be started, ordered by {@link #QUEUE_ORDER}. */
+    private final List<Experiment> queue;
+
+    /** The experiments that are running at the moment. */
+    private final List<Experiment> running;
+
+    /** The number of experiments that have been submitted. */
+    private long submitted;
+
+    /** The number of experiments that have finished. */
+    private long finished;
+
+    /** The average duration of the finished experiments in ms. */
+    private long averageDuration;
+
+    /**
+     * Constructor.
+     *
+     * @param maxConcurrentExperiments        {@link #maxConcurrentExperiments}.
+     * @param maxConcurrentExperimentsPerUser {@link #maxConcurrentExperimentsPerUser}.
+     * @param maxBrowserInstances             {@link #maxBrowserInstances}.
+     */
+    @Inject
+    public ExperimentScheduler(@Value("${alex.learner.maxConcurrentExperiments:2}") int maxConcurrentExperiments,
+                               @Value("${alex.learner.maxConcurrentExperimentsPerUser:2}")
+                                       int maxConcurrentExperimentsPerUser,
+                               @Value("${alex.learner.maxBrowserInstances:0}") int maxBrowserInstances) {
+        if (maxConcurrentExperiments < 1 || maxConcurrentExperimentsPerUser < 1) {
+            throw new IllegalArgumentException("At least one experiment has to be able to run.");
+        }
+
+        this.maxConcurrentExperiments = maxConcurrentExperiments;
+        this.maxConcurrentExperimentsPerUser = maxConcurrentExperimentsPerUser;
+        this.maxBrowserInstances = maxBrowserInstances;
+        this.executorService = Executors.newCachedThreadPool(r -> {
+            final Thread thread = new Thread(r, "experiment-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.queue = new ArrayList<>();
+        this.running = new ArrayList<>();
+    }
+
+    /**
+     * Put an experiment into the queue and start it as soon as possible.
+     *
+     * @param projectId        The id of the project the experiment runs in.
+     * @param userId           The id of the user who started the experiment.
+     * @param priority         The priority of the experiment.
+     * @param browserInstances The number of browser instances the experiment opens.
+     * @param experiment       The experiment to execute.
+     */
+    public synchronized void submit(Long projectId, Long userId, Priority priority, int browserInstances,
+                                    Runnable experiment) {
+        final Experiment e = new Experiment(projectId, userId, priority == null ? Priority.NORMAL : priority,
+                browserInstances, submitted++, experiment);
+        queue.add(e);
+        queue.sort(QUEUE_ORDER);
+        schedule();
+
+        if (queue.contains(e)) {
+            LOGGER.info("Queued the experiment in project {} at position {}.", projectId, queue.indexOf(e) + 1);
+        }
+    }
+
+    /**
+     * Removes a queued experiment of a project.
+     *
+     * @param projectId The id of the project.
+     * @return If an experiment has been removed from the queue.
+     */
+    public synchronized boolean cancel(Long projectId) {
+        return queue.removeIf(e -> e.projectId.equals(projectId));
+    }
+
+    /**
+     * Get the position of the experiment of a project in the queue.
+     *
+     * @param projectId The id of the project.
+     * @return The zero based position in the queue or -1 if there is no queued experiment in the project.
+     */
+    public synchronized int getQueuePosition(Long projectId) {
+        for (int i = 0; i < queue.size(); i++) {
+            if (queue.get(i).projectId.equals(projectId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Estimate how long the queued experiment of a project has to wait until it is started. The estimation is based
+     * on the average duration of the experiments that have already finished.
+     *
+     * @param projectId The id of the project.
+     * @return The estimated waiting time in ms or null, if it cannot be estimated.
+     */
+    public synchronized Long getEstimatedWaitingTime(Long projectId) {
+        final int position = getQueuePosition(projectId);
+        if (position == -1 || finished == 0) {
+            return null;
+        }
+
+        final long now = System.currentTimeMillis();
+        final long longestRunning = running.stream().mapToLong(e -> now - e.startTime).max().orElse(0L);
+        final long nextSlot = Math.max(0L, averageDuration - longestRunning);
+
+        return nextSlot + (position / maxConcurrentExperiments) * averageDuration;
+    }
+
+    /** @return The number of experiments that wait to be started. */
+    public synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    /** @return The number of experiments that are running at the moment. */
+    public synchronized int getRunningSize() {
+        return running.size();
+    }
+
+    /** @return The number of browser instances the running experiments open. */
+    public synchronized int getBrowserInstancesInUse() {
+        return running.stream().mapToInt(e -> e.browserInstances).sum();
+    }
+
+    /** Shuts down the executor service gracefully. */
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    /** Starts all queued experiments that can be admitted. */
+    private void schedule() {
+        final List<Experiment> admitted = new ArrayList<>();
+        for (final Experiment e : queue) {
+            if (canStart(e)) {
+                admitted.add(e);
+                running.add(e);
+            }
+        }
+        queue.removeAll(admitted);
+        admitted.forEach(this::start);
+    }
+
+    private boolean canStart(Experiment experiment) {
+        if (running.isEmpty()) {
+            return true;
+        } else if (running.size() >= maxConcurrentExperiments) {
+            return false;
+        }
+
+        final long runningOfUser = running.stream()
+                .filter(e -> Objects.equals(e.userId, experiment.userId))
+                .count();
+        if (runningOfUser >= maxConcurrentExperimentsPerUser) {
+            return false;
+        }
+
+        if (maxBrowserInstances > 0) {
+            return getBrowserInstancesInUse() + experiment.browserInstances <= maxBrowserInstances;
+        }
+
+        return true;
+    }
+
+    private void start(Experiment experiment) {
+        experiment.startTime = System.currentTimeMillis();
+        LOGGER.info("Starting the experiment in project {}.", experiment.projectId);
+
+        executorService.submit(() -> {
+            try {
+                experiment.runnable.run();
+            } finally {
+                onFinished(experiment);
+            }
+        });
+    }
+
+    private synchronized void onFinished(Experiment experiment) {
+        running.remove(experiment);
+
+        final long duration = System.currentTimeMillis() - experiment.startTime;
+        averageDuration = (averageDuration * finished + duration) / (finished + 1);
+        finished++;
+
+        schedule();
+    }
+}
@@ -25,6 +25,7 @@ import de.learnlib.alex.data.entities.ProjectUrl;
 import de.learnlib.alex.data.entities.Symbol;
 import de.learnlib.alex.data.repositories.ProjectUrlRepository;
 import de.learnlib.alex.learning.dao.LearnerResultDAO;
+import de.learnlib.alex.learning.entities.AbstractLearnerConfiguration;
 import de.learnlib.alex.learning.entities.LearnerResult;
 import de.learnlib.alex.learning.entities.LearnerResumeConfiguration;
 import de.learnlib.alex.learning.entities.LearnerStartConfiguration;
@@ -37,10 +38,19 @@ import de.learnlib.alex.learning.entities.learnlibproxies.DefaultQueryProxy;
 import de.learnlib.alex.learning.entities.learnlibproxies.eqproxies.SampleEQOracleProxy;
 import de.learnlib.alex.learning.entities.webdrivers.AbstractWebDriverConfig;
 import de.learnlib.alex.learning.exceptions.LearnerException;
+import de.learnlib.alex.learning.services.cache.PersistentQueryCache;
+import de.learnlib.alex.learning.services.cache.QueryCacheService;
 import de.learnlib.alex.learning.services.connectors.ConnectorContextHandler;
 import de.learnlib.alex.learning.services.connectors.ConnectorContextHandlerFactory;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
+import de.learnlib.alex.learning.services.logging.LearnerLogContext;
+import de.learnlib.alex.learning.services.progress.LearnerProgressService;
+import de.learnlib.alex.learning.services.replay.ReplayService;
+import de.learnlib.alex.learning.services.trace.QueryTraceService;
+import de.learnlib.alex.learning.services.trace.QueryTraceWriter;
 import de.learnlib.alex.webhooks.services.WebhookService;
+import de.learnlib.api.SUL;
 import net.automatalib.automata.transout.impl.compact.CompactMealy;
 import net.automatalib.automata.transout.impl.compact.CompactMealyTransition;
 import net.automatalib.util.automata.Automata;
@@ -48,23 +58,21 @@ import net.automatalib.words.Alphabet;
 import net.automatalib.words.Word;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
-import org.apache.logging.log4j.ThreadContext;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Basic class to control and monitor a learn process.
@@ -74,13 +82,8 @@ import java.util.stream.Collectors;
 @Scope("singleton")
 public class Learner {
 
-    /** How many concurrent threads the system can handle. */
-    private static final int MAX_CONCURRENT_THREADS = 2;
-
     private static final Logger LOGGER = LogManager.getLogger();
 
-    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
-
     /** Indicator for in which phase the learner currently is. */
     public enum LearnerPhase {
 
@@ -111,19 +114,35 @@ public class Learner {
     @Inject
     private ProjectUrlRepository projectUrlRepository;
 
+    /** The service that manages the persistent query caches. */
+    @Inject
+    private QueryCacheService queryCacheService;
+
+    /** The service that manages the query traces of the results. */
+    @Inject
+    private QueryTraceService queryTraceService;
+
+    /** The service that creates the systems under learning that replay previous results. */
+    @Inject
+    private ReplayService replayService;
+
+    /** The service that pushes the progress of the experiments to observing clients. */
+    @Inject
+    private LearnerProgressService progressService;
+
+    /** The scheduler that decides when the learner threads are executed. */
+    @Inject
+    private ExperimentScheduler experimentScheduler;
+
     /** The last thread of an user, if one exists. */
     private final Map<Long, AbstractLearnerThread> userThreads;
 
-    /** The executor service will take care of creating and scheduling the actual OS threads. */
-    private ExecutorService executorService;
-
     /**
      * This constructor creates a new Learner
      * The SymbolDAO and LearnerResultDAO must be externally injected.
      */
     public Learner() {
         this.userThreads = new HashMap<>();
-        this.executorService = Executors.newFixedThreadPool(MAX_CONCURRENT_THREADS);
     }
 
     /**
@@ -132,22 +151,24 @@ public class Learner {
      * @param symbolDAO             The SymbolDAO to use.
      * @param learnerResultDAO      The LearnerResultDAO to use.
      * @param contextHandlerFactory The factory that will be used to create new context handler.
+     * @param experimentScheduler   The scheduler that starts the experiments with the configured limits.
      */
     public Learner(SymbolDAO symbolDAO, LearnerResultDAO learnerResultDAO,
-                   ConnectorContextHandlerFactory contextHandlerFactory) {
+                   ConnectorContextHandlerFactory contextHandlerFactory, ExperimentScheduler experimentScheduler) {
         this();
         this.symbolDAO = symbolDAO;
         this.learnerResultDAO = learnerResultDAO;
         this.contextHandlerFactory = contextHandlerFactory;
+        this.experimentScheduler = experimentScheduler;
     }
 
     /**
      * Method should be called before the Learner is 'destroyed'.
-     * It will shutdown the executor service gracefully.
+     * It will shutdown the scheduler gracefully.
      */
     @PreDestroy
     public void destroy() {
-        executorService.shutdown();
+        experimentScheduler.shutdown();
     }
 
     /**
@@ -171,14 +192,24 @@ public class Learner {
         final List<ProjectUrl> urls = projectUrlRepository.findAll(configuration.getUrlIds());
 
         final LearnerResult result = createLearnerResult(user, project, configuration);
+        final SUL<String, String> replaySUL = createReplaySUL(user, project, result, Collections.emptyList());
 
         final ConnectorContextHandler contextHandler = contextHandlerFactory.createContext(user, project, urls,
-                configuration.getDriverConfig());
+                configuration.getDriverConfig(), configuration.getInstancesPerUrl(),
+                getAllSymbols(result, Collections.emptyList()));
         contextHandler.setResetSymbol(result.getResetSymbol());
+        contextHandler.setLogContext(createLogContext(user, configuration));
+        if (replaySUL != null) {
+            contextHandler.setUsesBrowser(false);
+        }
 
         final AbstractLearnerThread learnThread = new StartingLearnerThread(user, learnerResultDAO, webhookService,
-                                                                            contextHandler, result, configuration);
-        startThread(project.getId(), learnThread);
+                progressService, contextHandler, result, configuration, openQueryCache(project, result), replaySUL);
+        if (configuration.isRecordQueryTraces() && queryTraceService != null) {
+            // the number of the result is only known once it has been persisted by the thread
+            learnThread.setQueryTrace(queryTraceService, new QueryTraceWriter());
+        }
+        startThread(user, project.getId(), learnThread, configuration.getPriority());
     }
 
     /**
@@ -217,13 +248,32 @@ public class Learner {
         final List<ProjectUrl> urls = projectUrlRepository.findAll(configuration.getUrlIds());
         result.setUrls(urls);
 
+        final SUL<String, String> replaySUL = createReplaySUL(user, project, result, configuration.getSymbolsToAdd());
+
         final ConnectorContextHandler contextHandler = contextHandlerFactory.createContext(user, project, urls,
-                result.getDriverConfig());
+                result.getDriverConfig(), configuration.getInstancesPerUrl(),
+                getAllSymbols(result, configuration.getSymbolsToAdd()));
         contextHandler.setResetSymbol(result.getResetSymbol());
+        contextHandler.setLogContext(createLogContext(user, configuration));
+        if (replaySUL != null) {
+            contextHandler.setUsesBrowser(false);
+        }
 
         final AbstractLearnerThread learnThread = new ResumingLearnerThread(user, learnerResultDAO, webhookService,
-                                                                            contextHandler, result, configuration);
-        startThread(project.getId(), learnThread);
+                progressService, contextHandler, result, configuration, openQueryCache(project, result), replaySUL);
+        if (configuration.isRecordQueryTraces() && queryTraceService != null) {
+            try {
+                learnThread.setQueryTrace(queryTraceService,
+                        queryTraceService.open(project.getId(), result.getTestNo()));
+            } catch (IOException e) {
+                LearnerLog.warn("Could not open the query trace of the result {}.", result.getTestNo(), e);
+            }
+        }
+        startThread(user, project.getId(), learnThread, configuration.getPriority());
+    }
+
+    private LearnerLogContext createLogContext(User user, AbstractLearnerConfiguration configuration) {
+        return new LearnerLogContext(user.getId(), configuration.getLogLevel(), configuration.getMaxLogBodyLength());
     }
 
     private LearnerResult createLearnerResult(User user, Project project, LearnerStartConfiguration configuration)
@@ -255,6 +305,7 @@ public class Learner {
         learnerResult.setAlgorithm(configuration.getAlgorithm());
         learnerResult.setComment(configuration.getComment());
         learnerResult.setUseMQCache(configuration.isUseMQCache());
+        learnerResult.setReplayConfig(configuration.getReplayConfig());
 
         final List<ProjectUrl> urls = projectUrlRepository.findAll(configuration.getUrlIds());
         learnerResult.setUrls(urls);
@@ -263,14 +314,76 @@ public class Learner {
     }
 
     /**
-     * Starts the thread and updates the thread maps.
+     * Creates the system that answers the queries of an experiment in-process, if the experiment replays a previous
+     * result.
      *
-     * @param projectId The id of the project.
+     * @param user              The user who runs the experiment.
+     * @param project           The project the experiment runs in.
+     * @param result            The result of the experiment.
+     * @param additionalSymbols The symbols that are added to the alphabet of the result.
+     * @return The system, or null if the queries are executed on the target.
+     * @throws NotFoundException If the replayed result could not be found.
+     */
+    private SUL<String, String> createReplaySUL(User user, Project project, LearnerResult result,
+                                                List<Symbol> additionalSymbols) throws NotFoundException {
+        if (result.getReplayConfig() == null) {
+            return null;
+        }
+
+        final List<String> alphabet = Stream.concat(result.getSymbols().stream(), additionalSymbols.stream())
+                .map(Symbol::getName)
+                .collect(Collectors.toList());
+        return replayService.createSUL(user, project.getId(), result.getReplayConfig(), alphabet);
+    }
+
+    /**
+     * Opens the persistent query cache for an experiment.
+     *
+     * @param project The project the experiment runs in.
+     * @param result  The result of the experiment.
+     * @return The cache, or null if queries should not be cached or the cache could not be opened.
+     */
+    private PersistentQueryCache openQueryCache(Project project, LearnerResult result) {
+        // the answers of a replay must not be mixed with those of the target
+        if (!result.isUseMQCache() || result.getReplayConfig() != null || queryCacheService == null) {
+            return null;
+        }
+
+        try {
+            return queryCacheService.open(project.getId(), result.getResetSymbol());
+        } catch (IOException e) {
+            LearnerLog.warn("Could not open the query cache of the project {}.", project.getId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Submits the thread to the scheduler and updates the thread maps.
+     *
+     * @param user        The user who starts the thread.
+     * @param projectId   The id of the project.
      * @param learnThread The thread to start.
+     * @param priority    The priority of the experiment in the queue.
      */
-    private void startThread(Long projectId, AbstractLearnerThread learnThread) {
-        executorService.submit(learnThread);
+    private void startThread(User user, Long projectId, AbstractLearnerThread learnThread,
+                             ExperimentScheduler.Priority priority) {
         userThreads.put(projectId, learnThread);
+        experimentScheduler.submit(projectId, user.getId(), priority,
+                learnThread.context.getMaxBrowserInstances(), learnThread);
+    }
+
+    /**
+     * Get all symbols an experiment may execute, so that the connectors they need can be created.
+     *
+     * @param result            The result of the experiment.
+     * @param additionalSymbols The symbols that are added to the alphabet when the experiment is resumed.
+     * @return The symbols of the alphabet, the added symbols and the reset symbol.
+     */
+    private List<Symbol> getAllSymbols(LearnerResult result, List<Symbol> additionalSymbols) {
+        final List<Symbol> symbols = new ArrayList<>(result.getSymbols());
+        symbols.addAll(additionalSymbols);
+        symbols.add(result.getResetSymbol());
+        return symbols;
     }
 
     /**
@@ -330,10 +443,19 @@ public class Learner {
 
     /**
      * Ends the learning process after the current step.
+     * If the experiment has not been started yet, it is removed from the queue.
      *
      * @param projectId The id of the project that is learned.
      */
     public void stop(Long projectId) {
+        if (experimentScheduler.cancel(projectId)) {
+            final AbstractLearnerThread queuedThread = userThreads.remove(projectId);
+            if (queuedThread != null) {
+                queuedThread.cancel();
+            }
+            return;
+        }
+
         final AbstractLearnerThread learnerThread = userThreads.get(projectId);
 
         if (learnerThread != null) {
@@ -364,11 +486,21 @@ public class Learner {
         boolean active = isActive(projectId);
         if (!active) {
             return new LearnerStatus();
+        }
+
+        final int queuePosition = experimentScheduler.getQueuePosition(projectId);
+        if (queuePosition > -1) {
+            return new LearnerStatus(getResult(projectId), queuePosition,
+                    experimentScheduler.getEstimatedWaitingTime(projectId));
         } else {
             AbstractLearnerThread thread = userThreads.get(projectId);
             LearnerPhase phase = thread != null ? thread.getLearnerPhase() : null;
             List<DefaultQueryProxy> queries = thread != null ? thread.getCurrentQueries() : null;
-            return new LearnerStatus(getResult(projectId), phase, queries);
+            if (thread == null) {
+                return new LearnerStatus(getResult(projectId), phase, queries);
+            }
+            return new LearnerStatus(getResult(projectId), phase, queries, thread.context.getConcurrencyLimit(),
+                    thread.context.getMaxConcurrentQueries());
         }
     }
 
@@ -401,11 +533,8 @@ public class Learner {
     public List<ExecuteResult> readOutputs(User user, Project project, Symbol resetSymbol, List<Symbol> symbols,
                                     AbstractWebDriverConfig driverConfig)
             throws LearnerException {
-        ThreadContext.put("userId", String.valueOf(user.getId()));
-        ThreadContext.put("testNo", "readOutputs");
-        ThreadContext.put("indent", "");
         LOGGER.traceEntry();
-        LOGGER.info(LEARNER_MARKER, "Learner.readOutputs({}, {}, {}, {}, {})", user, project, resetSymbol, symbols, driverConfig);
+        LearnerLog.info("Learner.readOutputs({}, {}, {}, {}, {})", user, project, resetSymbol, symbols, driverConfig);
 
         SymbolSet symbolSet = new SymbolSet(resetSymbol, symbols);
         ReadOutputConfig config = new ReadOutputConfig(symbolSet, driverConfig);
@@ -416,9 +545,17 @@ public class Learner {
     public List<ExecuteResult> readOutputs(User user, Project project, ReadOutputConfig readOutputConfig) {
         ConnectorContextHandler ctxHandler = contextHandlerFactory.createContext(user, project, readOutputConfig.getDriverConfig());
         ctxHandler.setResetSymbol(new Symbol());
-        ConnectorManager connectors = ctxHandler.createContext();
 
-        return readOutputs(readOutputConfig.getSymbols().getAllSymbols(), connectors);
+        final LearnerLogContext logContext = new LearnerLogContext(user.getId());
+        logContext.setTestNo("readOutputs");
+        ctxHandler.setLogContext(logContext);
+
+        try {
+            ConnectorManager connectors = ctxHandler.createContext();
+            return readOutputs(readOutputConfig.getSymbols().getAllSymbols(), connectors);
+        } finally {
+            LearnerLog.unbind();
+        }
     }
 
     private List<ExecuteResult> readOutputs(List<Symbol> symbols, ConnectorManager connectors) {
@@ -16,19 +16,39 @@
 
 package de.learnlib.alex.learning.services;
 
+import de.learnlib.alex.learning.exceptions.LearnerException;
+import de.learnlib.alex.learning.services.trace.QueryTraceWriter;
 import de.learnlib.api.SUL;
+import de.learnlib.api.exception.SULException;
 import de.learnlib.api.oracle.MembershipOracle;
 import de.learnlib.api.query.Query;
 import net.automatalib.words.Word;
 import net.automatalib.words.WordBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
 
 /**
  * Oracle that allows batched execution of membership queries to multiple suls.
+ * <p>
+ * The oracle owns a fixed pool of worker threads, one for each SUL instance, that lives as long as the learning
+ * process. Call {@link #shutdown()} once the oracle is not needed anymore.
+ * <p>
+ * Batches may be processed concurrently, e.g. by the workers of a parallel equivalence oracle.
  *
  * @param <I> Input symbol type.
  * @param <O> Output symbol type.
@@ -36,27 +56,47 @@ import java.util.concurrent.Executors;
 @ParametersAreNonnullByDefault
 public class MultiSULOracle<I, O> implements MembershipOracle<I, Word<O>> {
 
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /** How many seconds to wait for running queries to finish on shutdown. */
+    private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 60;
+
     /** The sul the membership queries should be posed to. */
     private final SUL<I, O> sul;
 
+    /** The workers that pose the queries to the sul. */
+    private final ExecutorService executor;
+
+    /** The futures of all batches that are processed at the moment. */
+    private final Set<Future<?>> currentFutures;
+
     /** If the learning experiment has been interrupted by the user. */
-    private boolean isInterrupted = false;
+    private volatile boolean isInterrupted = false;
+
+    /** The trace the executed queries are recorded in, or null if they are not recorded. */
+    private volatile QueryTraceWriter queryTrace;
+
+    /** Supplies the number of the connector manager that is used by the current thread. */
+    private IntSupplier instanceSupplier;
 
     /**
      * Constructor.
      *
      * @param sul The sul the membership queries should be posed to.
+     * @param numberOfWorkers The number of queries that can be executed in parallel, i.e. the number of connector
+     *                        managers.
      */
-    public MultiSULOracle(SUL<I, O> sul) {
+    public MultiSULOracle(SUL<I, O> sul, int numberOfWorkers) {
         this.sul = sul;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, numberOfWorkers));
+        this.currentFutures = ConcurrentHashMap.newKeySet();
     }
 
     @Override
     public void processQueries(Collection<? extends Query<I, Word<O>>> queries) {
         if (queries.size() > 0) {
             if (isInterrupted) {
-                // force a null pointer exception so the learner stops
-                queries.forEach(q -> q.answer(null));
+                throw new LearnerException("The learning process has been stopped.");
             } else {
                 processQueries(sul, queries);
             }
@@ -64,44 +104,151 @@ public class MultiSULOracle<I, O> implements MembershipOracle<I, Word<O>> {
     }
 
     private void processQueries(SUL<I, O> sul, Collection<? extends Query<I, Word<O>>> queries) {
-        ExecutorService executor = Executors.newFixedThreadPool(queries.size());
-
+        final List<Future<?>> futures = new ArrayList<>(queries.size());
         for (Query<I, Word<O>> q : queries) {
-            Runnable worker = () -> {
+            futures.add(executor.submit(() -> answerQuery(sul, q)));
+        }
+        currentFutures.addAll(futures);
+
+        // the user may have stopped the learner while the queries have been submitted
+        if (isInterrupted) {
+            cancel(futures);
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (CancellationException e) {
+            throw new LearnerException("The learning process has been stopped.", e);
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new LearnerException("The learning process has been interrupted.", e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new SULException(e.getCause());
+            }
+        } finally {
+            futures.forEach(currentFutures::remove);
+        }
+    }
 
-                // forking the sul allows us to pose multiple
-                // queries in parallel to multiple suls
-                SUL<I, O> forkedSul = sul.fork();
-                forkedSul.pre();
+    private void answerQuery(SUL<I, O> sul, Query<I, Word<O>> q) {
+        final QueryTraceWriter trace = queryTrace;
+        if (trace != null) {
+            answerAndRecordQuery(sul, q, trace);
+            return;
+        }
 
-                try {
+        // forking the sul allows us to pose multiple
+        // queries in parallel to multiple suls
+        final SUL<I, O> forkedSul = sul.fork();
+        forkedSul.pre();
 
-                    // Prefix: Execute symbols, don't record output
-                    for (I sym : q.getPrefix()) {
-                        forkedSul.step(sym);
-                    }
+        try {
 
-                    // Suffix: Execute symbols, outputs constitute output word
-                    WordBuilder<O> wb = new WordBuilder<>(q.getSuffix().length());
-                    for (I sym : q.getSuffix()) {
-                        wb.add(forkedSul.step(sym));
-                    }
+            // Prefix: Execute symbols, don't record output
+            for (I sym : q.getPrefix()) {
+                forkedSul.step(sym);
+            }
 
-                    q.answer(wb.toWord());
-                } finally {
-                    forkedSul.post();
-                }
-            };
+            // Suffix: Execute symbols, outputs constitute output word
+            final WordBuilder<O> wb = new WordBuilder<>(q.getSuffix().length());
+            for (I sym : q.getSuffix()) {
+                wb.add(forkedSul.step(sym));
+            }
 
-            executor.submit(worker);
+            q.answer(wb.toWord());
+        } finally {
+            forkedSul.post();
         }
+    }
 
-        executor.shutdown();
-        while (!executor.isTerminated()) { // wait for all futures to finish
+    /** Like {@link #answerQuery(SUL, Query)}, but measures the execution of each symbol and records the query. */
+    private void answerAndRecordQuery(SUL<I, O> sul, Query<I, Word<O>> q, QueryTraceWriter trace) {
+        final Word<I> input = q.getInput();
+        final int prefixLength = q.getPrefix().length();
+        final List<O> outputs = new ArrayList<>(input.length());
+        final long[] durations = new long[input.length()];
+        final long timestamp = System.currentTimeMillis();
+        int instance = -1;
+        boolean failed = true;
+
+        final SUL<I, O> forkedSul = sul.fork();
+        forkedSul.pre();
+
+        try {
+            instance = instanceSupplier == null ? -1 : instanceSupplier.getAsInt();
+            for (int i = 0; i < input.length(); i++) {
+                final long start = System.nanoTime();
+                outputs.add(forkedSul.step(input.getSymbol(i)));
+                durations[i] = System.nanoTime() - start;
+            }
+
+            q.answer(Word.fromList(outputs.subList(prefixLength, outputs.size())));
+            failed = false;
+        } finally {
+            try {
+                forkedSul.post();
+            } finally {
+                record(trace, timestamp, instance, prefixLength, input, outputs, durations, failed);
+            }
+        }
+    }
+
+    /** Records a query and stops the recording if the trace could not be written, e.g. because the disk is full. */
+    private void record(QueryTraceWriter trace, long timestamp, int instance, int prefixLength, Word<I> input,
+                        List<O> outputs, long[] durations, boolean failed) {
+        try {
+            trace.record(timestamp, instance, prefixLength, input, outputs, durations, failed);
+        } catch (UncheckedIOException e) {
+            if (queryTrace == trace) {
+                queryTrace = null;
+                LOGGER.warn("Could not record a query, no further queries are recorded.", e);
+            }
         }
     }
 
+    /**
+     * Record the executed queries in a trace.
+     *
+     * @param queryTrace       The trace, or null if the queries should not be recorded.
+     * @param instanceSupplier Supplies the number of the connector manager that is used by the current thread.
+     */
+    public void setQueryTrace(QueryTraceWriter queryTrace, IntSupplier instanceSupplier) {
+        this.instanceSupplier = instanceSupplier;
+        this.queryTrace = queryTrace;
+    }
+
+    /**
+     * Cancels all queries that have not been started yet. Running queries are not interrupted so that the connectors
+     * are returned to the pool in a consistent state.
+     *
+     * @param futures The futures to cancel.
+     */
+    private void cancel(Collection<Future<?>> futures) {
+        futures.forEach(f -> f.cancel(false));
+    }
+
+    /** Stops the processing of the current batch and lets all subsequent batches fail. */
     public void interrupt() {
         this.isInterrupted = true;
+        cancel(currentFutures);
+    }
+
+    /**
+     * Shuts down the workers and waits until queries that are still running have finished.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
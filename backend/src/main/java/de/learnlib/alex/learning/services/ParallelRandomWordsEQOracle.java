@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services;
+
+import de.learnlib.alex.learning.exceptions.LearnerException;
+import de.learnlib.api.oracle.EquivalenceOracle;
+import de.learnlib.api.oracle.MembershipOracle;
+import de.learnlib.api.query.DefaultQuery;
+import net.automatalib.automata.transout.MealyMachine;
+import net.automatalib.words.Word;
+import net.automatalib.words.WordBuilder;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Equivalence oracle that tests random words on multiple SULs in parallel.
+ * <p>
+ * Unlike the random words oracle of the LearnLib, words are not posed in batches. Each worker continuously poses
+ * one word after another, so that all workers stop as soon as one of them has found a counterexample, the maximum
+ * amount of tests has been executed or the time limit is exceeded.
+ * <p>
+ * The workers are posing their words concurrently to the same membership oracle, which therefore has to be
+ * thread-safe. The oracle owns a pool of worker threads that is reused for every search. Call {@link #shutdown()}
+ * once the oracle is not needed anymore.
+ */
+@ParametersAreNonnullByDefault
+public class ParallelRandomWordsEQOracle
+        implements EquivalenceOracle<MealyMachine<?, String, ?, String>, String, Word<String>> {
+
+    /** The oracle the words are posed to. */
+    private final MembershipOracle<String, Word<String>> oracle;
+
+    /** The minimal length of the random generated words. */
+    private final int minLength;
+
+    /** The maximal length of the random generated words. */
+    private final int maxLength;
+
+    /** How many words should be tested at most. */
+    private final int maxNoOfTests;
+
+    /** How many ms the search may take at most. A value below 1 means unlimited. */
+    private final long timeLimit;
+
+    /** The random number generator. */
+    private final Random random;
+
+    /** The number of words that are tested in parallel. */
+    private final int numberOfWorkers;
+
+    /** The workers that pose the words to the oracle. */
+    private final ExecutorService executor;
+
+    /**
+     * Constructor.
+     *
+     * @param oracle          {@link #oracle}.
+     * @param minLength       {@link #minLength}.
+     * @param maxLength       {@link #maxLength}.
+     * @param maxNoOfTests    {@link #maxNoOfTests}.
+     * @param timeLimit       {@link #timeLimit}.
+     * @param random          {@link #random}.
+     * @param numberOfWorkers {@link #numberOfWorkers}.
+     */
+    public ParallelRandomWordsEQOracle(MembershipOracle<String, Word<String>> oracle, int minLength, int maxLength,
+                                       int maxNoOfTests, long timeLimit, Random random, int numberOfWorkers) {
+        this.oracle = oracle;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.maxNoOfTests = maxNoOfTests;
+        this.timeLimit = timeLimit;
+        this.random = random;
+        this.numberOfWorkers = Math.max(1, numberOfWorkers);
+        this.executor = Executors.newFixedThreadPool(this.numberOfWorkers);
+    }
+
+    @Nullable
+    @Override
+    public DefaultQuery<String, Word<String>> findCounterExample(MealyMachine<?, String, ?, String> hypothesis,
+                                                                Collection<? extends String> inputs) {
+        if (inputs.isEmpty()) {
+            return null;
+        }
+
+        final List<String> symbols = new ArrayList<>(inputs);
+        final long deadline = timeLimit > 0 ? System.currentTimeMillis() + timeLimit : Long.MAX_VALUE;
+        final AtomicInteger remainingTests = new AtomicInteger(maxNoOfTests);
+        final AtomicBoolean stopped = new AtomicBoolean(false);
+        final AtomicReference<DefaultQuery<String, Word<String>>> counterexample = new AtomicReference<>();
+
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < numberOfWorkers; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    while (!stopped.get() && System.currentTimeMillis() < deadline
+                            && remainingTests.getAndDecrement() > 0) {
+                        final DefaultQuery<String, Word<String>> query = new DefaultQuery<>(nextWord(symbols));
+                        oracle.processQueries(Collections.singletonList(query));
+
+                        final Word<String> hypOutput = hypothesis.computeOutput(query.getInput());
+                        if (!Objects.equals(hypOutput, query.getOutput())
+                                && counterexample.compareAndSet(null, query)) {
+                            stopped.set(true);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    stopped.set(true);
+                    throw e;
+                }
+            }));
+        }
+
+        RuntimeException failure = null;
+        try {
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // the other workers stop after their current word, which is awaited before the error is thrown
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException
+                                ? (RuntimeException) e.getCause()
+                                : new IllegalStateException(e.getCause());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            stopped.set(true);
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new LearnerException("The learning process has been interrupted.", e);
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        return counterexample.get();
+    }
+
+    /**
+     * Shuts down the workers. Words that are still being posed are tested to the end.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private Word<String> nextWord(List<String> symbols) {
+        synchronized (random) {
+            final int length = minLength + random.nextInt(maxLength - minLength + 1);
+            final WordBuilder<String> wb = new WordBuilder<>(length);
+            for (int i = 0; i < length; i++) {
+                wb.add(symbols.get(random.nextInt(symbols.size())));
+            }
+            return wb.toWord();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services;
+
+import de.learnlib.api.oracle.MembershipOracle;
+import de.learnlib.api.query.DefaultQuery;
+import de.learnlib.api.query.Query;
+import net.automatalib.words.Word;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Oracle that organizes a batch of membership queries in a prefix tree and only poses the words of the leaves to the
+ * delegate. All queries whose input word is a prefix of a leaf are answered by the execution of the leaf, so that the
+ * SUL is reset only once per root-to-leaf path.
+ *
+ * @param <I> Input symbol type.
+ * @param <O> Output symbol type.
+ */
+@ParametersAreNonnullByDefault
+public class PrefixBatchingOracle<I, O> implements MembershipOracle<I, Word<O>> {
+
+    /** A node in the prefix tree of a batch. */
+    private static final class Node<I, O> {
+
+        /** The parent node, null for the root. */
+        private final Node<I, O> parent;
+
+        /** The input symbol that leads from the parent to this node. */
+        private final I symbol;
+
+        /** The length of the word that leads to this node. */
+        private final int depth;
+
+        /** The children by their input symbols. */
+        private final Map<I, Node<I, O>> children = new LinkedHashMap<>();
+
+        /** The queries whose input word leads to this node. */
+        private final List<Query<I, Word<O>>> queries = new ArrayList<>();
+
+        /** The query that is posed to the delegate if this node is a leaf. */
+        private DefaultQuery<I, Word<O>> leafQuery;
+
+        private Node(Node<I, O> parent, I symbol) {
+            this.parent = parent;
+            this.symbol = symbol;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        /** @return The word that leads from the root to this node. */
+        private Word<I> getWord() {
+            final List<I> symbols = new ArrayList<>(Collections.nCopies(depth, null));
+            for (Node<I, O> node = this; node.parent != null; node = node.parent) {
+                symbols.set(node.depth - 1, node.symbol);
+            }
+            return Word.fromList(symbols);
+        }
+    }
+
+    /** The oracle the queries of the leaves are posed to. */
+    private final MembershipOracle<I, Word<O>> delegate;
+
+    /** The number of resets that have been saved. */
+    private final AtomicLong savedResets;
+
+    /** The number of symbol executions that have been saved. */
+    private final AtomicLong savedSymbols;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate The oracle the queries of the leaves are posed to.
+     */
+    public PrefixBatchingOracle(MembershipOracle<I, Word<O>> delegate) {
+        this.delegate = delegate;
+        this.savedResets = new AtomicLong();
+        this.savedSymbols = new AtomicLong();
+    }
+
+    @Override
+    public void processQueries(Collection<? extends Query<I, Word<O>>> queries) {
+        if (queries.isEmpty()) {
+            return;
+        }
+
+        // build the prefix tree
+        final Node<I, O> root = new Node<>(null, null);
+        long symbols = 0L;
+        for (final Query<I, Word<O>> query : queries) {
+            Node<I, O> node = root;
+            for (final I sym : query.getInput()) {
+                final Node<I, O> parent = node;
+                node = parent.children.computeIfAbsent(sym, s -> new Node<>(parent, s));
+            }
+            node.queries.add(query);
+            symbols += query.getInput().length();
+        }
+
+        // only the words of the leaves are executed
+        final List<Node<I, O>> nodes = new ArrayList<>();
+        final List<DefaultQuery<I, Word<O>>> leafQueries = new ArrayList<>();
+        final Deque<Node<I, O>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            final Node<I, O> node = stack.pop();
+            nodes.add(node);
+            if (node.children.isEmpty()) {
+                node.leafQuery = new DefaultQuery<>(node.getWord());
+                leafQueries.add(node.leafQuery);
+            } else {
+                node.children.values().forEach(stack::push);
+            }
+        }
+
+        delegate.processQueries(leafQueries);
+
+        // answer the queries of all nodes with the output of a leaf below them
+        for (final Node<I, O> node : nodes) {
+            if (!node.queries.isEmpty()) {
+                final Word<O> output = findLeaf(node).leafQuery.getOutput().prefix(node.depth);
+                for (final Query<I, Word<O>> query : node.queries) {
+                    query.answer(output.suffix(query.getSuffix().length()));
+                }
+            }
+        }
+
+        long executedSymbols = 0L;
+        for (final DefaultQuery<I, Word<O>> leafQuery : leafQueries) {
+            executedSymbols += leafQuery.getInput().length();
+        }
+        savedResets.addAndGet(queries.size() - leafQueries.size());
+        savedSymbols.addAndGet(symbols - executedSymbols);
+    }
+
+    private Node<I, O> findLeaf(Node<I, O> node) {
+        Node<I, O> leaf = node;
+        while (!leaf.children.isEmpty()) {
+            leaf = leaf.children.values().iterator().next();
+        }
+        return leaf;
+    }
+
+    /** @return The number of resets that have been saved since the last reset of the counters. */
+    public long getSavedResets() {
+        return savedResets.get();
+    }
+
+    /** @return The number of symbol executions that have been saved since the last reset of the counters. */
+    public long getSavedSymbols() {
+        return savedSymbols.get();
+    }
+
+    /** Reset the counters. */
+    public void resetCounter() {
+        savedResets.set(0L);
+        savedSymbols.set(0L);
+    }
+}
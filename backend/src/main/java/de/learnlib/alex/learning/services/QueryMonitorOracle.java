@@ -21,12 +21,14 @@ import de.learnlib.api.query.Query;
 import net.automatalib.words.Word;
 
 import javax.annotation.ParametersAreNonnullByDefault;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Oracle that allows query pre and post processing.
+ * <p>
+ * Queries may be processed concurrently, in which case the listeners are called concurrently as well.
  *
  * @param <I> Input symbol type.
  * @param <O> Output symbol type.
@@ -50,10 +52,10 @@ public class QueryMonitorOracle<I, O> implements MembershipOracle<I, Word<O>> {
     private final MembershipOracle<I, Word<O>> delegate;
 
     /** The pre process listeners. */
-    private List<QueryProcessingListener<I, O>> preProcessListeners;
+    private final List<QueryProcessingListener<I, O>> preProcessListeners;
 
-    /** The pre process listeners. */
-    private List<QueryProcessingListener<I, O>> postProcessListeners;
+    /** The post process listeners. */
+    private final List<QueryProcessingListener<I, O>> postProcessListeners;
 
     /**
      * Constructor.
@@ -62,8 +64,8 @@ public class QueryMonitorOracle<I, O> implements MembershipOracle<I, Word<O>> {
      */
     public QueryMonitorOracle(MembershipOracle<I, Word<O>> delegate) {
         this.delegate = delegate;
-        this.preProcessListeners = new ArrayList<>();
-        this.postProcessListeners = new ArrayList<>();
+        this.preProcessListeners = new CopyOnWriteArrayList<>();
+        this.postProcessListeners = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -81,7 +83,7 @@ public class QueryMonitorOracle<I, O> implements MembershipOracle<I, Word<O>> {
      * @param listener The listener.
      */
     public void addPostProcessingListener(QueryProcessingListener<I, O> listener) {
-        this.preProcessListeners.add(listener);
+        this.postProcessListeners.add(listener);
     }
 
     @Override
@@ -19,13 +19,18 @@ package de.learnlib.alex.learning.services;
 import de.learnlib.alex.auth.entities.User;
 import de.learnlib.alex.data.entities.Symbol;
 import de.learnlib.alex.learning.dao.LearnerResultDAO;
+import de.learnlib.alex.learning.entities.LearnerProgressEvent;
 import de.learnlib.alex.learning.entities.LearnerResult;
 import de.learnlib.alex.learning.entities.LearnerResultStep;
 import de.learnlib.alex.learning.entities.LearnerResumeConfiguration;
 import de.learnlib.alex.learning.entities.Statistics;
 import de.learnlib.alex.learning.entities.learnlibproxies.CompactMealyMachineProxy;
+import de.learnlib.alex.learning.services.cache.PersistentQueryCache;
 import de.learnlib.alex.learning.services.connectors.ConnectorContextHandler;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
+import de.learnlib.alex.learning.services.progress.LearnerProgressService;
 import de.learnlib.alex.webhooks.services.WebhookService;
+import de.learnlib.api.SUL;
 import de.learnlib.api.algorithm.feature.SupportsGrowingAlphabet;
 import de.learnlib.filter.cache.mealy.MealyCacheOracle;
 import net.automatalib.words.Alphabet;
@@ -43,46 +48,64 @@ public class ResumingLearnerThread extends AbstractLearnerThread<LearnerResumeCo
      *         {@link AbstractLearnerThread#learnerResultDAO}.
      * @param webhookService
      *         {@link AbstractLearnerThread#webhookService}.
+     * @param progressService
+     *         {@link AbstractLearnerThread#progressService}.
      * @param context
      *         The context to use.
      * @param result
      *         {@link AbstractLearnerThread#result}.
      * @param configuration
      *         The configuration to use.
+     * @param queryCache
+     *         The persistent query cache of the project, or null.
+     * @param replaySUL
+     *         The system that answers the queries in-process, or null.
      */
     public ResumingLearnerThread(User user, LearnerResultDAO learnerResultDAO, WebhookService webhookService,
-                                 ConnectorContextHandler context, LearnerResult result,
-                                 LearnerResumeConfiguration configuration) {
-        super(user, learnerResultDAO, webhookService, context, result, configuration);
+                                 LearnerProgressService progressService, ConnectorContextHandler context,
+                                 LearnerResult result, LearnerResumeConfiguration configuration,
+                                 PersistentQueryCache queryCache, SUL<String, String> replaySUL) {
+        super(user, learnerResultDAO, webhookService, progressService, context, result, configuration, queryCache,
+                replaySUL);
     }
 
     @Override
     public void run() {
         LOGGER.traceEntry();
-        LOGGER.info(LEARNER_MARKER, "Resuming a learner thread.");
+        bindLogContext();
+        LearnerLog.info("Resuming a learner thread.");
 
         try {
             resumeLearning();
         } catch (Exception e) {
-            LOGGER.warn(LEARNER_MARKER, "Something in the LearnerThread while resuming went wrong:", e);
+            LearnerLog.warn("Something in the LearnerThread while resuming went wrong:", e);
             e.printStackTrace();
             updateOnError(e);
         } finally {
+            multiSULOracle.shutdown();
+            persistQueryCache(true);
+            closeQueryTrace();
             context.post();
             finished = true;
-            LOGGER.info(LEARNER_MARKER, "The learner finished resuming the experiment.");
+            publishProgress(LearnerProgressEvent.finished(result));
+            LearnerLog.info("The learner finished resuming the experiment.");
+            LearnerLog.unbind();
             LOGGER.traceExit();
         }
     }
 
     private void resumeLearning() throws Exception {
         LOGGER.traceEntry();
+        setLearnerPhase(Learner.LearnerPhase.LEARNING);
         result.getAlgorithm().resume(learner, result.getSteps().get(configuration.getStepNo() - 1).getState());
 
         if (configuration.getSymbolsToAdd().size() > 0 && learner instanceof SupportsGrowingAlphabet) {
             final SupportsGrowingAlphabet<String> growingAlphabetLearner = (SupportsGrowingAlphabet) learner;
             for (final Symbol symbol : configuration.getSymbolsToAdd()) {
                 symbolMapper.addSymbol(symbol);
+                if (persistentCacheOracle != null) {
+                    persistentCacheOracle.addSymbol(symbol);
+                }
 
                 // if the cache is not reinitialized with the new alphabet, we will get cache errors later
                 if (result.isUseMQCache()) {
@@ -91,7 +114,7 @@ public class ResumingLearnerThread extends AbstractLearnerThread<LearnerResumeCo
                     final Alphabet<String> alphabet = new SimpleAlphabet<>(abstractAlphabet);
                     alphabet.add(symbol.getName());
 
-                    this.mqOracle.setDelegate(MealyCacheOracle.createDAGCacheOracle(alphabet, monitorOracle));
+                    this.mqOracle.setDelegate(MealyCacheOracle.createDAGCacheOracle(alphabet, getCachedOracle()));
                 }
 
                 // measure how much time and membership queries it takes to add the symbol
@@ -103,7 +126,11 @@ public class ResumingLearnerThread extends AbstractLearnerThread<LearnerResumeCo
                 statistics.getDuration().setLearner(end - start);
                 statistics.getMqsUsed().setLearner(sul.getResetCount());
                 statistics.getSymbolsUsed().setLearner(sul.getSymbolUsedCount());
+                statistics.getMqsSaved().setLearner(batchingOracle.getSavedResets());
+                statistics.getSymbolsSaved().setLearner(batchingOracle.getSavedSymbols());
+                addExecutionMetrics(statistics);
                 sul.resetCounter();
+                batchingOracle.resetCounter();
 
                 final LearnerResultStep step = learnerResultDAO.createStep(result);
 
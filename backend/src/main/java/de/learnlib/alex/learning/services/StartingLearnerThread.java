@@ -18,11 +18,16 @@ package de.learnlib.alex.learning.services;
 
 import de.learnlib.alex.auth.entities.User;
 import de.learnlib.alex.learning.dao.LearnerResultDAO;
+import de.learnlib.alex.learning.entities.LearnerProgressEvent;
 import de.learnlib.alex.learning.entities.LearnerResult;
 import de.learnlib.alex.learning.entities.LearnerResultStep;
 import de.learnlib.alex.learning.entities.LearnerStartConfiguration;
+import de.learnlib.alex.learning.services.cache.PersistentQueryCache;
 import de.learnlib.alex.learning.services.connectors.ConnectorContextHandler;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
+import de.learnlib.alex.learning.services.progress.LearnerProgressService;
 import de.learnlib.alex.webhooks.services.WebhookService;
+import de.learnlib.api.SUL;
 
 /** The learner thread that is used for starting a new experiment. */
 public class StartingLearnerThread extends AbstractLearnerThread<LearnerStartConfiguration> {
@@ -33,31 +38,42 @@ public class StartingLearnerThread extends AbstractLearnerThread<LearnerStartCon
      * @param user             The current user.
      * @param learnerResultDAO {@link AbstractLearnerThread#learnerResultDAO}.
      * @param webhookService   {@link AbstractLearnerThread#webhookService}.
+     * @param progressService  {@link AbstractLearnerThread#progressService}.
      * @param context          The context to use.
      * @param result           {@link AbstractLearnerThread#result}.
      * @param configuration    The configuration to use.
+     * @param queryCache       The persistent query cache of the project, or null.
+     * @param replaySUL        The system that answers the queries in-process, or null.
      */
     public StartingLearnerThread(User user, LearnerResultDAO learnerResultDAO, WebhookService webhookService,
-                                 ConnectorContextHandler context, LearnerResult result,
-                                 LearnerStartConfiguration configuration) {
-        super(user, learnerResultDAO, webhookService, context, result, configuration);
+                                 LearnerProgressService progressService, ConnectorContextHandler context,
+                                 LearnerResult result, LearnerStartConfiguration configuration,
+                                 PersistentQueryCache queryCache, SUL<String, String> replaySUL) {
+        super(user, learnerResultDAO, webhookService, progressService, context, result, configuration, queryCache,
+                replaySUL);
     }
 
     @Override
     public void run() {
         LOGGER.traceEntry();
-        LOGGER.info(LEARNER_MARKER, "Started a new learner thread.");
+        bindLogContext();
+        LearnerLog.info("Started a new learner thread.");
 
         try {
             startLearning();
         } catch (Exception e) {
-            LOGGER.warn(LEARNER_MARKER, "Something in the LearnerThread went wrong:", e);
+            LearnerLog.warn("Something in the LearnerThread went wrong:", e);
             e.printStackTrace();
             updateOnError(e);
         } finally {
+            multiSULOracle.shutdown();
+            persistQueryCache(true);
+            closeQueryTrace();
             context.post();
             finished = true;
-            LOGGER.info(LEARNER_MARKER, "The learner thread has finished.");
+            publishProgress(LearnerProgressEvent.finished(result));
+            LearnerLog.info("The learner thread has finished.");
+            LearnerLog.unbind();
             LOGGER.traceExit();
         }
     }
@@ -69,7 +85,7 @@ public class StartingLearnerThread extends AbstractLearnerThread<LearnerStartCon
         long start, end;
 
         // start learning
-        learnerPhase = Learner.LearnerPhase.LEARNING;
+        setLearnerPhase(Learner.LearnerPhase.LEARNING);
         start = System.nanoTime();
         learner.startLearning();
         end = System.nanoTime();
@@ -77,6 +93,8 @@ public class StartingLearnerThread extends AbstractLearnerThread<LearnerStartCon
         // persist the learner result for the first time.
         // also persist the first step.
         learnerResultDAO.create(user, result);
+        bindLogContext();
+        openQueryTraceFile();
         LearnerResultStep currentStep = createStep(start, end, 0, null);
 
         doLearn(currentStep);
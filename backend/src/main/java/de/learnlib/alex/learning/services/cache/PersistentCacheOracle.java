@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.cache;
+
+import de.learnlib.alex.data.entities.Symbol;
+import de.learnlib.api.oracle.MembershipOracle;
+import de.learnlib.api.query.DefaultQuery;
+import de.learnlib.api.query.Query;
+import net.automatalib.words.Word;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Membership oracle that answers queries from a {@link PersistentQueryCache} and adds the answers of all other
+ * queries to it.
+ * <p>
+ * The inputs are stored under a fingerprint of the symbol, so that cached outputs of symbols whose actions have been
+ * modified are not used anymore.
+ */
+@ParametersAreNonnullByDefault
+public class PersistentCacheOracle implements MembershipOracle<String, Word<String>> {
+
+    /** The persistent cache. */
+    private final PersistentQueryCache cache;
+
+    /** The oracle the queries are delegated to if they are not cached. */
+    private final MembershipOracle<String, Word<String>> delegate;
+
+    /** The keys in the cache by the names of the symbols. */
+    private final Map<String, String> keys;
+
+    /** The number of queries that have been answered by the cache. */
+    private final AtomicLong hits;
+
+    /**
+     * Constructor.
+     *
+     * @param cache    The persistent cache.
+     * @param delegate The oracle the queries are delegated to if they are not cached.
+     * @param symbols  The symbols of the alphabet.
+     */
+    public PersistentCacheOracle(PersistentQueryCache cache, MembershipOracle<String, Word<String>> delegate,
+                                 List<Symbol> symbols) {
+        this.cache = cache;
+        this.delegate = delegate;
+        this.keys = new ConcurrentHashMap<>();
+        this.hits = new AtomicLong();
+        symbols.forEach(this::addSymbol);
+    }
+
+    /**
+     * Add a symbol to the alphabet.
+     *
+     * @param symbol The new symbol.
+     */
+    public void addSymbol(Symbol symbol) {
+        keys.put(symbol.getName(), symbol.getName() + "@" + QueryCacheService.fingerprint(symbol));
+    }
+
+    @Override
+    public void processQueries(Collection<? extends Query<String, Word<String>>> queries) {
+        final List<Query<String, Word<String>>> misses = new ArrayList<>();
+        final List<DefaultQuery<String, Word<String>>> missQueries = new ArrayList<>();
+
+        for (final Query<String, Word<String>> query : queries) {
+            final Word<String> output = cache.lookup(toKeys(query.getInput()));
+            if (output != null) {
+                query.answer(output.suffix(query.getSuffix().length()));
+                hits.incrementAndGet();
+            } else {
+                // pose the whole word so that the output of the prefix can be cached as well
+                misses.add(query);
+                missQueries.add(new DefaultQuery<>(query.getInput()));
+            }
+        }
+
+        if (!missQueries.isEmpty()) {
+            delegate.processQueries(missQueries);
+
+            for (int i = 0; i < misses.size(); i++) {
+                final Query<String, Word<String>> query = misses.get(i);
+                final Word<String> output = missQueries.get(i).getOutput();
+                cache.insert(toKeys(query.getInput()), output);
+                query.answer(output.suffix(query.getSuffix().length()));
+            }
+        }
+    }
+
+    private Word<String> toKeys(Word<String> input) {
+        return input.transform(sym -> keys.getOrDefault(sym, sym));
+    }
+
+    /** @return The number of queries that have been answered by the cache. */
+    public long getHits() {
+        return hits.get();
+    }
+}
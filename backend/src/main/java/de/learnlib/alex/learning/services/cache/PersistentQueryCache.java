@@ -0,0 +1,418 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.cache;
+
+import net.automatalib.words.Word;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A membership query cache for Mealy machines that is stored as a prefix trie in a file.
+ * <p>
+ * The file is memory-mapped and looked up without deserializing it. Queries that are added to the cache are kept in
+ * memory until {@link #flush()} is called, which merges them into a new version of the file.
+ * <p>
+ * File format (all numbers are big endian ints):
+ * <pre>
+ * magic, version,
+ * number of strings, (length, UTF-8 bytes)*,
+ * number of nodes, (absolute offset of the node)*,
+ * nodes: (number of children, (input string id, output string id, child node id)*)*
+ * </pre>
+ * The children of a node are sorted by their input string id and the root node has the id 0.
+ */
+public class PersistentQueryCache implements Closeable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /** The magic number at the start of a cache file ("ALQC"). */
+    private static final int MAGIC = 0x414c5143;
+
+    /** The version of the file format. */
+    private static final int VERSION = 1;
+
+    /** The size of an int in bytes. */
+    private static final int INT_SIZE = 4;
+
+    /** The size of a child record (input, output, child) in bytes. */
+    private static final int CHILD_SIZE = 3 * INT_SIZE;
+
+    /** A node of the in-memory trie. */
+    private static final class Node {
+
+        /** The id of the output of the transition that leads to this node. */
+        private final int output;
+
+        /** The children by the ids of their inputs. */
+        private final TreeMap<Integer, Node> children = new TreeMap<>();
+
+        private Node(int output) {
+            this.output = output;
+        }
+    }
+
+    /** The file the cache is stored in. */
+    private final Path file;
+
+    /** The strings (inputs and outputs) of the cache. The first ones are those from the file. */
+    private final List<String> strings;
+
+    /** The ids of the strings. */
+    private final Map<String, Integer> stringIds;
+
+    /** The queries that have been added since the last flush. */
+    private Node delta;
+
+    /** The number of queries that have been added since the last flush. */
+    private int deltaSize;
+
+    /** The channel of the mapped file. */
+    private FileChannel channel;
+
+    /** The mapped file, or null if there is no file yet. */
+    private MappedByteBuffer buffer;
+
+    /** The number of nodes in the mapped file. */
+    private int nodeCount;
+
+    /** The position of the node offsets in the mapped file. */
+    private int offsetsPosition;
+
+    /**
+     * Constructor. Opens the cache file, if it exists.
+     *
+     * @param file The file the cache is stored in.
+     * @throws IOException If the file could not be read.
+     */
+    public PersistentQueryCache(Path file) throws IOException {
+        this.file = file;
+        this.strings = new ArrayList<>();
+        this.stringIds = new HashMap<>();
+        this.delta = new Node(-1);
+        map();
+    }
+
+    /**
+     * Look up the output of a word.
+     *
+     * @param input The input word.
+     * @return The output word, or null if the word is not cached.
+     */
+    public synchronized Word<String> lookup(Word<String> input) {
+        final List<String> output = new ArrayList<>(input.length());
+
+        if (lookupMapped(input, output)) {
+            return Word.fromList(output);
+        }
+
+        output.clear();
+        Node node = delta;
+        for (final String sym : input) {
+            final Integer id = stringIds.get(sym);
+            node = id == null ? null : node.children.get(id);
+            if (node == null) {
+                return null;
+            }
+            output.add(strings.get(node.output));
+        }
+
+        return Word.fromList(output);
+    }
+
+    /**
+     * Add the output of a word to the cache.
+     *
+     * @param input  The input word.
+     * @param output The output word of the same length.
+     */
+    public synchronized void insert(Word<String> input, Word<String> output) {
+        if (input.length() != output.length()) {
+            throw new IllegalArgumentException("The input and the output must have the same length.");
+        }
+
+        Node node = delta;
+        for (int i = 0; i < input.length(); i++) {
+            final int in = getStringId(input.getSymbol(i));
+            final int out = getStringId(output.getSymbol(i));
+
+            Node child = node.children.get(in);
+            if (child == null || child.output != out) {
+                if (child != null) {
+                    LOGGER.warn("The cached output of the input {} changed.", input.prefix(i + 1));
+                }
+                child = new Node(out);
+                node.children.put(in, child);
+            }
+            node = child;
+        }
+
+        deltaSize++;
+    }
+
+    /**
+     * Writes all queries that have been added since the last flush to the file.
+     *
+     * @throws IOException If the file could not be written.
+     */
+    public synchronized void flush() throws IOException {
+        if (deltaSize == 0) {
+            return;
+        }
+
+        final Node root = readMapped();
+        merge(root, delta);
+
+        final Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        write(root, tmp);
+
+        unmap();
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        map();
+
+        LOGGER.info("Persisted {} queries in the cache {}.", deltaSize, file);
+        delta = new Node(-1);
+        deltaSize = 0;
+    }
+
+    /** Flushes and closes the cache. */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            unmap();
+        }
+    }
+
+    /** @return The file the cache is stored in. */
+    public Path getFile() {
+        return file;
+    }
+
+    private int getStringId(String s) {
+        Integer id = stringIds.get(s);
+        if (id == null) {
+            id = strings.size();
+            strings.add(s);
+            stringIds.put(s, id);
+        }
+        return id;
+    }
+
+    private boolean lookupMapped(Word<String> input, List<String> output) {
+        if (buffer == null) {
+            return false;
+        }
+
+        int node = 0;
+        for (final String sym : input) {
+            final Integer id = stringIds.get(sym);
+            final int child = id == null ? -1 : findChild(node, id);
+            if (child == -1) {
+                return false;
+            }
+            output.add(strings.get(buffer.getInt(child + INT_SIZE)));
+            node = buffer.getInt(child + 2 * INT_SIZE);
+        }
+
+        return true;
+    }
+
+    /**
+     * Binary search for the child record of a mapped node.
+     *
+     * @param node  The id of the node.
+     * @param input The id of the input.
+     * @return The position of the child record, or -1 if the node has no child with the input.
+     */
+    private int findChild(int node, int input) {
+        final int position = buffer.getInt(offsetsPosition + node * INT_SIZE);
+        final int childCount = buffer.getInt(position);
+
+        int low = 0;
+        int high = childCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int record = position + INT_SIZE + mid * CHILD_SIZE;
+            final int midInput = buffer.getInt(record);
+            if (midInput < input) {
+                low = mid + 1;
+            } else if (midInput > input) {
+                high = mid - 1;
+            } else {
+                return record;
+            }
+        }
+
+        return -1;
+    }
+
+    /** @return The trie of the mapped file in memory. */
+    private Node readMapped() {
+        final Node root = new Node(-1);
+        if (buffer == null) {
+            return root;
+        }
+
+        final Node[] nodes = new Node[nodeCount];
+        nodes[0] = root;
+
+        for (int i = 0; i < nodeCount; i++) {
+            final int position = buffer.getInt(offsetsPosition + i * INT_SIZE);
+            final int childCount = buffer.getInt(position);
+            for (int j = 0; j < childCount; j++) {
+                final int record = position + INT_SIZE + j * CHILD_SIZE;
+                final int childId = buffer.getInt(record + 2 * INT_SIZE);
+                nodes[childId] = new Node(buffer.getInt(record + INT_SIZE));
+                nodes[i].children.put(buffer.getInt(record), nodes[childId]);
+            }
+        }
+
+        return root;
+    }
+
+    /** Merges the trie {@code source} into {@code target}, the entries of the source win. */
+    private void merge(Node target, Node source) {
+        final Deque<Node[]> stack = new ArrayDeque<>();
+        stack.push(new Node[]{target, source});
+
+        while (!stack.isEmpty()) {
+            final Node[] pair = stack.pop();
+            for (final Map.Entry<Integer, Node> entry : pair[1].children.entrySet()) {
+                final Node existing = pair[0].children.get(entry.getKey());
+                if (existing == null || existing.output != entry.getValue().output) {
+                    pair[0].children.put(entry.getKey(), entry.getValue());
+                } else {
+                    stack.push(new Node[]{existing, entry.getValue()});
+                }
+            }
+        }
+    }
+
+    private void write(Node root, Path target) throws IOException {
+
+        // number the nodes in BFS order so that the root gets the id 0
+        final List<Node> nodes = new ArrayList<>();
+        final Map<Node, Integer> ids = new HashMap<>();
+        nodes.add(root);
+        ids.put(root, 0);
+        for (int i = 0; i < nodes.size(); i++) {
+            for (final Node child : nodes.get(i).children.values()) {
+                ids.put(child, nodes.size());
+                nodes.add(child);
+            }
+        }
+
+        final List<byte[]> encodedStrings = new ArrayList<>(strings.size());
+        int position = 3 * INT_SIZE;
+        for (final String s : strings) {
+            final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            encodedStrings.add(bytes);
+            position += INT_SIZE + bytes.length;
+        }
+        position += INT_SIZE + nodes.size() * INT_SIZE;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(target)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            out.writeInt(encodedStrings.size());
+            for (final byte[] bytes : encodedStrings) {
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(nodes.size());
+            for (final Node node : nodes) {
+                out.writeInt(position);
+                position += INT_SIZE + node.children.size() * CHILD_SIZE;
+            }
+
+            for (final Node node : nodes) {
+                out.writeInt(node.children.size());
+                for (final Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    out.writeInt(child.getKey());
+                    out.writeInt(child.getValue().output);
+                    out.writeInt(ids.get(child.getValue()));
+                }
+            }
+        }
+    }
+
+    private void map() throws IOException {
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            return;
+        }
+
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(INT_SIZE) != VERSION) {
+            LOGGER.warn("Ignoring the cache {} because it has an unknown format.", file);
+            unmap();
+            return;
+        }
+
+        // the strings of a previous version of the file keep their ids
+        int position = 2 * INT_SIZE;
+        final int stringCount = buffer.getInt(position);
+        position += INT_SIZE;
+        for (int i = 0; i < stringCount; i++) {
+            final int length = buffer.getInt(position);
+            final byte[] bytes = new byte[length];
+            buffer.position(position + INT_SIZE);
+            buffer.get(bytes);
+            position += INT_SIZE + length;
+
+            final String s = new String(bytes, StandardCharsets.UTF_8);
+            if (i >= strings.size()) {
+                strings.add(s);
+                stringIds.put(s, i);
+            }
+        }
+
+        nodeCount = buffer.getInt(position);
+        offsetsPosition = position + INT_SIZE;
+    }
+
+    private void unmap() throws IOException {
+        buffer = null;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.learnlib.alex.data.entities.Symbol;
+import de.learnlib.alex.learning.exceptions.LearnerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Service that manages the persistent membership query caches of the projects.
+ */
+@Service
+public class QueryCacheService {
+
+    /** The mapper to serialize the action definitions of a symbol. */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * The path of the directory the caches are stored in. This will be injected by Spring and is configured in the
+     * applications.properties file.
+     */
+    @Value("${alex.queryCacheDir:./target/query-cache}")
+    private String queryCacheDir;
+
+    /**
+     * Open the cache of a project that belongs to a reset symbol.
+     *
+     * @param projectId   The id of the project.
+     * @param resetSymbol The reset symbol.
+     * @return The cache.
+     * @throws IOException If the cache could not be opened.
+     */
+    public PersistentQueryCache open(Long projectId, Symbol resetSymbol) throws IOException {
+        final Path directory = Paths.get(queryCacheDir, String.valueOf(projectId));
+        Files.createDirectories(directory);
+        return new PersistentQueryCache(directory.resolve(fingerprint(resetSymbol) + ".cache"));
+    }
+
+    /**
+     * Calculate a fingerprint of a symbol that changes if the behavior of the symbol may have changed, i.e. its name,
+     * its success output or its actions.
+     *
+     * @param symbol The symbol.
+     * @return The hex encoded SHA-256 hash of the symbol definition.
+     */
+    public static String fingerprint(Symbol symbol) {
+        try {
+            final String json = MAPPER.writeValueAsString(
+                    Arrays.asList(symbol.getName(), symbol.getSuccessOutput(), symbol.getActions()));
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+
+            final StringBuilder sb = new StringBuilder();
+            for (final byte b : hash) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new LearnerException("Could not calculate the fingerprint of the symbol " + symbol.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import de.learnlib.alex.learning.exceptions.LearnerException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Limits how many connector managers of a pool execute queries at the same time. The limit is adapted with an AIMD
+ * algorithm: After each window of as many samples as the current limit, the limit is increased by one if the SUL
+ * behaves well, and it is decreased by a constant factor if a reset failed or if the average reset latency of the
+ * window exceeds the baseline latency by the configured tolerance. The reset symbol is executed before every query,
+ * so its latency is used as a probe for the load of the target system.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /** The factor the limit is multiplied with if the SUL is overloaded. */
+    private static final double DECREASE_FACTOR = 0.75;
+
+    /** How fast the baseline latency follows higher latencies, so that the limiter adapts to slower SULs. */
+    private static final double BASELINE_DRIFT = 0.05;
+
+    /** The lowest limit. */
+    private final int minLimit;
+
+    /** The highest limit, i.e. the number of connector managers. */
+    private final int maxLimit;
+
+    /** By which factor the latency may exceed the baseline before the limit is decreased. */
+    private final double latencyTolerance;
+
+    /** The current limit. */
+    private int limit;
+
+    /** The number of connector managers that are executing a query. */
+    private int inFlight;
+
+    /** The number of samples in the current window. */
+    private int samples;
+
+    /** The number of failed samples in the current window. */
+    private int errors;
+
+    /** The sum of the latencies of the current window in ns. */
+    private long latencySum;
+
+    /** The latency of the SUL without load in ns, or -1 if it is not known yet. */
+    private double baseline;
+
+    /**
+     * Constructor. The limiter starts with the highest limit.
+     *
+     * @param minLimit
+     *         {@link #minLimit}.
+     * @param maxLimit
+     *         {@link #maxLimit}.
+     * @param latencyTolerance
+     *         {@link #latencyTolerance}.
+     */
+    public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, double latencyTolerance) {
+        this.maxLimit = Math.max(1, maxLimit);
+        this.minLimit = Math.max(1, Math.min(minLimit, this.maxLimit));
+        this.latencyTolerance = Math.max(1.0, latencyTolerance);
+        this.limit = this.maxLimit;
+        this.baseline = -1;
+    }
+
+    /**
+     * Wait until a query may be executed.
+     *
+     * @throws LearnerException
+     *         If the thread has been interrupted while waiting.
+     */
+    public synchronized void acquire() throws LearnerException {
+        try {
+            while (inFlight >= limit) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LearnerException("An error occurred while waiting for a free connector.", e);
+        }
+        inFlight++;
+    }
+
+    /** Signal that a query has been executed. */
+    public synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * Record the reset of the SUL.
+     *
+     * @param latency
+     *         How long the reset took in ns.
+     * @param success
+     *         If the reset succeeded.
+     */
+    public synchronized void onSample(long latency, boolean success) {
+        samples++;
+        latencySum += latency;
+        if (!success) {
+            errors++;
+        }
+
+        if (samples >= limit) {
+            adjust();
+        }
+    }
+
+    private void adjust() {
+        final double average = (double) latencySum / samples;
+        if (baseline < 0 || average < baseline) {
+            baseline = average;
+        } else {
+            baseline += BASELINE_DRIFT * (average - baseline);
+        }
+
+        final int previousLimit = limit;
+        if (errors > 0 || average > baseline * latencyTolerance) {
+            limit = Math.max(minLimit, (int) (limit * DECREASE_FACTOR));
+        } else {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+
+        if (limit != previousLimit) {
+            LOGGER.debug("Changed the concurrency limit from {} to {} (average latency: {} ms, errors: {}).",
+                    previousLimit, limit, Math.round(average / 1e6), errors);
+            notifyAll();
+        }
+
+        samples = 0;
+        errors = 0;
+        latencySum = 0;
+    }
+
+    /** @return The current limit. */
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+}
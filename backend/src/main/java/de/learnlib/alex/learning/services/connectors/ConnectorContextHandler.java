@@ -20,6 +20,8 @@ import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.Symbol;
 import de.learnlib.alex.data.entities.SymbolParameter;
 import de.learnlib.alex.learning.exceptions.LearnerException;
+import de.learnlib.alex.learning.services.logging.LearnerLog;
+import de.learnlib.alex.learning.services.logging.LearnerLogContext;
 import de.learnlib.mapper.ContextExecutableInputSUL;
 
 import java.util.concurrent.BlockingQueue;
@@ -36,11 +38,33 @@ public class ConnectorContextHandler implements ContextExecutableInputSUL.Contex
     /** The symbol used to reset the SUL. */
     private Symbol resetSymbol;
 
+    /** The connector that records the execution times of the SUL, or null if they are not recorded. */
+    private ExecutionMetricsConnector executionMetrics;
+
+    /** The runtime metrics of the pool, or null if they are not recorded. */
+    private SulMetrics sulMetrics;
+
+    /** The limiter of the number of concurrent queries, or null if all connector managers are used. */
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /** The number of connector managers that have been added to the pool. */
+    private int numberOfConnectorManagers;
+
+    /** If the connector managers may open a browser. */
+    private boolean usesBrowser;
+
+    /** The log settings of the threads that execute queries, or null if the threads keep their settings. */
+    private LearnerLogContext logContext;
+
+    /** The connector manager that is used by the current thread. */
+    private final ThreadLocal<ConnectorManager> currentConnectorManager = new ThreadLocal<>();
+
     /**
      * Default constructor.
      */
     public ConnectorContextHandler() {
         this.pool = new LinkedBlockingQueue<>();
+        this.usesBrowser = true;
     }
 
     /**
@@ -51,7 +75,12 @@ public class ConnectorContextHandler implements ContextExecutableInputSUL.Contex
      */
     public void addConnectorManager(ConnectorManager connectorManager) {
         try {
+            connectorManager.setInstance(numberOfConnectorManagers);
             pool.put(connectorManager);
+            numberOfConnectorManagers++;
+            if (sulMetrics != null) {
+                sulMetrics.getConnectors().increment();
+            }
         } catch (InterruptedException e) {
             e.printStackTrace();
             System.exit(0);
@@ -70,13 +99,61 @@ public class ConnectorContextHandler implements ContextExecutableInputSUL.Contex
 
     @Override
     public ConnectorManager createContext() throws LearnerException {
+        if (logContext != null) {
+            LearnerLog.bind(logContext);
+        }
+
         ConnectorManager connectorManager;
+        final long waitStart = System.nanoTime();
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.acquire();
+        }
         try {
             connectorManager = pool.take();
         } catch (InterruptedException e) {
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.release();
+            }
             throw new LearnerException("An error occurred while creating a new context.", e);
         }
 
+        final long start = System.nanoTime();
+        if (sulMetrics != null) {
+            sulMetrics.getPoolWait().record(start - waitStart);
+            sulMetrics.getConnectorsInUse().increment();
+            sulMetrics.getQueries().increment();
+        }
+
+        ExecuteResult resetResult = null;
+        try {
+            resetResult = reset(connectorManager);
+        } finally {
+            final long duration = System.nanoTime() - start;
+            final boolean success = resetResult != null && resetResult.isSuccess();
+            if (executionMetrics != null) {
+                executionMetrics.recordReset(duration, success);
+            }
+            if (sulMetrics != null) {
+                sulMetrics.getReset().record(duration);
+            }
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.onSample(duration, success);
+                if (!success) {
+                    concurrencyLimiter.release();
+                }
+            }
+        }
+
+        if (!resetResult.isSuccess()) {
+            throw new LearnerException("The execution of the reset symbol failed: "
+                    + resetResult.toString() + ".");
+        }
+
+        currentConnectorManager.set(connectorManager);
+        return connectorManager;
+    }
+
+    private ExecuteResult reset(ConnectorManager connectorManager) throws LearnerException {
         try {
             for (Connector connector : connectorManager) {
                 connector.reset();
@@ -85,7 +162,7 @@ public class ConnectorContextHandler implements ContextExecutableInputSUL.Contex
             throw new LearnerException("An error occurred while resetting a connector.", e);
         }
 
-        ExecuteResult resetResult;
+        final ExecuteResult resetResult;
         try {
             // initialize counters defined in the reset symbol as input
             final CounterStoreConnector counterStore = connectorManager.getConnector(CounterStoreConnector.class);
@@ -102,20 +179,21 @@ public class ConnectorContextHandler implements ContextExecutableInputSUL.Contex
         } catch (Exception e) {
             throw new LearnerException("An error occurred while executing the reset symbol.", e);
         }
-
-        if (!resetResult.isSuccess()) {
-            throw new LearnerException("The execution of the reset symbol failed: "
-                    + resetResult.toString() + ".");
-        }
-
-        return connectorManager;
+        return resetResult;
     }
 
     @Override
     public void disposeContext(ConnectorManager connectorManager) {
+        currentConnectorManager.remove();
         try {
+            if (sulMetrics != null) {
+                sulMetrics.getConnectorsInUse().decrement();
+            }
             pool.put(connectorManager);
             connectorManager.dispose();
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.release();
+            }
         } catch (InterruptedException e) {
             throw new LearnerException(e.getMessage(), e);
         }
@@ -123,11 +201,92 @@ public class ConnectorContextHandler implements ContextExecutableInputSUL.Contex
 
     /** Execute the {@link ConnectorManager#post} method after the learner has finished. */
     public void post() {
-        pool.forEach(ConnectorManager::post);
+        pool.forEach(connectorManager -> {
+            connectorManager.post();
+            if (sulMetrics != null) {
+                sulMetrics.getConnectors().decrement();
+            }
+        });
+    }
+
+    /**
+     * Set the connector that records the execution times of the SUL.
+     *
+     * @param executionMetrics
+     *         The connector, or null if the execution times should not be recorded.
+     */
+    public void setExecutionMetrics(ExecutionMetricsConnector executionMetrics) {
+        this.executionMetrics = executionMetrics;
+    }
+
+    /** @return The connector that records the execution times of the SUL, or null. */
+    public ExecutionMetricsConnector getExecutionMetrics() {
+        return executionMetrics;
+    }
+
+    /**
+     * Set the runtime metrics of the pool.
+     *
+     * @param sulMetrics
+     *         The metrics, or null if they should not be recorded.
+     */
+    public void setSulMetrics(SulMetrics sulMetrics) {
+        this.sulMetrics = sulMetrics;
+    }
+
+    /**
+     * Set the limiter of the number of concurrent queries.
+     *
+     * @param concurrencyLimiter
+     *         The limiter, or null if all connector managers should be used.
+     */
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
     }
 
     /** @return The number of mqs executed in parallel. */
     public int getMaxConcurrentQueries() {
-        return pool.size();
+        return numberOfConnectorManagers;
+    }
+
+    /**
+     * Set if the connector managers may open a browser.
+     *
+     * @param usesBrowser
+     *         false, if none of the symbols uses the browser.
+     */
+    public void setUsesBrowser(boolean usesBrowser) {
+        this.usesBrowser = usesBrowser;
+    }
+
+    /**
+     * Set the log settings of the threads that execute queries.
+     *
+     * @param logContext
+     *         The log context, or null if the threads should keep their settings.
+     */
+    public void setLogContext(LearnerLogContext logContext) {
+        this.logContext = logContext;
+    }
+
+    /** @return The log settings of the threads that execute queries, or null. */
+    public LearnerLogContext getLogContext() {
+        return logContext;
+    }
+
+    /** @return The number of the connector manager that is used by the current thread, or -1 if there is none. */
+    public int getCurrentInstance() {
+        final ConnectorManager connectorManager = currentConnectorManager.get();
+        return connectorManager == null ? -1 : connectorManager.getInstance();
+    }
+
+    /** @return The number of browsers that are opened at most. */
+    public int getMaxBrowserInstances() {
+        return usesBrowser ? numberOfConnectorManagers : 0;
+    }
+
+    /** @return The number of mqs that may be executed in parallel at the moment. */
+    public int getConcurrencyLimit() {
+        return concurrencyLimiter == null ? numberOfConnectorManagers : concurrencyLimiter.getLimit();
     }
 }
@@ -23,11 +23,18 @@ import de.learnlib.alex.data.dao.FileDAO;
 import de.learnlib.alex.data.entities.Counter;
 import de.learnlib.alex.data.entities.Project;
 import de.learnlib.alex.data.entities.ProjectUrl;
+import de.learnlib.alex.data.entities.Symbol;
 import de.learnlib.alex.learning.entities.webdrivers.AbstractWebDriverConfig;
+import de.learnlib.alex.metrics.services.MetricsService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import javax.inject.Inject;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -36,6 +43,12 @@ import java.util.List;
 @Service
 public class ConnectorContextHandlerFactory {
 
+    /** The number of instances per URL that lets the factory decide how many instances are created. */
+    public static final int AUTOMATIC_INSTANCES = 0;
+
+    /** The amount of memory that is reserved for each automatically created instance in bytes. */
+    private static final long MEMORY_PER_INSTANCE = 256L * 1024 * 1024;
+
     /** The {@link CounterDAO}. */
     @Inject
     private CounterDAO counterDAO;
@@ -44,6 +57,41 @@ public class ConnectorContextHandlerFactory {
     @Inject
     private FileDAO fileDAO;
 
+    /** The registry of the runtime metrics. */
+    @Inject
+    private MetricsService metricsService;
+
+    /** The pool of the web drivers. */
+    @Inject
+    private WebDriverPool webDriverPool;
+
+    /** The HTTP client that is shared by all web service connectors. */
+    @Inject
+    private WebServiceClient webServiceClient;
+
+    /** If the number of concurrent queries of an experiment is adapted to the latency of the SUL. */
+    @Value("${alex.learner.adaptiveConcurrency.enabled:true}")
+    private boolean adaptiveConcurrency;
+
+    /** The lowest number of concurrent queries the adaptive concurrency may choose. */
+    @Value("${alex.learner.adaptiveConcurrency.min:1}")
+    private int minConcurrency;
+
+    /** By which factor the reset latency may exceed its baseline before the concurrency is reduced. */
+    @Value("${alex.learner.adaptiveConcurrency.latencyTolerance:2.0}")
+    private double latencyTolerance;
+
+    /** The runtime metrics of the SULs, or null if there is no registry. */
+    private SulMetrics sulMetrics;
+
+    /** Registers the runtime metrics of the SULs. */
+    @PostConstruct
+    public void init() {
+        if (metricsService != null) {
+            sulMetrics = new SulMetrics(metricsService);
+        }
+    }
+
     /**
      * Factor to create a ContextHandler which knows all available connectors.
      *
@@ -74,7 +122,60 @@ public class ConnectorContextHandlerFactory {
      */
     public ConnectorContextHandler createContext(User user, Project project, List<ProjectUrl> urls,
                                                  AbstractWebDriverConfig driverConfig) {
+        return createContext(user, project, urls, driverConfig, 1);
+    }
+
+    /**
+     * Factor to create a ContextHandler which knows all available connectors.
+     *
+     * @param user
+     *         The user that executes the learning experiment.
+     * @param project
+     *         The current project in which the context should be.
+     * @param urls
+     *         The URLs to use for learning.
+     * @param driverConfig
+     *         The driver config to use for the frontend learning.
+     * @param instancesPerUrl
+     *         How many SUL instances are created for each URL, or {@link #AUTOMATIC_INSTANCES}.
+     * @return A ContextHandler for the project with all the connectors.
+     */
+    public ConnectorContextHandler createContext(User user, Project project, List<ProjectUrl> urls,
+                                                 AbstractWebDriverConfig driverConfig, int instancesPerUrl) {
+        return createContext(user, project, urls, driverConfig, instancesPerUrl, null);
+    }
+
+    /**
+     * Factor to create a ContextHandler which knows the connectors the symbols can use. The browser and the web
+     * service connectors are only created when a symbol uses them for the first time, and they are skipped completely
+     * if none of the symbols can use them.
+     *
+     * @param user
+     *         The user that executes the learning experiment.
+     * @param project
+     *         The current project in which the context should be.
+     * @param urls
+     *         The URLs to use for learning.
+     * @param driverConfig
+     *         The driver config to use for the frontend learning.
+     * @param instancesPerUrl
+     *         How many SUL instances are created for each URL, or {@link #AUTOMATIC_INSTANCES}.
+     * @param symbols
+     *         The symbols that are executed, including the reset symbol, or null if they are not known in advance.
+     * @return A ContextHandler for the project with the connectors.
+     */
+    public ConnectorContextHandler createContext(User user, Project project, List<ProjectUrl> urls,
+                                                 AbstractWebDriverConfig driverConfig, int instancesPerUrl,
+                                                 Collection<Symbol> symbols) {
+        final boolean usesWebSite = usesConnector(symbols, WebSiteConnector.class);
+        final boolean usesWebService = usesConnector(symbols, WebServiceConnector.class);
+
         final ConnectorContextHandler context = new ConnectorContextHandler();
+        final ExecutionMetricsConnector executionMetrics =
+                new ExecutionMetricsConnector(sulMetrics == null ? null : sulMetrics.getSymbols());
+        context.setExecutionMetrics(executionMetrics);
+        context.setSulMetrics(sulMetrics);
+        context.setUsesBrowser(usesWebSite);
 
         final List<Counter> counters = new ArrayList<>();
         try {
@@ -83,16 +184,74 @@ public class ConnectorContextHandlerFactory {
             e.printStackTrace();
         }
 
-        for (final ProjectUrl url : urls) {
-            final ConnectorManager connectorManager = new ConnectorManager();
-            connectorManager.addConnector(new WebSiteConnector(url.getUrl(), driverConfig));
-            connectorManager.addConnector(new WebServiceConnector(url.getUrl()));
-            connectorManager.addConnector(new CounterStoreConnector(counterDAO, user, project, counters));
-            connectorManager.addConnector(new VariableStoreConnector());
-            connectorManager.addConnector(new FileStoreConnector(fileDAO, user));
-            context.addConnectorManager(connectorManager);
+        // add the instances round robin so that the queries are distributed across all URLs
+        final int instances = getInstancesPerUrl(instancesPerUrl, urls.size());
+        for (int i = 0; i < instances; i++) {
+            for (final ProjectUrl url : urls) {
+                final ConnectorManager connectorManager = new ConnectorManager();
+                if (usesWebSite) {
+                    connectorManager.addConnector(WebSiteConnector.class,
+                            () -> new WebSiteConnector(url.getUrl(), driverConfig, webDriverPool));
+                }
+                if (usesWebService) {
+                    connectorManager.addConnector(WebServiceConnector.class,
+                            () -> new WebServiceConnector(url.getUrl(), webServiceClient));
+                }
+                connectorManager.addConnector(new CounterStoreConnector(counterDAO, user, project, counters));
+                connectorManager.addConnector(new VariableStoreConnector());
+                connectorManager.addConnector(new FileStoreConnector(fileDAO, user));
+                connectorManager.addConnector(executionMetrics);
+                context.addConnectorManager(connectorManager);
+            }
+        }
+
+        if (adaptiveConcurrency && context.getMaxConcurrentQueries() > 1) {
+            context.setConcurrencyLimiter(new AdaptiveConcurrencyLimiter(minConcurrency,
+                    context.getMaxConcurrentQueries(), latencyTolerance));
         }
 
         return context;
     }
+
+    /**
+     * Check if any of the enabled actions of the symbols may use a connector.
+     *
+     * @param symbols
+     *         The symbols, or null if they are not known in advance.
+     * @param type
+     *         The type of the connector.
+     * @return true, if the connector may be used or if the symbols are not known; false otherwise.
+     */
+    static boolean usesConnector(Collection<Symbol> symbols, Class<? extends Connector> type) {
+        return symbols == null || symbols.stream()
+                .filter(symbol -> symbol != null && symbol.getActions() != null)
+                .flatMap(symbol -> symbol.getActions().stream())
+                .anyMatch(action -> !action.isDisabled() && action.usesConnector(type));
+    }
+
+    /**
+     * Get the number of SUL instances that are created for each URL. In the automatic mode, there is one instance
+     * per available processor, as long as there is enough free memory for it, and the instances are split between
+     * the URLs.
+     *
+     * @param instancesPerUrl
+     *         The requested number of instances per URL, or {@link #AUTOMATIC_INSTANCES}.
+     * @param numberOfUrls
+     *         The number of URLs.
+     * @return The number of instances per URL, at least 1.
+     */
+    public int getInstancesPerUrl(int instancesPerUrl, int numberOfUrls) {
+        if (instancesPerUrl != AUTOMATIC_INSTANCES) {
+            return Math.max(1, instancesPerUrl);
+        }
+
+        int instances = Runtime.getRuntime().availableProcessors();
+        final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            final long freeMemory = ((com.sun.management.OperatingSystemMXBean) os).getFreePhysicalMemorySize();
+            instances = (int) Math.min(instances, freeMemory / MEMORY_PER_INSTANCE);
+        }
+
+        return Math.max(1, instances / Math.max(1, numberOfUrls));
+    }
 }
@@ -16,9 +16,12 @@
 
 package de.learnlib.alex.learning.services.connectors;
 
+import de.learnlib.alex.learning.exceptions.LearnerException;
+
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Manager to manage a set of connectors.
@@ -30,11 +33,37 @@ public class ConnectorManager implements Iterable<Connector> {
      */
     private Map<Class<? extends Connector>, Connector> connectors;
 
+    /**
+     * Map of the factories of the connectors that are created when they are used for the first time.
+     */
+    private Map<Class<? extends Connector>, Supplier<? extends Connector>> factories;
+
+    /**
+     * The number of the manager in the pool of its context handler, or -1 if it does not belong to a pool.
+     */
+    private int instance;
+
     /**
      * Default constructor.
      */
     public ConnectorManager() {
         this.connectors = new HashMap<>();
+        this.factories = new HashMap<>();
+        this.instance = -1;
+    }
+
+    /** @return The number of the manager in the pool of its context handler, or -1. */
+    public int getInstance() {
+        return instance;
+    }
+
+    /**
+     * Set the number of the manager in the pool of its context handler.
+     *
+     * @param instance The number.
+     */
+    public void setInstance(int instance) {
+        this.instance = instance;
     }
 
     /**
@@ -46,6 +75,17 @@ public class ConnectorManager implements Iterable<Connector> {
         this.connectors.put(connector.getClass(), connector);
     }
 
+    /**
+     * Adds a connector that is only created, and reset, when it is requested for the first time.
+     *
+     * @param type    The class of the connector.
+     * @param factory The factory that creates the connector.
+     * @param <T>     The type of the connector.
+     */
+    public <T extends Connector> void addConnector(Class<T> type, Supplier<T> factory) {
+        this.factories.put(type, factory);
+    }
+
     /**
      * Get the connector specified by a connector class.
      *
@@ -54,9 +94,25 @@ public class ConnectorManager implements Iterable<Connector> {
      * @return The connector that matches the specified class.
      */
     public <T> T getConnector(Class<T> type) {
-        return (T) this.connectors.get(type);
+        Connector connector = this.connectors.get(type);
+        if (connector == null && this.factories.containsKey(type)) {
+            connector = this.factories.remove(type).get();
+            try {
+                connector.reset();
+            } catch (Exception e) {
+                throw new LearnerException("An error occurred while resetting a connector.", e);
+            }
+            // stored under the requested type, so that the connector is found by the same lookup again
+            this.connectors.put(type.asSubclass(Connector.class), connector);
+        }
+        return (T) connector;
     }
 
+    /**
+     * Iterates over the connectors that have been created, connectors that have not been used yet are skipped.
+     *
+     * @return The iterator.
+     */
     @Override
     public Iterator<Connector> iterator() {
         return connectors.values().iterator();
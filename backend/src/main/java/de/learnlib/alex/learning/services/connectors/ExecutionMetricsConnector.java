@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import de.learnlib.alex.data.entities.Symbol;
+import de.learnlib.alex.data.entities.SymbolAction;
+import de.learnlib.alex.learning.entities.ExecutionMetrics;
+import de.learnlib.alex.metrics.entities.MetricCounter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Connector that records the execution times of symbols and actions. One instance is shared by all connector managers
+ * of a learning experiment, so that the executions of all parallel SULs are collected in one place.
+ * <p>
+ * Each thread records into metrics of its own, which are merged when they are drained. The metrics of a thread are
+ * only locked by the thread itself and by {@link #drain()}, so the parallel SULs do not contend for a lock.
+ */
+public class ExecutionMetricsConnector implements Connector {
+
+    /** The metrics a single thread has recorded since they have been drained the last time. */
+    private static final class Shard {
+
+        /** The recorded metrics. Guarded by the shard. */
+        private ExecutionMetrics metrics = new ExecutionMetrics();
+    }
+
+    /** The metrics of all threads that have recorded something. */
+    private final Queue<Shard> shards;
+
+    /** The metrics of the current thread. */
+    private final ThreadLocal<Shard> shard;
+
+    /** The counter of all executed symbols, or null. */
+    private final MetricCounter executedSymbols;
+
+    /** Constructor. */
+    public ExecutionMetricsConnector() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executedSymbols
+     *         {@link #executedSymbols}.
+     */
+    public ExecutionMetricsConnector(MetricCounter executedSymbols) {
+        this.shards = new ConcurrentLinkedQueue<>();
+        this.shard = ThreadLocal.withInitial(() -> {
+            final Shard newShard = new Shard();
+            shards.add(newShard);
+            return newShard;
+        });
+        this.executedSymbols = executedSymbols;
+    }
+
+    @Override
+    public void reset() {
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    @Override
+    public void post() {
+    }
+
+    /**
+     * Records the reset of the SUL.
+     *
+     * @param nanos
+     *         The execution time in ns.
+     * @param success
+     *         If the reset was successful.
+     */
+    public void recordReset(long nanos, boolean success) {
+        final Shard s = shard.get();
+        synchronized (s) {
+            s.metrics.recordReset(nanos, success);
+        }
+    }
+
+    /**
+     * Records the execution of a symbol.
+     *
+     * @param symbol
+     *         The executed symbol.
+     * @param nanos
+     *         The execution time in ns.
+     * @param success
+     *         If the execution was successful.
+     */
+    public void recordSymbol(Symbol symbol, long nanos, boolean success) {
+        if (executedSymbols != null) {
+            executedSymbols.increment();
+        }
+        final Shard s = shard.get();
+        synchronized (s) {
+            s.metrics.recordSymbol(symbol.getName(), nanos, success);
+        }
+    }
+
+    /**
+     * Records the execution of an action.
+     *
+     * @param action
+     *         The executed action.
+     * @param nanos
+     *         The execution time in ns.
+     * @param success
+     *         If the execution was successful.
+     */
+    public void recordAction(SymbolAction action, long nanos, boolean success) {
+        final Shard s = shard.get();
+        synchronized (s) {
+            s.metrics.recordAction(action.getClass().getSimpleName(), nanos, success);
+        }
+    }
+
+    /**
+     * Returns the recorded metrics and starts recording new ones.
+     *
+     * @return The metrics that have been recorded since the last call.
+     */
+    public ExecutionMetrics drain() {
+        final ExecutionMetrics drained = new ExecutionMetrics();
+        for (final Shard s : shards) {
+            final ExecutionMetrics recorded;
+            synchronized (s) {
+                recorded = s.metrics;
+                s.metrics = new ExecutionMetrics();
+            }
+            drained.updateBy(recorded);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import de.learnlib.alex.metrics.entities.MetricCounter;
+import de.learnlib.alex.metrics.entities.MetricGauge;
+import de.learnlib.alex.metrics.entities.MetricTimer;
+import de.learnlib.alex.metrics.services.MetricsService;
+
+/**
+ * The runtime metrics of all SULs, i.e. of the connector pools of the running experiments and tests.
+ */
+public class SulMetrics {
+
+    /** The number of connector managers in all pools. */
+    private final MetricGauge connectors;
+
+    /** The number of connector managers that are executing a query. */
+    private final MetricGauge connectorsInUse;
+
+    /** The time a query waits for a free connector manager. */
+    private final MetricTimer poolWait;
+
+    /** The time it takes to reset the SUL. */
+    private final MetricTimer reset;
+
+    /** The number of queries posed to the SUL. */
+    private final MetricCounter queries;
+
+    /** The number of symbols executed on the SUL. */
+    private final MetricCounter symbols;
+
+    /**
+     * Constructor.
+     *
+     * @param metricsService
+     *         The registry the metrics are registered in.
+     */
+    public SulMetrics(MetricsService metricsService) {
+        this.connectors = metricsService.gauge("alex_sul_pool_connectors",
+                "The number of connector managers in the pools of all running experiments and tests.");
+        this.connectorsInUse = metricsService.gauge("alex_sul_pool_connectors_in_use",
+                "The number of connector managers that are executing a query.");
+        metricsService.gauge("alex_sul_pool_utilisation",
+                "The fraction of connector managers that are executing a query.",
+                () -> connectors.getValue() <= 0 ? 0 : connectorsInUse.getValue() / connectors.getValue());
+        this.poolWait = metricsService.timer("alex_sul_pool_wait_seconds",
+                "The time a query waits for a free connector manager.");
+        this.reset = metricsService.timer("alex_sul_reset_seconds",
+                "The time it takes to reset the connectors and to execute the reset symbol.");
+        this.queries = metricsService.counter("alex_sul_queries_total",
+                "The number of queries posed to the SUL.");
+        this.symbols = metricsService.counter("alex_sul_symbols_total",
+                "The number of symbols executed on the SUL.");
+    }
+
+    public MetricGauge getConnectors() {
+        return connectors;
+    }
+
+    public MetricGauge getConnectorsInUse() {
+        return connectorsInUse;
+    }
+
+    public MetricTimer getPoolWait() {
+        return poolWait;
+    }
+
+    public MetricTimer getReset() {
+        return reset;
+    }
+
+    public MetricCounter getQueries() {
+        return queries;
+    }
+
+    public MetricCounter getSymbols() {
+        return symbols;
+    }
+}
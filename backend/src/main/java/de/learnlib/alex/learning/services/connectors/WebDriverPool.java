@@ -0,0 +1,460 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.learnlib.alex.learning.entities.webdrivers.AbstractWebDriverConfig;
+import de.learnlib.alex.metrics.entities.MetricCounter;
+import de.learnlib.alex.metrics.entities.MetricTimer;
+import de.learnlib.alex.metrics.services.MetricsService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pool of started web drivers that is shared by all experiments and test runs.
+ * <p>
+ * The drivers are pooled by their configuration, i.e. by the type of the browser and all of its settings. A driver
+ * that is leased is removed from the pool until it is released again. Drivers are started in the background so that
+ * a configurable number of idle drivers is available for each configuration that has been used. Idle drivers that
+ * have not been leased for some time, drivers that do not respond anymore and drivers that should be recycled
+ * according to the {@link WebDriverRecyclingPolicy} are quit.
+ */
+@Service
+public class WebDriverPool {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /** The mapper to serialize the driver configurations. */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** How often idle drivers are checked for eviction in seconds. */
+    private static final long EVICTION_INTERVAL_IN_SECONDS = 30;
+
+    /** A driver that waits in the pool. */
+    private static class IdleDriver {
+
+        /** The driver. */
+        private final WebDriver driver;
+
+        /** When the driver has been added to the pool in ms. */
+        private final long idleSince;
+
+        IdleDriver(WebDriver driver) {
+            this.driver = driver;
+            this.idleSince = System.currentTimeMillis();
+        }
+    }
+
+    /** The statistics of a driver over all of its leases. */
+    public static class DriverStatistics {
+
+        /** When the driver has been started in ms. */
+        private final long startedAt;
+
+        /** The number of queries the driver has executed. */
+        private long queries;
+
+        /** The number of navigations in a row that failed. */
+        private int navigationErrors;
+
+        /** The last measured size of the JavaScript heap in bytes, or -1 if it is unknown. */
+        private long heapSize;
+
+        DriverStatistics() {
+            this.startedAt = System.currentTimeMillis();
+            this.heapSize = -1;
+        }
+
+        /** Count a query that is executed by the driver. */
+        public void incrementQueries() {
+            queries++;
+        }
+
+        /** Count a navigation that failed. */
+        public void incrementNavigationErrors() {
+            navigationErrors++;
+        }
+
+        /** Forget the failed navigations after a navigation succeeded. */
+        public void resetNavigationErrors() {
+            navigationErrors = 0;
+        }
+
+        /** @return How long the driver has been running in ms. */
+        public long getAge() {
+            return System.currentTimeMillis() - startedAt;
+        }
+
+        public long getQueries() {
+            return queries;
+        }
+
+        public int getNavigationErrors() {
+            return navigationErrors;
+        }
+
+        public long getHeapSize() {
+            return heapSize;
+        }
+
+        public void setHeapSize(long heapSize) {
+            this.heapSize = heapSize;
+        }
+    }
+
+    /** The idle drivers by the key of their configuration. */
+    private final Map<String, Deque<IdleDriver>> idleDrivers;
+
+    /** The number of drivers that are being started in the background by the key of their configuration. */
+    private final Map<String, Integer> startingDrivers;
+
+    /** The statistics of all drivers that have been started by the pool and have not been quit yet. */
+    private final Map<WebDriver, DriverStatistics> statistics;
+
+    /** The policy that decides when a driver is recycled. */
+    private final WebDriverRecyclingPolicy recyclingPolicy;
+
+    /** The executor that starts and quits drivers in the background. */
+    private final ExecutorService starter;
+
+    /** The executor that evicts idle drivers. */
+    private final ScheduledExecutorService evictor;
+
+    /** If the pool is enabled. If not, every lease starts a new driver and every release quits it. */
+    private final boolean enabled;
+
+    /** How many idle drivers are kept ready for each configuration that has been used. */
+    private final int minIdle;
+
+    /** How many idle drivers are kept at most for each configuration. */
+    private final int maxIdle;
+
+    /** How long a driver may be idle before it is quit in ms. */
+    private final long idleTimeout;
+
+    /** The time it takes to start a driver. */
+    private final MetricTimer startTimer;
+
+    /** The number of leases that have been served by an idle driver. */
+    private final MetricCounter hits;
+
+    /** The number of leases that had to start a new driver. */
+    private final MetricCounter misses;
+
+    /**
+     * Constructor.
+     *
+     * @param metricsService
+     *         The registry of the runtime metrics.
+     * @param recyclingPolicy
+     *         {@link #recyclingPolicy}.
+     * @param enabled
+     *         {@link #enabled}.
+     * @param minIdle
+     *         {@link #minIdle}.
+     * @param maxIdle
+     *         {@link #maxIdle}.
+     * @param idleTimeoutInSeconds
+     *         {@link #idleTimeout} in seconds.
+     */
+    @Inject
+    public WebDriverPool(MetricsService metricsService,
+                         WebDriverRecyclingPolicy recyclingPolicy,
+                         @Value("${alex.webDriverPool.enabled:true}") boolean enabled,
+                         @Value("${alex.webDriverPool.minIdle:1}") int minIdle,
+                         @Value("${alex.webDriverPool.maxIdle:4}") int maxIdle,
+                         @Value("${alex.webDriverPool.idleTimeout:300}") long idleTimeoutInSeconds) {
+        this.recyclingPolicy = recyclingPolicy;
+        this.enabled = enabled;
+        this.minIdle = Math.max(0, minIdle);
+        this.maxIdle = Math.max(this.minIdle, maxIdle);
+        this.idleTimeout = TimeUnit.SECONDS.toMillis(idleTimeoutInSeconds);
+        this.idleDrivers = new HashMap<>();
+        this.startingDrivers = new HashMap<>();
+        this.statistics = new IdentityHashMap<>();
+
+        this.starter = Executors.newCachedThreadPool(r -> {
+            final Thread thread = new Thread(r, "web-driver-pool-starter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "web-driver-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.evictor.scheduleWithFixedDelay(this::evictIdleDrivers, EVICTION_INTERVAL_IN_SECONDS,
+                EVICTION_INTERVAL_IN_SECONDS, TimeUnit.SECONDS);
+
+        this.startTimer = metricsService.timer("alex_browser_start_seconds",
+                "The time it takes to start a browser.");
+        this.hits = metricsService.counter("alex_webdriver_pool_hits_total",
+                "The number of browser leases that have been served by an idle browser.");
+        this.misses = metricsService.counter("alex_webdriver_pool_misses_total",
+                "The number of browser leases that had to start a new browser.");
+        metricsService.gauge("alex_webdriver_pool_idle", "The number of idle browsers in the pool.",
+                this::getNumberOfIdleDrivers);
+    }
+
+    /**
+     * Lease a driver. If there is no idle driver for the configuration, a new one is started.
+     *
+     * @param config
+     *         The configuration of the driver.
+     * @return The driver which has to be given back via {@link #release(AbstractWebDriverConfig, WebDriver)} or
+     * {@link #invalidate(WebDriver)}.
+     * @throws Exception
+     *         If a new driver could not be started.
+     */
+    public WebDriver lease(AbstractWebDriverConfig config) throws Exception {
+        if (!enabled) {
+            return startDriver(config);
+        }
+
+        final String key = getKey(config);
+        WebDriver driver;
+        while ((driver = pollIdleDriver(key)) != null) {
+            if (isAlive(driver) && recyclingPolicy.getRecyclingReason(getStatistics(driver)) == null) {
+                break;
+            }
+            quit(driver);
+        }
+
+        if (driver == null) {
+            misses.increment();
+            driver = startDriver(config);
+        } else {
+            hits.increment();
+        }
+
+        prestart(config, minIdle);
+        return driver;
+    }
+
+    /**
+     * Give a driver back to the pool. The driver has to be cleaned by the caller. If the pool is full, the driver
+     * is quit.
+     *
+     * @param config
+     *         The configuration the driver has been leased with.
+     * @param driver
+     *         The driver.
+     */
+    public void release(AbstractWebDriverConfig config, WebDriver driver) {
+        if (!enabled) {
+            quit(driver);
+            return;
+        }
+
+        final String key = getKey(config);
+        synchronized (this) {
+            final Deque<IdleDriver> drivers = idleDrivers.computeIfAbsent(key, k -> new ArrayDeque<>());
+            if (drivers.size() < maxIdle) {
+                drivers.addFirst(new IdleDriver(driver));
+                return;
+            }
+        }
+        quit(driver);
+    }
+
+    /**
+     * Quit a leased driver in the background that should not be used again, e.g. because it does not respond
+     * anymore or because it is recycled.
+     *
+     * @param driver
+     *         The driver.
+     */
+    public void invalidate(WebDriver driver) {
+        try {
+            starter.submit(() -> quit(driver));
+        } catch (RejectedExecutionException e) {
+            quit(driver);
+        }
+    }
+
+    /**
+     * Get the statistics of a driver.
+     *
+     * @param driver
+     *         The driver.
+     * @return The statistics of the driver.
+     */
+    public synchronized DriverStatistics getStatistics(WebDriver driver) {
+        return statistics.computeIfAbsent(driver, d -> new DriverStatistics());
+    }
+
+    public WebDriverRecyclingPolicy getRecyclingPolicy() {
+        return recyclingPolicy;
+    }
+
+    /**
+     * Start drivers in the background until there are as many idle drivers of a configuration, e.g. before a
+     * learning experiment with several parallel SULs begins.
+     *
+     * @param config
+     *         The configuration of the drivers.
+     * @param count
+     *         The number of idle drivers there should be.
+     */
+    public void prestart(AbstractWebDriverConfig config, int count) {
+        if (!enabled) {
+            return;
+        }
+
+        final String key = getKey(config);
+        final int numberOfDriversToStart;
+        synchronized (this) {
+            final int idle = idleDrivers.getOrDefault(key, new ArrayDeque<>()).size();
+            final int starting = startingDrivers.getOrDefault(key, 0);
+            numberOfDriversToStart = Math.min(count, maxIdle) - idle - starting;
+            if (numberOfDriversToStart > 0) {
+                startingDrivers.put(key, starting + numberOfDriversToStart);
+            }
+        }
+
+        for (int i = 0; i < numberOfDriversToStart; i++) {
+            starter.submit(() -> {
+                try {
+                    final WebDriver driver = startDriver(config);
+                    synchronized (this) {
+                        startingDrivers.merge(key, -1, Integer::sum);
+                    }
+                    release(config, driver);
+                } catch (Exception e) {
+                    synchronized (this) {
+                        startingDrivers.merge(key, -1, Integer::sum);
+                    }
+                    LOGGER.warn("Could not start a web driver in the background.", e);
+                }
+            });
+        }
+    }
+
+    /** @return The number of idle drivers of all configurations. */
+    public synchronized int getNumberOfIdleDrivers() {
+        return idleDrivers.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    /** Quit all idle drivers. */
+    @PreDestroy
+    public void shutdown() {
+        evictor.shutdownNow();
+        starter.shutdownNow();
+
+        final List<WebDriver> drivers = new ArrayList<>();
+        synchronized (this) {
+            idleDrivers.values().forEach(d -> d.forEach(idleDriver -> drivers.add(idleDriver.driver)));
+            idleDrivers.clear();
+        }
+        drivers.forEach(this::quit);
+    }
+
+    /** Quit all drivers that have been idle for longer than the timeout. */
+    void evictIdleDrivers() {
+        final long now = System.currentTimeMillis();
+        final List<WebDriver> evicted = new ArrayList<>();
+        synchronized (this) {
+            for (final Deque<IdleDriver> drivers : idleDrivers.values()) {
+                final Iterator<IdleDriver> it = drivers.descendingIterator();
+                while (it.hasNext()) {
+                    final IdleDriver idleDriver = it.next();
+                    if (now - idleDriver.idleSince >= idleTimeout) {
+                        evicted.add(idleDriver.driver);
+                        it.remove();
+                    }
+                }
+            }
+            idleDrivers.values().removeIf(Deque::isEmpty);
+        }
+
+        if (!evicted.isEmpty()) {
+            LOGGER.info("Quit {} web drivers that have been idle for too long.", evicted.size());
+            evicted.forEach(this::quit);
+        }
+    }
+
+    private synchronized WebDriver pollIdleDriver(String key) {
+        final Deque<IdleDriver> drivers = idleDrivers.get(key);
+        if (drivers == null || drivers.isEmpty()) {
+            return null;
+        }
+        return drivers.pollFirst().driver;
+    }
+
+    private WebDriver startDriver(AbstractWebDriverConfig config) throws Exception {
+        final long start = System.nanoTime();
+        final WebDriver driver = config.createDriver();
+        startTimer.recordSince(start);
+        synchronized (this) {
+            statistics.put(driver, new DriverStatistics());
+        }
+        return driver;
+    }
+
+    private boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void quit(WebDriver driver) {
+        synchronized (this) {
+            statistics.remove(driver);
+        }
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            LOGGER.warn("Could not quit a web driver.", e);
+        }
+    }
+
+    /**
+     * Get the key a driver configuration is pooled by, i.e. its serialized form without its id.
+     *
+     * @param config
+     *         The configuration.
+     * @return The key.
+     */
+    static String getKey(AbstractWebDriverConfig config) {
+        final ObjectNode node = MAPPER.valueToTree(config);
+        node.remove("id");
+        return node.toString();
+    }
+}
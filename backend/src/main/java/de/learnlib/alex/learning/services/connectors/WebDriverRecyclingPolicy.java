@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The policy that decides when a web driver is replaced by a new one. Browsers that run for a long time leak memory
+ * and become slower, so a driver is recycled after a number of queries, after some time, if the JavaScript heap of
+ * the page grows too large or if several navigations in a row have failed. A limit of 0 disables the criterion.
+ */
+@Service
+public class WebDriverRecyclingPolicy {
+
+    /** The fraction of a limit from which on a replacement driver is started in the background. */
+    private static final double PREPARATION_THRESHOLD = 0.9;
+
+    /** The number of bytes per MB. */
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    /** After how many queries a driver is recycled. */
+    private final long maxQueries;
+
+    /** After how many ms a driver is recycled. */
+    private final long maxAge;
+
+    /** The size of the JavaScript heap in bytes from which on a driver is recycled. */
+    private final long maxHeapSize;
+
+    /** After how many failed navigations in a row a driver is recycled. */
+    private final int maxNavigationErrors;
+
+    /**
+     * Constructor.
+     *
+     * @param maxQueries
+     *         {@link #maxQueries}.
+     * @param maxAgeInSeconds
+     *         {@link #maxAge} in seconds.
+     * @param maxHeapSizeInMb
+     *         {@link #maxHeapSize} in MB.
+     * @param maxNavigationErrors
+     *         {@link #maxNavigationErrors}.
+     */
+    @Inject
+    public WebDriverRecyclingPolicy(@Value("${alex.webDriverPool.recycle.maxQueries:0}") long maxQueries,
+                                    @Value("${alex.webDriverPool.recycle.maxAge:0}") long maxAgeInSeconds,
+                                    @Value("${alex.webDriverPool.recycle.maxHeap:0}") long maxHeapSizeInMb,
+                                    @Value("${alex.webDriverPool.recycle.maxNavigationErrors:3}")
+                                            int maxNavigationErrors) {
+        this.maxQueries = Math.max(0, maxQueries);
+        this.maxAge = TimeUnit.SECONDS.toMillis(Math.max(0, maxAgeInSeconds));
+        this.maxHeapSize = Math.max(0, maxHeapSizeInMb) * BYTES_PER_MB;
+        this.maxNavigationErrors = Math.max(0, maxNavigationErrors);
+    }
+
+    /**
+     * Get the reason why a driver should be recycled.
+     *
+     * @param statistics
+     *         The statistics of the driver.
+     * @return The reason, or null if the driver can be used further.
+     */
+    public String getRecyclingReason(WebDriverPool.DriverStatistics statistics) {
+        if (maxNavigationErrors > 0 && statistics.getNavigationErrors() >= maxNavigationErrors) {
+            return statistics.getNavigationErrors() + " navigations in a row failed";
+        }
+        return getRecyclingReason(statistics, 1.0);
+    }
+
+    /**
+     * Check if a driver will be recycled soon so that a replacement should be started in advance.
+     *
+     * @param statistics
+     *         The statistics of the driver.
+     * @return If a limit of the driver is almost reached.
+     */
+    public boolean isRecyclingDueSoon(WebDriverPool.DriverStatistics statistics) {
+        return getRecyclingReason(statistics, PREPARATION_THRESHOLD) != null;
+    }
+
+    /** @return If the size of the JavaScript heap has to be measured. */
+    public boolean isHeapSizeLimited() {
+        return maxHeapSize > 0;
+    }
+
+    private String getRecyclingReason(WebDriverPool.DriverStatistics statistics, double fraction) {
+        if (maxQueries > 0 && statistics.getQueries() >= maxQueries * fraction) {
+            return "it has executed " + statistics.getQueries() + " queries";
+        } else if (maxAge > 0 && statistics.getAge() >= maxAge * fraction) {
+            return "it has been running for " + TimeUnit.MILLISECONDS.toSeconds(statistics.getAge()) + " s";
+        } else if (maxHeapSize > 0 && statistics.getHeapSize() >= maxHeapSize * fraction) {
+            return "its JavaScript heap has grown to " + statistics.getHeapSize() / BYTES_PER_MB + " MB";
+        }
+        return null;
+    }
+}
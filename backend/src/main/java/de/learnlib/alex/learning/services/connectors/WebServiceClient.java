@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+
+/**
+ * The HTTP client that is shared by all {@link WebServiceConnector}s. Connections are pooled and kept alive between
+ * requests, so that a query does not have to open a new connection for each symbol. The client does not store
+ * cookies and does not follow redirects, the connectors handle both themselves.
+ */
+@Service
+public class WebServiceClient {
+
+    /** The shared client. */
+    private final Client client;
+
+    /** The pool of the connections. */
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    /** The maximum number of bytes of a response body that are read. */
+    private final int maxBodySize;
+
+    /**
+     * Constructor.
+     *
+     * @param maxConnections
+     *         The maximum number of open connections.
+     * @param maxConnectionsPerHost
+     *         The maximum number of open connections to a single host.
+     * @param maxBodySize
+     *         {@link #maxBodySize}.
+     */
+    @Inject
+    public WebServiceClient(@Value("${alex.webService.maxConnections:200}") int maxConnections,
+                            @Value("${alex.webService.maxConnectionsPerHost:20}") int maxConnectionsPerHost,
+                            @Value("${alex.webService.maxBodySize:10485760}") int maxBodySize) {
+        this.maxBodySize = maxBodySize;
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        this.connectionManager.setMaxTotal(maxConnections);
+        this.connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+
+        final ClientConfig config = new ClientConfig()
+                .connectorProvider(new ApacheConnectorProvider())
+                .property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager)
+                .property(ApacheClientProperties.DISABLE_COOKIES, true)
+                .property(ClientProperties.FOLLOW_REDIRECTS, false);
+        this.client = ClientBuilder.newClient(config);
+    }
+
+    /** Close all connections. */
+    @PreDestroy
+    public void close() {
+        client.close();
+        connectionManager.shutdown();
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+}
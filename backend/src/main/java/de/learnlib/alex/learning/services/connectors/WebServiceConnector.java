@@ -16,18 +16,25 @@
 
 package de.learnlib.alex.learning.services.connectors;
 
+import de.learnlib.alex.common.utils.JsonDocument;
 import de.learnlib.alex.learning.services.BaseUrlManager;
 import org.glassfish.jersey.client.ClientProperties;
 
 import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.core.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Set;
 
@@ -36,6 +43,12 @@ import java.util.Set;
  */
 public class WebServiceConnector implements Connector {
 
+    /**
+     * The maximum number of bytes of an unread body that are skipped to reuse the connection. Larger bodies are not
+     * consumed, the connection is discarded instead.
+     */
+    private static final int MAX_DRAIN_SIZE = 64 * 1024;
+
     /** The target behind the connector. */
     private WebTarget target;
 
@@ -51,9 +64,18 @@ public class WebServiceConnector implements Connector {
     /** The response HTTP headers of the last call done by the connection. */
     private MultivaluedMap<String, Object> headers;
 
-    /** The response body of the last call done by the connection. */
+    /** The response body of the last call done by the connection, read on first access. */
     private String body;
 
+    /** The parsed body of the last call, created on first access and shared by all actions until the next call. */
+    private JsonDocument jsonDocument;
+
+    /** The response of the last call whose body has not been read yet. */
+    private Response response;
+
+    /** The maximum number of bytes of a response body that are read. */
+    private int maxBodySize;
+
     /** The cookies from th last call done by the connection. */
     private Map<String, NewCookie> cookies;
 
@@ -65,12 +87,14 @@ public class WebServiceConnector implements Connector {
      *
      * @param baseUrl
      *         The base url used by the connector. All other paths will treated as suffix to this.
+     * @param webServiceClient
+     *         The shared HTTP client whose connections are used.
      */
-    public WebServiceConnector(String baseUrl) {
+    public WebServiceConnector(String baseUrl, WebServiceClient webServiceClient) {
         this.baseUrl = new BaseUrlManager(baseUrl);
-        this.target = ClientBuilder.newClient().property(ClientProperties.FOLLOW_REDIRECTS, false)
-                .target(baseUrl);
-        this.client = ClientBuilder.newClient().property(ClientProperties.FOLLOW_REDIRECTS, false);
+        this.client = webServiceClient.getClient();
+        this.target = client.target(baseUrl);
+        this.maxBodySize = webServiceClient.getMaxBodySize();
     }
 
     /**
@@ -84,8 +108,25 @@ public class WebServiceConnector implements Connector {
      *         The url to reset the SUL. This URL is relative to the base URL.
      */
     public WebServiceConnector(WebTarget target, String baseUrl, String resetUrl) {
+        this(target, baseUrl, resetUrl, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor for testing purpose which sets the WebTarget to use and limits the size of response bodies.
+     *
+     * @param target
+     *         The WebTarget the connection will use.
+     * @param baseUrl
+     *         The base URL used by the connector. All other paths will treated as suffix to this.
+     * @param resetUrl
+     *         The url to reset the SUL. This URL is relative to the base URL.
+     * @param maxBodySize
+     *         The maximum number of bytes of a response body that are read.
+     */
+    public WebServiceConnector(WebTarget target, String baseUrl, String resetUrl, int maxBodySize) {
         this.baseUrl = new BaseUrlManager(baseUrl);
         this.target = target;
+        this.maxBodySize = maxBodySize;
         reset(resetUrl);
     }
 
@@ -95,10 +136,12 @@ public class WebServiceConnector implements Connector {
 
     @Override
     public void dispose() {
+        closeResponse();
     }
 
     @Override
     public void post() {
+        closeResponse();
     }
 
     /**
@@ -140,9 +183,27 @@ public class WebServiceConnector implements Connector {
         if (!init) {
             throw new IllegalStateException();
         }
+        if (body == null && response != null) {
+            body = readBody(response);
+            closeResponse();
+        }
         return body;
     }
 
+    /**
+     * Get the response body of the last request as parsed JSON document. The body is only parsed once per request.
+     *
+     * @return The parsed body, which is invalid if the body is no JSON object or array.
+     * @throws IllegalStateException
+     *         If no request was done before the method call.
+     */
+    public JsonDocument getJsonDocument() throws IllegalStateException {
+        if (jsonDocument == null) {
+            jsonDocument = JsonDocument.parse(getBody());
+        }
+        return jsonDocument;
+    }
+
     /**
      * Get the cookies.
      *
@@ -170,6 +231,7 @@ public class WebServiceConnector implements Connector {
      *         The amount of time in ms before the request is canceled.
      */
     public void get(String path, Map<String, String> requestHeaders, Set<Cookie> requestCookies, int timeout) {
+        closeResponse();
         final Response response = getRequestObject(path, requestHeaders, requestCookies, timeout).get();
         rememberResponseComponents(response);
         followRedirects(response);
@@ -199,6 +261,7 @@ public class WebServiceConnector implements Connector {
      */
     public void post(String path, Map<String, String> requestHeaders, Set<Cookie> requestCookies, String data,
             int timeout) {
+        closeResponse();
         final Entity body = getBody(requestHeaders, data);
         final Response response = getRequestObject(path, requestHeaders, requestCookies, timeout).post(body);
         rememberResponseComponents(response);
@@ -221,6 +284,7 @@ public class WebServiceConnector implements Connector {
      */
     public void put(String path, Map<String, String> requestHeaders, Set<Cookie> requestCookies,
             String data, int timeout) {
+        closeResponse();
         final Entity body = getBody(requestHeaders, data);
         final Response response = getRequestObject(path, requestHeaders, requestCookies, timeout).put(body);
         rememberResponseComponents(response);
@@ -240,6 +304,7 @@ public class WebServiceConnector implements Connector {
      *         The amount of time in ms before the request is canceled.
      */
     public void delete(String path, Map<String, String> requestHeaders, Set<Cookie> requestCookies, int timeout) {
+        closeResponse();
         final Response response = getRequestObject(path, requestHeaders, requestCookies, timeout).delete();
         rememberResponseComponents(response);
         followRedirects(response);
@@ -252,7 +317,12 @@ public class WebServiceConnector implements Connector {
      *         The url (based on the base url) to reset the SUL.
      */
     public void reset(String resetUrl) {
-        target.path(resetUrl).request().get();
+        closeResponse();
+        jsonDocument = null;
+        final Response response = target.path(resetUrl).request().get();
+        if (response != null) {
+            response.close();
+        }
         this.init = false;
     }
 
@@ -265,19 +335,24 @@ public class WebServiceConnector implements Connector {
     private void rememberResponseComponents(Response response) {
         status = response.getStatus();
         headers = response.getHeaders();
-        body = response.readEntity(String.class);
+        body = null;
+        jsonDocument = null;
         cookies = response.getCookies();
         init = true;
+        this.response = response;
     }
 
     private void followRedirects(Response response) {
         while (response.getStatus() == Response.Status.FOUND.getStatusCode()) { // 302
             final String location = response.getHeaderString("Location");
+            response.close();
             response = client.target(location).request().get();
 
             status = response.getStatus();
             headers = response.getHeaders();
-            body = response.readEntity(String.class);
+            body = null;
+            jsonDocument = null;
+            this.response = response;
 
             // Overwrite cookies from previous requests if there are new cookies, otherwise keep the old ones.
             // This way, cookies that may be required don't get lost in redirects.
@@ -287,6 +362,69 @@ public class WebServiceConnector implements Connector {
         }
     }
 
+    /**
+     * Read the body of a response, at most {@link #maxBodySize} bytes, in the charset given by its media type.
+     *
+     * @param response
+     *         The response to read the body from.
+     * @return The body, an empty string if the response has none.
+     */
+    private String readBody(Response response) {
+        final InputStream in = response.readEntity(InputStream.class);
+        if (in == null) {
+            return "";
+        }
+
+        final MediaType mediaType = response.getMediaType();
+        final String charsetName = mediaType == null
+                ? null
+                : mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        final Charset charset = charsetName == null ? StandardCharsets.UTF_8 : Charset.forName(charsetName);
+
+        try (InputStream stream = in) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while (out.size() < maxBodySize
+                    && (read = stream.read(buffer, 0, Math.min(buffer.length, maxBodySize - out.size()))) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), charset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Close the response of the last call so that its connection is returned to the pool. A body that has not been
+     * read is skipped without decoding it, because a connection can only be reused after its response is consumed.
+     * At most {@link #MAX_DRAIN_SIZE} bytes are skipped. If the body is larger, closing the unconsumed response
+     * aborts the connection, which is cheaper than downloading the rest of the body.
+     */
+    private void closeResponse() {
+        if (response == null) {
+            return;
+        }
+
+        if (body == null) {
+            body = "";
+            try (InputStream in = response.readEntity(InputStream.class)) {
+                if (in != null) {
+                    final byte[] buffer = new byte[8192];
+                    int drained = 0;
+                    int read;
+                    while (drained < MAX_DRAIN_SIZE && (read = in.read(buffer)) != -1) {
+                        drained += read;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // the connection is discarded instead of being reused
+            }
+        }
+        response.close();
+        response = null;
+    }
+
     /**
      * Get the base url of the API to call. All requests will be based on this!
      *
@@ -21,6 +21,8 @@ import de.learnlib.alex.data.entities.WebElementLocator;
 import de.learnlib.alex.data.entities.actions.Credentials;
 import de.learnlib.alex.learning.entities.webdrivers.AbstractWebDriverConfig;
 import de.learnlib.alex.learning.services.BaseUrlManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
@@ -36,12 +38,21 @@ import java.util.concurrent.TimeUnit;
  */
 public class WebSiteConnector implements Connector {
 
+    private static final Logger LOGGER = LogManager.getLogger();
+
     /** How often it should be tried to navigate to a given URL. */
     private static final int MAX_RETRIES = 10;
 
     /** How long it should be waited for the browser to finish building the site in seconds. */
     private static final int READY_STATE_TIMEOUT = 10;
 
+    /** After how many queries the size of the JavaScript heap is measured, if it is limited. */
+    private static final int HEAP_SIZE_CHECK_INTERVAL = 10;
+
+    /** The script that returns the used JavaScript heap in bytes, or -1 if the browser does not expose it. */
+    private static final String HEAP_SIZE_SCRIPT = "return window.performance && window.performance.memory"
+            + " ? window.performance.memory.usedJSHeapSize : -1;";
+
     /** The browser to use. */
     private AbstractWebDriverConfig driverConfig;
 
@@ -51,6 +62,12 @@ public class WebSiteConnector implements Connector {
     /** The driver used to send and receive data to a WebSite. */
     private WebDriver driver;
 
+    /** The statistics of the current driver. */
+    private WebDriverPool.DriverStatistics statistics;
+
+    /** The pool the driver is leased from. */
+    private final WebDriverPool driverPool;
+
     /**
      * Constructor.
      *
@@ -58,17 +75,23 @@ public class WebSiteConnector implements Connector {
      *         The new base url to use for further request. All request will be based on this!
      * @param driverConfig
      *         The driver config to use for further request.
+     * @param driverPool
+     *         {@link #driverPool}.
      */
-    public WebSiteConnector(String baseUrl, AbstractWebDriverConfig driverConfig) {
+    public WebSiteConnector(String baseUrl, AbstractWebDriverConfig driverConfig, WebDriverPool driverPool) {
         this.baseUrl = new BaseUrlManager(baseUrl);
         this.driverConfig = driverConfig;
+        this.driverPool = driverPool;
     }
 
     @Override
     public void reset() throws Exception {
         if (this.driver == null) {
-            this.driver = driverConfig.createDriver();
+            leaseDriver();
+        } else {
+            recycleIfNecessary();
         }
+        statistics.incrementQueries();
     }
 
     @Override
@@ -81,10 +104,18 @@ public class WebSiteConnector implements Connector {
         }
     }
 
+    /** Cleans the browser and gives it back to the pool. */
     @Override
     public void post() {
         if (driver != null) {
-            driver.quit();
+            try {
+                dispose();
+                driverPool.release(driverConfig, driver);
+            } catch (Exception e) {
+                driverPool.invalidate(driver);
+            }
+            driver = null;
+            statistics = null;
         }
     }
 
@@ -103,9 +134,58 @@ public class WebSiteConnector implements Connector {
      */
     public void restart() throws Exception {
         if (this.driver != null) {
-            this.driver.quit();
-            this.driver = driverConfig.createDriver();
+            recycle("a restart has been requested");
+        }
+    }
+
+    private void leaseDriver() throws Exception {
+        this.driver = driverPool.lease(driverConfig);
+        this.statistics = driverPool.getStatistics(driver);
+    }
+
+    /**
+     * Replace the driver by a new one if the recycling policy says so. If the driver has to be replaced soon, a new
+     * one is started in the background so that the replacement does not have to wait for it.
+     *
+     * @return If the driver has been replaced.
+     * @throws Exception
+     *         If the new driver could not be started.
+     */
+    private boolean recycleIfNecessary() throws Exception {
+        final WebDriverRecyclingPolicy policy = driverPool.getRecyclingPolicy();
+        if (policy.isHeapSizeLimited() && statistics.getQueries() % HEAP_SIZE_CHECK_INTERVAL == 0) {
+            statistics.setHeapSize(getHeapSize());
+        }
+
+        final String reason = policy.getRecyclingReason(statistics);
+        if (reason != null) {
+            recycle(reason);
+            return true;
+        } else if (policy.isRecyclingDueSoon(statistics)) {
+            driverPool.prestart(driverConfig, 1);
+        }
+        return false;
+    }
+
+    private void recycle(String reason) throws Exception {
+        LOGGER.info("Recycle a web driver that lived for {} s and executed {} queries because {}.",
+                TimeUnit.MILLISECONDS.toSeconds(statistics.getAge()), statistics.getQueries(), reason);
+        driverPool.invalidate(driver);
+        driver = null;
+        statistics = null;
+        leaseDriver();
+    }
+
+    private long getHeapSize() {
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                final Object heapSize = ((JavascriptExecutor) driver).executeScript(HEAP_SIZE_SCRIPT);
+                return heapSize instanceof Number ? ((Number) heapSize).longValue() : -1;
+            } catch (Exception e) {
+                return -1;
+            }
         }
+        return -1;
     }
 
     /**
@@ -131,12 +211,15 @@ public class WebSiteConnector implements Connector {
                             ((JavascriptExecutor) wd).executeScript("return document.readyState").equals("complete"));
                 }
 
+                statistics.resetNavigationErrors();
                 break;
             } catch (Exception e1) {
                 numRetries++;
+                statistics.incrementNavigationErrors();
                 try {
-                    dispose();
-                    reset();
+                    if (!recycleIfNecessary()) {
+                        dispose();
+                    }
                     TimeUnit.SECONDS.sleep(1);
                 } catch (Exception e2) {
                 }
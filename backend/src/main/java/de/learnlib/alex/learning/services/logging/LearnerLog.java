@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.logging;
+
+import java.util.Arrays;
+
+/**
+ * The log of the actions that are executed on the system under learning. Creating a record only stores the message
+ * pattern and the references to its arguments in a lock-free ring buffer, the message is formatted and written by a
+ * background thread. This keeps the I/O of the log files out of the execution of the symbols.
+ * <p>
+ * As the arguments are formatted later, arguments that may still change, e.g. entities, are converted to strings when
+ * the record is created. Strings, boxed primitives, enums and throwables are kept as they are. If the records cannot
+ * be written fast enough, new records are dropped instead of slowing down the learner.
+ */
+public final class LearnerLog {
+
+    /** The number of records that can wait to be written. */
+    public static final int BUFFER_SIZE = 8192;
+
+    /** The records that wait to be written. */
+    private static final LearnerLogBuffer BUFFER = new LearnerLogBuffer(BUFFER_SIZE);
+
+    /** The context and the indent of the current thread. */
+    private static final ThreadLocal<ThreadState> STATE = ThreadLocal.withInitial(ThreadState::new);
+
+    static {
+        new LearnerLogWriter(BUFFER).start();
+    }
+
+    /**
+     * Disabled default constructor, this is only a utility class with static methods.
+     */
+    private LearnerLog() {
+    }
+
+    /**
+     * Bind a log context to the current thread. All records of the thread are written with the settings of the
+     * context.
+     *
+     * @param context
+     *         The context.
+     */
+    public static void bind(LearnerLogContext context) {
+        final ThreadState state = STATE.get();
+        state.context = context == null ? LearnerLogContext.DEFAULT : context;
+        state.indent = 0;
+    }
+
+    /** Remove the log context from the current thread. */
+    public static void unbind() {
+        STATE.remove();
+    }
+
+    /** @return The log context of the current thread. */
+    public static LearnerLogContext getContext() {
+        return STATE.get().context;
+    }
+
+    /** Increase the indent of the records of the current thread. */
+    public static void increaseIndent() {
+        STATE.get().indent++;
+    }
+
+    /** Decrease the indent of the records of the current thread. */
+    public static void decreaseIndent() {
+        final ThreadState state = STATE.get();
+        state.indent = Math.max(0, state.indent - 1);
+    }
+
+    /**
+     * Check if records of a level are logged in the current thread.
+     *
+     * @param level
+     *         The level of the records.
+     * @return true, if the records are logged.
+     */
+    public static boolean isEnabled(LearnerLogLevel level) {
+        return STATE.get().context.getLevel().includes(level);
+    }
+
+    /**
+     * Log a message with the level INFO.
+     *
+     * @param message
+     *         The message pattern with '{}' placeholders.
+     * @param args
+     *         The arguments of the message, the last one may be a throwable.
+     */
+    public static void info(String message, Object... args) {
+        log(LearnerLogLevel.INFO, message, args);
+    }
+
+    /**
+     * Log a message with the level WARN.
+     *
+     * @param message
+     *         The message pattern with '{}' placeholders.
+     * @param args
+     *         The arguments of the message, the last one may be a throwable.
+     */
+    public static void warn(String message, Object... args) {
+        log(LearnerLogLevel.WARN, message, args);
+    }
+
+    /**
+     * Log a message with the level ERROR.
+     *
+     * @param message
+     *         The message pattern with '{}' placeholders.
+     * @param args
+     *         The arguments of the message, the last one may be a throwable.
+     */
+    public static void error(String message, Object... args) {
+        log(LearnerLogLevel.ERROR, message, args);
+    }
+
+    private static void log(LearnerLogLevel level, String message, Object[] args) {
+        final ThreadState state = STATE.get();
+        if (state.context.getLevel().includes(level)) {
+            BUFFER.offer(System.currentTimeMillis(), state.context, state.indent, level, message, snapshot(args));
+        }
+    }
+
+    /**
+     * Convert the arguments of a record that may be modified until the record is written to strings.
+     *
+     * @param args
+     *         The arguments of a record. The array is modified.
+     * @return The arguments.
+     */
+    static Object[] snapshot(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+
+        for (int i = 0; i < args.length; i++) {
+            final Object arg = args[i];
+            if (arg instanceof Object[]) {
+                args[i] = Arrays.deepToString((Object[]) arg);
+            } else if (!isImmutable(arg)) {
+                args[i] = String.valueOf(arg);
+            }
+        }
+        return args;
+    }
+
+    private static boolean isImmutable(Object arg) {
+        return arg == null || arg instanceof String || arg instanceof Boolean || arg instanceof Character
+                || arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte
+                || arg instanceof Double || arg instanceof Float || arg instanceof Enum || arg instanceof Throwable;
+    }
+
+    /** @return The number of records that have been dropped because they could not be written fast enough. */
+    public static long getDroppedRecords() {
+        return BUFFER.getDropped();
+    }
+
+    /** @return The number of records that wait to be written. */
+    public static int getPendingRecords() {
+        return BUFFER.size();
+    }
+
+    /** The log state of a thread. */
+    private static class ThreadState {
+
+        /** The context of the thread. */
+        private LearnerLogContext context = LearnerLogContext.DEFAULT;
+
+        /** The indent of the thread. */
+        private int indent;
+    }
+}
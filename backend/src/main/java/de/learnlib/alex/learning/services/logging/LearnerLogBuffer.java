@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free ring buffer for log records with many producers and a single consumer. Each slot has a
+ * sequence number that tells whether it is free for the producer of a position or contains a record for the consumer.
+ * Producers never wait: if the buffer is full, the record is dropped and counted. The consumer parks while the buffer
+ * is empty and is unparked by the next producer.
+ */
+final class LearnerLogBuffer {
+
+    /** The preallocated records. */
+    private final LearnerLogRecord[] records;
+
+    /** The sequence numbers of the slots. */
+    private final AtomicLongArray sequences;
+
+    /** The mask to map a position to its slot. */
+    private final int mask;
+
+    /** The next position a producer claims. */
+    private final AtomicLong tail;
+
+    /** The next position the consumer reads. Only written by the consumer. */
+    private volatile long head;
+
+    /** The number of records that have been dropped because the buffer was full. */
+    private final AtomicLong dropped;
+
+    /** The consumer if it waits for records, otherwise null. */
+    private volatile Thread waitingConsumer;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity
+     *         The number of records the buffer can hold, must be a power of two.
+     */
+    LearnerLogBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two.");
+        }
+
+        this.records = new LearnerLogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.tail = new AtomicLong();
+        this.dropped = new AtomicLong();
+
+        for (int i = 0; i < capacity; i++) {
+            records[i] = new LearnerLogRecord();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add a record to the buffer.
+     *
+     * @param timestamp
+     *         {@link LearnerLogRecord#timestamp}.
+     * @param context
+     *         {@link LearnerLogRecord#context}.
+     * @param indent
+     *         {@link LearnerLogRecord#indent}.
+     * @param level
+     *         {@link LearnerLogRecord#level}.
+     * @param message
+     *         {@link LearnerLogRecord#message}.
+     * @param args
+     *         {@link LearnerLogRecord#args}.
+     * @return true, if the record has been added; false, if it has been dropped because the buffer is full.
+     */
+    boolean offer(long timestamp, LearnerLogContext context, int indent, LearnerLogLevel level, String message,
+                  Object[] args) {
+        long position = tail.get();
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    final LearnerLogRecord record = records[index];
+                    record.timestamp = timestamp;
+                    record.context = context;
+                    record.indent = indent;
+                    record.level = level;
+                    record.message = message;
+                    record.args = args;
+
+                    // publish the record to the consumer
+                    sequences.set(index, position + 1);
+
+                    final Thread consumer = waitingConsumer;
+                    if (consumer != null) {
+                        LockSupport.unpark(consumer);
+                    }
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the consumer has not read the record of the previous round yet
+                dropped.incrementAndGet();
+                return false;
+            } else {
+                // another producer has claimed the position
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Pass the available records to the consumer. Must only be called by a single thread.
+     *
+     * @param consumer
+     *         The consumer of the records. The record must not be used after the consumer returns.
+     * @param max
+     *         The maximum number of records to read.
+     * @return The number of records that have been read.
+     */
+    int drain(Consumer<LearnerLogRecord> consumer, int max) {
+        int count = 0;
+        while (count < max) {
+            final int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+
+            final LearnerLogRecord record = records[index];
+            try {
+                consumer.accept(record);
+            } finally {
+                record.clear();
+
+                // free the slot for the producer of the next round
+                sequences.set(index, head + records.length);
+                head++;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Wait until there is a record to read. Must only be called by the consumer. The method may also return if the
+     * thread has been interrupted or spuriously, so the caller has to check the buffer again.
+     */
+    void awaitRecords() {
+        waitingConsumer = Thread.currentThread();
+        try {
+            // a producer that has published a record before the consumer has been set does not unpark it
+            if (sequences.get((int) head & mask) != head + 1) {
+                LockSupport.park(this);
+            }
+        } finally {
+            waitingConsumer = null;
+        }
+    }
+
+    /** @return The number of records that wait to be read. */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /** @return The number of records the buffer can hold. */
+    int capacity() {
+        return records.length;
+    }
+
+    /** @return The number of records that have been dropped because the buffer was full. */
+    long getDropped() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.logging;
+
+/**
+ * The log settings of an experiment. The context is bound to the threads that execute the symbols of the experiment,
+ * so that the records of the threads end up in the log of the user with the verbosity of the experiment.
+ */
+public class LearnerLogContext {
+
+    /** The default number of characters of a value that are logged. */
+    public static final int DEFAULT_MAX_BODY_LENGTH = 1000;
+
+    /** The context of threads without an experiment. */
+    static final LearnerLogContext DEFAULT = new LearnerLogContext(null);
+
+    /** The id of the user the records belong to, or null. */
+    private final Long userId;
+
+    /** The most verbose level that is logged. */
+    private final LearnerLogLevel level;
+
+    /** How many characters of a value, e.g. a response body, are logged. 0 := all characters. */
+    private final int maxBodyLength;
+
+    /** The number of the test the records belong to, or null if it is not known yet. */
+    private volatile String testNo;
+
+    /**
+     * Constructor that logs everything and truncates values after {@link #DEFAULT_MAX_BODY_LENGTH} characters.
+     *
+     * @param userId
+     *         {@link #userId}.
+     */
+    public LearnerLogContext(Long userId) {
+        this(userId, LearnerLogLevel.INFO, DEFAULT_MAX_BODY_LENGTH);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param userId
+     *         {@link #userId}.
+     * @param level
+     *         {@link #level}.
+     * @param maxBodyLength
+     *         {@link #maxBodyLength}.
+     */
+    public LearnerLogContext(Long userId, LearnerLogLevel level, int maxBodyLength) {
+        this.userId = userId;
+        this.level = level == null ? LearnerLogLevel.INFO : level;
+        this.maxBodyLength = Math.max(0, maxBodyLength);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LearnerLogLevel getLevel() {
+        return level;
+    }
+
+    public int getMaxBodyLength() {
+        return maxBodyLength;
+    }
+
+    public String getTestNo() {
+        return testNo;
+    }
+
+    public void setTestNo(String testNo) {
+        this.testNo = testNo;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.logging;
+
+import org.apache.logging.log4j.Level;
+
+/**
+ * The levels of the learner log, ordered by their verbosity.
+ */
+public enum LearnerLogLevel {
+
+    /** Nothing is logged. */
+    OFF(Level.OFF),
+
+    /** Only errors are logged. */
+    ERROR(Level.ERROR),
+
+    /** Errors and warnings are logged. */
+    WARN(Level.WARN),
+
+    /** Every executed symbol and action is logged. */
+    INFO(Level.INFO);
+
+    /** The corresponding level of log4j. */
+    private final Level level;
+
+    /**
+     * Constructor.
+     *
+     * @param level
+     *         {@link #level}.
+     */
+    LearnerLogLevel(Level level) {
+        this.level = level;
+    }
+
+    /**
+     * Check if records of a level are logged if this is the configured level.
+     *
+     * @param recordLevel
+     *         The level of the record.
+     * @return true, if the record should be logged.
+     */
+    public boolean includes(LearnerLogLevel recordLevel) {
+        return recordLevel != OFF && recordLevel.ordinal() <= ordinal();
+    }
+
+    /** @return The corresponding level of log4j. */
+    public Level toLog4jLevel() {
+        return level;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.logging;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.TimestampMessage;
+
+/**
+ * A log4j message of a learner log record. It keeps the time the record has been created instead of the time it has
+ * been written.
+ */
+class LearnerLogMessage extends ParameterizedMessage implements TimestampMessage {
+
+    private static final long serialVersionUID = -2164502718523372930L;
+
+    /** When the record has been created, in milliseconds since the epoch. */
+    private final long timestamp;
+
+    /**
+     * Constructor.
+     *
+     * @param timestamp
+     *         {@link #timestamp}.
+     * @param pattern
+     *         The message pattern with '{}' placeholders.
+     * @param args
+     *         The arguments of the message.
+     */
+    LearnerLogMessage(long timestamp, String pattern, Object[] args) {
+        super(pattern, args);
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
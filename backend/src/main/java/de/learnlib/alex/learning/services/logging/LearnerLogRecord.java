@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.logging;
+
+/**
+ * A slot of the {@link LearnerLogBuffer}. The records are allocated once and reused, the producers only store the
+ * references to the message pattern and its arguments, the message is formatted by the writer.
+ */
+final class LearnerLogRecord {
+
+    /** When the record has been created, in milliseconds since the epoch. */
+    long timestamp;
+
+    /** The context of the thread that created the record. */
+    LearnerLogContext context;
+
+    /** The indent of the thread that created the record. */
+    int indent;
+
+    /** The level of the record. */
+    LearnerLogLevel level;
+
+    /** The message pattern with '{}' placeholders. */
+    String message;
+
+    /** The arguments of the message, the last one may be a throwable. */
+    Object[] args;
+
+    /** Removes all references so that they can be garbage collected. */
+    void clear() {
+        context = null;
+        level = null;
+        message = null;
+        args = null;
+    }
+}
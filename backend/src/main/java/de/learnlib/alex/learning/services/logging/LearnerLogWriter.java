@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.logging;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
+
+import java.util.Objects;
+
+/**
+ * The thread that formats the records of the {@link LearnerLogBuffer} and passes them to log4j. The records are
+ * written with the LEARNER marker, so they end up in the log files of the users like before.
+ */
+class LearnerLogWriter extends Thread {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final Marker LEARNER_MARKER = MarkerManager.getMarker("LEARNER");
+
+    /** How many records are written before the buffer is checked for dropped records. */
+    private static final int BATCH_SIZE = 256;
+
+    /** The indent of a single level. */
+    private static final String INDENT = "    ";
+
+    /** The buffer to read the records from. */
+    private final LearnerLogBuffer buffer;
+
+    /** The number of dropped records that have already been reported. */
+    private long reportedDrops;
+
+    /** The user id in the thread context. */
+    private Long currentUserId;
+
+    /** The test number in the thread context. */
+    private String currentTestNo;
+
+    /** The indent in the thread context. */
+    private int currentIndent;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer
+     *         {@link #buffer}.
+     */
+    LearnerLogWriter(LearnerLogBuffer buffer) {
+        super("learner-log-writer");
+        this.buffer = buffer;
+        setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        currentIndent = -1;
+        while (!isInterrupted()) {
+            final int written = buffer.drain(this::write, BATCH_SIZE);
+            reportDrops();
+            if (written == 0) {
+                buffer.awaitRecords();
+            }
+        }
+    }
+
+    private void write(LearnerLogRecord record) {
+        try {
+            updateThreadContext(record.context, record.indent);
+
+            final LearnerLogMessage message = new LearnerLogMessage(record.timestamp, record.message,
+                    truncate(record.args, record.context.getMaxBodyLength()));
+            LOGGER.log(record.level.toLog4jLevel(), LEARNER_MARKER, message, message.getThrowable());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not write a record of the learner log.", e);
+        }
+    }
+
+    private void updateThreadContext(LearnerLogContext context, int indent) {
+        if (currentIndent < 0 || !Objects.equals(context.getUserId(), currentUserId)) {
+            currentUserId = context.getUserId();
+            ThreadContext.put("userId", currentUserId == null ? null : String.valueOf(currentUserId));
+        }
+        if (currentIndent < 0 || !Objects.equals(context.getTestNo(), currentTestNo)) {
+            currentTestNo = context.getTestNo();
+            ThreadContext.put("testNo", currentTestNo);
+        }
+        if (indent != currentIndent) {
+            currentIndent = indent;
+            final StringBuilder sb = new StringBuilder(indent * INDENT.length());
+            for (int i = 0; i < indent; i++) {
+                sb.append(INDENT);
+            }
+            ThreadContext.put("indent", sb.toString());
+        }
+    }
+
+    private void reportDrops() {
+        final long dropped = buffer.getDropped();
+        if (dropped > reportedDrops) {
+            LOGGER.warn("{} records of the learner log have been dropped because they could not be written fast "
+                    + "enough.", dropped - reportedDrops);
+            reportedDrops = dropped;
+        }
+    }
+
+    /**
+     * Shorten the string values of log arguments, e.g. response bodies or page sources.
+     *
+     * @param args
+     *         The arguments of a log record. The array is modified.
+     * @param maxLength
+     *         The maximum number of characters of a value. 0 := all characters.
+     * @return The arguments.
+     */
+    static Object[] truncate(Object[] args, int maxLength) {
+        if (args == null || maxLength <= 0) {
+            return args;
+        }
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof CharSequence) {
+                final CharSequence value = (CharSequence) args[i];
+                if (value.length() > maxLength) {
+                    args[i] = value.subSequence(0, maxLength) + "... (" + (value.length() - maxLength)
+                            + " more characters)";
+                }
+            }
+        }
+        return args;
+    }
+}
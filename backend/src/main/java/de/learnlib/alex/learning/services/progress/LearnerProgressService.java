@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.progress;
+
+import de.learnlib.alex.learning.entities.LearnerProgressEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The service that pushes the progress of running learning experiments to the clients that observe them. Events are
+ * published without blocking the learner: each client has its own bounded {@link LearnerProgressSubscription} that is
+ * drained by a separate delivery task. A delivery task runs on its own daemon thread as long as its client is
+ * connected.
+ */
+@Service
+public class LearnerProgressService {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /** The maximum number of pending events per client. */
+    private static final int BUFFER_CAPACITY = 64;
+
+    /** The time in ms after which an idle connection is kept alive. */
+    private static final long KEEP_ALIVE_INTERVAL = 15000L;
+
+    /** The sink the events of a subscription are written to. */
+    public interface EventSink {
+
+        /**
+         * Sends an event to the client.
+         *
+         * @param event
+         *         The event.
+         * @throws IOException
+         *         If the client is not connected anymore.
+         */
+        void send(LearnerProgressEvent event) throws IOException;
+
+        /**
+         * Keeps an idle connection alive and detects disconnected clients.
+         *
+         * @throws IOException
+         *         If the client is not connected anymore.
+         */
+        void keepAlive() throws IOException;
+
+        /** Closes the connection to the client once the subscription has ended. */
+        void close();
+    }
+
+    /** The subscriptions per project. */
+    private final Map<Long, List<LearnerProgressSubscription>> subscriptions;
+
+    /** The executor that delivers the events to the clients. */
+    private final ExecutorService executor;
+
+    /** Constructor. */
+    public LearnerProgressService() {
+        this.subscriptions = new ConcurrentHashMap<>();
+        this.executor = Executors.newCachedThreadPool(r -> {
+            final Thread thread = new Thread(r, "learner-progress-delivery");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Subscribes a client to the events of a project. The subscription is cancelled once the client disconnects.
+     *
+     * @param projectId
+     *         The ID of the project.
+     * @param sink
+     *         The sink the events are written to.
+     * @return The subscription.
+     */
+    public LearnerProgressSubscription subscribe(Long projectId, EventSink sink) {
+        final LearnerProgressSubscription subscription = new LearnerProgressSubscription(projectId, BUFFER_CAPACITY);
+        subscriptions.compute(projectId, (id, list) -> {
+            final List<LearnerProgressSubscription> projectSubscriptions =
+                    list == null ? new CopyOnWriteArrayList<>() : list;
+            projectSubscriptions.add(subscription);
+            return projectSubscriptions;
+        });
+        executor.submit(() -> deliver(subscription, sink));
+        return subscription;
+    }
+
+    /**
+     * Cancels a subscription.
+     *
+     * @param subscription
+     *         The subscription.
+     */
+    public void unsubscribe(LearnerProgressSubscription subscription) {
+        subscription.close();
+        subscriptions.computeIfPresent(subscription.getProjectId(), (id, list) -> {
+            list.remove(subscription);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * Publishes an event to all clients that observe the project of the event.
+     *
+     * @param event
+     *         The event.
+     */
+    public void publish(LearnerProgressEvent event) {
+        final List<LearnerProgressSubscription> projectSubscriptions = subscriptions.get(event.getProjectId());
+        if (projectSubscriptions != null) {
+            projectSubscriptions.forEach(subscription -> subscription.offer(event));
+        }
+    }
+
+    /**
+     * @param projectId
+     *         The ID of the project.
+     * @return If a client observes the project.
+     */
+    public boolean hasSubscribers(Long projectId) {
+        return subscriptions.containsKey(projectId);
+    }
+
+    /** Closes all subscriptions and stops the delivery of events. */
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(list -> list.forEach(LearnerProgressSubscription::close));
+        subscriptions.clear();
+        executor.shutdownNow();
+    }
+
+    private void deliver(LearnerProgressSubscription subscription, EventSink sink) {
+        try {
+            while (!subscription.isClosed()) {
+                final LearnerProgressEvent event = subscription.take(KEEP_ALIVE_INTERVAL);
+                if (event != null) {
+                    sink.send(event);
+                } else if (!subscription.isClosed()) {
+                    sink.keepAlive();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("A client of the learner progress stream disconnected.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            unsubscribe(subscription);
+            sink.close();
+        }
+    }
+}
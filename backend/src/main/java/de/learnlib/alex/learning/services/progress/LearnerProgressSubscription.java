@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.progress;
+
+import de.learnlib.alex.learning.entities.LearnerProgressEvent;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * The bounded buffer of progress events for a single client. Events of a coalescable type replace a pending event of
+ * the same type, so that a slow client only receives the latest counters instead of every intermediate value. If the
+ * buffer is full nonetheless, the oldest event is discarded and the client is informed about the overflow, so that
+ * the learner never has to wait for a client.
+ */
+public class LearnerProgressSubscription {
+
+    /** The ID of the project whose events are observed. */
+    private final Long projectId;
+
+    /** The maximum number of pending events. */
+    private final int capacity;
+
+    /** The pending events in the order they occurred. */
+    private final LinkedList<LearnerProgressEvent> buffer;
+
+    /** The number of events that have been discarded since the last overflow event. */
+    private long droppedEvents;
+
+    /** If the subscription has been closed. */
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param projectId
+     *         {@link #projectId}.
+     * @param capacity
+     *         {@link #capacity}.
+     */
+    public LearnerProgressSubscription(Long projectId, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity has to be positive.");
+        }
+        this.projectId = projectId;
+        this.capacity = capacity;
+        this.buffer = new LinkedList<>();
+    }
+
+    /**
+     * Adds an event to the buffer without blocking.
+     *
+     * @param event
+     *         The event.
+     */
+    public synchronized void offer(LearnerProgressEvent event) {
+        if (closed) {
+            return;
+        }
+
+        if (event.getType().isCoalescable()) {
+            final Iterator<LearnerProgressEvent> iterator = buffer.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getType() == event.getType()) {
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+
+        if (buffer.size() >= capacity) {
+            buffer.removeFirst();
+            droppedEvents++;
+        }
+
+        buffer.addLast(event);
+        notifyAll();
+    }
+
+    /**
+     * Removes the next event from the buffer and waits for one if there is none.
+     *
+     * @param timeout
+     *         The maximum time in ms to wait.
+     * @return The next event, or null if no event occurred in time or the subscription has been closed.
+     * @throws InterruptedException
+     *         If the thread has been interrupted while waiting.
+     */
+    public synchronized LearnerProgressEvent take(long timeout) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeout;
+        while (!closed && buffer.isEmpty() && droppedEvents == 0) {
+            final long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return null;
+            }
+            wait(remaining);
+        }
+
+        if (closed) {
+            return null;
+        } else if (droppedEvents > 0) {
+            final LearnerProgressEvent overflow = LearnerProgressEvent.overflow(projectId, droppedEvents);
+            droppedEvents = 0;
+            return overflow;
+        } else {
+            return buffer.removeFirst();
+        }
+    }
+
+    /** Closes the subscription and discards all pending events. */
+    public synchronized void close() {
+        closed = true;
+        buffer.clear();
+        notifyAll();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /** @return The number of pending events. */
+    public synchronized int size() {
+        return buffer.size();
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+}
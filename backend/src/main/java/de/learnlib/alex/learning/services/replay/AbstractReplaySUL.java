@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.replay;
+
+import de.learnlib.api.SUL;
+import de.learnlib.api.exception.SULException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for systems under learning that answer queries in-process and only simulate the latency of the target.
+ */
+public abstract class AbstractReplaySUL implements SUL<String, String> {
+
+    /** How many microseconds the execution of a symbol takes. */
+    protected final long symbolLatency;
+
+    /**
+     * Constructor.
+     *
+     * @param symbolLatency
+     *         {@link #symbolLatency}.
+     */
+    protected AbstractReplaySUL(long symbolLatency) {
+        this.symbolLatency = symbolLatency;
+    }
+
+    @Override
+    public void post() {
+    }
+
+    @Override
+    public boolean canFork() {
+        return true;
+    }
+
+    /**
+     * Blocks the calling thread as long as the execution of a symbol would take.
+     *
+     * @param micros
+     *         The latency in microseconds.
+     * @throws SULException
+     *         If the thread has been interrupted.
+     */
+    protected void simulateLatency(long micros) throws SULException {
+        if (micros <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.MICROSECONDS.sleep(micros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SULException(e);
+        }
+    }
+}
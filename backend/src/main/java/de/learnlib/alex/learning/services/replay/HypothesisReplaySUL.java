@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.replay;
+
+import de.learnlib.api.SUL;
+import de.learnlib.api.exception.SULException;
+import net.automatalib.automata.transout.impl.compact.CompactMealy;
+import net.automatalib.automata.transout.impl.compact.CompactMealyTransition;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * System under learning that answers queries with the outputs of a hypothesis.
+ */
+public class HypothesisReplaySUL extends AbstractReplaySUL {
+
+    /** The hypothesis. It is only read and therefore shared by all forks. */
+    private final CompactMealy<String, String> hypothesis;
+
+    /** The current state of the hypothesis, or null if it has no transition for a previous input. */
+    private Integer state;
+
+    /**
+     * Constructor.
+     *
+     * @param hypothesis
+     *         {@link #hypothesis}.
+     * @param symbolLatency
+     *         How many microseconds the execution of a symbol takes.
+     */
+    public HypothesisReplaySUL(CompactMealy<String, String> hypothesis, long symbolLatency) {
+        super(symbolLatency);
+        this.hypothesis = hypothesis;
+    }
+
+    @Override
+    public void pre() {
+        state = hypothesis.getInitialState();
+    }
+
+    @Nullable
+    @Override
+    public String step(@Nullable String input) throws SULException {
+        simulateLatency(symbolLatency);
+
+        final boolean known = state != null && hypothesis.getInputAlphabet().contains(input);
+        final CompactMealyTransition<String> transition = known ? hypothesis.getTransition(state, input) : null;
+        if (transition == null) {
+            state = null;
+            throw new SULException(new IllegalStateException("The hypothesis has no transition for " + input + "."));
+        }
+
+        state = hypothesis.getSuccessor(transition);
+        return hypothesis.getTransitionOutput(transition);
+    }
+
+    @Nonnull
+    @Override
+    public SUL<String, String> fork() {
+        return new HypothesisReplaySUL(hypothesis, symbolLatency);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.replay;
+
+import de.learnlib.alex.learning.entities.QueryTrace;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix tree of the queries that have been recorded in a query trace. Each node holds the output and the execution
+ * time of the last symbol of the path to it. The tree is built once and only read afterwards, so that it can be shared
+ * by all threads that answer queries.
+ */
+public class QueryTraceTree {
+
+    /** The root of the tree, i.e. the node of the empty word. */
+    private final Node root;
+
+    /** The number of nodes in the tree, without the root. */
+    private long size;
+
+    /** Constructor. */
+    public QueryTraceTree() {
+        this.root = new Node(null, 0L);
+    }
+
+    /**
+     * Create the tree of the queries of a trace.
+     *
+     * @param queries
+     *         The queries.
+     * @return The tree.
+     */
+    public static QueryTraceTree of(Iterator<QueryTrace> queries) {
+        final QueryTraceTree tree = new QueryTraceTree();
+        queries.forEachRemaining(tree::add);
+        return tree;
+    }
+
+    /**
+     * Add a query to the tree. Symbols that have no output, because the execution of the query failed before, are
+     * ignored. If a word has been recorded several times, the first output is kept.
+     *
+     * @param query
+     *         The query.
+     */
+    public void add(QueryTrace query) {
+        final List<String> input = query.getInput();
+        final List<String> output = query.getOutput();
+        final List<Long> durations = query.getDurations();
+
+        Node node = root;
+        for (int i = 0; i < Math.min(input.size(), output.size()); i++) {
+            Node child = node.getChild(input.get(i));
+            if (child == null) {
+                child = new Node(output.get(i), i < durations.size() ? durations.get(i) : 0L);
+                node.addChild(input.get(i), child);
+                size++;
+            }
+            node = child;
+        }
+    }
+
+    /** @return The root of the tree, i.e. the node of the empty word. */
+    public Node getRoot() {
+        return root;
+    }
+
+    /** @return The number of symbols with a known output. */
+    public long getSize() {
+        return size;
+    }
+
+    /** A node in the tree. */
+    public static final class Node {
+
+        /** The output of the last symbol. */
+        private final String output;
+
+        /** The execution time of the last symbol in microseconds. */
+        private final long duration;
+
+        /** The children of the node by their input, or null if the node is a leaf. */
+        private Map<String, Node> children;
+
+        private Node(String output, long duration) {
+            this.output = output;
+            this.duration = duration;
+        }
+
+        /**
+         * Get the node that is reached with an input.
+         *
+         * @param input
+         *         The input.
+         * @return The child, or null if the input has not been recorded after the path to this node.
+         */
+        public Node getChild(String input) {
+            return children == null ? null : children.get(input);
+        }
+
+        private void addChild(String input, Node child) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            children.put(input, child);
+        }
+
+        public String getOutput() {
+            return output;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.replay;
+
+import de.learnlib.alex.auth.entities.User;
+import de.learnlib.alex.common.exceptions.NotFoundException;
+import de.learnlib.alex.learning.dao.LearnerResultDAO;
+import de.learnlib.alex.learning.entities.LearnerResult;
+import de.learnlib.alex.learning.entities.LearnerResultStep;
+import de.learnlib.alex.learning.entities.ReplayConfig;
+import de.learnlib.alex.learning.services.trace.QueryTraceReader;
+import de.learnlib.alex.learning.services.trace.QueryTraceService;
+import de.learnlib.api.SUL;
+import net.automatalib.automata.transout.impl.compact.CompactMealy;
+import net.automatalib.words.Alphabet;
+import org.springframework.stereotype.Service;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Service that creates the systems under learning that replay previous learner results.
+ */
+@Service
+public class ReplayService {
+
+    /** The DAO for learner results. */
+    @Inject
+    private LearnerResultDAO learnerResultDAO;
+
+    /** The service that stores the query traces. */
+    @Inject
+    private QueryTraceService queryTraceService;
+
+    /**
+     * Create a system under learning that answers queries from a previous learner result.
+     *
+     * @param user
+     *         The user who starts the experiment.
+     * @param projectId
+     *         The id of the project the result belongs to.
+     * @param config
+     *         The configuration of the replay.
+     * @param alphabet
+     *         The names of the symbols that are learned.
+     * @return The system under learning.
+     * @throws NotFoundException
+     *         If the result, the step or the trace could not be found.
+     * @throws IllegalArgumentException
+     *         If the configuration is invalid or the replayed result does not fit the alphabet.
+     */
+    public SUL<String, String> createSUL(User user, Long projectId, ReplayConfig config, Collection<String> alphabet)
+            throws NotFoundException, IllegalArgumentException {
+        config.check();
+
+        final LearnerResult result = learnerResultDAO.get(user, projectId, config.getTestNo(), true);
+        final long symbolLatency = TimeUnit.MILLISECONDS.toMicros(config.getSymbolLatency());
+
+        if (config.getSource() == ReplayConfig.Source.HYPOTHESIS) {
+            return new HypothesisReplaySUL(createHypothesis(result, config.getStepNo(), alphabet), symbolLatency);
+        }
+
+        // the latency of the fallback is simulated by the trace replay
+        final SUL<String, String> fallback = config.getStepNo() == null ? null
+                : new HypothesisReplaySUL(createHypothesis(result, config.getStepNo(), alphabet), 0L);
+        return new TraceReplaySUL(readTrace(projectId, config.getTestNo()), fallback, symbolLatency,
+                config.isRecordedLatency());
+    }
+
+    private CompactMealy<String, String> createHypothesis(LearnerResult result, Long stepNo,
+            Collection<String> alphabet) throws NotFoundException, IllegalArgumentException {
+        if (result.getSteps().isEmpty()) {
+            throw new NotFoundException("The result " + result.getTestNo() + " does not have any steps.");
+        }
+
+        final LearnerResultStep step;
+        if (stepNo == null) {
+            step = result.getSteps().get(result.getSteps().size() - 1);
+        } else {
+            step = result.getSteps().stream()
+                    .filter(s -> stepNo.equals(s.getStepNo()))
+                    .findFirst()
+                    .orElseThrow(() -> new NotFoundException("Could not find the step " + stepNo + " of the result "
+                            + result.getTestNo() + "."));
+        }
+
+        if (step.getHypothesis() == null) {
+            throw new NotFoundException("The step " + step.getStepNo() + " of the result " + result.getTestNo()
+                    + " does not have a hypothesis.");
+        }
+
+        final Alphabet<String> sigma = step.getHypothesis().createAlphabet();
+        final List<String> missingSymbols = alphabet.stream()
+                .filter(symbol -> !sigma.contains(symbol))
+                .collect(Collectors.toList());
+        if (!missingSymbols.isEmpty()) {
+            throw new IllegalArgumentException("The hypothesis of the step " + step.getStepNo() + " of the result "
+                    + result.getTestNo() + " does not contain the symbols " + missingSymbols + ".");
+        }
+
+        return step.getHypothesis().createMealyMachine(sigma);
+    }
+
+    private QueryTraceTree readTrace(Long projectId, Long testNo) throws NotFoundException {
+        if (!queryTraceService.exists(projectId, testNo)) {
+            throw new NotFoundException("The result " + testNo + " does not have a query trace.");
+        }
+
+        try (QueryTraceReader reader = queryTraceService.read(projectId, testNo)) {
+            return QueryTraceTree.of(reader);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read the query trace of the result " + testNo + ".", e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.replay;
+
+import de.learnlib.api.SUL;
+import de.learnlib.api.exception.SULException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * System under learning that answers queries with the outputs that have been recorded in a query trace. Queries that
+ * have not been recorded are passed to a fallback, e.g. a hypothesis of the same result, or fail if there is none.
+ */
+public class TraceReplaySUL extends AbstractReplaySUL {
+
+    /** The recorded queries. They are only read and therefore shared by all forks. */
+    private final QueryTraceTree tree;
+
+    /** The system that answers queries that have not been recorded, or null if they fail. */
+    private final SUL<String, String> fallback;
+
+    /** If the recorded execution times are simulated instead of {@link #symbolLatency}. */
+    private final boolean recordedLatency;
+
+    /** The inputs of the current query. They are replayed on the fallback once the query leaves the tree. */
+    private final List<String> inputs;
+
+    /** The node of the current query in the tree, or null if the query is answered by the fallback. */
+    private QueryTraceTree.Node node;
+
+    /**
+     * Constructor.
+     *
+     * @param tree
+     *         {@link #tree}.
+     * @param fallback
+     *         {@link #fallback}. It should not simulate any latency, as the recorded prefixes of queries are replayed
+     *         on it.
+     * @param symbolLatency
+     *         How many microseconds the execution of a symbol takes.
+     * @param recordedLatency
+     *         {@link #recordedLatency}.
+     */
+    public TraceReplaySUL(QueryTraceTree tree, SUL<String, String> fallback, long symbolLatency,
+            boolean recordedLatency) {
+        super(symbolLatency);
+        this.tree = tree;
+        this.fallback = fallback;
+        this.recordedLatency = recordedLatency;
+        this.inputs = new ArrayList<>();
+    }
+
+    @Override
+    public void pre() {
+        node = tree.getRoot();
+        inputs.clear();
+    }
+
+    @Override
+    public void post() {
+        if (node == null && fallback != null) {
+            fallback.post();
+        }
+    }
+
+    @Nullable
+    @Override
+    public String step(@Nullable String input) throws SULException {
+        if (node != null) {
+            final QueryTraceTree.Node child = node.getChild(input);
+            if (child != null) {
+                simulateLatency(recordedLatency ? child.getDuration() : symbolLatency);
+                node = child;
+                inputs.add(input);
+                return child.getOutput();
+            }
+
+            if (fallback == null) {
+                throw new SULException(new IllegalStateException("The query " + inputs + " followed by " + input
+                        + " has not been recorded."));
+            }
+
+            // the fallback has to reach the state of the recorded prefix first
+            node = null;
+            fallback.pre();
+            for (final String recordedInput : inputs) {
+                fallback.step(recordedInput);
+            }
+        }
+
+        simulateLatency(symbolLatency);
+        return fallback.step(input);
+    }
+
+    @Nonnull
+    @Override
+    public SUL<String, String> fork() {
+        return new TraceReplaySUL(tree, fallback == null ? null : fallback.fork(), symbolLatency, recordedLatency);
+    }
+}
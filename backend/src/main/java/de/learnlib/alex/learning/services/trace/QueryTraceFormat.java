@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.trace;
+
+/**
+ * The constants of the query trace files.
+ * <p>
+ * File format (all numbers are big endian):
+ * <pre>
+ * magic (int), version (int),
+ * records: (type (byte), record)*
+ * string record: id (int), length (int), UTF-8 bytes
+ * query record: timestamp (long), phase (byte), instance (int), failed (byte), prefix length (int), length (int),
+ *               (input string id (int), output string id (int), duration in microseconds (int))*
+ * </pre>
+ * Strings are written once, before the first query that uses them. A record type of 0 marks the end of the trace, so
+ * that the preallocated part of a file that is still being written can be read.
+ */
+final class QueryTraceFormat {
+
+    /** The magic number at the start of a trace file ("ALQT"). */
+    static final int MAGIC = 0x414c5154;
+
+    /** The version of the file format. */
+    static final int VERSION = 1;
+
+    /** The size of the header in bytes. */
+    static final int HEADER_SIZE = 8;
+
+    /** The type of the end of the trace. */
+    static final byte END = 0;
+
+    /** The type of a string record. */
+    static final byte STRING = 1;
+
+    /** The type of a query record. */
+    static final byte QUERY = 2;
+
+    /** The size of a query record without its symbols, including its type. */
+    static final int QUERY_HEADER_SIZE = 1 + 8 + 1 + 4 + 1 + 4 + 4;
+
+    /** The size of a symbol of a query record. */
+    static final int SYMBOL_SIZE = 3 * 4;
+
+    /** The id of a missing output. */
+    static final int NO_OUTPUT = -1;
+
+    /** The phase of a query that has been posed in an unknown phase. */
+    static final byte NO_PHASE = -1;
+
+    /**
+     * Disabled default constructor, this is only a class with constants.
+     */
+    private QueryTraceFormat() {
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.trace;
+
+import de.learnlib.alex.learning.entities.QueryTrace;
+import de.learnlib.alex.learning.services.Learner;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates the queries of a trace file in the format of {@link QueryTraceFormat}. The file is memory-mapped and may
+ * still be written, in which case the queries up to the time the reader has been opened are read.
+ */
+public class QueryTraceReader implements Iterator<QueryTrace>, Closeable {
+
+    /** The strings of the trace by their ids. */
+    private final List<String> strings;
+
+    /** The channel of the file. */
+    private FileChannel channel;
+
+    /** The mapped file. */
+    private MappedByteBuffer buffer;
+
+    /** The next query, or null if it has not been read yet. */
+    private QueryTrace next;
+
+    /**
+     * Constructor.
+     *
+     * @param file
+     *         The trace file.
+     * @throws IOException
+     *         If the file could not be read or is not a trace file.
+     */
+    public QueryTraceReader(Path file) throws IOException {
+        this.strings = new ArrayList<>();
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+        if (buffer.remaining() < QueryTraceFormat.HEADER_SIZE || buffer.getInt() != QueryTraceFormat.MAGIC
+                || buffer.getInt() != QueryTraceFormat.VERSION) {
+            close();
+            throw new IOException("The file " + file + " is not a query trace.");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public QueryTrace next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final QueryTrace query = next;
+        next = null;
+        return query;
+    }
+
+    /**
+     * Skip queries.
+     *
+     * @param count
+     *         The number of queries to skip.
+     * @return The number of queries that have been skipped.
+     */
+    public long skip(long count) {
+        long skipped = 0;
+        while (skipped < count && hasNext()) {
+            next();
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /** @return The strings that have been read so far, by their ids. */
+    List<String> getStrings() {
+        return strings;
+    }
+
+    /** @return The position after the last complete record that has been read. */
+    int getPosition() {
+        return buffer.position();
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private QueryTrace readNext() {
+        if (buffer == null) {
+            return null;
+        }
+
+        while (buffer.hasRemaining()) {
+            final int start = buffer.position();
+            final byte type = buffer.get();
+
+            if (type == QueryTraceFormat.STRING) {
+                if (!readString()) {
+                    buffer.position(start);
+                    return null;
+                }
+            } else if (type == QueryTraceFormat.QUERY) {
+                final QueryTrace query = readQuery();
+                if (query == null) {
+                    buffer.position(start);
+                }
+                return query;
+            } else {
+                buffer.position(start);
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean readString() {
+        if (buffer.remaining() < 2 * 4) {
+            return false;
+        }
+        buffer.getInt();
+        final int length = buffer.getInt();
+        if (length < 0 || buffer.remaining() < length) {
+            return false;
+        }
+
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        strings.add(new String(bytes, StandardCharsets.UTF_8));
+        return true;
+    }
+
+    private QueryTrace readQuery() {
+        if (buffer.remaining() < QueryTraceFormat.QUERY_HEADER_SIZE - 1) {
+            return null;
+        }
+
+        final QueryTrace query = new QueryTrace();
+        query.setTimestamp(buffer.getLong());
+        final byte phase = buffer.get();
+        final Learner.LearnerPhase[] phases = Learner.LearnerPhase.values();
+        query.setPhase(phase >= 0 && phase < phases.length ? phases[phase] : null);
+        query.setInstance(buffer.getInt());
+        query.setFailed(buffer.get() != 0);
+        query.setPrefixLength(buffer.getInt());
+
+        final int length = buffer.getInt();
+        if (length < 0 || buffer.remaining() < length * QueryTraceFormat.SYMBOL_SIZE) {
+            return null;
+        }
+
+        for (int i = 0; i < length; i++) {
+            query.getInput().add(strings.get(buffer.getInt()));
+            final int output = buffer.getInt();
+            if (output != QueryTraceFormat.NO_OUTPUT) {
+                query.getOutput().add(strings.get(output));
+            }
+            query.getDurations().add((long) buffer.getInt());
+        }
+
+        return query;
+    }
+}
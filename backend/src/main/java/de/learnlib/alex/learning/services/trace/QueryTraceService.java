@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.trace;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Service that manages the query traces of the learner results. There is one trace file per learner result.
+ */
+@Service
+public class QueryTraceService {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * The path of the directory the traces are stored in. This will be injected by Spring and is configured in the
+     * applications.properties file.
+     */
+    @Value("${alex.queryTraceDir:./target/query-traces}")
+    private String queryTraceDir;
+
+    /**
+     * Get the trace file of a learner result.
+     *
+     * @param projectId
+     *         The id of the project.
+     * @param testNo
+     *         The number of the learner result.
+     * @return The path of the file, it may not exist.
+     */
+    public Path getFile(Long projectId, Long testNo) {
+        return Paths.get(queryTraceDir, String.valueOf(projectId), testNo + ".trace");
+    }
+
+    /**
+     * Check if a learner result has a trace.
+     *
+     * @param projectId
+     *         The id of the project.
+     * @param testNo
+     *         The number of the learner result.
+     * @return true, if there is a trace.
+     */
+    public boolean exists(Long projectId, Long testNo) {
+        return Files.exists(getFile(projectId, testNo));
+    }
+
+    /**
+     * Open the trace of a learner result to append queries to it.
+     *
+     * @param projectId
+     *         The id of the project.
+     * @param testNo
+     *         The number of the learner result.
+     * @return The writer.
+     * @throws IOException
+     *         If the trace could not be opened.
+     */
+    public QueryTraceWriter open(Long projectId, Long testNo) throws IOException {
+        final QueryTraceWriter writer = new QueryTraceWriter();
+        writer.open(getFile(projectId, testNo));
+        return writer;
+    }
+
+    /**
+     * Read the trace of a learner result.
+     *
+     * @param projectId
+     *         The id of the project.
+     * @param testNo
+     *         The number of the learner result.
+     * @return The reader, which has to be closed.
+     * @throws IOException
+     *         If the trace could not be read.
+     */
+    public QueryTraceReader read(Long projectId, Long testNo) throws IOException {
+        return new QueryTraceReader(getFile(projectId, testNo));
+    }
+
+    /**
+     * Delete the trace of a learner result, if it exists.
+     *
+     * @param projectId
+     *         The id of the project.
+     * @param testNo
+     *         The number of the learner result.
+     * @throws IOException
+     *         If the trace could not be deleted.
+     */
+    public void delete(Long projectId, Long testNo) throws IOException {
+        Files.deleteIfExists(getFile(projectId, testNo));
+    }
+
+    /**
+     * Delete the traces of learner results once the current transaction has been committed, so that the traces are
+     * kept if the results are not deleted after all. Without a transaction, the traces are deleted immediately.
+     *
+     * @param projectId
+     *         The id of the project.
+     * @param testNos
+     *         The numbers of the learner results.
+     */
+    public void deleteAfterCommit(Long projectId, Long... testNos) {
+        afterCommit(() -> {
+            for (final Long testNo : testNos) {
+                try {
+                    delete(projectId, testNo);
+                } catch (IOException e) {
+                    LOGGER.warn("Could not delete the query trace of the result {}.", testNo, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Delete the traces of all learner results of a project once the current transaction has been committed.
+     * Without a transaction, the traces are deleted immediately.
+     *
+     * @param projectId
+     *         The id of the project.
+     */
+    public void deleteAllAfterCommit(Long projectId) {
+        afterCommit(() -> {
+            final File dir = Paths.get(queryTraceDir, String.valueOf(projectId)).toFile();
+            try {
+                if (dir.exists()) {
+                    FileUtils.deleteDirectory(dir);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete the query traces of the project {}.", projectId, e);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.trace;
+
+import de.learnlib.alex.learning.services.Learner;
+import net.automatalib.words.Word;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Appends the queries that are executed on the system under learning to a trace in the format of
+ * {@link QueryTraceFormat}.
+ * <p>
+ * The trace is kept in memory until {@link #open(Path)} is called, e.g. because the file name depends on the number
+ * of the test that is only known later. Afterwards, the records are written to a memory-mapped file that grows in
+ * chunks, so recording a query does not involve a system call.
+ * <p>
+ * Queries may be recorded concurrently. A record is encoded by the recording thread before the lock of the writer
+ * is acquired, so the lock is only held to append the encoded bytes and to write strings that are new to the trace.
+ */
+public class QueryTraceWriter implements Closeable {
+
+    /** The number of bytes the mapped file grows by. */
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    /** The initial size of the in-memory trace. */
+    private static final int INITIAL_SIZE = 1 << 16;
+
+    /** The buffers the records are encoded in by the recording threads. */
+    private static final ThreadLocal<ByteBuffer> RECORD_BUFFERS =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(1024));
+
+    /** The ids of the strings that have been written. They are looked up without holding the lock. */
+    private final Map<String, Integer> stringIds;
+
+    /**
+     * Incremented before and after {@link #open(Path)} replaces the string ids, so that records whose ids have been
+     * looked up in the meantime are encoded again.
+     */
+    private volatile int generation;
+
+    /** The trace, either in memory or mapped to the file. */
+    private ByteBuffer buffer;
+
+    /** The channel of the file, or null if the trace is in memory. */
+    private FileChannel channel;
+
+    /** The file of the trace, or null if the trace is in memory. */
+    private Path file;
+
+    /** The phase of the learner, as ordinal. */
+    private volatile byte phase;
+
+    /** The number of queries that have been recorded. */
+    private long queries;
+
+    /** Constructor for a trace that is kept in memory until {@link #open(Path)} is called. */
+    public QueryTraceWriter() {
+        this.stringIds = new ConcurrentHashMap<>();
+        this.buffer = ByteBuffer.allocate(INITIAL_SIZE);
+        this.buffer.putInt(QueryTraceFormat.MAGIC);
+        this.buffer.putInt(QueryTraceFormat.VERSION);
+        this.phase = QueryTraceFormat.NO_PHASE;
+    }
+
+    /**
+     * Write the trace to a file. If the file already contains a trace, the queries are appended to it.
+     *
+     * @param target
+     *         The file.
+     * @throws IOException
+     *         If the file could not be opened or is not a trace file.
+     */
+    public synchronized void open(Path target) throws IOException {
+        if (file != null) {
+            throw new IllegalStateException("The trace is already written to " + file + ".");
+        }
+
+        generation++;
+        try {
+            openFile(target);
+        } finally {
+            generation++;
+        }
+    }
+
+    private void openFile(Path target) throws IOException {
+        final ByteBuffer memory = buffer;
+        memory.flip();
+
+        int position = QueryTraceFormat.HEADER_SIZE;
+        final Map<String, Integer> existingIds = new HashMap<>();
+        if (Files.exists(target) && Files.size(target) > 0) {
+            try (QueryTraceReader reader = new QueryTraceReader(target)) {
+                while (reader.hasNext()) {
+                    reader.next();
+                }
+                position = reader.getPosition();
+                for (int i = 0; i < reader.getStrings().size(); i++) {
+                    existingIds.put(reader.getStrings().get(i), i);
+                }
+            }
+        }
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        file = target;
+        buffer = map(Math.max(position + memory.remaining(), (int) channel.size()));
+        buffer.position(0);
+        if (position == QueryTraceFormat.HEADER_SIZE) {
+            buffer.putInt(QueryTraceFormat.MAGIC);
+            buffer.putInt(QueryTraceFormat.VERSION);
+        }
+        buffer.position(position);
+
+        // the ids of the strings in memory are replaced by those of the file
+        final Map<String, Integer> memoryIds = new HashMap<>(stringIds);
+        stringIds.clear();
+        stringIds.putAll(existingIds);
+        copyRecords(memory, memoryIds);
+    }
+
+    /**
+     * Set the phase of the learner the following queries are posed in.
+     *
+     * @param learnerPhase
+     *         The phase.
+     */
+    public void setPhase(Learner.LearnerPhase learnerPhase) {
+        this.phase = learnerPhase == null ? QueryTraceFormat.NO_PHASE : (byte) learnerPhase.ordinal();
+    }
+
+    /**
+     * Append an executed query to the trace.
+     *
+     * @param timestamp
+     *         When the execution of the query started, in milliseconds since the epoch.
+     * @param instance
+     *         The number of the connector manager that executed the query, or -1.
+     * @param prefixLength
+     *         The number of input symbols whose outputs are not part of the answer.
+     * @param input
+     *         The input symbols that have been executed.
+     * @param output
+     *         The outputs of the symbols, may be shorter than the input if the execution failed.
+     * @param durations
+     *         The execution times of the symbols in nanoseconds.
+     * @param failed
+     *         If the execution of the query failed.
+     */
+    public void record(long timestamp, int instance, int prefixLength, Word<?> input,
+                       List<?> output, long[] durations, boolean failed) {
+        final int length = input.length();
+        final int[] inputIds = new int[length];
+        final int[] outputIds = new int[length];
+        final byte recordPhase = phase;
+
+        while (true) {
+            final int idGeneration = generation;
+            for (int i = 0; i < length; i++) {
+                inputIds[i] = getStringId(String.valueOf(input.getSymbol(i)));
+                outputIds[i] = i < output.size()
+                        ? getStringId(String.valueOf(output.get(i))) : QueryTraceFormat.NO_OUTPUT;
+            }
+
+            final ByteBuffer record = getRecordBuffer(QueryTraceFormat.QUERY_HEADER_SIZE
+                    + length * QueryTraceFormat.SYMBOL_SIZE);
+            record.putLong(timestamp);
+            record.put(recordPhase);
+            record.putInt(instance);
+            record.put((byte) (failed ? 1 : 0));
+            record.putInt(prefixLength);
+            record.putInt(length);
+            for (int i = 0; i < length; i++) {
+                record.putInt(inputIds[i]);
+                record.putInt(outputIds[i]);
+                record.putInt((int) Math.min(Integer.MAX_VALUE, i < durations.length ? durations[i] / 1000 : 0));
+            }
+            record.flip();
+
+            synchronized (this) {
+                if (buffer == null) {
+                    return;
+                } else if (idGeneration == generation) {
+                    ensureCapacity(QueryTraceFormat.QUERY_HEADER_SIZE + length * QueryTraceFormat.SYMBOL_SIZE + 1);
+                    final int start = buffer.position();
+                    buffer.position(start + 1);
+                    buffer.put(record);
+
+                    // the type is written last so that readers of the file never see an incomplete record
+                    buffer.put(start, QueryTraceFormat.QUERY);
+                    queries++;
+                    return;
+                }
+            }
+        }
+    }
+
+    /** @return The number of queries that have been recorded. */
+    public synchronized long getQueries() {
+        return queries;
+    }
+
+    /** @return The file of the trace, or null if the trace is kept in memory. */
+    public synchronized Path getFile() {
+        return file;
+    }
+
+    /** Writes the trace to the disk and truncates the preallocated part of the file. */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel == null) {
+            buffer = null;
+            return;
+        }
+
+        final int size = buffer.position();
+        ((MappedByteBuffer) buffer).force();
+        buffer = null;
+        try {
+            channel.truncate(size);
+        } catch (IOException e) {
+            // some platforms do not allow to truncate mapped files, the end of the trace is marked anyway
+        } finally {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Get the empty record buffer of the current thread.
+     *
+     * @param size
+     *         The number of bytes the buffer has to hold at least.
+     * @return The buffer.
+     */
+    private static ByteBuffer getRecordBuffer(int size) {
+        ByteBuffer record = RECORD_BUFFERS.get();
+        if (record.capacity() < size) {
+            record = ByteBuffer.allocate(Math.max(size, 2 * record.capacity()));
+            RECORD_BUFFERS.set(record);
+        }
+        record.clear();
+        return record;
+    }
+
+    /**
+     * Get the id of a string and write the string to the trace if it is new.
+     *
+     * @param s
+     *         The string.
+     * @return The id, or {@link QueryTraceFormat#NO_OUTPUT} if the trace has been closed.
+     */
+    private int getStringId(String s) {
+        final Integer id = stringIds.get(s);
+        return id != null ? id : addString(s);
+    }
+
+    private synchronized int addString(String s) {
+        Integer id = stringIds.get(s);
+        if (id == null) {
+            if (buffer == null) {
+                return QueryTraceFormat.NO_OUTPUT;
+            }
+
+            id = stringIds.size();
+            final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            ensureCapacity(1 + 2 * 4 + bytes.length + 1);
+            final int start = buffer.position();
+            buffer.position(start + 1);
+            buffer.putInt(id);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+
+            // the type is written last so that readers of the file never see an incomplete record
+            buffer.put(start, QueryTraceFormat.STRING);
+            stringIds.put(s, id);
+        }
+        return id;
+    }
+
+    /** Copies the records of the in-memory trace to the file and maps their string ids. */
+    private void copyRecords(ByteBuffer memory, Map<String, Integer> memoryIds) {
+        final String[] strings = new String[memoryIds.size()];
+        memoryIds.forEach((s, id) -> strings[id] = s);
+
+        memory.position(QueryTraceFormat.HEADER_SIZE);
+        while (memory.hasRemaining()) {
+            final byte type = memory.get();
+            if (type == QueryTraceFormat.STRING) {
+                final int id = memory.getInt();
+                final int length = memory.getInt();
+                memory.position(memory.position() + length);
+                getStringId(strings[id]);
+            } else if (type == QueryTraceFormat.QUERY) {
+                final long timestamp = memory.getLong();
+                final byte recordPhase = memory.get();
+                final int instance = memory.getInt();
+                final byte failed = memory.get();
+                final int prefixLength = memory.getInt();
+                final int length = memory.getInt();
+
+                ensureCapacity(QueryTraceFormat.QUERY_HEADER_SIZE + length * QueryTraceFormat.SYMBOL_SIZE + 1);
+                final int start = buffer.position();
+                buffer.position(start + 1);
+                buffer.putLong(timestamp);
+                buffer.put(recordPhase);
+                buffer.putInt(instance);
+                buffer.put(failed);
+                buffer.putInt(prefixLength);
+                buffer.putInt(length);
+                for (int i = 0; i < length; i++) {
+                    buffer.putInt(getStringId(strings[memory.getInt()]));
+                    final int outputId = memory.getInt();
+                    buffer.putInt(outputId == QueryTraceFormat.NO_OUTPUT
+                            ? QueryTraceFormat.NO_OUTPUT : getStringId(strings[outputId]));
+                    buffer.putInt(memory.getInt());
+                }
+                buffer.put(start, QueryTraceFormat.QUERY);
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Makes sure that the trace can hold the given number of bytes after the current position.
+     *
+     * @param bytes
+     *         The number of bytes.
+     */
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+
+        final int position = buffer.position();
+        final int required = position + bytes;
+        if (channel == null) {
+            final ByteBuffer grown = ByteBuffer.allocate(Math.max(required, 2 * buffer.capacity()));
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        } else {
+            try {
+                buffer = map(required);
+                buffer.position(position);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not grow the query trace " + file + ".", e);
+            }
+        }
+    }
+
+    /**
+     * Maps the file with at least the given size, rounded up to the next chunk.
+     *
+     * @param size
+     *         The minimum size.
+     * @return The mapped file.
+     * @throws IOException
+     *         If the file could not be mapped.
+     */
+    private MappedByteBuffer map(int size) throws IOException {
+        final long chunks = ((long) size + CHUNK_SIZE) / CHUNK_SIZE;
+        final long mappedSize = Math.min(Integer.MAX_VALUE, chunks * CHUNK_SIZE);
+        if (mappedSize < size) {
+            throw new IOException("The query trace " + file + " is too large.");
+        }
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.metrics.entities;
+
+/**
+ * A metric whose current values can be collected.
+ */
+public interface Metric {
+
+    /** The consumer of the samples of a metric. */
+    interface SampleWriter {
+
+        /**
+         * Writes a sample.
+         *
+         * @param name
+         *         The name of the sample.
+         * @param quantile
+         *         The quantile the sample belongs to, or null.
+         * @param value
+         *         The value of the sample.
+         */
+        void write(String name, Double quantile, double value);
+    }
+
+    /** @return The type of the metric in the Prometheus exposition format. */
+    String getType();
+
+    /**
+     * Writes the current samples of the metric.
+     *
+     * @param name
+     *         The name of the metric.
+     * @param writer
+     *         The writer.
+     */
+    void collect(String name, SampleWriter writer);
+}
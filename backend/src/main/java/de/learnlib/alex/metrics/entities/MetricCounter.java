@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.metrics.entities;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A counter that only increases, e.g. the number of executed queries. Rates are derived from it by the monitoring
+ * system. The counter is either increased explicitly or reads a value that is counted elsewhere whenever it is
+ * collected.
+ */
+public class MetricCounter implements Metric {
+
+    /** The explicitly increased value. */
+    private final LongAdder value;
+
+    /** The supplier of the value, or null if the counter is increased explicitly. */
+    private final LongSupplier supplier;
+
+    /** Constructor for a counter that is increased explicitly. */
+    public MetricCounter() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param supplier
+     *         {@link #supplier}, which must never decrease.
+     */
+    public MetricCounter(LongSupplier supplier) {
+        this.value = new LongAdder();
+        this.supplier = supplier;
+    }
+
+    /** Increases the counter by one. */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Increases the counter.
+     *
+     * @param amount
+     *         The amount to increase the counter by.
+     */
+    public void increment(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("A counter cannot be decreased.");
+        }
+        value.add(amount);
+    }
+
+    /** @return The current value. */
+    public long getValue() {
+        return supplier == null ? value.sum() : supplier.getAsLong();
+    }
+
+    @Override
+    public String getType() {
+        return "counter";
+    }
+
+    @Override
+    public void collect(String name, SampleWriter writer) {
+        writer.write(name, null, getValue());
+    }
+}
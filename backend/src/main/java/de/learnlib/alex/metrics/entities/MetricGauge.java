@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.metrics.entities;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A value that may increase and decrease, e.g. the number of connectors in use. The value is either set explicitly or
+ * computed by a supplier whenever it is collected.
+ */
+public class MetricGauge implements Metric {
+
+    /** The explicitly set value. */
+    private final AtomicLong value;
+
+    /** The supplier of the value, or null if the value is set explicitly. */
+    private final DoubleSupplier supplier;
+
+    /** Constructor for a gauge whose value is set explicitly. */
+    public MetricGauge() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param supplier
+     *         {@link #supplier}.
+     */
+    public MetricGauge(DoubleSupplier supplier) {
+        this.value = new AtomicLong();
+        this.supplier = supplier;
+    }
+
+    /** Increases the value by one. */
+    public void increment() {
+        value.incrementAndGet();
+    }
+
+    /** Decreases the value by one. */
+    public void decrement() {
+        value.decrementAndGet();
+    }
+
+    /**
+     * Sets the value.
+     *
+     * @param value
+     *         The new value.
+     */
+    public void set(long value) {
+        this.value.set(value);
+    }
+
+    /** @return The current value. */
+    public double getValue() {
+        return supplier == null ? value.get() : supplier.getAsDouble();
+    }
+
+    @Override
+    public String getType() {
+        return "gauge";
+    }
+
+    @Override
+    public void collect(String name, SampleWriter writer) {
+        writer.write(name, null, getValue());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.metrics.entities;
+
+import de.learnlib.alex.learning.entities.LatencyHistogram;
+
+/**
+ * Measures the duration of an operation, e.g. the reset of the SUL. The durations are exposed in seconds as the
+ * number of measurements, their sum and the 50th, 95th and 99th percentile since the application has been started.
+ */
+public class MetricTimer implements Metric {
+
+    /** The quantiles that are exposed. */
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+
+    /** The number of ns per second. */
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /** The recorded durations. */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Records the duration of an operation.
+     *
+     * @param nanos
+     *         The duration in ns.
+     */
+    public synchronized void record(long nanos) {
+        histogram.record(nanos, true);
+    }
+
+    /**
+     * Records the duration of an operation that has been started at the given time.
+     *
+     * @param start
+     *         The start of the operation as returned by {@link System#nanoTime()}.
+     */
+    public void recordSince(long start) {
+        record(System.nanoTime() - start);
+    }
+
+    /** @return The number of recorded durations. */
+    public synchronized long getCount() {
+        return histogram.getCount();
+    }
+
+    @Override
+    public String getType() {
+        return "summary";
+    }
+
+    @Override
+    public synchronized void collect(String name, SampleWriter writer) {
+        for (final double quantile : QUANTILES) {
+            writer.write(name, quantile, histogram.getPercentile(quantile * 100) / NANOS_PER_SECOND);
+        }
+        writer.write(name + "_sum", null, histogram.getTotal() / NANOS_PER_SECOND);
+        writer.write(name + "_count", null, histogram.getCount());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.metrics.rest;
+
+import de.learnlib.alex.metrics.services.MetricsService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.security.RolesAllowed;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+
+/**
+ * REST API to export the runtime metrics of ALEX.
+ */
+@Path("/metrics")
+@RolesAllowed({"ADMIN"})
+public class MetricsResource {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /** The content type of the Prometheus text exposition format. */
+    public static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+    /** The metrics to export. */
+    @Inject
+    private MetricsService metricsService;
+
+    /**
+     * Get all metrics in the Prometheus text format, e.g. queue depths, the utilisation of the SUL pool and the
+     * latencies of resets, browser starts, step saves and webhook deliveries.
+     *
+     * @return The metrics.
+     * @successResponse 200 OK
+     */
+    @GET
+    @Produces(PROMETHEUS_TEXT)
+    public Response scrape() {
+        LOGGER.traceEntry("scrape()");
+        final String metrics = metricsService.scrape();
+        LOGGER.traceExit();
+        return Response.ok(metrics).build();
+    }
+}
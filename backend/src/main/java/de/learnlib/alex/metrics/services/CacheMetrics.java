@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.metrics.services;
+
+import de.learnlib.alex.common.utils.JsonSchemaCache;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+
+/**
+ * Registers the metrics that expose the state of the process wide caches. Their values are read whenever the metrics
+ * are collected, so the caches do not depend on the metrics.
+ */
+@Service
+public class CacheMetrics {
+
+    /** The registry of the runtime metrics. */
+    private final MetricsService metricsService;
+
+    /**
+     * Constructor.
+     *
+     * @param metricsService {@link #metricsService}.
+     */
+    @Inject
+    public CacheMetrics(MetricsService metricsService) {
+        this.metricsService = metricsService;
+    }
+
+    /** Registers the metrics. */
+    @PostConstruct
+    public void registerMetrics() {
+        metricsService.counter("alex_json_schema_cache_hits_total",
+                "The number of JSON schemas that have been found in the cache.",
+                JsonSchemaCache::getHits);
+        metricsService.counter("alex_json_schema_cache_misses_total",
+                "The number of JSON schemas that had to be compiled.",
+                JsonSchemaCache::getMisses);
+        metricsService.gauge("alex_json_schema_cache_size",
+                "The number of compiled JSON schemas in the cache.",
+                JsonSchemaCache::getSize);
+        metricsService.gauge("alex_json_schema_cache_hit_ratio",
+                "The fraction of the requested JSON schemas that have been found in the cache.",
+                JsonSchemaCache::getHitRatio);
+    }
+}
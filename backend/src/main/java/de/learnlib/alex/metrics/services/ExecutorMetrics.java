@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.metrics.services;
+
+import de.learnlib.alex.learning.services.ExperimentScheduler;
+import de.learnlib.alex.testing.services.TestService;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+
+/**
+ * Registers the gauges that expose the state of the executors of learning experiments and tests. Their values are
+ * read whenever the metrics are collected, so the executors do not have to update them.
+ */
+@Service
+public class ExecutorMetrics {
+
+    /** The registry of the runtime metrics. */
+    private final MetricsService metricsService;
+
+    /** The scheduler of the learning experiments. */
+    private final ExperimentScheduler experimentScheduler;
+
+    /** The service that executes tests. */
+    private final TestService testService;
+
+    /**
+     * Constructor.
+     *
+     * @param metricsService      {@link #metricsService}.
+     * @param experimentScheduler {@link #experimentScheduler}.
+     * @param testService         {@link #testService}.
+     */
+    @Inject
+    public ExecutorMetrics(MetricsService metricsService, ExperimentScheduler experimentScheduler,
+                           TestService testService) {
+        this.metricsService = metricsService;
+        this.experimentScheduler = experimentScheduler;
+        this.testService = testService;
+    }
+
+    /** Registers the gauges. */
+    @PostConstruct
+    public void registerGauges() {
+        metricsService.gauge("alex_learner_experiments_queued",
+                "The number of learning experiments that wait to be started.",
+                experimentScheduler::getQueueSize);
+        metricsService.gauge("alex_learner_experiments_running",
+                "The number of learning experiments that are running.",
+                experimentScheduler::getRunningSize);
+        metricsService.gauge("alex_learner_browser_instances",
+                "The number of browser instances the running learning experiments open.",
+                experimentScheduler::getBrowserInstancesInUse);
+        metricsService.gauge("alex_testing_active_tests",
+                "The number of test processes that are running.",
+                testService::getNumberOfActiveTests);
+    }
+}
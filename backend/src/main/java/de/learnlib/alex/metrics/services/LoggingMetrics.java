@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.metrics.services;
+
+import de.learnlib.alex.learning.services.logging.LearnerLog;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+
+/**
+ * Registers the gauges that expose the state of the asynchronous learner log.
+ */
+@Service
+public class LoggingMetrics {
+
+    /** The registry of the runtime metrics. */
+    private final MetricsService metricsService;
+
+    /**
+     * Constructor.
+     *
+     * @param metricsService {@link #metricsService}.
+     */
+    @Inject
+    public LoggingMetrics(MetricsService metricsService) {
+        this.metricsService = metricsService;
+    }
+
+    /** Registers the gauges. */
+    @PostConstruct
+    public void registerGauges() {
+        metricsService.gauge("alex_learner_log_pending_records",
+                "The number of learner log records that wait to be written.",
+                LearnerLog::getPendingRecords);
+        metricsService.gauge("alex_learner_log_dropped_records",
+                "The number of learner log records that have been dropped because they could not be written fast "
+                        + "enough.",
+                LearnerLog::getDroppedRecords);
+    }
+}
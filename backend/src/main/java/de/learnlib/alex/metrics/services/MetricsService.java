@@ -0,0 +1,288 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.metrics.services;
+
+import de.learnlib.alex.metrics.entities.Metric;
+import de.learnlib.alex.metrics.entities.MetricCounter;
+import de.learnlib.alex.metrics.entities.MetricGauge;
+import de.learnlib.alex.metrics.entities.MetricTimer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * The registry of the runtime metrics of ALEX. The metrics are exposed in the Prometheus text format and as the
+ * attributes of the MBean {@value #OBJECT_NAME}.
+ */
+@Service
+public class MetricsService {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /** The name of the MBean that exposes the metrics. */
+    public static final String OBJECT_NAME = "de.learnlib.alex:type=Metrics";
+
+    /** The pattern a metric name has to match. */
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+
+    /** A registered metric with its description. */
+    private static class Registration {
+
+        /** The description of the metric. */
+        private final String help;
+
+        /** The metric. */
+        private final Metric metric;
+
+        Registration(String help, Metric metric) {
+            this.help = help;
+            this.metric = metric;
+        }
+    }
+
+    /** The registered metrics by their name. */
+    private final Map<String, Registration> metrics;
+
+    /** The name of the registered MBean, or null if it has not been registered. */
+    private ObjectName objectName;
+
+    /** Constructor. */
+    public MetricsService() {
+        this.metrics = new ConcurrentHashMap<>();
+    }
+
+    /** Registers the MBean that exposes the metrics. */
+    @PostConstruct
+    public void registerMBean() {
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MetricsMBean(), name);
+                objectName = name;
+            }
+        } catch (JMException e) {
+            LOGGER.warn("Could not register the metrics MBean.", e);
+        }
+    }
+
+    /** Unregisters the MBean that exposes the metrics. */
+    @PreDestroy
+    public void unregisterMBean() {
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOGGER.warn("Could not unregister the metrics MBean.", e);
+            }
+            objectName = null;
+        }
+    }
+
+    /**
+     * Get or create a counter.
+     *
+     * @param name
+     *         The name of the counter.
+     * @param help
+     *         The description of the counter.
+     * @return The counter.
+     */
+    public MetricCounter counter(String name, String help) {
+        return register(name, help, MetricCounter.class, MetricCounter::new);
+    }
+
+    /**
+     * Get or create a counter whose value is counted elsewhere and read whenever it is collected.
+     *
+     * @param name
+     *         The name of the counter.
+     * @param help
+     *         The description of the counter.
+     * @param supplier
+     *         The supplier of the value, which must never decrease.
+     * @return The counter.
+     */
+    public MetricCounter counter(String name, String help, LongSupplier supplier) {
+        return register(name, help, MetricCounter.class, () -> new MetricCounter(supplier));
+    }
+
+    /**
+     * Get or create a gauge whose value is set explicitly.
+     *
+     * @param name
+     *         The name of the gauge.
+     * @param help
+     *         The description of the gauge.
+     * @return The gauge.
+     */
+    public MetricGauge gauge(String name, String help) {
+        return register(name, help, MetricGauge.class, MetricGauge::new);
+    }
+
+    /**
+     * Get or create a gauge whose value is computed whenever it is collected.
+     *
+     * @param name
+     *         The name of the gauge.
+     * @param help
+     *         The description of the gauge.
+     * @param supplier
+     *         The supplier of the value.
+     * @return The gauge.
+     */
+    public MetricGauge gauge(String name, String help, DoubleSupplier supplier) {
+        return register(name, help, MetricGauge.class, () -> new MetricGauge(supplier));
+    }
+
+    /**
+     * Get or create a timer.
+     *
+     * @param name
+     *         The name of the timer.
+     * @param help
+     *         The description of the timer.
+     * @return The timer.
+     */
+    public MetricTimer timer(String name, String help) {
+        return register(name, help, MetricTimer.class, MetricTimer::new);
+    }
+
+    /** @return All metrics in the Prometheus text exposition format. */
+    public String scrape() {
+        final StringBuilder sb = new StringBuilder();
+        new TreeMap<>(metrics).forEach((name, registration) -> {
+            sb.append("# HELP ").append(name).append(' ').append(escape(registration.help)).append('\n');
+            sb.append("# TYPE ").append(name).append(' ').append(registration.metric.getType()).append('\n');
+            registration.metric.collect(name, (sampleName, quantile, value) -> {
+                sb.append(sampleName);
+                if (quantile != null) {
+                    sb.append("{quantile=\"").append(quantile).append("\"}");
+                }
+                sb.append(' ').append(format(value)).append('\n');
+            });
+        });
+        return sb.toString();
+    }
+
+    /** @return All samples by the name of the attribute they are exposed as via JMX. */
+    public Map<String, Double> getSamples() {
+        final Map<String, Double> samples = new TreeMap<>();
+        metrics.forEach((name, registration) ->
+                registration.metric.collect(name, (sampleName, quantile, value) -> {
+                    if (quantile == null) {
+                        samples.put(sampleName, value);
+                    } else {
+                        samples.put(sampleName + "_p" + Math.round(quantile * 100), value);
+                    }
+                }));
+        return samples;
+    }
+
+    private <T extends Metric> T register(String name, String help, Class<T> type, Supplier<T> factory) {
+        if (!NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException("The metric name '" + name + "' is invalid.");
+        }
+
+        final Registration registration = metrics.computeIfAbsent(name, n -> new Registration(help, factory.get()));
+        if (!type.isInstance(registration.metric)) {
+            throw new IllegalStateException("The metric '" + name + "' is already registered with another type.");
+        }
+        return type.cast(registration.metric);
+    }
+
+    private static String escape(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            return String.format(Locale.ROOT, "%d", (long) value);
+        }
+        return String.format(Locale.ROOT, "%s", value);
+    }
+
+    /** The MBean that exposes the samples of all metrics as read-only attributes. */
+    private class MetricsMBean implements DynamicMBean {
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            final Double value = getSamples().get(attribute);
+            if (value == null) {
+                throw new AttributeNotFoundException(attribute);
+            }
+            return value;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) {
+            throw new UnsupportedOperationException("The metrics are read-only.");
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            final Map<String, Double> samples = getSamples();
+            final AttributeList list = new AttributeList();
+            for (final String attribute : attributes) {
+                if (samples.containsKey(attribute)) {
+                    list.add(new Attribute(attribute, samples.get(attribute)));
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            throw new UnsupportedOperationException("The metrics do not support operations.");
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            final MBeanAttributeInfo[] attributes = getSamples().keySet().stream()
+                    .map(name -> new MBeanAttributeInfo(name, Double.class.getName(), name, true, false, false))
+                    .toArray(MBeanAttributeInfo[]::new);
+            return new MBeanInfo(MetricsService.class.getName(), "The runtime metrics of ALEX.", attributes,
+                    null, null, null);
+        }
+    }
+}
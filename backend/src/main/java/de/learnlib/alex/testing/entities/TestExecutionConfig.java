@@ -33,6 +33,7 @@ import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 import javax.persistence.Transient;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -71,6 +72,13 @@ public class TestExecutionConfig implements Serializable {
     @OneToOne
     private ProjectUrl url;
 
+    /**
+     * How many test cases of a test suite are executed in parallel on the URL. 0 := decide based on the available
+     * resources. Null for configurations that have been saved before, which is treated as 1.
+     */
+    @Min(0)
+    private Integer instancesPerUrl;
+
     /** The project where the config is saved. */
     @ManyToOne
     @JoinColumn(name = "projectId")
@@ -93,6 +101,7 @@ public class TestExecutionConfig implements Serializable {
         this.setTestIds(testIds);
         this.driverConfig = driverConfig;
         this.createReport = false;
+        this.instancesPerUrl = 1;
     }
 
     public Long getId() {
@@ -166,6 +175,14 @@ public class TestExecutionConfig implements Serializable {
         this.createReport = createReport;
     }
 
+    public int getInstancesPerUrl() {
+        return instancesPerUrl == null ? 1 : instancesPerUrl;
+    }
+
+    public void setInstancesPerUrl(int instancesPerUrl) {
+        this.instancesPerUrl = instancesPerUrl;
+    }
+
     public Project getProject() {
         return project;
     }
@@ -46,9 +46,13 @@ import org.springframework.stereotype.Service;
 import javax.inject.Inject;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /** The service that executes tests. */
@@ -94,7 +98,7 @@ public class TestService {
         this.webhookService = webhookService;
         this.testDAO = testDAO;
         this.testReportDAO = testReportDAO;
-        this.testingThreads = new HashMap<>();
+        this.testingThreads = new ConcurrentHashMap<>();
         this.projectUrlRepository = projectUrlRepository;
     }
 
@@ -111,6 +115,11 @@ public class TestService {
         return testingThreads.containsKey(user.getId()) && testingThreads.get(user.getId()).containsKey(projectId);
     }
 
+    /** @return The number of test processes that are active in all projects. */
+    public int getNumberOfActiveTests() {
+        return testingThreads.values().stream().mapToInt(Map::size).sum();
+    }
+
     /**
      * Starts a new test thread.
      *
@@ -131,7 +140,7 @@ public class TestService {
             }
         });
 
-        this.testingThreads.putIfAbsent(user.getId(), new HashMap<>());
+        this.testingThreads.putIfAbsent(user.getId(), new ConcurrentHashMap<>());
         this.testingThreads.get(user.getId()).put(project.getId(), thread);
 
         thread.start();
@@ -169,7 +178,9 @@ public class TestService {
     }
 
     /**
-     * Executes multiple tests.
+     * Executes multiple tests. If the test config allows multiple instances per URL, the test cases of each suite are
+     * executed in parallel on a pool that is shared by the whole run. The results are added to the map in the order
+     * of the tests.
      *
      * @param user
      *         The user that executes the test suite.
@@ -183,14 +194,31 @@ public class TestService {
      */
     public Map<Long, TestResult> executeTests(User user, List<Test> tests, TestExecutionConfig testConfig,
             Map<Long, TestResult> results) {
-        for (Test test : tests) {
-            if (test instanceof TestCase) {
-                executeTestCase(user, (TestCase) test, testConfig, results);
-            } else if (test instanceof TestSuite) {
-                executeTestSuite(user, (TestSuite) test, testConfig, results);
+        final int instances = contextHandlerFactory.getInstancesPerUrl(testConfig.getInstancesPerUrl(), 1);
+        final ExecutorService executor = instances <= 1 ? null : Executors.newFixedThreadPool(instances, r -> {
+            final Thread thread = new Thread(r, "test-case-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            final List<TestCase> testCases = tests.stream()
+                    .filter(TestCase.class::isInstance)
+                    .map(TestCase.class::cast)
+                    .collect(Collectors.toList());
+            executeTestCases(user, testCases, testConfig, results, executor);
+
+            for (Test test : tests) {
+                if (test instanceof TestSuite) {
+                    executeTestSuite(user, (TestSuite) test, testConfig, results, executor);
+                }
+            }
+            return results;
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
             }
         }
-        return results;
     }
 
     /**
@@ -204,27 +232,27 @@ public class TestService {
      *         The config for the test.
      * @param results
      *         The map with the test results.
+     * @param executor
+     *         The pool that executes test cases in parallel, null if the test cases are executed one after another.
      * @return The updated test result map.
      */
-    public TestSuiteResult executeTestSuite(User user, TestSuite testSuite, TestExecutionConfig testConfig,
-            Map<Long, TestResult> results) {
+    private TestSuiteResult executeTestSuite(User user, TestSuite testSuite, TestExecutionConfig testConfig,
+            Map<Long, TestResult> results, ExecutorService executor) {
         final TestSuiteResult tsResult = new TestSuiteResult(testSuite, 0L, 0L);
 
-        final List<Test> testCases = testSuite.getTests().stream()
+        final List<TestCase> testCases = testSuite.getTests().stream()
                 .filter(TestCase.class::isInstance)
+                .map(TestCase.class::cast)
                 .collect(Collectors.toList());
 
-        for (Test test : testCases) {
-            final TestCaseResult result = executeTestCase(user, (TestCase) test, testConfig, results);
-            tsResult.add(result);
-        }
+        executeTestCases(user, testCases, testConfig, results, executor).forEach(tsResult::add);
 
         final List<Test> testSuites = testSuite.getTests().stream()
                 .filter(TestSuite.class::isInstance)
                 .collect(Collectors.toList());
 
         for (Test test : testSuites) {
-            final TestSuiteResult result = executeTestSuite(user, (TestSuite) test, testConfig, results);
+            final TestSuiteResult result = executeTestSuite(user, (TestSuite) test, testConfig, results, executor);
             tsResult.add(result);
         }
 
@@ -232,6 +260,55 @@ public class TestService {
         return tsResult;
     }
 
+    /**
+     * Executes multiple test cases. The test cases are executed in parallel if a pool is given. The results are added
+     * to the map in the order of the test cases, not in the order in which the test cases finish.
+     *
+     * @param user
+     *         The user that executes the test cases.
+     * @param testCases
+     *         The test cases that should be executed.
+     * @param testConfig
+     *         The config for the test.
+     * @param results
+     *         The map with the test results.
+     * @param executor
+     *         The pool that executes the test cases in parallel, null if they are executed one after another.
+     * @return The results of the test cases in the order of the test cases.
+     */
+    private List<TestCaseResult> executeTestCases(User user, List<TestCase> testCases,
+            TestExecutionConfig testConfig, Map<Long, TestResult> results, ExecutorService executor) {
+        if (executor == null || testCases.size() <= 1) {
+            return testCases.stream()
+                    .map(testCase -> executeTestCase(user, testCase, testConfig, results))
+                    .collect(Collectors.toList());
+        }
+
+        final List<Future<TestCaseResult>> futures = testCases.stream()
+                .map(testCase -> executor.submit(() -> runTestCase(user, testCase, testConfig)))
+                .collect(Collectors.toList());
+
+        try {
+            final List<TestCaseResult> testCaseResults = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                final TestCaseResult result = futures.get(i).get();
+                results.put(testCases.get(i).getId(), result);
+                testCaseResults.add(result);
+            }
+            return testCaseResults;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The execution of the tests has been interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
     /**
      * Executes a test case.
      *
@@ -247,6 +324,12 @@ public class TestService {
      */
     public TestCaseResult executeTestCase(User user, TestCase testCase, TestExecutionConfig testConfig,
             Map<Long, TestResult> results) {
+        final TestCaseResult result = runTestCase(user, testCase, testConfig);
+        results.put(testCase.getId(), result);
+        return result;
+    }
+
+    private TestCaseResult runTestCase(User user, TestCase testCase, TestExecutionConfig testConfig) {
 
         final ProjectUrl projectUrl = projectUrlRepository.findOne(testConfig.getUrlId());
 
@@ -317,11 +400,7 @@ public class TestService {
 
         final String failureMessage = failureMessageParts.isEmpty() ? "" : String.join(", ", failureMessageParts);
 
-        final TestCaseResult result =
-                new TestCaseResult(testCase, sulOutputs, passed, time, String.join(", ", failureMessage));
-        results.put(testCase.getId(), result);
-
-        return result;
+        return new TestCaseResult(testCase, sulOutputs, passed, time, String.join(", ", failureMessage));
     }
 
     private boolean executePreSteps(ConnectorManager connectors, TestCase testCase, List<TestCaseStep> preSteps) {
@@ -30,7 +30,8 @@ import de.learnlib.alex.testing.events.TestExecutionStartedEventData;
 import de.learnlib.alex.webhooks.services.WebhookService;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -71,7 +72,7 @@ public class TestThread extends Thread {
     /** The test service. */
     private final TestService testService;
 
-    /** The map where intermediate results are stored. */
+    /** The map where intermediate results are stored, in the order in which the tests are executed. */
     private final Map<Long, TestResult> results;
 
     /**
@@ -97,7 +98,7 @@ public class TestThread extends Thread {
         this.testReportDAO = testReportDAO;
         this.testService = testService;
         this.finishedListener = finishedListener;
-        this.results = new HashMap<>();
+        this.results = Collections.synchronizedMap(new LinkedHashMap<>());
     }
 
     @Override
@@ -133,7 +134,9 @@ public class TestThread extends Thread {
      */
     public TestReport getReport() {
         final TestReport testReport = new TestReport();
-        testReport.setTestResults(new ArrayList<>(results.values()));
+        synchronized (results) {
+            testReport.setTestResults(new ArrayList<>(results.values()));
+        }
         return testReport;
     }
 }
@@ -17,13 +17,20 @@
 package de.learnlib.alex.webhooks.services;
 
 import de.learnlib.alex.auth.entities.User;
+import de.learnlib.alex.metrics.entities.MetricCounter;
+import de.learnlib.alex.metrics.entities.MetricGauge;
+import de.learnlib.alex.metrics.entities.MetricTimer;
+import de.learnlib.alex.metrics.services.MetricsService;
 import de.learnlib.alex.webhooks.dao.WebhookDAO;
 import de.learnlib.alex.webhooks.entities.Event;
 import de.learnlib.alex.webhooks.entities.Webhook;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.glassfish.jersey.client.ClientProperties;
 import org.springframework.stereotype.Service;
 
 import javax.inject.Inject;
+import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
@@ -36,6 +43,8 @@ import java.util.List;
 @Service
 public class WebhookService {
 
+    private static final Logger LOGGER = LogManager.getLogger();
+
     /** The client timeout. */
     private static final int READ_CONNECT_TIMEOUT = 3000;
 
@@ -45,14 +54,30 @@ public class WebhookService {
     /** The webhook DAO to use. */
     private WebhookDAO webhookDAO;
 
+    /** The timer that measures how long it takes to deliver an event. */
+    private final MetricTimer deliveryTimer;
+
+    /** The number of deliveries that are in progress. */
+    private final MetricGauge deliveriesInProgress;
+
+    /** The number of deliveries that failed. */
+    private final MetricCounter failedDeliveries;
+
     /**
      * Constructor.
      *
-     * @param webhookDAO The injected webhook DAO.
+     * @param webhookDAO     The injected webhook DAO.
+     * @param metricsService The registry of the runtime metrics.
      */
     @Inject
-    public WebhookService(WebhookDAO webhookDAO) {
+    public WebhookService(WebhookDAO webhookDAO, MetricsService metricsService) {
         this.webhookDAO = webhookDAO;
+        this.deliveryTimer = metricsService.timer("alex_webhook_delivery_seconds",
+                "The time it takes to deliver an event to a webhook.");
+        this.deliveriesInProgress = metricsService.gauge("alex_webhook_deliveries_in_progress",
+                "The number of webhook threads that are delivering an event.");
+        this.failedDeliveries = metricsService.counter("alex_webhook_delivery_failures_total",
+                "The number of events that could not be delivered to a webhook.");
         this.client = ClientBuilder.newClient()
                 .property(ClientProperties.READ_TIMEOUT, READ_CONNECT_TIMEOUT)
                 .property(ClientProperties.CONNECT_TIMEOUT, READ_CONNECT_TIMEOUT);
@@ -68,11 +93,24 @@ public class WebhookService {
     public <T> void fireEvent(User user, Event<T> event) {
         final List<Webhook> webhooks = webhookDAO.getByUserAndEvent(user, event.getEventType());
         for (final Webhook webhook : webhooks) {
-            new Thread(() ->
-                    client.target(webhook.getUrl())
-                            .request(MediaType.APPLICATION_JSON)
-                            .post(Entity.json(event))
-            ).start();
+            new Thread(() -> deliver(webhook, event)).start();
+        }
+    }
+
+    private <T> void deliver(Webhook webhook, Event<T> event) {
+        deliveriesInProgress.increment();
+        final long start = System.nanoTime();
+        try {
+            client.target(webhook.getUrl())
+                    .request(MediaType.APPLICATION_JSON)
+                    .post(Entity.json(event))
+                    .close();
+        } catch (ProcessingException e) {
+            failedDeliveries.increment();
+            LOGGER.warn("Could not deliver the event {} to {}.", event.getEventType(), webhook.getUrl(), e);
+        } finally {
+            deliveryTimer.recordSince(start);
+            deliveriesInProgress.decrement();
         }
     }
 }
@@ -17,12 +17,14 @@
 package de.learnlib.alex.common.utils;
 
 
+import com.jayway.jsonpath.JsonPath;
 import de.learnlib.alex.data.entities.actions.rest.CheckAttributeTypeAction.JsonType;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -147,4 +149,22 @@ public class JSONHelpersTest {
     public void shouldReturnNullIfJSONPathIsInvalidOnGetType() {
         assertNull(JSONHelpers.getAttributeType(JSON, "!=field"));
     }
+
+    @Test
+    public void shouldReadSeveralAttributesFromTheSameDocument() {
+        JsonDocument document = JsonDocument.parse("[{\"field\": 1, \"other\": [true]}]");
+
+        assertEquals("1", JSONHelpers.getAttributeValue(document, "[0].field", JsonPath::compile));
+        assertEquals(JsonType.ARRAY, JSONHelpers.getAttributeType(document, "[0].other", JsonPath::compile));
+        assertNull(JSONHelpers.getAttributeValue(document, "[0].missing", JsonPath::compile));
+    }
+
+    @Test
+    public void shouldReturnNullForAnInvalidDocument() {
+        JsonDocument document = JsonDocument.parse("{\"foo\": \"bar\" \"field\": \"Test\"}");
+
+        assertFalse(document.isValid());
+        assertNull(JSONHelpers.getAttributeValue(document, "field", JsonPath::compile));
+        assertNull(JSONHelpers.getAttributeType(document, "field", JsonPath::compile));
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.common.utils;
+
+import com.github.fge.jsonschema.main.JsonSchema;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class JsonSchemaCacheTest {
+
+    private static final String SCHEMA = "{\"type\": \"object\", \"required\": [\"id\"]}";
+
+    @Before
+    public void setUp() {
+        JsonSchemaCache.clear();
+    }
+
+    @Test
+    public void shouldCompileASchemaOnlyOnce() throws Exception {
+        final long hits = JsonSchemaCache.getHits();
+        final long misses = JsonSchemaCache.getMisses();
+
+        final JsonSchema first = JsonSchemaCache.getSchema(SCHEMA);
+        final JsonSchema second = JsonSchemaCache.getSchema(SCHEMA);
+
+        assertSame(first, second);
+        assertEquals(hits + 1, JsonSchemaCache.getHits());
+        assertEquals(misses + 1, JsonSchemaCache.getMisses());
+        assertEquals(1, JsonSchemaCache.getSize());
+    }
+
+    @Test
+    public void shouldValidateWithACachedSchema() throws Exception {
+        final JsonSchema schema = JsonSchemaCache.getSchema(SCHEMA);
+
+        assertTrue(schema.validate(JsonSchemaCache.readTree("{\"id\": 1}")).isSuccess());
+        assertFalse(JsonSchemaCache.getSchema(SCHEMA).validate(JsonSchemaCache.readTree("{}")).isSuccess());
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsedSchema() throws Exception {
+        final JsonSchema first = JsonSchemaCache.getSchema(schemaWithMinimum(0));
+        for (int i = 1; i <= JsonSchemaCache.MAX_SIZE; i++) {
+            JsonSchemaCache.getSchema(schemaWithMinimum(i));
+        }
+
+        assertEquals(JsonSchemaCache.MAX_SIZE, JsonSchemaCache.getSize());
+        assertNotSame(first, JsonSchemaCache.getSchema(schemaWithMinimum(0)));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldFailOnInvalidJson() throws Exception {
+        JsonSchemaCache.getSchema("{");
+    }
+
+    private String schemaWithMinimum(int minimum) {
+        return "{\"type\": \"integer\", \"minimum\": " + minimum + "}";
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.common.utils;
+
+import de.learnlib.alex.data.entities.Counter;
+import de.learnlib.alex.learning.services.connectors.ConnectorManager;
+import de.learnlib.alex.learning.services.connectors.CounterStoreConnector;
+import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the compiled {@link VariableTemplate} with the regular expression based implementation that
+ * {@link SearchHelper#insertVariableValues} used before. Run it with the main method of this class after the test
+ * sources have been compiled, e.g. from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariableTemplateBenchmark {
+
+    /** The texts of typical actions: a plain selector, an URL with one variable and a JSON body with several. */
+    @Param({
+            "#login-form > button.submit",
+            "/api/users/{{$userId}}/posts?page={{#page}}",
+            "{\"name\": \"{{$name}}\", \"mail\": \"{{$mail}}\", \"id\": {{#page}}, \"owner\": \"{{$name}}\"}"
+    })
+    public String text;
+
+    private ConnectorManager connectors;
+
+    private VariableTemplate template;
+
+    @Setup
+    public void setUp() {
+        final VariableStoreConnector variables = new VariableStoreConnector();
+        variables.set("userId", "4711");
+        variables.set("name", "Jon Doe");
+        variables.set("mail", "jon@example.com");
+
+        final Counter counter = new Counter();
+        counter.setName("page");
+        counter.setValue(3);
+
+        connectors = new ConnectorManager();
+        connectors.addConnector(variables);
+        connectors.addConnector(new CounterStoreConnector(null, null, null, Collections.singletonList(counter)));
+
+        template = VariableTemplate.compile(text);
+    }
+
+    @Benchmark
+    public String regex() {
+        return insertVariableValuesWithRegex(connectors, text);
+    }
+
+    @Benchmark
+    public String compileAndRender() {
+        return VariableTemplate.compile(text).render(connectors, 1L);
+    }
+
+    @Benchmark
+    public String render() {
+        return template.render(connectors, 1L);
+    }
+
+    /** The former implementation of {@link SearchHelper#insertVariableValues}, without file placeholders. */
+    private static String insertVariableValuesWithRegex(ConnectorManager connector, String text) {
+        final VariableStoreConnector variableStore = connector.getConnector(VariableStoreConnector.class);
+        final CounterStoreConnector counterStore = connector.getConnector(CounterStoreConnector.class);
+
+        String result = "" + text;
+
+        final Pattern pattern = Pattern.compile("\\{\\{(\\$|\\#|\\\\)(.*?)}}");
+        final Matcher matcher = pattern.matcher(result);
+
+        while (matcher.find()) {
+            final String type = matcher.group(1);
+            final String name = matcher.group(2);
+
+            switch (type) {
+                case "$":
+                    result = result.replaceAll("\\{\\{\\$" + name + "}}", variableStore.get(name));
+                    break;
+                case "#":
+                    result = result.replaceAll("\\{\\{\\#" + name + "}}", String.valueOf(counterStore.get(name)));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VariableTemplateBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.common.utils;
+
+import de.learnlib.alex.learning.services.connectors.ConnectorManager;
+import de.learnlib.alex.learning.services.connectors.CounterStoreConnector;
+import de.learnlib.alex.learning.services.connectors.FileStoreConnector;
+import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class VariableTemplateTest {
+
+    private static final Long PROJECT_ID = 10L;
+
+    private ConnectorManager connector;
+
+    private VariableStoreConnector variables;
+
+    @Before
+    public void setUp() {
+        variables = mock(VariableStoreConnector.class);
+        given(variables.get("name")).willReturn("Jon Doe");
+        given(variables.get("price")).willReturn("$1\\2");
+        CounterStoreConnector counters = mock(CounterStoreConnector.class);
+        given(counters.get("counter")).willReturn(42);
+        FileStoreConnector files = mock(FileStoreConnector.class);
+        given(files.getAbsoluteFileLocation(PROJECT_ID, "file.txt")).willReturn("/dir/file.txt");
+
+        connector = mock(ConnectorManager.class);
+        given(connector.getConnector(VariableStoreConnector.class)).willReturn(variables);
+        given(connector.getConnector(CounterStoreConnector.class)).willReturn(counters);
+        given(connector.getConnector(FileStoreConnector.class)).willReturn(files);
+    }
+
+    @Test
+    public void shouldReplaceAllPlaceholders() {
+        final VariableTemplate template = VariableTemplate.compile(
+                "{{$name}} is no. {{#counter}}, uploads {{\\file.txt}} and stays {{$name}}");
+
+        assertTrue(template.hasPlaceholders());
+        assertEquals("Jon Doe is no. 42, uploads /dir/file.txt and stays Jon Doe",
+                template.render(connector, PROJECT_ID));
+    }
+
+    @Test
+    public void shouldInsertValuesWithSpecialCharactersLiterally() {
+        final VariableTemplate template = VariableTemplate.compile("costs {{$price}}");
+
+        assertEquals("costs $1\\2", template.render(connector, PROJECT_ID));
+    }
+
+    @Test
+    public void shouldKeepTextsThatAreNoPlaceholders() {
+        final String text = "{{user}}, {{$line\nbreak}}, {{#open and }";
+        final VariableTemplate template = VariableTemplate.compile(text);
+
+        assertFalse(template.hasPlaceholders());
+        assertSame(text, template.render(connector, PROJECT_ID));
+        verify(connector, never()).getConnector(VariableStoreConnector.class);
+    }
+
+    @Test
+    public void shouldUseTheFirstClosingBraces() {
+        final VariableTemplate template = VariableTemplate.compile("{{{$name}}}}");
+
+        assertEquals("{Jon Doe}}", template.render(connector, PROJECT_ID));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailIfAVariableIsNotSet() {
+        given(variables.get("unknown")).willThrow(new IllegalStateException());
+
+        VariableTemplate.compile("{{$unknown}}").render(connector, PROJECT_ID);
+    }
+}
@@ -23,6 +23,7 @@ import de.learnlib.alex.data.entities.ProjectUrl;
 import de.learnlib.alex.data.entities.SymbolGroup;
 import de.learnlib.alex.data.repositories.ProjectRepository;
 import de.learnlib.alex.learning.repositories.LearnerResultRepository;
+import de.learnlib.alex.learning.services.trace.QueryTraceService;
 import de.learnlib.alex.testing.repositories.TestReportRepository;
 import org.hamcrest.MatcherAssert;
 import org.junit.Before;
@@ -70,12 +71,15 @@ public class ProjectDAOImplTest {
     @Mock
     private TestReportRepository testReportRepository;
 
+    @Mock
+    private QueryTraceService queryTraceService;
+
     private ProjectDAO projectDAO;
 
     @Before
     public void setUp() {
         projectDAO = new ProjectDAOImpl(projectRepository, learnerResultRepository, testReportRepository, fileDAO,
-                projectUrlDAO);
+                projectUrlDAO, queryTraceService);
     }
 
     @Test
@@ -312,6 +316,7 @@ public class ProjectDAOImplTest {
         projectDAO.delete(user, PROJECT_ID);
 
         verify(projectRepository).delete(project);
+        verify(queryTraceService).deleteAllAfterCommit(PROJECT_ID);
     }
 
     @Test(expected = NotFoundException.class)
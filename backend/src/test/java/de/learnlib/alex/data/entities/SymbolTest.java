@@ -17,8 +17,10 @@
 package de.learnlib.alex.data.entities;
 
 import de.learnlib.alex.data.entities.actions.web.CheckTextWebAction;
+import de.learnlib.alex.learning.entities.ExecutionMetrics;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
 import de.learnlib.alex.learning.services.connectors.CounterStoreConnector;
+import de.learnlib.alex.learning.services.connectors.ExecutionMetricsConnector;
 import de.learnlib.alex.learning.services.connectors.VariableStoreConnector;
 import de.learnlib.alex.learning.services.connectors.WebSiteConnector;
 import org.junit.Before;
@@ -111,4 +113,22 @@ public class SymbolTest {
         assertFalse(result.isSuccess());
         assertEquals(result.getOutput(), output);
     }
+
+    @Test
+    public void itShouldRecordTheExecutionOfTheSymbolAndItsActions() {
+        final ExecutionMetricsConnector metricsConnector = new ExecutionMetricsConnector();
+        given(connectorManager.getConnector(ExecutionMetricsConnector.class)).willReturn(metricsConnector);
+
+        // let the first action fail
+        given(webSiteConnector.getPageSource()).willReturn("something");
+
+        symbol.setName("symbol");
+        symbol.execute(connectorManager);
+
+        final ExecutionMetrics metrics = metricsConnector.drain();
+        assertEquals(1L, metrics.getSymbols().get("symbol").getCount());
+        assertEquals(1L, metrics.getSymbols().get("symbol").getFailures());
+        assertEquals(1L, metrics.getActions().get(CheckTextWebAction.class.getSimpleName()).getFailures());
+        assertTrue(metricsConnector.drain().isEmpty());
+    }
 }
@@ -17,6 +17,7 @@
 package de.learnlib.alex.data.entities.actions.misc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.learnlib.alex.common.utils.JsonDocument;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.SymbolAction;
 import de.learnlib.alex.learning.services.connectors.ConnectorManager;
@@ -79,7 +80,7 @@ public class SetVariableByJSONAttributeActionTest {
     public void shouldSetTheRightValue() {
         VariableStoreConnector storeConnector = mock(VariableStoreConnector.class);
         WebServiceConnector webServiceConnector = mock(WebServiceConnector.class);
-        given(webServiceConnector.getBody()).willReturn("{\"foo\": \"bar\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"foo\": \"bar\"}"));
         ConnectorManager connectors = mock(ConnectorManager.class);
         given(connectors.getConnector(VariableStoreConnector.class)).willReturn(storeConnector);
         given((connectors.getConnector(WebServiceConnector.class))).willReturn(webServiceConnector);
@@ -94,7 +95,7 @@ public class SetVariableByJSONAttributeActionTest {
     public void shouldSetNotihingIfThePropertyDoesNotExists() {
         VariableStoreConnector storeConnector = mock(VariableStoreConnector.class);
         WebServiceConnector webServiceConnector = mock(WebServiceConnector.class);
-        given(webServiceConnector.getBody()).willReturn("{\"nope\": \"bar\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"nope\": \"bar\"}"));
         ConnectorManager connectors = mock(ConnectorManager.class);
         given(connectors.getConnector(VariableStoreConnector.class)).willReturn(storeConnector);
         given((connectors.getConnector(WebServiceConnector.class))).willReturn(webServiceConnector);
@@ -17,6 +17,7 @@
 package de.learnlib.alex.data.entities.actions.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.learnlib.alex.common.utils.JsonDocument;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.Symbol;
 import org.junit.Before;
@@ -75,7 +76,7 @@ public class CheckAttributeExistsActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnOkIfAttributeExists() {
-        given(webServiceConnector.getBody()).willReturn("{\"awesome_field\": \"Lorem Ipsum. Hello World! Fooooobar\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"awesome_field\": \"Lorem Ipsum. Hello World! Fooooobar\"}"));
 
         ExecuteResult result = c.executeAction(connectors);
 
@@ -84,8 +85,8 @@ public class CheckAttributeExistsActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnOkIfAttributeExistsWithComplexStructure() {
-        given(webServiceConnector.getBody()).willReturn("{\"awesome_field\": {\"foo\": \"Fooooobar.\","
-                                                                 + "\"other\": [\"Lorem Ipsum.\", \"Hello World!\"]}}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"awesome_field\": {\"foo\": \"Fooooobar.\","
+                                                                 + "\"other\": [\"Lorem Ipsum.\", \"Hello World!\"]}}"));
         c.setAttribute("awesome_field.foo");
 
         ExecuteResult result = c.executeAction(connectors);
@@ -95,7 +96,7 @@ public class CheckAttributeExistsActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnFailedIfAttributeDoesNotExists() {
-        given(webServiceConnector.getBody()).willReturn("{\"not_so_awesome_field\": \"Lorem Ipsum. Hello World! Fooooobar\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"not_so_awesome_field\": \"Lorem Ipsum. Hello World! Fooooobar\"}"));
 
         ExecuteResult result = c.executeAction(connectors);
 
@@ -17,6 +17,7 @@
 package de.learnlib.alex.data.entities.actions.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.learnlib.alex.common.utils.JsonDocument;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.Symbol;
 import org.junit.Before;
@@ -78,7 +79,7 @@ public class CheckAttributeTypeActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnOkIfAttributeWithRightTypeExists() {
-        given(webServiceConnector.getBody()).willReturn("{\"awesome_field\": \"Lorem Ipsum. Hello World! Fooooobar\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"awesome_field\": \"Lorem Ipsum. Hello World! Fooooobar\"}"));
 
         ExecuteResult result = c.executeAction(connectors);
         assertTrue(result.isSuccess());
@@ -86,8 +87,8 @@ public class CheckAttributeTypeActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnOkIfAttributeWithRightTypeExistsWithComplexStructure() {
-        given(webServiceConnector.getBody()).willReturn("{\"awesome_field\": {\"foo\": \"Fooooobar.\","
-                + "\"other\": [\"Lorem Ipsum.\", \"Hello World!\"]}}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"awesome_field\": {\"foo\": \"Fooooobar.\","
+                + "\"other\": [\"Lorem Ipsum.\", \"Hello World!\"]}}"));
         c.setAttribute("awesome_field.foo");
 
         ExecuteResult result = c.executeAction(connectors);
@@ -96,7 +97,7 @@ public class CheckAttributeTypeActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnFailedIfAttributeWithWrongTypeExists() {
-        given(webServiceConnector.getBody()).willReturn("{\"awesome_field\": true}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"awesome_field\": true}"));
 
         ExecuteResult result = c.executeAction(connectors);
         assertFalse(result.isSuccess());
@@ -104,7 +105,7 @@ public class CheckAttributeTypeActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnFailedIfAttributeDoesNotExist() {
-        given(webServiceConnector.getBody()).willReturn("{\"not_so_awesome_field\": \"Lorem Ipsum. Hello World! Fooooobar\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"not_so_awesome_field\": \"Lorem Ipsum. Hello World! Fooooobar\"}"));
 
         ExecuteResult result = c.executeAction(connectors);
         assertFalse(result.isSuccess());
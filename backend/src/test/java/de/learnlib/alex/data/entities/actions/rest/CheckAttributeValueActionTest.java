@@ -17,6 +17,7 @@
 package de.learnlib.alex.data.entities.actions.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.learnlib.alex.common.utils.JsonDocument;
 import de.learnlib.alex.data.entities.ExecuteResult;
 import de.learnlib.alex.data.entities.Symbol;
 import org.junit.Before;
@@ -87,7 +88,7 @@ public class CheckAttributeValueActionTest extends RestActionTest {
         action.setValue("0");
         action.setRegexp(false);
 
-        given(webServiceConnector.getBody()).willReturn("[{\"id\": 0}]");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("[{\"id\": 0}]"));
 
         ExecuteResult result = action.executeAction(connectors);
         assertTrue(result.isSuccess());
@@ -101,7 +102,7 @@ public class CheckAttributeValueActionTest extends RestActionTest {
         action.setValue("0");
         action.setRegexp(false);
 
-        given(webServiceConnector.getBody()).willReturn("[{\"id\": 6}]");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("[{\"id\": 6}]"));
 
         ExecuteResult result = action.executeAction(connectors);
         assertFalse(result.isSuccess());
@@ -109,7 +110,7 @@ public class CheckAttributeValueActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnOkIfAttributeWithRightValueExists() {
-        given(webServiceConnector.getBody()).willReturn("{\"awesome_field\": \"Hello World!\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"awesome_field\": \"Hello World!\"}"));
 
         ExecuteResult result = c.executeAction(connectors);
         assertTrue(result.isSuccess());
@@ -117,8 +118,8 @@ public class CheckAttributeValueActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnOkIfAttributeWithRightValueExistsWithComplexStructure() {
-        given(webServiceConnector.getBody()).willReturn("{\"awesome_field\": {\"foo\": \"Hello World!\","
-                + "\"other\": [\"Lorem Ipsum.\", \"Fooooobar.\"]}}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"awesome_field\": {\"foo\": \"Hello World!\","
+                + "\"other\": [\"Lorem Ipsum.\", \"Fooooobar.\"]}}"));
         c.setAttribute("awesome_field.foo");
 
         ExecuteResult result = c.executeAction(connectors);
@@ -127,7 +128,7 @@ public class CheckAttributeValueActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnFailedIfAttributeWithWrongValueExists() {
-        given(webServiceConnector.getBody()).willReturn("{\"awesome_field\": \"Lorem Ipsum!\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"awesome_field\": \"Lorem Ipsum!\"}"));
 
         ExecuteResult result = c.executeAction(connectors);
         assertFalse(result.isSuccess());
@@ -135,7 +136,7 @@ public class CheckAttributeValueActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnFailedIfAttributeDoesNotExist() {
-        given(webServiceConnector.getBody()).willReturn("{\"not_so_awesome_field\": \"Lorem Ipsum. Hello World! Fooooobar\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"not_so_awesome_field\": \"Lorem Ipsum. Hello World! Fooooobar\"}"));
 
         ExecuteResult result = c.executeAction(connectors);
         assertFalse(result.isSuccess());
@@ -143,7 +144,7 @@ public class CheckAttributeValueActionTest extends RestActionTest {
 
     @Test
     public void shouldReturnFailedIfJSONIsEmpty() {
-        given(webServiceConnector.getBody()).willReturn("");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse(""));
 
         ExecuteResult result = c.executeAction(connectors);
         assertFalse(result.isSuccess());
@@ -153,7 +154,7 @@ public class CheckAttributeValueActionTest extends RestActionTest {
     public void shouldReturnOKIfTextWasFoundWithRegexp() {
         c.setValue("F[oO]+ B[a]+r");
         c.setRegexp(true);
-        given(webServiceConnector.getBody()).willReturn("{\"awesome_field\": \"FoO Baaaaar\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"awesome_field\": \"FoO Baaaaar\"}"));
 
         assertTrue(c.executeAction(connectors).isSuccess());
     }
@@ -162,7 +163,7 @@ public class CheckAttributeValueActionTest extends RestActionTest {
     public void shouldReturnFailedIfTextWasNotFoundWithRegexp() {
         c.setValue("F[oO]+ B[a]+r");
         c.setRegexp(true);
-        given(webServiceConnector.getBody()).willReturn("{\"awesome_field\": \"F Bar\"}");
+        given(webServiceConnector.getJsonDocument()).willReturn(JsonDocument.parse("{\"awesome_field\": \"F Bar\"}"));
 
         assertFalse(c.executeAction(connectors).isSuccess());
     }
@@ -30,6 +30,8 @@ import de.learnlib.alex.learning.entities.learnlibproxies.eqproxies.MealyRandomW
 import de.learnlib.alex.learning.repositories.LearnerResultRepository;
 import de.learnlib.alex.learning.repositories.LearnerResultStepRepository;
 import de.learnlib.alex.learning.services.Learner;
+import de.learnlib.alex.learning.services.trace.QueryTraceService;
+import de.learnlib.alex.metrics.services.MetricsService;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -43,10 +45,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.BDDMockito.given;
@@ -78,13 +82,16 @@ public class LearnerResultDAOImplTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private QueryTraceService queryTraceService;
+
     private LearnerResultDAO learnerResultDAO;
 
 
     @Before
     public void setUp() {
         learnerResultDAO = new LearnerResultDAOImpl(projectDAO, learnerResultRepository, learnerResultStepRepository,
-                entityManager);
+                entityManager, new MetricsService(), queryTraceService);
     }
 
     @Test
@@ -202,6 +209,33 @@ public class LearnerResultDAOImplTest {
         }
     }
 
+    @Test
+    public void shouldOnlyLoadStepSummariesWhenGettingAllResultsOfOneProject() throws NotFoundException {
+        User user = new User();
+        //
+        List<LearnerResult> results = createLearnerResultsList();
+        results.forEach(r -> r.setUUID(UUID.randomUUID()));
+        //
+        Statistics statistics = new Statistics();
+        statistics.setEqsUsed(1L);
+        List<Object[]> summaries = new ArrayList<>();
+        summaries.add(new Object[]{results.get(0), 1L, -1, EXAMPLE_EQ_ORACLE, statistics, null, null});
+        summaries.add(new Object[]{results.get(0), 2L, -1, EXAMPLE_EQ_ORACLE, statistics, null, "error"});
+        //
+        given(learnerResultRepository.findByProject_IdOrderByTestNoAsc(PROJECT_ID)).willReturn(results);
+        given(learnerResultStepRepository.findSummariesByResultIn(results)).willReturn(summaries);
+
+        List<LearnerResult> resultsFromDAO = learnerResultDAO.getAll(user, PROJECT_ID, true);
+
+        List<LearnerResultStep> steps = resultsFromDAO.get(0).getSteps();
+        assertEquals(2, steps.size());
+        assertEquals(Long.valueOf(2L), steps.get(1).getStepNo());
+        assertEquals("error", steps.get(1).getErrorText());
+        assertNull(steps.get(0).getHypothesis());
+        assertNull(steps.get(0).getState());
+        assertTrue(resultsFromDAO.get(1).getSteps().isEmpty());
+    }
+
     @Test
     public void ensureThatGettingAllResultsReturnsAnEmptyListIfNoLearnerResultCouldBeFound() throws NotFoundException {
         User user = new User();
@@ -334,13 +368,16 @@ public class LearnerResultDAOImplTest {
         statistics.setSymbolsUsed(detailedStatistics);
         //
         CompactMealyMachineProxy hypothesis = mock(CompactMealyMachineProxy.class);
+        CompactMealyMachineProxy snapshot = mock(CompactMealyMachineProxy.class);
+        given(hypothesis.toSnapshot()).willReturn(snapshot);
         step.setHypothesis(hypothesis);
         step.setStatistics(statistics);
 
         learnerResultDAO.saveStep(result, step);
 
         verify(learnerResultStepRepository, times(1)).save(step);
-        assertThat(result.getHypothesis(), is(equalTo(hypothesis)));
+        // the result keeps a full copy, so that it does not depend on the predecessor of the step
+        assertThat(result.getHypothesis(), is(equalTo(snapshot)));
         assertThat(result.getStatistics().getEqsUsed(), is(equalTo(1L)));
         assertThat(result.getStatistics().getDuration(), is(equalTo(detailedStatistics)));
         assertThat(result.getStatistics().getMqsUsed(), is(equalTo(detailedStatistics)));
@@ -361,6 +398,7 @@ public class LearnerResultDAOImplTest {
         learnerResultDAO.delete(learner, PROJECT_ID, testNos);
 
         verify(learnerResultRepository).deleteByProject_IdAndTestNoIn(PROJECT_ID, testNos);
+        verify(queryTraceService).deleteAfterCommit(PROJECT_ID, testNos);
     }
 
     @Test(expected = NotFoundException.class)
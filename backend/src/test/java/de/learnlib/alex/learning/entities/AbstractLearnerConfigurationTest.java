@@ -47,8 +47,13 @@ public class AbstractLearnerConfigurationTest {
                 + "\"driverConfig\":" + driverConfig + ","
                 + "\"eqOracle\":"
                 + "{\"type\":\"random_word\",\"minLength\":" + EQ_MIN_VALUE + ","
-                + "\"maxLength\":" + EQ_MAX_VALUE + ",\"seed\":42,\"maxNoOfTests\":1},"
-                + "\"maxAmountOfStepsToLearn\":-1,\"project\":null,\"resetSymbol\":null,\"symbols\":[],"
+                + "\"maxLength\":" + EQ_MAX_VALUE + ",\"seed\":42,\"maxNoOfTests\":1,\"timeLimit\":0},"
+                + "\"instancesPerUrl\":1,"
+                + "\"logLevel\":\"INFO\","
+                + "\"maxAmountOfStepsToLearn\":-1,\"maxLogBodyLength\":1000,\"priority\":\"NORMAL\",\"project\":null,"
+                + "\"recordQueryTraces\":false,\"reduceCounterexamples\":true,\"replayConfig\":null,"
+                + "\"resetSymbol\":null,"
+                + "\"symbols\":[],"
                 + "\"urls\":[],"
                 + "\"useMQCache\":true,\"user\":null}";
 
@@ -66,8 +71,15 @@ public class AbstractLearnerConfigurationTest {
                 + "\"comment\":\"test\","
                 + "\"driverConfig\":" + driverConfig + ","
                 + "\"eqOracle\":{\"type\":\"complete\",\"minDepth\":" + EQ_MIN_VALUE + ",\"maxDepth\":" + EQ_MAX_VALUE + "},"
+                + "\"instancesPerUrl\":1,"
+                + "\"logLevel\":\"INFO\","
                 + "\"maxAmountOfStepsToLearn\":-1,"
+                + "\"maxLogBodyLength\":1000,"
+                + "\"priority\":\"NORMAL\","
                 + "\"project\":null,"
+                + "\"recordQueryTraces\":false,"
+                + "\"reduceCounterexamples\":true,"
+                + "\"replayConfig\":null,"
                 + "\"resetSymbol\":null,"
                 + "\"symbols\":[],"
                 + "\"urls\":[],"
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    /** The maximum relative error of an estimated percentile. */
+    private static final double MAX_ERROR = 0.0625;
+
+    @Test
+    public void shouldEstimatePercentilesWithABoundedError() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000000L, true);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000000000L, histogram.getMax());
+        assertEquals(500500000L, histogram.getMean());
+        assertWithinError(500000000L, histogram.getP50());
+        assertWithinError(950000000L, histogram.getP95());
+        assertWithinError(990000000L, histogram.getP99());
+    }
+
+    @Test
+    public void shouldRecordSmallValuesExactly() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 0; i < 8; i++) {
+            histogram.record(i, true);
+        }
+
+        assertEquals(3L, histogram.getP50());
+        assertEquals(7L, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void shouldCountFailures() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10L, true);
+        histogram.record(20L, false);
+
+        assertEquals(2L, histogram.getCount());
+        assertEquals(1L, histogram.getFailures());
+    }
+
+    @Test
+    public void shouldMergeHistograms() {
+        final LatencyHistogram fast = new LatencyHistogram();
+        final LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            fast.record(1000L, true);
+        }
+        for (int i = 0; i < 10; i++) {
+            slow.record(1000000L, false);
+        }
+
+        fast.updateBy(slow);
+
+        assertEquals(100L, fast.getCount());
+        assertEquals(10L, fast.getFailures());
+        assertEquals(1000000L, fast.getMax());
+        assertWithinError(1000L, fast.getP50());
+        assertWithinError(1000000L, fast.getP95());
+    }
+
+    @Test
+    public void shouldBeSerializable() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1234L, true);
+        histogram.record(98765432L, false);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(histogram);
+        }
+        final LatencyHistogram copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (LatencyHistogram) in.readObject();
+        }
+
+        assertEquals(histogram.getCount(), copy.getCount());
+        assertEquals(histogram.getFailures(), copy.getFailures());
+        assertEquals(histogram.getP50(), copy.getP50());
+        assertEquals(histogram.getP99(), copy.getP99());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidPercentiles() {
+        new LatencyHistogram().getPercentile(0);
+    }
+
+    private void assertWithinError(long expected, long actual) {
+        assertTrue("expected " + expected + " but was " + actual,
+                Math.abs(actual - expected) <= expected * MAX_ERROR);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities;
+
+import de.learnlib.alex.learning.entities.learnlibproxies.CompactMealyMachineProxy;
+import de.learnlib.alex.learning.repositories.LearnerResultStepRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LearnerResultStepListenerTest {
+
+    @Mock
+    private LearnerResultStepRepository learnerResultStepRepository;
+
+    private LearnerResult result;
+
+    @Before
+    public void setUp() {
+        new LearnerResultStepListener().setLearnerResultStepRepository(learnerResultStepRepository);
+        result = new LearnerResult();
+    }
+
+    @After
+    public void tearDown() {
+        new LearnerResultStepListener().setLearnerResultStepRepository(null);
+    }
+
+    @Test
+    public void shouldTakeThePredecessorFromTheLoadedSteps() {
+        final LearnerResultStep previousStep = createStep(1L);
+        final LearnerResultStep step = createStep(2L);
+        result.setSteps(Arrays.asList(step, previousStep));
+
+        assertSame(previousStep.getHypothesis(), LearnerResultStepListener.findPreviousHypothesis(step));
+        verify(learnerResultStepRepository, never()).findOneByResultAndStepNo(any(), anyLong());
+    }
+
+    @Test
+    public void shouldLoadOnlyThePredecessorIfTheStepsAreNotLoaded() {
+        final LearnerResultStep previousStep = createStep(2L);
+        final LearnerResultStep step = createStep(3L);
+        result.setSteps(null);
+        given(learnerResultStepRepository.findOneByResultAndStepNo(result, 2L)).willReturn(previousStep);
+
+        assertSame(previousStep.getHypothesis(), LearnerResultStepListener.findPreviousHypothesis(step));
+    }
+
+    @Test
+    public void shouldNotLookUpThePredecessorOfASnapshot() {
+        final LearnerResultStep step = createStep(1L + LearnerResultStep.HYPOTHESIS_SNAPSHOT_INTERVAL);
+        result.setSteps(null);
+
+        assertNull(LearnerResultStepListener.findPreviousHypothesis(step));
+        verify(learnerResultStepRepository, never()).findOneByResultAndStepNo(any(), anyLong());
+    }
+
+    private LearnerResultStep createStep(long stepNo) {
+        final LearnerResultStep step = new LearnerResultStep();
+        step.setResult(result);
+        step.setStepNo(stepNo);
+        step.setHypothesis(new CompactMealyMachineProxy());
+        return step;
+    }
+}
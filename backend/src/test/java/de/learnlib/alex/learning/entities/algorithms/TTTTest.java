@@ -20,13 +20,22 @@ import de.learnlib.algorithms.ttt.base.AbstractBaseDTNode;
 import de.learnlib.algorithms.ttt.base.BaseTTTDiscriminationTree;
 import de.learnlib.algorithms.ttt.mealy.TTTLearnerMealy;
 import de.learnlib.api.algorithm.LearningAlgorithm;
+import de.learnlib.api.algorithm.feature.ResumableLearner;
+import de.learnlib.api.oracle.MembershipOracle;
+import de.learnlib.api.query.Query;
 import de.learnlib.oracle.membership.SULOracle;
+import net.automatalib.automata.transout.impl.compact.CompactMealy;
 import net.automatalib.words.Alphabet;
 import net.automatalib.words.Word;
 import net.automatalib.words.impl.SimpleAlphabet;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+
 import static org.junit.Assert.assertEquals;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -35,9 +44,30 @@ public class TTTTest {
 
     private TTT algorithm;
 
+    private Alphabet<String> sigma;
+
+    private MembershipOracle<String, Word<String>> oracle;
+
     @Before
     public void setUp() {
         algorithm = new TTT();
+        sigma = new SimpleAlphabet<>(Arrays.asList("a", "b"));
+
+        // the SUL only outputs "1" for every second "a"
+        final CompactMealy<String, String> sul = new CompactMealy<>(sigma);
+        final int s0 = sul.addInitialState();
+        final int s1 = sul.addState();
+        sul.addTransition(s0, "a", s1, "0");
+        sul.addTransition(s0, "b", s0, "0");
+        sul.addTransition(s1, "a", s0, "1");
+        sul.addTransition(s1, "b", s1, "0");
+
+        oracle = new MembershipOracle<String, Word<String>>() {
+            @Override
+            public void processQueries(Collection<? extends Query<String, Word<String>>> queries) {
+                queries.forEach(query -> query.answer(sul.computeSuffixOutput(query.getPrefix(), query.getSuffix())));
+            }
+        };
     }
 
     @Test
@@ -72,4 +102,32 @@ public class TTTTest {
         algorithm.getInternalData(learner);
     }
 
+    @Test
+    public void shouldSuspendAndResumeTheLearner() throws Exception {
+        final LearningAlgorithm.MealyLearner<String, String> learner = algorithm.createLearner(sigma, oracle);
+        learner.startLearning();
+
+        final byte[] state = algorithm.suspend(learner);
+
+        final LearningAlgorithm.MealyLearner<String, String> resumedLearner = algorithm.createLearner(sigma, oracle);
+        algorithm.resume(resumedLearner, state);
+
+        assertEquals(learner.getHypothesisModel().size(), resumedLearner.getHypothesisModel().size());
+    }
+
+    @Test
+    public void shouldResumeTheLearnerFromAnUncompressedState() throws Exception {
+        final LearningAlgorithm.MealyLearner<String, String> learner = algorithm.createLearner(sigma, oracle);
+        learner.startLearning();
+
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOut = new ObjectOutputStream(byteOut)) {
+            objectOut.writeObject(((ResumableLearner) learner).suspend());
+        }
+
+        final LearningAlgorithm.MealyLearner<String, String> resumedLearner = algorithm.createLearner(sigma, oracle);
+        algorithm.resume(resumedLearner, byteOut.toByteArray());
+
+        assertEquals(learner.getHypothesisModel().size(), resumedLearner.getHypothesisModel().size());
+    }
 }
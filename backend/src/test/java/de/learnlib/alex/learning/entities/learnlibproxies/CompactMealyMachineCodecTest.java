@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities.learnlibproxies;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompactMealyMachineCodecTest {
+
+    private CompactMealyMachineProxy proxy;
+
+    @Before
+    public void setUp() {
+        final List<CompactMealyTransitionProxy> edges = new ArrayList<>();
+        edges.add(new CompactMealyTransitionProxy(0, "login", 1, "Ok"));
+        edges.add(new CompactMealyTransitionProxy(0, "logout", 0, "Failed (Ümlaut)"));
+        edges.add(new CompactMealyTransitionProxy(1, "login", 1, "Ok"));
+        edges.add(new CompactMealyTransitionProxy(1, "logout", 0, "Ok"));
+
+        proxy = new CompactMealyMachineProxy();
+        proxy.setNodes(Arrays.asList(0, 1));
+        proxy.setInitNode(0);
+        proxy.setEdges(edges);
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeAMachine() throws IOException {
+        final CompactMealyMachineProxy decoded = CompactMealyMachineCodec.decode(CompactMealyMachineCodec.encode(proxy));
+
+        assertMachineEquals(proxy, decoded);
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeAnEmptyMachine() throws IOException {
+        final CompactMealyMachineProxy decoded =
+                CompactMealyMachineCodec.decode(CompactMealyMachineCodec.encode(new CompactMealyMachineProxy()));
+
+        assertEquals(0, decoded.getNodes().size());
+        assertEquals(0, decoded.getEdges().size());
+        assertNull(decoded.getInitNode());
+    }
+
+    @Test
+    public void shouldDecodeMultipleMachinesFromAStream() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompactMealyMachineCodec.encode(proxy, out);
+        final byte[] first = out.toByteArray();
+        CompactMealyMachineCodec.encode(proxy, out);
+
+        final byte[] second = Arrays.copyOfRange(out.toByteArray(), first.length, out.size());
+        assertMachineEquals(proxy, CompactMealyMachineCodec.decode(new ByteArrayInputStream(second)));
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeADelta() throws IOException {
+        final List<CompactMealyTransitionProxy> edges = new ArrayList<>(proxy.getEdges());
+        edges.set(1, new CompactMealyTransitionProxy(0, "logout", 2, "Ok"));
+        edges.remove(3);
+        edges.add(new CompactMealyTransitionProxy(2, "login", 1, "Ok"));
+        edges.add(new CompactMealyTransitionProxy(2, "logout", 2, "Ok"));
+
+        final CompactMealyMachineProxy next = new CompactMealyMachineProxy();
+        next.setNodes(Arrays.asList(0, 1, 2));
+        next.setInitNode(0);
+        next.setEdges(edges);
+
+        final byte[] delta = CompactMealyMachineCodec.encodeDelta(proxy, next);
+
+        assertTrue(CompactMealyMachineCodec.isDelta(delta));
+        assertFalse(CompactMealyMachineCodec.isDelta(CompactMealyMachineCodec.encode(next)));
+        assertMachineEquals(next, CompactMealyMachineCodec.decodeDelta(proxy, delta));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldNotDecodeADeltaWithoutItsBase() throws IOException {
+        CompactMealyMachineCodec.decode(CompactMealyMachineCodec.encodeDelta(proxy, proxy));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldFailToDecodeInvalidData() throws IOException {
+        CompactMealyMachineCodec.decode("[0,1]".getBytes());
+    }
+
+    private void assertMachineEquals(CompactMealyMachineProxy expected, CompactMealyMachineProxy actual) {
+        assertEquals(expected.getNodes(), actual.getNodes());
+        assertEquals(expected.getInitNode(), actual.getInitNode());
+        assertEquals(expected.getEdges().size(), actual.getEdges().size());
+        for (int i = 0; i < expected.getEdges().size(); i++) {
+            final CompactMealyTransitionProxy e = expected.getEdges().get(i);
+            final CompactMealyTransitionProxy a = actual.getEdges().get(i);
+            assertEquals(e.getFrom(), a.getFrom());
+            assertEquals(e.getInput(), a.getInput());
+            assertEquals(e.getTo(), a.getTo());
+            assertEquals(e.getOutput(), a.getOutput());
+        }
+    }
+}
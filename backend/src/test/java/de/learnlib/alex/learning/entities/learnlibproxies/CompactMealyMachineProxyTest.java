@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.entities.learnlibproxies;
+
+import de.learnlib.alex.learning.entities.LearnerResultStep;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompactMealyMachineProxyTest {
+
+    private static final String LEGACY_NODES = "[0,1]";
+
+    private static final String LEGACY_EDGES = "[{\"from\":0,\"input\":\"a\",\"to\":1,\"output\":\"Ok\"}]";
+
+    @Test
+    public void shouldReadLegacyJsonColumnsWithoutChangingThem() {
+        final CompactMealyMachineProxy proxy = createLegacyProxy();
+
+        assertEquals(Arrays.asList(0, 1), proxy.getNodes());
+        assertEquals(1, proxy.getEdges().size());
+        assertEquals("a", proxy.getEdges().get(0).getInput());
+
+        assertNull(proxy.getDataDB());
+        assertEquals(LEGACY_NODES, proxy.getNodesDB());
+        assertEquals(LEGACY_EDGES, proxy.getEdgesDB());
+    }
+
+    @Test
+    public void shouldMigrateLegacyJsonColumnsOnceTheMachineIsModified() {
+        final CompactMealyMachineProxy proxy = createLegacyProxy();
+
+        proxy.setNodes(Arrays.asList(0, 1, 2));
+
+        assertEquals(1, proxy.getEdges().size());
+        assertNotNull(proxy.getDataDB());
+        assertNull(proxy.getNodesDB());
+        assertNull(proxy.getEdgesDB());
+    }
+
+    private CompactMealyMachineProxy createLegacyProxy() {
+        final CompactMealyMachineProxy proxy = new CompactMealyMachineProxy();
+        proxy.setNodesDB(LEGACY_NODES);
+        proxy.setEdgesDB(LEGACY_EDGES);
+        proxy.setDataDB(null);
+        proxy.setInitNode(0);
+        return proxy;
+    }
+
+    @Test
+    public void shouldDecodeTheBinaryColumnLazily() {
+        final CompactMealyMachineProxy original = new CompactMealyMachineProxy();
+        original.setNodes(Arrays.asList(0));
+        original.setInitNode(0);
+        original.setEdges(Arrays.asList(new CompactMealyTransitionProxy(0, "a", 0, "Ok")));
+        final byte[] data = original.getDataDB();
+
+        final CompactMealyMachineProxy proxy = new CompactMealyMachineProxy();
+        proxy.setDataDB(data);
+        proxy.setInitNode(0);
+
+        assertArrayEquals(data, proxy.getDataDB());
+        assertEquals(Arrays.asList(0), proxy.getNodes());
+        assertEquals("Ok", proxy.getEdges().get(0).getOutput());
+    }
+
+    @Test
+    public void shouldEncodeAgainAfterAModification() {
+        final CompactMealyMachineProxy proxy = new CompactMealyMachineProxy();
+        proxy.setNodes(Arrays.asList(0));
+        proxy.setEdges(Arrays.asList(new CompactMealyTransitionProxy(0, "a", 0, "Ok")));
+        final byte[] data = proxy.getDataDB();
+
+        proxy.setEdges(Arrays.asList(new CompactMealyTransitionProxy(0, "a", 0, "Failed")));
+
+        assertFalse(Arrays.equals(data, proxy.getDataDB()));
+    }
+
+    @Test
+    public void shouldStoreTheMachineAsDeltaAgainstThePreviousMachine() {
+        final CompactMealyMachineProxy previous = new CompactMealyMachineProxy();
+        previous.setNodes(Arrays.asList(0));
+        previous.setInitNode(0);
+        previous.setEdges(Arrays.asList(new CompactMealyTransitionProxy(0, "a", 0, "Ok")));
+
+        final CompactMealyMachineProxy proxy = new CompactMealyMachineProxy();
+        proxy.setNodes(Arrays.asList(0, 1));
+        proxy.setInitNode(0);
+        proxy.setEdges(Arrays.asList(
+                new CompactMealyTransitionProxy(0, "a", 1, "Ok"),
+                new CompactMealyTransitionProxy(1, "a", 1, "Failed")));
+        proxy.setPrevious(previous);
+
+        final byte[] data = proxy.getDataDB();
+        assertTrue(CompactMealyMachineCodec.isDelta(data));
+
+        final CompactMealyMachineProxy loaded = new CompactMealyMachineProxy();
+        loaded.setDataDB(data);
+        loaded.setInitNode(0);
+        loaded.setPrevious(previous);
+
+        assertEquals(Arrays.asList(0, 1), loaded.getNodes());
+        assertEquals(2, loaded.getEdges().size());
+        assertEquals("Failed", loaded.getEdges().get(1).getOutput());
+
+        final CompactMealyMachineProxy snapshot = loaded.toSnapshot();
+        assertFalse(CompactMealyMachineCodec.isDelta(snapshot.getDataDB()));
+    }
+
+    @Test
+    public void shouldLookUpThePreviousMachineByTheStepNumber() {
+        final CompactMealyMachineProxy previous = new CompactMealyMachineProxy();
+        previous.setNodes(Arrays.asList(0));
+        previous.setInitNode(0);
+        previous.setEdges(Arrays.asList(new CompactMealyTransitionProxy(0, "a", 0, "Ok")));
+
+        final CompactMealyMachineProxy proxy = new CompactMealyMachineProxy();
+        proxy.setNodes(Arrays.asList(0));
+        proxy.setInitNode(0);
+        proxy.setEdges(Arrays.asList(new CompactMealyTransitionProxy(0, "a", 0, "Failed")));
+        proxy.setPrevious(previous);
+
+        final LearnerResultStep step1 = new LearnerResultStep();
+        step1.setStepNo(1L);
+        step1.setHypothesis(previous);
+
+        final LearnerResultStep step2 = new LearnerResultStep();
+        step2.setStepNo(2L);
+        step2.setHypothesis(new CompactMealyMachineProxy());
+        step2.getHypothesis().setDataDB(proxy.getDataDB());
+
+        // the steps may be loaded in any order
+        final List<LearnerResultStep> steps = Arrays.asList(step2, step1);
+        step2.getHypothesis().setPreviousResolver(() -> step2.findPreviousHypothesis(steps));
+
+        assertNull(step1.findPreviousHypothesis(steps));
+        assertEquals("Failed", step2.getHypothesis().getEdges().get(0).getOutput());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailToDecodeADeltaWithoutThePreviousMachine() {
+        final CompactMealyMachineProxy proxy = new CompactMealyMachineProxy();
+        proxy.setNodes(Arrays.asList(0));
+        proxy.setEdges(Arrays.asList(new CompactMealyTransitionProxy(0, "a", 0, "Ok")));
+        proxy.setPrevious(new CompactMealyMachineProxy());
+
+        final CompactMealyMachineProxy loaded = new CompactMealyMachineProxy();
+        loaded.setDataDB(proxy.getDataDB());
+        loaded.getNodes();
+    }
+}
@@ -70,4 +70,11 @@ public class MealyRandomWordsEQOracleProxyTest {
         eqOracle.checkParameters(); // should fail
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureThatAnExceptionIsThrownIfTheTimeLimitIsNegative() {
+        eqOracle.setTimeLimit(-1);
+
+        eqOracle.checkParameters(); // should fail
+    }
+
 }
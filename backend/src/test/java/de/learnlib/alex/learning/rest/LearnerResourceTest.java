@@ -37,6 +37,7 @@ import de.learnlib.alex.learning.exceptions.LearnerException;
 import de.learnlib.alex.learning.repositories.LearnerResultRepository;
 import de.learnlib.alex.learning.repositories.LearnerResultStepRepository;
 import de.learnlib.alex.learning.services.Learner;
+import de.learnlib.alex.learning.services.progress.LearnerProgressService;
 import de.learnlib.alex.webhooks.services.WebhookService;
 import net.automatalib.words.impl.SimpleAlphabet;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
@@ -104,6 +105,9 @@ public class LearnerResourceTest extends JerseyTest {
     @Mock
     private WebhookService webhookService;
 
+    @Mock
+    private LearnerProgressService progressService;
+
     private User admin;
     private String adminToken;
     private AbstractWebDriverConfig browserConfig = new HtmlUnitDriverConfig();
@@ -125,6 +129,7 @@ public class LearnerResourceTest extends JerseyTest {
                 bind(learnerResultRepository).to(LearnerResultRepository.class);
                 bind(learner).to(Learner.class);
                 bind(webhookService).to(WebhookService.class);
+                bind(progressService).to(LearnerProgressService.class);
             }
         });
         return testApplication;
@@ -27,6 +27,7 @@ import de.learnlib.alex.learning.entities.LearnerResult;
 import de.learnlib.alex.learning.entities.LearnerStatus;
 import de.learnlib.alex.learning.entities.learnlibproxies.AlphabetProxy;
 import de.learnlib.alex.learning.services.Learner;
+import de.learnlib.alex.learning.services.trace.QueryTraceService;
 import net.automatalib.words.Alphabet;
 import net.automatalib.words.impl.SimpleAlphabet;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
@@ -62,6 +63,9 @@ public class LearnerResultResourceTest extends JerseyTest {
     @Mock
     private Learner learner;
 
+    @Mock
+    private QueryTraceService queryTraceService;
+
     private User admin;
     private String adminToken;
 
@@ -82,6 +86,7 @@ public class LearnerResultResourceTest extends JerseyTest {
             protected void configure() {
                 bind(learnerResultDAO).to(LearnerResultDAO.class);
                 bind(learner).to(Learner.class);
+                bind(queryTraceService).to(QueryTraceService.class);
             }
         });
         return testApplication;
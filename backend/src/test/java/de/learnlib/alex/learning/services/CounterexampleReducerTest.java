@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services;
+
+import de.learnlib.api.oracle.MembershipOracle;
+import de.learnlib.api.query.DefaultQuery;
+import de.learnlib.api.query.Query;
+import net.automatalib.automata.transout.impl.compact.CompactMealy;
+import net.automatalib.words.Alphabet;
+import net.automatalib.words.Word;
+import net.automatalib.words.impl.SimpleAlphabet;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+
+public class CounterexampleReducerTest {
+
+    private CompactMealy<String, String> sul;
+
+    private CompactMealy<String, String> hypothesis;
+
+    private CounterexampleReducer<String, String> reducer;
+
+    @Before
+    public void setUp() {
+        final Alphabet<String> alphabet = new SimpleAlphabet<>(Arrays.asList("a", "b"));
+
+        // the SUL only fails on "b" directly after an "a"
+        sul = new CompactMealy<>(alphabet);
+        final int s0 = sul.addInitialState();
+        final int s1 = sul.addState();
+        sul.addTransition(s0, "a", s1, "ok");
+        sul.addTransition(s0, "b", s0, "ok");
+        sul.addTransition(s1, "a", s1, "ok");
+        sul.addTransition(s1, "b", s0, "failed");
+
+        hypothesis = new CompactMealy<>(alphabet);
+        final int h0 = hypothesis.addInitialState();
+        hypothesis.addTransition(h0, "a", h0, "ok");
+        hypothesis.addTransition(h0, "b", h0, "ok");
+
+        reducer = new CounterexampleReducer<>(new MembershipOracle<String, Word<String>>() {
+            @Override
+            public void processQueries(Collection<? extends Query<String, Word<String>>> queries) {
+                queries.forEach(query -> query.answer(sul.computeOutput(query.getInput())));
+            }
+        });
+    }
+
+    @Test
+    public void shouldTrimTheCounterexampleToTheFirstDifferingOutput() {
+        final DefaultQuery<String, Word<String>> counterexample =
+                createCounterexample(Word.fromSymbols("b", "a", "a", "b", "a", "b"));
+
+        final DefaultQuery<String, Word<String>> trimmed = reducer.trim(hypothesis, counterexample);
+
+        assertEquals(Word.fromSymbols("b", "a", "a", "b"), trimmed.getInput());
+        assertEquals(Word.fromSymbols("ok", "ok", "ok", "failed"), trimmed.getOutput());
+    }
+
+    @Test
+    public void shouldReduceTheCounterexampleOnTheSUL() {
+        final DefaultQuery<String, Word<String>> counterexample = createCounterexample(
+                Word.fromSymbols("b", "b", "b", "a", "a", "b", "a", "a", "b", "b", "a", "b"));
+
+        final DefaultQuery<String, Word<String>> reduced = reducer.reduce(hypothesis, counterexample);
+
+        assertEquals(Word.fromSymbols("a", "b"), reduced.getInput());
+        assertEquals(Word.fromSymbols("ok", "failed"), reduced.getOutput());
+    }
+
+    private DefaultQuery<String, Word<String>> createCounterexample(Word<String> input) {
+        final DefaultQuery<String, Word<String>> counterexample = new DefaultQuery<>(input);
+        counterexample.answer(sul.computeOutput(input));
+        return counterexample;
+    }
+}
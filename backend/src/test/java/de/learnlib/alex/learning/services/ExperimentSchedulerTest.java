@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ExperimentSchedulerTest {
+
+    private static final long USER_1 = 1L;
+
+    private static final long USER_2 = 2L;
+
+    private ExperimentScheduler scheduler;
+
+    private CountDownLatch release;
+
+    @Before
+    public void setUp() {
+        scheduler = new ExperimentScheduler(2, 1, 4);
+        release = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void shouldQueueExperimentsThatExceedTheUserLimit() {
+        scheduler.submit(1L, USER_1, ExperimentScheduler.Priority.NORMAL, 1, this::block);
+        scheduler.submit(2L, USER_1, ExperimentScheduler.Priority.NORMAL, 1, this::block);
+        scheduler.submit(3L, USER_2, ExperimentScheduler.Priority.NORMAL, 1, this::block);
+
+        assertEquals(-1, scheduler.getQueuePosition(1L));
+        assertEquals(0, scheduler.getQueuePosition(2L));
+        assertEquals(-1, scheduler.getQueuePosition(3L));
+        assertNull(scheduler.getEstimatedWaitingTime(2L));
+    }
+
+    @Test
+    public void shouldQueueExperimentsThatOpenTooManyBrowsers() {
+        scheduler.submit(1L, USER_1, ExperimentScheduler.Priority.NORMAL, 3, this::block);
+        scheduler.submit(2L, USER_2, ExperimentScheduler.Priority.NORMAL, 2, this::block);
+
+        assertEquals(0, scheduler.getQueuePosition(2L));
+    }
+
+    @Test
+    public void shouldOrderTheQueueByPriority() {
+        scheduler.submit(1L, USER_1, ExperimentScheduler.Priority.NORMAL, 4, this::block);
+        scheduler.submit(2L, USER_2, ExperimentScheduler.Priority.LOW, 1, this::block);
+        scheduler.submit(3L, USER_2, ExperimentScheduler.Priority.HIGH, 1, this::block);
+
+        assertEquals(0, scheduler.getQueuePosition(3L));
+        assertEquals(1, scheduler.getQueuePosition(2L));
+    }
+
+    @Test
+    public void shouldStartQueuedExperimentsWhenOthersFinish() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        scheduler.submit(1L, USER_1, ExperimentScheduler.Priority.NORMAL, 1, this::block);
+        scheduler.submit(2L, USER_1, ExperimentScheduler.Priority.NORMAL, 1, started::countDown);
+
+        assertEquals(0, scheduler.getQueuePosition(2L));
+        release.countDown();
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(-1, scheduler.getQueuePosition(2L));
+    }
+
+    @Test
+    public void shouldRemoveCanceledExperimentsFromTheQueue() {
+        scheduler.submit(1L, USER_1, ExperimentScheduler.Priority.NORMAL, 1, this::block);
+        scheduler.submit(2L, USER_1, ExperimentScheduler.Priority.NORMAL, 1, this::block);
+
+        assertTrue(scheduler.cancel(2L));
+        assertFalse(scheduler.cancel(1L));
+        assertEquals(0, scheduler.getQueueSize());
+    }
+
+    @Test
+    public void shouldRunExperimentsOnNamedDaemonThreads() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final Thread[] thread = new Thread[1];
+        scheduler.submit(1L, USER_1, ExperimentScheduler.Priority.NORMAL, 1, () -> {
+            thread[0] = Thread.currentThread();
+            started.countDown();
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(thread[0].isDaemon());
+        assertTrue(thread[0].getName().startsWith("experiment-"));
+    }
+
+    private void block() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services;
+
+import de.learnlib.alex.learning.exceptions.LearnerException;
+import de.learnlib.alex.learning.services.trace.QueryTraceWriter;
+import de.learnlib.api.SUL;
+import de.learnlib.api.exception.SULException;
+import de.learnlib.api.query.DefaultQuery;
+import net.automatalib.words.Word;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class MultiSULOracleTest {
+
+    private EchoSUL sul;
+
+    private MultiSULOracle<String, String> oracle;
+
+    @Before
+    public void setUp() {
+        sul = new EchoSUL();
+        oracle = new MultiSULOracle<>(sul, 2);
+    }
+
+    @After
+    public void tearDown() {
+        oracle.shutdown();
+    }
+
+    @Test
+    public void shouldAnswerAllQueriesOfABatch() {
+        final DefaultQuery<String, Word<String>> q1 = new DefaultQuery<>(Word.fromSymbols("a"), Word.fromSymbols("b"));
+        final DefaultQuery<String, Word<String>> q2 = new DefaultQuery<>(Word.fromSymbols("a", "b", "c"));
+        final DefaultQuery<String, Word<String>> q3 = new DefaultQuery<>(Word.epsilon());
+        final List<DefaultQuery<String, Word<String>>> queries = Arrays.asList(q1, q2, q3);
+
+        oracle.processQueries(queries);
+        oracle.processQueries(queries);
+
+        assertEquals(Word.fromSymbols("B"), q1.getOutput());
+        assertEquals(Word.fromSymbols("A", "B", "C"), q2.getOutput());
+        assertEquals(Word.epsilon(), q3.getOutput());
+        assertEquals(6, sul.posts.get());
+    }
+
+    @Test(expected = SULException.class)
+    public void shouldPropagateSULExceptions() {
+        final DefaultQuery<String, Word<String>> q1 = new DefaultQuery<>(Word.fromSymbols("a"));
+        final DefaultQuery<String, Word<String>> q2 = new DefaultQuery<>(Word.fromSymbols("fail"));
+
+        oracle.processQueries(Arrays.asList(q1, q2));
+    }
+
+    @Test(expected = LearnerException.class)
+    public void shouldNotProcessQueriesAfterAnInterrupt() {
+        final DefaultQuery<String, Word<String>> q1 = new DefaultQuery<>(Word.fromSymbols("a"));
+
+        oracle.interrupt();
+        oracle.processQueries(Arrays.asList(q1));
+    }
+
+    @Test
+    public void shouldStopRecordingIfTheTraceCouldNotBeWritten() {
+        final QueryTraceWriter trace = mock(QueryTraceWriter.class);
+        willThrow(new UncheckedIOException(new IOException("No space left on device")))
+                .given(trace).record(anyLong(), anyInt(), anyInt(), any(), anyList(), any(), anyBoolean());
+        oracle.setQueryTrace(trace, () -> 0);
+
+        final DefaultQuery<String, Word<String>> q1 = new DefaultQuery<>(Word.fromSymbols("a"));
+        final DefaultQuery<String, Word<String>> q2 = new DefaultQuery<>(Word.fromSymbols("b"));
+        oracle.processQueries(Arrays.asList(q1));
+        oracle.processQueries(Arrays.asList(q2));
+
+        assertEquals(Word.fromSymbols("A"), q1.getOutput());
+        assertEquals(Word.fromSymbols("B"), q2.getOutput());
+        verify(trace, times(1)).record(anyLong(), anyInt(), anyInt(), any(), anyList(), any(), anyBoolean());
+    }
+
+    /** SUL that outputs the upper case version of each input. */
+    private static class EchoSUL implements SUL<String, String> {
+
+        private final AtomicInteger posts = new AtomicInteger();
+
+        @Override
+        public void pre() {
+        }
+
+        @Override
+        public void post() {
+            posts.incrementAndGet();
+        }
+
+        @Nullable
+        @Override
+        public String step(@Nullable String in) throws SULException {
+            if ("fail".equals(in)) {
+                throw new SULException(new IllegalStateException(in));
+            }
+            return in == null ? null : in.toUpperCase();
+        }
+
+        @Override
+        public boolean canFork() {
+            return true;
+        }
+
+        @Nonnull
+        @Override
+        public SUL<String, String> fork() {
+            return this;
+        }
+    }
+}
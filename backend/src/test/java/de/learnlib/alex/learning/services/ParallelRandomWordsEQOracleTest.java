@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services;
+
+import de.learnlib.alex.learning.exceptions.LearnerException;
+import de.learnlib.api.oracle.MembershipOracle;
+import de.learnlib.api.query.DefaultQuery;
+import de.learnlib.api.query.Query;
+import net.automatalib.automata.transout.impl.compact.CompactMealy;
+import net.automatalib.words.Alphabet;
+import net.automatalib.words.Word;
+import net.automatalib.words.impl.SimpleAlphabet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelRandomWordsEQOracleTest {
+
+    private static final int MAX_NO_OF_TESTS = 50;
+
+    private Alphabet<String> alphabet;
+
+    private CompactMealy<String, String> hypothesis;
+
+    private AtomicInteger posedQueries;
+
+    private ParallelRandomWordsEQOracle oracle;
+
+    @Before
+    public void setUp() {
+        alphabet = new SimpleAlphabet<>(Arrays.asList("a", "b"));
+
+        hypothesis = new CompactMealy<>(alphabet);
+        final int state = hypothesis.addInitialState();
+        hypothesis.addTransition(state, "a", state, "ok");
+        hypothesis.addTransition(state, "b", state, "ok");
+
+        posedQueries = new AtomicInteger();
+    }
+
+    @After
+    public void tearDown() {
+        if (oracle != null) {
+            oracle.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReturnNullIfTheHypothesisIsCorrect() {
+        oracle = createOracle(sym -> "ok");
+
+        assertNull(oracle.findCounterExample(hypothesis, alphabet));
+        assertEquals(MAX_NO_OF_TESTS, posedQueries.get());
+    }
+
+    @Test
+    public void shouldReuseTheWorkersForSubsequentSearches() {
+        oracle = createOracle(sym -> "ok");
+
+        assertNull(oracle.findCounterExample(hypothesis, alphabet));
+        assertNull(oracle.findCounterExample(hypothesis, alphabet));
+        assertEquals(2 * MAX_NO_OF_TESTS, posedQueries.get());
+    }
+
+    @Test
+    public void shouldPropagateAnInterruption() {
+        oracle = createOracle(sym -> "ok");
+
+        Thread.currentThread().interrupt();
+        try {
+            oracle.findCounterExample(hypothesis, alphabet);
+            fail("The search should have been interrupted.");
+        } catch (LearnerException e) {
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void shouldStopAfterACounterexampleHasBeenFound() {
+        oracle = createOracle(sym -> sym.equals("b") ? "failed" : "ok");
+
+        final DefaultQuery<String, Word<String>> counterexample = oracle.findCounterExample(hypothesis, alphabet);
+
+        assertNotNull(counterexample);
+        assertNotEquals(hypothesis.computeOutput(counterexample.getInput()), counterexample.getOutput());
+        assertNotEquals(MAX_NO_OF_TESTS, posedQueries.get());
+    }
+
+    @Test
+    public void shouldWaitForTheOtherWorkersBeforeAFailureIsThrown() {
+        final CountDownLatch bothPosed = new CountDownLatch(2);
+        final AtomicBoolean otherWordFinished = new AtomicBoolean();
+        oracle = createOracle(queries -> {
+            final int number = posedQueries.incrementAndGet();
+            bothPosed.countDown();
+            try {
+                bothPosed.await(5, TimeUnit.SECONDS);
+                if (number == 1) {
+                    throw new IllegalStateException("The SUL failed.");
+                }
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            queries.forEach(query -> query.answer(query.getSuffix().transform(sym -> "ok")));
+            otherWordFinished.set(true);
+        });
+
+        try {
+            oracle.findCounterExample(hypothesis, alphabet);
+            fail("The failure of the worker should have been thrown.");
+        } catch (IllegalStateException e) {
+            assertTrue(otherWordFinished.get());
+        }
+    }
+
+    private ParallelRandomWordsEQOracle createOracle(Function<String, String> sul) {
+        return createOracle(queries -> {
+            for (final Query<String, Word<String>> query : queries) {
+                posedQueries.incrementAndGet();
+                query.answer(query.getSuffix().transform(sul::apply));
+            }
+        });
+    }
+
+    private ParallelRandomWordsEQOracle createOracle(MembershipOracle<String, Word<String>> mqOracle) {
+        return new ParallelRandomWordsEQOracle(mqOracle, 5, 10, MAX_NO_OF_TESTS, 0, new Random(42), 2);
+    }
+}
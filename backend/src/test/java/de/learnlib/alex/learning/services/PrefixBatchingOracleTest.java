@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services;
+
+import de.learnlib.api.oracle.MembershipOracle;
+import de.learnlib.api.query.DefaultQuery;
+import de.learnlib.api.query.Query;
+import net.automatalib.words.Word;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrefixBatchingOracleTest {
+
+    private List<Word<String>> executedWords;
+
+    private PrefixBatchingOracle<String, String> oracle;
+
+    @Before
+    public void setUp() {
+        executedWords = new ArrayList<>();
+        oracle = new PrefixBatchingOracle<>(new UpperCaseOracle());
+    }
+
+    @Test
+    public void shouldOnlyExecuteTheLeavesOfTheBatch() {
+        final DefaultQuery<String, Word<String>> q1 = new DefaultQuery<>(Word.fromSymbols("a"), Word.fromSymbols("b"));
+        final DefaultQuery<String, Word<String>> q2 = new DefaultQuery<>(Word.fromSymbols("a", "b", "c"));
+        final DefaultQuery<String, Word<String>> q3 = new DefaultQuery<>(Word.fromSymbols("a"));
+        final DefaultQuery<String, Word<String>> q4 = new DefaultQuery<>(Word.fromSymbols("d"));
+
+        oracle.processQueries(Arrays.asList(q1, q2, q3, q4));
+
+        assertEquals(Word.fromSymbols("B"), q1.getOutput());
+        assertEquals(Word.fromSymbols("A", "B", "C"), q2.getOutput());
+        assertEquals(Word.fromSymbols("A"), q3.getOutput());
+        assertEquals(Word.fromSymbols("D"), q4.getOutput());
+
+        assertEquals(2, executedWords.size());
+        assertEquals(2L, oracle.getSavedResets());
+        assertEquals(3L, oracle.getSavedSymbols());
+
+        oracle.resetCounter();
+        assertEquals(0L, oracle.getSavedResets());
+    }
+
+    @Test
+    public void shouldExecuteDuplicateQueriesOnce() {
+        final DefaultQuery<String, Word<String>> q1 = new DefaultQuery<>(Word.fromSymbols("a", "b"));
+        final DefaultQuery<String, Word<String>> q2 = new DefaultQuery<>(Word.fromSymbols("a", "b"));
+
+        oracle.processQueries(Arrays.asList(q1, q2));
+
+        assertEquals(q1.getOutput(), q2.getOutput());
+        assertEquals(1, executedWords.size());
+        assertEquals(1L, oracle.getSavedResets());
+    }
+
+    /** Oracle that outputs the upper case version of each input. */
+    private class UpperCaseOracle implements MembershipOracle<String, Word<String>> {
+
+        @Override
+        public void processQueries(Collection<? extends Query<String, Word<String>>> queries) {
+            for (final Query<String, Word<String>> query : queries) {
+                executedWords.add(query.getInput());
+                query.answer(query.getSuffix().transform(String::toUpperCase));
+            }
+        }
+    }
+}
@@ -25,14 +25,20 @@ import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Cookie;
 import javax.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.internal.verification.VerificationModeFactory.atLeast;
 
@@ -117,6 +123,62 @@ public class WebServiceConnectorTest {
         connector.getBody();
     }
 
+    @Test
+    public void shouldReadTheBodyOnlyWhenItIsAccessed() {
+        final Response response = createResponse(new TrackingInputStream(FAKE_MESSAGE.getBytes(StandardCharsets.UTF_8)));
+        given(builder.get()).willReturn(response);
+
+        connector.get("/", requestHeaders, cookies, 0);
+        verify(response, never()).readEntity(InputStream.class);
+
+        assertEquals(FAKE_MESSAGE, connector.getBody());
+        assertEquals(FAKE_MESSAGE, connector.getBody());
+        verify(response).readEntity(InputStream.class);
+        verify(response).close();
+    }
+
+    @Test
+    public void shouldTruncateTheBodyToTheMaximumBodySize() {
+        connector = new WebServiceConnector(createWebTarget(), FAKE_URL, RESET_URL, 4);
+        final TrackingInputStream in = new TrackingInputStream("{\"key\":1}".getBytes(StandardCharsets.UTF_8));
+        final Response response = createResponse(in);
+        given(builder.get()).willReturn(response);
+
+        connector.get("/", requestHeaders, cookies, 0);
+
+        assertEquals("{\"ke", connector.getBody());
+        assertTrue(in.closed);
+        verify(response).close();
+    }
+
+    @Test
+    public void shouldConsumeAnUnreadBodySoThatTheConnectionIsReturnedToThePool() {
+        final TrackingInputStream in = new TrackingInputStream(new byte[1024]);
+        final Response response = createResponse(in);
+        given(builder.get()).willReturn(response);
+
+        connector.get("/", requestHeaders, cookies, 0);
+        connector.post();
+
+        assertEquals(0, in.available());
+        assertTrue(in.closed);
+        verify(response).close();
+    }
+
+    @Test
+    public void shouldNotDrainALargeUnreadBody() {
+        final TrackingInputStream in = new TrackingInputStream(new byte[1024 * 1024]);
+        final Response response = createResponse(in);
+        given(builder.get()).willReturn(response);
+
+        connector.get("/", requestHeaders, cookies, 0);
+        connector.post();
+
+        assertFalse(in.available() == 0);
+        assertTrue(in.closed);
+        verify(response).close();
+    }
+
     private WebTarget createWebTarget() {
         Response response = createResponse();
         WebTarget subTarget = mock(WebTarget.class);
@@ -138,9 +200,32 @@ public class WebServiceConnectorTest {
         Response response = mock(Response.class);
         given(response.getStatus()).willReturn(OK_STATUS);
         given(response.getHeaders()).willReturn(null);
-        given(response.readEntity(String.class)).willReturn("{}");
+        given(response.readEntity(InputStream.class))
+                .willAnswer(invocation -> new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+
+        return response;
+    }
+
+    private Response createResponse(InputStream in) {
+        Response response = mock(Response.class);
+        given(response.getStatus()).willReturn(OK_STATUS);
+        given(response.readEntity(InputStream.class)).willReturn(in);
 
         return response;
     }
 
+    private static class TrackingInputStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        TrackingInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
 }
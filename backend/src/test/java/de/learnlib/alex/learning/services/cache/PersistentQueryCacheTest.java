@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.cache;
+
+import net.automatalib.words.Word;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PersistentQueryCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldAnswerPrefixesOfInsertedWords() throws Exception {
+        final PersistentQueryCache cache = new PersistentQueryCache(folder.getRoot().toPath().resolve("a.cache"));
+        cache.insert(Word.fromSymbols("a", "b", "c"), Word.fromSymbols("1", "2", "3"));
+
+        assertEquals(Word.fromSymbols("1", "2"), cache.lookup(Word.fromSymbols("a", "b")));
+        assertEquals(Word.epsilon(), cache.lookup(Word.epsilon()));
+        assertNull(cache.lookup(Word.fromSymbols("a", "c")));
+        cache.close();
+    }
+
+    @Test
+    public void shouldSurviveReopening() throws Exception {
+        final Path file = folder.getRoot().toPath().resolve("b.cache");
+
+        final PersistentQueryCache cache1 = new PersistentQueryCache(file);
+        cache1.insert(Word.fromSymbols("a", "b"), Word.fromSymbols("1", "2"));
+        cache1.close();
+
+        final PersistentQueryCache cache2 = new PersistentQueryCache(file);
+        assertEquals(Word.fromSymbols("1", "2"), cache2.lookup(Word.fromSymbols("a", "b")));
+        cache2.insert(Word.fromSymbols("b", "a"), Word.fromSymbols("3", "4"));
+        cache2.insert(Word.fromSymbols("a", "c"), Word.fromSymbols("1", "5"));
+        cache2.flush();
+
+        assertEquals(Word.fromSymbols("1", "2"), cache2.lookup(Word.fromSymbols("a", "b")));
+        assertEquals(Word.fromSymbols("3", "4"), cache2.lookup(Word.fromSymbols("b", "a")));
+        assertEquals(Word.fromSymbols("1", "5"), cache2.lookup(Word.fromSymbols("a", "c")));
+        cache2.close();
+
+        final PersistentQueryCache cache3 = new PersistentQueryCache(file);
+        assertEquals(Word.fromSymbols("1", "5"), cache3.lookup(Word.fromSymbols("a", "c")));
+        assertNull(cache3.lookup(Word.fromSymbols("c")));
+        cache3.close();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long LATENCY = 100000000L;
+
+    @Test
+    public void shouldStartWithTheHighestLimit() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 8, 2.0);
+        assertEquals(8, limiter.getLimit());
+        assertEquals(2, limiter.getMinLimit());
+        assertEquals(8, limiter.getMaxLimit());
+    }
+
+    @Test
+    public void shouldDecreaseTheLimitOnErrors() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8, 2.0);
+        sample(limiter, 7, LATENCY, true);
+        limiter.onSample(LATENCY, false);
+
+        assertEquals(6, limiter.getLimit());
+    }
+
+    @Test
+    public void shouldDecreaseTheLimitIfTheLatencyGrowsAndIncreaseItAgainAfterwards() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8, 2.0);
+        sample(limiter, 8, LATENCY, true);
+        assertEquals(8, limiter.getLimit());
+
+        sample(limiter, 8, 3 * LATENCY, true);
+        assertEquals(6, limiter.getLimit());
+
+        sample(limiter, 6, LATENCY, true);
+        assertEquals(7, limiter.getLimit());
+    }
+
+    @Test
+    public void shouldNotLeaveTheBounds() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 4, 2.0);
+        for (int i = 0; i < 10; i++) {
+            sample(limiter, limiter.getLimit(), LATENCY, false);
+        }
+        assertEquals(3, limiter.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            sample(limiter, limiter.getLimit(), LATENCY, true);
+        }
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    public void shouldBlockIfTheLimitIsReached() throws Exception {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 2.0);
+        limiter.acquire();
+
+        final CountDownLatch acquired = new CountDownLatch(1);
+        final Thread thread = new Thread(() -> {
+            limiter.acquire();
+            acquired.countDown();
+        });
+        thread.start();
+
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+        limiter.release();
+        assertTrue(acquired.await(1, TimeUnit.SECONDS));
+        thread.join();
+    }
+
+    private void sample(AdaptiveConcurrencyLimiter limiter, int samples, long latency, boolean success) {
+        for (int i = 0; i < samples; i++) {
+            limiter.onSample(latency, success);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import de.learnlib.alex.data.entities.Symbol;
+import de.learnlib.alex.data.entities.actions.misc.SetVariableByCookieAction;
+import de.learnlib.alex.data.entities.actions.misc.WaitAction;
+import de.learnlib.alex.data.entities.actions.rest.CheckStatusAction;
+import de.learnlib.alex.data.entities.actions.web.GotoAction;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConnectorContextHandlerFactoryTest {
+
+    private final ConnectorContextHandlerFactory factory = new ConnectorContextHandlerFactory();
+
+    @Test
+    public void shouldUseTheRequestedNumberOfInstancesPerUrl() {
+        assertEquals(1, factory.getInstancesPerUrl(1, 3));
+        assertEquals(4, factory.getInstancesPerUrl(4, 3));
+    }
+
+    @Test
+    public void shouldUseAtLeastOneInstancePerUrl() {
+        assertEquals(1, factory.getInstancesPerUrl(-1, 1));
+    }
+
+    @Test
+    public void shouldSplitTheAutomaticNumberOfInstancesBetweenTheUrls() {
+        final int instances = factory.getInstancesPerUrl(ConnectorContextHandlerFactory.AUTOMATIC_INSTANCES, 1);
+        final int processors = Runtime.getRuntime().availableProcessors();
+
+        assertTrue(instances >= 1 && instances <= processors);
+        assertEquals(1, factory.getInstancesPerUrl(ConnectorContextHandlerFactory.AUTOMATIC_INSTANCES,
+                processors + 1));
+    }
+
+    @Test
+    public void shouldSkipTheBrowserIfNoSymbolUsesIt() {
+        final Symbol reset = new Symbol();
+        reset.addAction(new WaitAction());
+        final Symbol symbol = new Symbol();
+        symbol.addAction(new CheckStatusAction());
+        final SetVariableByCookieAction cookieAction = new SetVariableByCookieAction();
+        cookieAction.setCookieType(SetVariableByCookieAction.CookieType.REST);
+        symbol.addAction(cookieAction);
+
+        assertFalse(ConnectorContextHandlerFactory.usesConnector(Arrays.asList(reset, symbol),
+                WebSiteConnector.class));
+        assertTrue(ConnectorContextHandlerFactory.usesConnector(Arrays.asList(reset, symbol),
+                WebServiceConnector.class));
+        assertTrue(ConnectorContextHandlerFactory.usesConnector(Arrays.asList(reset, symbol),
+                VariableStoreConnector.class));
+    }
+
+    @Test
+    public void shouldIgnoreDisabledActions() {
+        final Symbol symbol = new Symbol();
+        final GotoAction action = new GotoAction();
+        action.setDisabled(true);
+        symbol.addAction(action);
+
+        assertFalse(ConnectorContextHandlerFactory.usesConnector(Collections.singletonList(symbol),
+                WebSiteConnector.class));
+    }
+
+    @Test
+    public void shouldUseAllConnectorsIfTheSymbolsAreUnknown() {
+        assertTrue(ConnectorContextHandlerFactory.usesConnector(null, WebSiteConnector.class));
+        assertTrue(ConnectorContextHandlerFactory.usesConnector(null, WebServiceConnector.class));
+    }
+}
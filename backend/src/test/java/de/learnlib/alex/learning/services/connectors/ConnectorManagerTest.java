@@ -17,7 +17,13 @@ package de.learnlib.alex.learning.services.connectors;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 
@@ -37,4 +43,32 @@ public class ConnectorManagerTest {
         verify(connector1).dispose();
         verify(connector2).dispose();
     }
+
+    @Test
+    public void shouldCreateAndResetLazyConnectorsOnFirstUse() {
+        WebServiceConnector connector = mock(WebServiceConnector.class);
+        int[] created = {0};
+
+        ConnectorManager manager = new ConnectorManager();
+        manager.addConnector(WebServiceConnector.class, () -> {
+            created[0]++;
+            return connector;
+        });
+
+        assertFalse(manager.iterator().hasNext());
+        manager.dispose();
+        verify(connector, never()).dispose();
+
+        assertSame(connector, manager.getConnector(WebServiceConnector.class));
+        assertSame(connector, manager.getConnector(WebServiceConnector.class));
+        verify(connector, times(1)).reset();
+        assertEquals(1, created[0]);
+    }
+
+    @Test
+    public void shouldNotCreateConnectorsThatHaveNotBeenAdded() {
+        ConnectorManager manager = new ConnectorManager();
+
+        assertNull(manager.getConnector(WebSiteConnector.class));
+    }
 }
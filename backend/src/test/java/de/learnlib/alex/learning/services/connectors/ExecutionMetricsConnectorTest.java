@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import de.learnlib.alex.learning.entities.ExecutionMetrics;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutionMetricsConnectorTest {
+
+    @Test
+    public void shouldMergeTheMetricsOfAllThreads() throws Exception {
+        final ExecutionMetricsConnector connector = new ExecutionMetricsConnector();
+        final int threads = 4;
+        final int resetsPerThread = 1000;
+
+        final List<Thread> recorders = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < resetsPerThread; i++) {
+                    connector.recordReset(i, i % 2 == 0);
+                }
+            });
+            thread.start();
+            recorders.add(thread);
+        }
+        for (final Thread thread : recorders) {
+            thread.join();
+        }
+
+        final ExecutionMetrics metrics = connector.drain();
+        assertEquals(threads * resetsPerThread, metrics.getReset().getCount());
+        assertEquals(threads * resetsPerThread / 2, metrics.getReset().getFailures());
+        assertTrue(connector.drain().isEmpty());
+    }
+
+    @Test
+    public void shouldKeepRecordingAfterADrain() {
+        final ExecutionMetricsConnector connector = new ExecutionMetricsConnector();
+
+        connector.recordReset(1L, true);
+        assertEquals(1L, connector.drain().getReset().getCount());
+
+        connector.recordReset(1L, true);
+        connector.recordReset(2L, true);
+        assertEquals(2L, connector.drain().getReset().getCount());
+    }
+}
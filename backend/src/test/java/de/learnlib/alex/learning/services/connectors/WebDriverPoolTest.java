@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import de.learnlib.alex.learning.entities.webdrivers.AbstractWebDriverConfig;
+import de.learnlib.alex.metrics.services.MetricsService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class WebDriverPoolTest {
+
+    private static final int MAX_IDLE = 2;
+
+    private WebDriverRecyclingPolicy recyclingPolicy;
+
+    private WebDriverPool pool;
+
+    @Before
+    public void setUp() {
+        recyclingPolicy = new WebDriverRecyclingPolicy(0, 0, 0, 0);
+        pool = new WebDriverPool(new MetricsService(), recyclingPolicy, true, 0, MAX_IDLE, 300);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void shouldReuseAReleasedDriver() throws Exception {
+        final TestDriverConfig config = new TestDriverConfig();
+
+        final WebDriver driver = pool.lease(config);
+        pool.release(config, driver);
+
+        assertSame(driver, pool.lease(config));
+        verify(driver, never()).quit();
+    }
+
+    @Test
+    public void shouldNotShareDriversBetweenDifferentConfigurations() throws Exception {
+        final TestDriverConfig config1 = new TestDriverConfig();
+        final TestDriverConfig config2 = new TestDriverConfig();
+        config2.setWidth(1024);
+
+        pool.release(config1, pool.lease(config1));
+
+        assertNotSame(pool.lease(config1), pool.lease(config2));
+    }
+
+    @Test
+    public void shouldIgnoreTheIdOfTheConfiguration() {
+        final TestDriverConfig config1 = new TestDriverConfig();
+        config1.setId(1L);
+        final TestDriverConfig config2 = new TestDriverConfig();
+        config2.setId(2L);
+        final TestDriverConfig config3 = new TestDriverConfig();
+        config3.setHeight(768);
+
+        assertEquals(WebDriverPool.getKey(config1), WebDriverPool.getKey(config2));
+        assertNotEquals(WebDriverPool.getKey(config1), WebDriverPool.getKey(config3));
+    }
+
+    @Test
+    public void shouldReplaceADriverThatDoesNotRespond() throws Exception {
+        final TestDriverConfig config = new TestDriverConfig();
+
+        final WebDriver driver = pool.lease(config);
+        pool.release(config, driver);
+        given(driver.getWindowHandle()).willThrow(new WebDriverException());
+
+        assertNotSame(driver, pool.lease(config));
+        verify(driver).quit();
+    }
+
+    @Test
+    public void shouldNotLeaseADriverThatShouldBeRecycled() throws Exception {
+        pool.shutdown();
+        recyclingPolicy = new WebDriverRecyclingPolicy(1, 0, 0, 0);
+        pool = new WebDriverPool(new MetricsService(), recyclingPolicy, true, 0, MAX_IDLE, 300);
+        final TestDriverConfig config = new TestDriverConfig();
+
+        final WebDriver driver = pool.lease(config);
+        pool.getStatistics(driver).incrementQueries();
+        pool.release(config, driver);
+
+        assertNotSame(driver, pool.lease(config));
+        verify(driver).quit();
+    }
+
+    @Test
+    public void shouldQuitDriversIfThePoolIsFull() throws Exception {
+        final TestDriverConfig config = new TestDriverConfig();
+
+        final WebDriver driver1 = pool.lease(config);
+        final WebDriver driver2 = pool.lease(config);
+        final WebDriver driver3 = pool.lease(config);
+        pool.release(config, driver1);
+        pool.release(config, driver2);
+        pool.release(config, driver3);
+
+        assertEquals(MAX_IDLE, pool.getNumberOfIdleDrivers());
+        verify(driver3).quit();
+    }
+
+    @Test
+    public void shouldEvictIdleDrivers() throws Exception {
+        pool.shutdown();
+        pool = new WebDriverPool(new MetricsService(), recyclingPolicy, true, 0, MAX_IDLE, 0);
+        final TestDriverConfig config = new TestDriverConfig();
+
+        final WebDriver driver = pool.lease(config);
+        pool.release(config, driver);
+        pool.evictIdleDrivers();
+
+        assertEquals(0, pool.getNumberOfIdleDrivers());
+        verify(driver).quit();
+    }
+
+    @Test
+    public void shouldQuitAllDriversIfThePoolIsDisabled() throws Exception {
+        pool.shutdown();
+        pool = new WebDriverPool(new MetricsService(), recyclingPolicy, false, 0, MAX_IDLE, 300);
+        final TestDriverConfig config = new TestDriverConfig();
+
+        final WebDriver driver = pool.lease(config);
+        pool.release(config, driver);
+
+        assertEquals(0, pool.getNumberOfIdleDrivers());
+        verify(driver).quit();
+    }
+
+    @Test
+    public void shouldStartDriversInTheBackground() throws Exception {
+        final TestDriverConfig config = new TestDriverConfig();
+
+        pool.prestart(config, MAX_IDLE);
+
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (pool.getNumberOfIdleDrivers() < MAX_IDLE && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(MAX_IDLE, pool.getNumberOfIdleDrivers());
+    }
+
+    /** A driver configuration that creates mocked drivers. */
+    public static class TestDriverConfig extends AbstractWebDriverConfig {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public WebDriver createDriver() {
+            return mock(WebDriver.class);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.connectors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WebDriverRecyclingPolicyTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    public void shouldNotRecycleWithoutLimits() {
+        final WebDriverRecyclingPolicy policy = new WebDriverRecyclingPolicy(0, 0, 0, 0);
+        final WebDriverPool.DriverStatistics statistics = new WebDriverPool.DriverStatistics();
+        statistics.incrementQueries();
+        statistics.incrementNavigationErrors();
+        statistics.setHeapSize(MB);
+
+        assertNull(policy.getRecyclingReason(statistics));
+        assertFalse(policy.isRecyclingDueSoon(statistics));
+        assertFalse(policy.isHeapSizeLimited());
+    }
+
+    @Test
+    public void shouldRecycleAfterTheMaximumNumberOfQueries() {
+        final WebDriverRecyclingPolicy policy = new WebDriverRecyclingPolicy(10, 0, 0, 0);
+        final WebDriverPool.DriverStatistics statistics = new WebDriverPool.DriverStatistics();
+        for (int i = 0; i < 8; i++) {
+            statistics.incrementQueries();
+        }
+        assertNull(policy.getRecyclingReason(statistics));
+        assertFalse(policy.isRecyclingDueSoon(statistics));
+
+        statistics.incrementQueries();
+        assertNull(policy.getRecyclingReason(statistics));
+        assertTrue(policy.isRecyclingDueSoon(statistics));
+
+        statistics.incrementQueries();
+        assertNotNull(policy.getRecyclingReason(statistics));
+    }
+
+    @Test
+    public void shouldRecycleIfTheHeapIsTooLarge() {
+        final WebDriverRecyclingPolicy policy = new WebDriverRecyclingPolicy(0, 0, 100, 0);
+        final WebDriverPool.DriverStatistics statistics = new WebDriverPool.DriverStatistics();
+        assertTrue(policy.isHeapSizeLimited());
+        assertNull(policy.getRecyclingReason(statistics));
+
+        statistics.setHeapSize(100 * MB);
+        assertNotNull(policy.getRecyclingReason(statistics));
+    }
+
+    @Test
+    public void shouldRecycleAfterConsecutiveNavigationErrors() {
+        final WebDriverRecyclingPolicy policy = new WebDriverRecyclingPolicy(0, 0, 0, 2);
+        final WebDriverPool.DriverStatistics statistics = new WebDriverPool.DriverStatistics();
+        statistics.incrementNavigationErrors();
+        statistics.resetNavigationErrors();
+        statistics.incrementNavigationErrors();
+        assertNull(policy.getRecyclingReason(statistics));
+
+        statistics.incrementNavigationErrors();
+        assertNotNull(policy.getRecyclingReason(statistics));
+    }
+
+    @Test
+    public void shouldRecycleAfterTheMaximumAge() throws Exception {
+        final WebDriverRecyclingPolicy policy = new WebDriverRecyclingPolicy(0, 1, 0, 0);
+        final WebDriverPool.DriverStatistics statistics = new WebDriverPool.DriverStatistics();
+        assertNull(policy.getRecyclingReason(statistics));
+
+        Thread.sleep(1100);
+        assertNotNull(policy.getRecyclingReason(statistics));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.logging;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LearnerLogBufferTest {
+
+    private static final int CAPACITY = 4;
+
+    private LearnerLogContext context;
+
+    private LearnerLogBuffer buffer;
+
+    @Before
+    public void setUp() {
+        context = new LearnerLogContext(1L);
+        buffer = new LearnerLogBuffer(CAPACITY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldOnlyAcceptPowersOfTwo() {
+        new LearnerLogBuffer(3);
+    }
+
+    @Test
+    public void shouldReadTheRecordsInOrder() {
+        offer("a");
+        offer("b");
+
+        final List<String> messages = new ArrayList<>();
+        assertEquals(2, buffer.drain(r -> messages.add(r.message), 10));
+        assertEquals("a", messages.get(0));
+        assertEquals("b", messages.get(1));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void shouldDropRecordsIfTheBufferIsFull() {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(offer("m" + i));
+        }
+
+        assertFalse(offer("dropped"));
+        assertEquals(1, buffer.getDropped());
+        assertEquals(CAPACITY, buffer.size());
+
+        // the slots can be reused once the records have been read
+        buffer.drain(r -> { }, 1);
+        assertTrue(offer("m" + CAPACITY));
+    }
+
+    @Test
+    public void shouldClearTheRecordsAfterTheyHaveBeenRead() {
+        offer("a");
+
+        final List<LearnerLogRecord> records = new ArrayList<>();
+        buffer.drain(records::add, 1);
+
+        assertNull(records.get(0).message);
+        assertNull(records.get(0).args);
+    }
+
+    @Test
+    public void shouldNotLoseRecordsOfConcurrentProducers() throws Exception {
+        final LearnerLogBuffer largeBuffer = new LearnerLogBuffer(1 << 14);
+        final int producers = 4;
+        final int recordsPerProducer = 1000;
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < recordsPerProducer; i++) {
+                    largeBuffer.offer(0, context, 0, LearnerLogLevel.INFO, producer + "-" + i, null);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        final Set<String> messages = new HashSet<>();
+        largeBuffer.drain(r -> messages.add(r.message), Integer.MAX_VALUE);
+        assertEquals(producers * recordsPerProducer, messages.size());
+        assertEquals(0, largeBuffer.getDropped());
+    }
+
+    @Test(timeout = 10000)
+    public void shouldWakeUpAWaitingConsumer() throws Exception {
+        final List<String> messages = new ArrayList<>();
+        final Thread consumer = new Thread(() -> {
+            while (buffer.drain(r -> messages.add(r.message), 1) == 0) {
+                buffer.awaitRecords();
+            }
+        });
+        consumer.start();
+
+        offer("a");
+        consumer.join();
+
+        assertEquals("a", messages.get(0));
+    }
+
+    private boolean offer(String message) {
+        return buffer.offer(0, context, 0, LearnerLogLevel.INFO, message, new Object[]{});
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.logging;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LearnerLogWriterTest {
+
+    @Test
+    public void shouldTruncateLongStrings() {
+        final Object[] args = LearnerLogWriter.truncate(new Object[]{"abcdefgh", "abc", 12345678}, 4);
+
+        assertEquals("abcd... (4 more characters)", args[0]);
+        assertEquals("abc", args[1]);
+        assertEquals(12345678, args[2]);
+    }
+
+    @Test
+    public void shouldNotTruncateIfTheLengthIsUnlimited() {
+        final Object[] args = LearnerLogWriter.truncate(new Object[]{"abcdefgh"}, 0);
+
+        assertEquals("abcdefgh", args[0]);
+        assertNull(LearnerLogWriter.truncate(null, 4));
+    }
+
+    @Test
+    public void shouldConvertMutableArgumentsToStrings() {
+        final StringBuilder mutable = new StringBuilder("before");
+        final IllegalStateException exception = new IllegalStateException();
+        final Object[] args = LearnerLog.snapshot(new Object[]{mutable, "abc", 42, LearnerLogLevel.INFO, null,
+                new Object[]{"a", 1}, exception});
+        mutable.append(" after");
+
+        assertEquals("before", args[0]);
+        assertEquals("abc", args[1]);
+        assertEquals(42, args[2]);
+        assertEquals(LearnerLogLevel.INFO, args[3]);
+        assertNull(args[4]);
+        assertEquals("[a, 1]", args[5]);
+        assertSame(exception, args[6]);
+    }
+
+    @Test
+    public void shouldIncludeLessVerboseLevels() {
+        assertTrue(LearnerLogLevel.INFO.includes(LearnerLogLevel.ERROR));
+        assertTrue(LearnerLogLevel.WARN.includes(LearnerLogLevel.WARN));
+        assertFalse(LearnerLogLevel.WARN.includes(LearnerLogLevel.INFO));
+        assertFalse(LearnerLogLevel.OFF.includes(LearnerLogLevel.ERROR));
+        assertFalse(LearnerLogLevel.INFO.includes(LearnerLogLevel.OFF));
+    }
+}
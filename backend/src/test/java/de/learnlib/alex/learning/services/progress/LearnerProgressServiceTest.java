@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.progress;
+
+import de.learnlib.alex.data.entities.Project;
+import de.learnlib.alex.learning.entities.LearnerProgressEvent;
+import de.learnlib.alex.learning.entities.LearnerResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LearnerProgressServiceTest {
+
+    private static final long PROJECT_ID = 10L;
+
+    private static final long TIMEOUT = 5L;
+
+    private LearnerProgressService service;
+
+    private LearnerResult result;
+
+    @Before
+    public void setUp() {
+        service = new LearnerProgressService();
+
+        final Project project = new Project();
+        project.setId(PROJECT_ID);
+        result = new LearnerResult();
+        result.setProject(project);
+    }
+
+    @After
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    public void shouldPushEventsToTheSubscribersOfTheProject() throws Exception {
+        final QueueSink sink = new QueueSink();
+        service.subscribe(PROJECT_ID, sink);
+
+        service.publish(LearnerProgressEvent.finished(result));
+
+        final LearnerProgressEvent event = sink.events.poll(TIMEOUT, TimeUnit.SECONDS);
+        assertEquals(LearnerProgressEvent.Type.FINISHED, event.getType());
+    }
+
+    @Test
+    public void shouldNotPushEventsOfOtherProjects() throws Exception {
+        final QueueSink sink = new QueueSink();
+        service.subscribe(PROJECT_ID + 1, sink);
+
+        service.publish(LearnerProgressEvent.finished(result));
+
+        assertNull(sink.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void shouldUnsubscribeDisconnectedClients() throws Exception {
+        final QueueSink sink = new QueueSink();
+        sink.disconnected = true;
+        final LearnerProgressSubscription subscription = service.subscribe(PROJECT_ID, sink);
+        assertTrue(service.hasSubscribers(PROJECT_ID));
+
+        service.publish(LearnerProgressEvent.finished(result));
+
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+        while (service.hasSubscribers(PROJECT_ID) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(service.hasSubscribers(PROJECT_ID));
+        assertTrue(subscription.isClosed());
+        assertTrue(sink.closed.await(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldCloseTheSinksOnShutdown() throws Exception {
+        final QueueSink sink = new QueueSink();
+        service.subscribe(PROJECT_ID, sink);
+
+        service.shutdown();
+
+        assertTrue(sink.closed.await(TIMEOUT, TimeUnit.SECONDS));
+        assertFalse(service.hasSubscribers(PROJECT_ID));
+    }
+
+    private static class QueueSink implements LearnerProgressService.EventSink {
+
+        private final BlockingQueue<LearnerProgressEvent> events = new LinkedBlockingQueue<>();
+
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        private volatile boolean disconnected;
+
+        @Override
+        public void send(LearnerProgressEvent event) throws IOException {
+            if (disconnected) {
+                throw new IOException("disconnected");
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void keepAlive() throws IOException {
+            if (disconnected) {
+                throw new IOException("disconnected");
+            }
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
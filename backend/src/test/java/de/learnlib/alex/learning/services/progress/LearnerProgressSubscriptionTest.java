@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.progress;
+
+import de.learnlib.alex.data.entities.Project;
+import de.learnlib.alex.learning.entities.LearnerProgressEvent;
+import de.learnlib.alex.learning.entities.LearnerResult;
+import de.learnlib.alex.learning.services.Learner;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LearnerProgressSubscriptionTest {
+
+    private static final long PROJECT_ID = 10L;
+
+    private LearnerResult result;
+
+    @Before
+    public void setUp() {
+        final Project project = new Project();
+        project.setId(PROJECT_ID);
+
+        result = new LearnerResult();
+        result.setProject(project);
+        result.setTestNo(1L);
+    }
+
+    @Test
+    public void shouldDeliverEventsInOrder() throws Exception {
+        final LearnerProgressSubscription subscription = new LearnerProgressSubscription(PROJECT_ID, 8);
+        final LearnerProgressEvent learning = LearnerProgressEvent.phaseChanged(result, Learner.LearnerPhase.LEARNING);
+        final LearnerProgressEvent batch = LearnerProgressEvent.batchStarted(result, 5);
+
+        subscription.offer(learning);
+        subscription.offer(batch);
+
+        assertSame(learning, subscription.take(0));
+        assertSame(batch, subscription.take(0));
+        assertNull(subscription.take(0));
+    }
+
+    @Test
+    public void shouldCoalesceEventsOfTheSameType() throws Exception {
+        final LearnerProgressSubscription subscription = new LearnerProgressSubscription(PROJECT_ID, 8);
+        final LearnerProgressEvent phase =
+                LearnerProgressEvent.phaseChanged(result, Learner.LearnerPhase.EQUIVALENCE_TESTING);
+        final LearnerProgressEvent latestCounters = LearnerProgressEvent.counters(result, 3, 12);
+
+        subscription.offer(LearnerProgressEvent.counters(result, 1, 4));
+        subscription.offer(phase);
+        subscription.offer(LearnerProgressEvent.counters(result, 2, 8));
+        subscription.offer(latestCounters);
+
+        assertEquals(2, subscription.size());
+        assertSame(phase, subscription.take(0));
+        assertSame(latestCounters, subscription.take(0));
+    }
+
+    @Test
+    public void shouldNotCoalescePhaseChanges() {
+        final LearnerProgressSubscription subscription = new LearnerProgressSubscription(PROJECT_ID, 8);
+
+        subscription.offer(LearnerProgressEvent.phaseChanged(result, Learner.LearnerPhase.LEARNING));
+        subscription.offer(LearnerProgressEvent.phaseChanged(result, Learner.LearnerPhase.EQUIVALENCE_TESTING));
+
+        assertEquals(2, subscription.size());
+    }
+
+    @Test
+    public void shouldDiscardTheOldestEventsAndReportTheOverflow() throws Exception {
+        final LearnerProgressSubscription subscription = new LearnerProgressSubscription(PROJECT_ID, 2);
+        final LearnerProgressEvent newest = LearnerProgressEvent.phaseChanged(result, Learner.LearnerPhase.LEARNING);
+
+        subscription.offer(LearnerProgressEvent.phaseChanged(result, Learner.LearnerPhase.LEARNING));
+        subscription.offer(LearnerProgressEvent.phaseChanged(result, Learner.LearnerPhase.EQUIVALENCE_TESTING));
+        subscription.offer(newest);
+
+        final LearnerProgressEvent overflow = subscription.take(0);
+        assertEquals(LearnerProgressEvent.Type.OVERFLOW, overflow.getType());
+        assertEquals(Long.valueOf(1L), overflow.getDroppedEvents());
+        assertEquals(Learner.LearnerPhase.EQUIVALENCE_TESTING, subscription.take(0).getLearnerPhase());
+        assertSame(newest, subscription.take(0));
+    }
+
+    @Test
+    public void shouldIgnoreEventsAfterBeingClosed() throws Exception {
+        final LearnerProgressSubscription subscription = new LearnerProgressSubscription(PROJECT_ID, 2);
+        subscription.offer(LearnerProgressEvent.finished(result));
+        subscription.close();
+        subscription.offer(LearnerProgressEvent.finished(result));
+
+        assertTrue(subscription.isClosed());
+        assertEquals(0, subscription.size());
+        assertNull(subscription.take(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireAPositiveCapacity() {
+        new LearnerProgressSubscription(PROJECT_ID, 0);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.replay;
+
+import de.learnlib.alex.learning.entities.QueryTrace;
+import de.learnlib.api.SUL;
+import de.learnlib.api.exception.SULException;
+import net.automatalib.automata.transout.impl.compact.CompactMealy;
+import net.automatalib.words.impl.SimpleAlphabet;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class TraceReplaySULTest {
+
+    private QueryTraceTree tree;
+
+    @Before
+    public void setUp() {
+        tree = new QueryTraceTree();
+        tree.add(createQuery(Arrays.asList("a", "b"), Arrays.asList("1", "2")));
+        tree.add(createQuery(Arrays.asList("a", "a", "b"), Arrays.asList("1", "1")));
+        tree.add(createQuery(Arrays.asList("a", "b"), Arrays.asList("3", "4")));
+    }
+
+    @Test
+    public void shouldAnswerRecordedQueries() {
+        final SUL<String, String> sul = new TraceReplaySUL(tree, null, 0L, true).fork();
+
+        sul.pre();
+        assertEquals("1", sul.step("a"));
+        assertEquals("2", sul.step("b"));
+        sul.post();
+
+        sul.pre();
+        assertEquals("1", sul.step("a"));
+        assertEquals("1", sul.step("a"));
+        sul.post();
+
+        assertEquals(3, tree.getSize());
+    }
+
+    @Test(expected = SULException.class)
+    public void shouldFailOnQueriesThatHaveNotBeenRecorded() {
+        final SUL<String, String> sul = new TraceReplaySUL(tree, null, 0L, false);
+
+        sul.pre();
+        sul.step("a");
+        sul.step("a");
+        sul.step("b");
+    }
+
+    @Test
+    public void shouldAnswerQueriesThatHaveNotBeenRecordedByTheFallback() {
+        final CompactMealy<String, String> hypothesis =
+                new CompactMealy<>(new SimpleAlphabet<>(Arrays.asList("a", "b")));
+        final int s0 = hypothesis.addInitialState();
+        final int s1 = hypothesis.addState();
+        hypothesis.addTransition(s0, "a", s1, "1");
+        hypothesis.addTransition(s0, "b", s0, "0");
+        hypothesis.addTransition(s1, "a", s1, "1");
+        hypothesis.addTransition(s1, "b", s0, "fallback");
+
+        final SUL<String, String> sul = new TraceReplaySUL(tree, new HypothesisReplaySUL(hypothesis, 0L), 0L, false)
+                .fork();
+
+        sul.pre();
+        assertEquals("1", sul.step("a"));
+        assertEquals("1", sul.step("a"));
+        assertEquals("fallback", sul.step("b"));
+        assertEquals("1", sul.step("a"));
+        sul.post();
+
+        sul.pre();
+        assertEquals("0", sul.step("b"));
+        sul.post();
+    }
+
+    private QueryTrace createQuery(List<String> input, List<String> output) {
+        final QueryTrace query = new QueryTrace();
+        query.getInput().addAll(input);
+        query.getOutput().addAll(output);
+        for (int i = 0; i < input.size(); i++) {
+            query.getDurations().add(1L);
+        }
+        return query;
+    }
+}
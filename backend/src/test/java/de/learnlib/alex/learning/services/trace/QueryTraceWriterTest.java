@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.learning.services.trace;
+
+import de.learnlib.alex.learning.entities.QueryTrace;
+import de.learnlib.alex.learning.services.Learner;
+import net.automatalib.words.Word;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class QueryTraceWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldWriteTheTraceThatHasBeenRecordedInMemory() throws Exception {
+        final Path file = folder.getRoot().toPath().resolve("1.trace");
+
+        final QueryTraceWriter writer = new QueryTraceWriter();
+        writer.setPhase(Learner.LearnerPhase.LEARNING);
+        writer.record(42L, 3, 1, Word.fromSymbols("a", "b"), Arrays.asList("1", "2"),
+                new long[]{1000L, 2000L}, false);
+        writer.open(file);
+        writer.setPhase(Learner.LearnerPhase.EQUIVALENCE_TESTING);
+        writer.record(43L, 0, 0, Word.fromSymbols("b", "c"), Collections.singletonList("2"),
+                new long[]{3000L, 0L}, true);
+        writer.close();
+
+        final List<QueryTrace> queries = readAll(file);
+        assertEquals(2, queries.size());
+
+        final QueryTrace first = queries.get(0);
+        assertEquals(42L, first.getTimestamp());
+        assertEquals(Learner.LearnerPhase.LEARNING, first.getPhase());
+        assertEquals(3, first.getInstance());
+        assertEquals(1, first.getPrefixLength());
+        assertFalse(first.isFailed());
+        assertEquals(Arrays.asList("a", "b"), first.getInput());
+        assertEquals(Arrays.asList("1", "2"), first.getOutput());
+        assertEquals(Arrays.asList(1L, 2L), first.getDurations());
+
+        final QueryTrace second = queries.get(1);
+        assertEquals(Learner.LearnerPhase.EQUIVALENCE_TESTING, second.getPhase());
+        assertTrue(second.isFailed());
+        assertEquals(Arrays.asList("b", "c"), second.getInput());
+        assertEquals(Collections.singletonList("2"), second.getOutput());
+    }
+
+    @Test
+    public void shouldAppendToAnExistingTrace() throws Exception {
+        final Path file = folder.getRoot().toPath().resolve("2.trace");
+
+        final QueryTraceWriter writer1 = new QueryTraceWriter();
+        writer1.open(file);
+        writer1.record(1L, 0, 0, Word.fromSymbols("a"), Collections.singletonList("1"), new long[]{0L}, false);
+        writer1.close();
+
+        final QueryTraceWriter writer2 = new QueryTraceWriter();
+        writer2.open(file);
+        writer2.record(2L, 0, 0, Word.fromSymbols("a", "b"), Arrays.asList("1", "2"), new long[]{0L, 0L}, false);
+        writer2.close();
+
+        final List<QueryTrace> queries = readAll(file);
+        assertEquals(2, queries.size());
+        assertNull(queries.get(0).getPhase());
+        assertEquals(Arrays.asList("a", "b"), queries.get(1).getInput());
+        assertEquals(Arrays.asList("1", "2"), queries.get(1).getOutput());
+    }
+
+    @Test
+    public void shouldReadATraceThatIsStillBeingWritten() throws Exception {
+        final Path file = folder.getRoot().toPath().resolve("3.trace");
+
+        final QueryTraceWriter writer = new QueryTraceWriter();
+        writer.open(file);
+        for (int i = 0; i < 1000; i++) {
+            writer.record(i, 0, 0, Word.fromSymbols("s" + i), Collections.singletonList("o"), new long[]{0L}, false);
+        }
+
+        // the file is larger than the trace because it grows in chunks
+        assertTrue(Files.size(file) > 0);
+        assertEquals(1000, readAll(file).size());
+        writer.close();
+
+        try (QueryTraceReader reader = new QueryTraceReader(file)) {
+            assertEquals(998, reader.skip(998));
+            assertEquals(Collections.singletonList("s998"), reader.next().getInput());
+        }
+    }
+
+    @Test
+    public void shouldRecordQueriesConcurrently() throws Exception {
+        final Path file = folder.getRoot().toPath().resolve("4.trace");
+        final int threads = 4;
+        final int queriesPerThread = 250;
+
+        // the queries are longer than the initial record buffer
+        final List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            symbols.add("s" + i);
+        }
+        final Word<String> input = Word.fromList(symbols);
+        final long[] durations = new long[symbols.size()];
+
+        final QueryTraceWriter writer = new QueryTraceWriter();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int instance = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < queriesPerThread; i++) {
+                    writer.record(i, instance, 0, input, symbols, durations, false);
+                }
+            }));
+        }
+        writer.open(file);
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        writer.close();
+
+        final List<QueryTrace> queries = readAll(file);
+        assertEquals(threads * queriesPerThread, queries.size());
+        queries.forEach(q -> assertEquals(symbols, q.getOutput()));
+    }
+
+    private List<QueryTrace> readAll(Path file) throws Exception {
+        final List<QueryTrace> queries = new ArrayList<>();
+        try (QueryTraceReader reader = new QueryTraceReader(file)) {
+            reader.forEachRemaining(queries::add);
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 TU Dortmund
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.learnlib.alex.metrics.services;
+
+import de.learnlib.alex.metrics.entities.MetricCounter;
+import de.learnlib.alex.metrics.entities.MetricGauge;
+import de.learnlib.alex.metrics.entities.MetricTimer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsServiceTest {
+
+    private MetricsService metricsService;
+
+    @Before
+    public void setUp() {
+        metricsService = new MetricsService();
+    }
+
+    @After
+    public void tearDown() {
+        metricsService.unregisterMBean();
+    }
+
+    @Test
+    public void shouldReturnTheSameMetricForTheSameName() {
+        final MetricCounter counter = metricsService.counter("test_total", "A counter.");
+        assertSame(counter, metricsService.counter("test_total", "A counter."));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailToRegisterAMetricWithAnotherType() {
+        metricsService.counter("test_total", "A counter.");
+        metricsService.gauge("test_total", "A gauge.");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToRegisterAnInvalidName() {
+        metricsService.counter("test total", "A counter.");
+    }
+
+    @Test
+    public void shouldScrapeTheMetricsInThePrometheusTextFormat() {
+        metricsService.counter("test_queries_total", "The queries.").increment(3);
+        final MetricGauge gauge = metricsService.gauge("test_in_use", "The connectors in use.");
+        gauge.increment();
+        gauge.increment();
+        gauge.decrement();
+        metricsService.gauge("test_ratio", "A ratio.", () -> 0.25);
+        final MetricTimer timer = metricsService.timer("test_reset_seconds", "The resets.");
+        timer.record(2000000000L);
+
+        final String scrape = metricsService.scrape();
+
+        assertTrue(scrape.contains("# HELP test_queries_total The queries.\n"
+                + "# TYPE test_queries_total counter\n"
+                + "test_queries_total 3\n"));
+        assertTrue(scrape.contains("# TYPE test_in_use gauge\ntest_in_use 1\n"));
+        assertTrue(scrape.contains("test_ratio 0.25\n"));
+        assertTrue(scrape.contains("# TYPE test_reset_seconds summary\n"));
+        assertTrue(scrape.contains("test_reset_seconds{quantile=\"0.99\"} 1.9"));
+        assertTrue(scrape.contains("test_reset_seconds_sum 2\n"));
+        assertTrue(scrape.contains("test_reset_seconds_count 1\n"));
+    }
+
+    @Test
+    public void shouldReadACounterThatIsCountedElsewhere() {
+        final AtomicLong hits = new AtomicLong(2);
+        final MetricCounter counter = metricsService.counter("test_hits_total", "The hits.", hits::get);
+        hits.incrementAndGet();
+
+        assertEquals(3, counter.getValue());
+        assertTrue(metricsService.scrape().contains("# TYPE test_hits_total counter\ntest_hits_total 3\n"));
+    }
+
+    @Test
+    public void shouldExposeTheMetricsViaJmx() throws Exception {
+        metricsService.registerMBean();
+        metricsService.counter("test_queries_total", "The queries.").increment();
+        metricsService.timer("test_reset_seconds", "The resets.").record(1000000000L);
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(MetricsService.OBJECT_NAME);
+
+        assertEquals(1.0, (Double) server.getAttribute(name, "test_queries_total"), 0.0);
+        assertEquals(1.0, (Double) server.getAttribute(name, "test_reset_seconds_p50"), 0.1);
+        assertEquals(1.0, (Double) server.getAttribute(name, "test_reset_seconds_count"), 0.0);
+    }
+}
@@ -53,6 +53,12 @@ export class LearnerSetupSettingsModalComponent {
          */
         this.selectedLearningAlgorithm = null;
 
+        /**
+         * If the queries are answered from a previous result.
+         * @type {boolean}
+         */
+        this.replay = false;
+
         /**
          * The current project.
          * @type {Project}
@@ -63,6 +69,7 @@ export class LearnerSetupSettingsModalComponent {
     $onInit() {
         this.learnConfiguration = this.resolve.modalData.learnConfiguration;
         this.selectedLearningAlgorithm = this.learnConfiguration.algorithm.name;
+        this.replay = this.learnConfiguration.replayConfig != null;
     }
 
     /**
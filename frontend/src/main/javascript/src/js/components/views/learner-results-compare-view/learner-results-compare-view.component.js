@@ -25,6 +25,7 @@ class ResultsCompareViewComponent {
      * Constructor.
      *
      * @param $uibModal
+     * @param $q
      * @param $state
      * @param $stateParams
      * @param {SessionService} SessionService
@@ -33,9 +34,10 @@ class ResultsCompareViewComponent {
      * @param {ToastService} ToastService
      */
     // @ngInject
-    constructor($uibModal, $state, $stateParams, SessionService, LearnResultResource, LearnerResource,
+    constructor($uibModal, $q, $state, $stateParams, SessionService, LearnResultResource, LearnerResource,
                 ToastService) {
         this.$uibModal = $uibModal;
+        this.$q = $q;
         this.LearnResultResource = LearnResultResource;
         this.LearnerResource = LearnerResource;
         this.ToastService = ToastService;
@@ -76,10 +78,14 @@ class ResultsCompareViewComponent {
             this.LearnResultResource.getAll(this.project.id)
                 .then(results => {
                     this.results = results;
-                    this.panels = results.filter((r) => {
+
+                    // the list only contains step summaries, so load the complete results for the panels
+                    const panelResults = results.filter((r) => {
                         return testNos.indexOf('' + r.testNo.toString()) > -1;
                     });
+                    return this.$q.all(panelResults.map(r => this.LearnResultResource.get(this.project.id, r.testNo)));
                 })
+                .then(panels => this.panels = panels)
                 .catch(err => console.log(err));
         }
     }
@@ -91,7 +97,13 @@ class ResultsCompareViewComponent {
      * @param {number} index - The index of the panel the complete set should be displayed in.
      */
     fillPanel(result, index) {
-        this.panels[index] = result;
+        if (result.testNo == null) {
+            this.panels[index] = result;
+        } else {
+            this.LearnResultResource.get(result.project, result.testNo)
+                .then(completeResult => this.panels[index] = completeResult)
+                .catch(err => console.log(err));
+        }
     }
 
     /**
@@ -115,6 +115,7 @@ class LearnerViewComponentComponent {
                 symbolsToAdd: [],
                 project: this.project.id,
                 urls: this.finalResult.urls,
+                instancesPerUrl: 1
             };
         } else {
             this.poll();
@@ -163,7 +164,8 @@ class LearnerViewComponentComponent {
                                     stepNo: lastStep.stepNo,
                                     symbolsToAdd: [],
                                     project: this.project.id,
-                                    urls: this.finalResult.urls
+                                    urls: this.finalResult.urls,
+                                    instancesPerUrl: 1
                                 };
                             }
 
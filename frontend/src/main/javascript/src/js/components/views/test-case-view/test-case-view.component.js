@@ -81,6 +81,7 @@ export const testCaseViewComponent = {
                 tests: [],
                 url: this.project.getDefaultUrl(),
                 driverConfig: DriverConfigService.createFromName(webBrowser.HTML_UNIT),
+                instancesPerUrl: 1
             };
 
             SymbolGroupResource.getAll(this.project.id, true)
@@ -112,7 +112,8 @@ export const testSuiteViewComponent = {
                 tests: [],
                 url: this.project.getDefaultUrl(),
                 driverConfig: DriverConfigService.createFromName(webBrowser.HTML_UNIT),
-                createReport: true
+                createReport: true,
+                instancesPerUrl: 1
             };
 
             SettingsResource.getSupportedWebDrivers()
@@ -28,12 +28,14 @@ export class RandomEqOracle {
      * @param {number} maxLength
      * @param {number} maxNoOfTests
      * @param {seed} seed
+     * @param {number} timeLimit - The maximum time in seconds, 0 for no limit.
      */
-    constructor(minLength = 10, maxLength = 20, maxNoOfTests = 50, seed = 42) {
+    constructor(minLength = 10, maxLength = 20, maxNoOfTests = 50, seed = 42, timeLimit = 0) {
         this.type = eqOracleType.RANDOM;
         this.minLength = minLength;
         this.maxLength = maxLength;
         this.maxNoOfTests = maxNoOfTests;
         this.seed = seed;
+        this.timeLimit = timeLimit;
     }
 }
@@ -83,6 +83,42 @@ export class LearnConfiguration {
          * @type {boolean}
          */
         this.useMQCache = obj.useMQCache !== undefined ? obj.useMQCache : true;
+
+        /**
+         * If counterexamples should be reduced before they are passed to the learner.
+         * @type {boolean}
+         */
+        this.reduceCounterexamples = obj.reduceCounterexamples !== undefined ? obj.reduceCounterexamples : true;
+
+        /**
+         * If the executed queries should be recorded in a trace file.
+         * @type {boolean}
+         */
+        this.recordQueryTraces = obj.recordQueryTraces !== undefined ? obj.recordQueryTraces : false;
+
+        /**
+         * How many SUL instances are used for each URL (0 := decide based on the available resources).
+         * @type {number}
+         */
+        this.instancesPerUrl = obj.instancesPerUrl !== undefined ? obj.instancesPerUrl : 1;
+
+        /**
+         * The most verbose level of the records in the learner log.
+         * @type {string}
+         */
+        this.logLevel = obj.logLevel || 'INFO';
+
+        /**
+         * How many characters of a value are written to the learner log (0 := all characters).
+         * @type {number}
+         */
+        this.maxLogBodyLength = obj.maxLogBodyLength !== undefined ? obj.maxLogBodyLength : 1000;
+
+        /**
+         * The previous result that answers the queries instead of the target (null := execute queries on the target).
+         * @type {?Object}
+         */
+        this.replayConfig = obj.replayConfig ? Object.assign({}, obj.replayConfig) : null;
     }
 
     /**
@@ -94,6 +130,21 @@ export class LearnConfiguration {
         this.symbols.push(symbol.id);
     }
 
+    /**
+     * Answers the queries from a previous result instead of executing them on the target, or stops doing so.
+     *
+     * @param {boolean} replay - If the queries should be answered from a previous result.
+     */
+    setReplay(replay) {
+        this.replayConfig = replay ? {
+            source: 'TRACE',
+            testNo: null,
+            stepNo: null,
+            symbolLatency: 0,
+            recordedLatency: false
+        } : null;
+    }
+
     /**
      * Sets the reset symbols for the configuration.
      *
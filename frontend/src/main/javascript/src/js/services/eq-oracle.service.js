@@ -35,7 +35,7 @@ export class EqOracleService {
     create(obj) {
         switch (obj.type) {
             case eqOracleType.RANDOM:
-                return new RandomEqOracle(obj.minLength, obj.maxLength, obj.maxNoOfTests, obj.seed);
+                return new RandomEqOracle(obj.minLength, obj.maxLength, obj.maxNoOfTests, obj.seed, obj.timeLimit);
             case eqOracleType.COMPLETE:
                 return new CompleteEqOracle(obj.minDepth, obj.maxDepth);
             case eqOracleType.SAMPLE:
@@ -33,7 +33,7 @@ export class LearnResultResource {
     }
 
     /**
-     * Gets all final steps of all learn results.
+     * Gets all learn results with summaries of their steps, i.e. without hypotheses and algorithm information.
      *
      * @param {number} projectId - The id of the project whose final learn results should be fetched.
      * @returns {*}
@@ -44,7 +44,7 @@ export class LearnResultResource {
     }
 
     /**
-     * Gets the final learn result of a test run.
+     * Gets the final learn result of a test run including all steps.
      *
      * @param {number} projectId - The id of the project.
      * @param {number} testNo - The number of the test run.